@@ -4,6 +4,9 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 @Component
@@ -15,6 +18,18 @@ public class AppLimitsConfig {
     private OrganizationConfig organization;
     private EventConfig event;
     private SeatingLayoutConfig seatingLayout;
+    private SeatStreamConfig seatStream = new SeatStreamConfig();
+    private BestAvailableConfig bestAvailable = new BestAvailableConfig();
+    private SeatingMapConfig seatingMap = new SeatingMapConfig();
+    private ProjectionCacheConfig projectionCache = new ProjectionCacheConfig();
+    private SingleFlightConfig singleFlight = new SingleFlightConfig();
+    private ProjectionStreamConfig projectionStream = new ProjectionStreamConfig();
+    private IdConfig ids = new IdConfig();
+    private LifecycleSchedulerConfig lifecycleScheduler = new LifecycleSchedulerConfig();
+    private WarmUpConfig warmUp = new WarmUpConfig();
+    private AdmissionConfig admission = new AdmissionConfig();
+    private ReadReplicaConfig readReplicas = new ReadReplicaConfig();
+    private EntityCacheConfig entityCache = new EntityCacheConfig();
 
     @Data
     public static class TierConfig {
@@ -38,8 +53,169 @@ public class AppLimitsConfig {
     public static class EventConfig {
         private int maxCoverPhotos;
         private long maxCoverPhotoSize;
+        private CoverVariantConfig coverVariants = new CoverVariantConfig();
+    }
+
+    @Data
+    public static class CoverVariantConfig {
+        private boolean enabled = true;
+        private int poolSize = Runtime.getRuntime().availableProcessors();
+        private int queueCapacity = 32;
+        private long timeoutSeconds = 20;
+        private float quality = 0.82f;
+        private int thumbnailWidth = 320;
+        private int cardWidth = 640;
+        private int heroWidth = 1600;
     }
     
+    @Data
+    public static class SeatStreamConfig {
+        private boolean enabled = true;
+        private String channel = "event-seating::seat-status";
+        private long heartbeatIntervalMs = 15000;
+        private long emitterTimeoutMs = 1800000;
+        private int replayBufferSize = 256;
+        private Duration retention = Duration.ofHours(12);
+    }
+
+    @Data
+    public static class BestAvailableConfig {
+        private int maxQuantity = 10;
+        private long indexTtlMs = 5000;
+        private int maxCachedSessions = 200;
+    }
+
+    @Data
+    public static class SeatingMapConfig {
+        /**
+         * Distance between adjacent seats and rows, in layout units. Layouts do not store seat
+         * coordinates, so seated grid geometry is derived from block position and this spacing.
+         */
+        private double seatSpacing = 30;
+        private long viewportIndexTtlMs = 60000;
+        private int maxCachedViewportIndexes = 500;
+        /**
+         * Limits on incoming layouts, checked before seated grids are expanded. The request limit
+         * covers every session of one request together.
+         */
+        private int maxLayoutSeats = 100000;
+        private int maxLayoutBlocks = 1000;
+        private long maxRequestSeats = 500000;
+        /** Kafka topic the added, removed and changed blocks and seats of a replaced layout go to. */
+        private String layoutChangesTopic = "ticketly.session.layout-changed";
+    }
+
+    @Data
+    public static class ProjectionCacheConfig {
+        private boolean enabled = true;
+        private long maxBytes = 64L * 1024 * 1024;
+        private int minCompressBytes = 1024;
+        private Duration versionRetention = Duration.ofDays(7);
+        private int maxCachedRelations = 20000;
+        /** Serve the previous body while another request rebuilds it for a new version. */
+        private boolean staleWhileRevalidate = true;
+    }
+
+    @Data
+    public static class SingleFlightConfig {
+        /** Whether instances also wait for a computation already running on another instance. */
+        private boolean distributed = true;
+        /** How long an instance holds a computation, and how long others wait for its result. */
+        private Duration lockTtl = Duration.ofSeconds(5);
+        private Duration resultTtl = Duration.ofSeconds(10);
+        private Duration pollInterval = Duration.ofMillis(25);
+        /** Larger results aren't shared; other instances compute them once the lock is released. */
+        private int maxSharedBytes = 4 * 1024 * 1024;
+    }
+
+    @Data
+    public static class ProjectionStreamConfig {
+        private int chunkSize = 100;
+        private int maxIds = 1000;
+    }
+
+    @Data
+    public static class IdConfig {
+        /**
+         * How layout and in-memory entity IDs are generated. Entity keys generated by Hibernate
+         * are always time-ordered.
+         */
+        private Strategy strategy = Strategy.TIME_ORDERED;
+
+        public enum Strategy {
+            TIME_ORDERED,
+            RANDOM
+        }
+    }
+
+    @Data
+    public static class LifecycleSchedulerConfig {
+        private boolean enabled = false;
+        private String channel = "event-seating::session-schedule";
+        private long lockKey = 0x7469636b65746c79L;
+        /** How far ahead transitions are held in memory; later ones are picked up by a reload. */
+        private Duration horizon = Duration.ofHours(2);
+        /** Must be shorter than the horizon, so nothing falls between two reloads. */
+        private Duration reloadInterval = Duration.ofMinutes(30);
+        /** How far back missed transitions are still fired, e.g. after every instance was down. */
+        private Duration catchUp = Duration.ofHours(24);
+        private Duration leaderCheckInterval = Duration.ofSeconds(10);
+        private Duration retryDelay = Duration.ofSeconds(5);
+        private int batchSize = 500;
+    }
+
+    @Data
+    public static class WarmUpConfig {
+        private boolean enabled = true;
+        private String channel = "event-seating::session-warm-up";
+        /** How long before its sales start a session's projections are built. */
+        private Duration leadTime = Duration.ofMinutes(2);
+        private long checkIntervalMs = 30000;
+        /** Sessions warmed at once on each instance. */
+        private int concurrency = 4;
+    }
+
+    @Data
+    public static class AdmissionConfig {
+        private boolean enabled = true;
+        /** Checkout validations running at once per session, across all instances. */
+        private int maxConcurrentPerSession = 50;
+        /** How long a permit is held at most, should an instance die before releasing it. */
+        private Duration permitTtl = Duration.ofSeconds(10);
+        /** How long a queued caller keeps its place without retrying. */
+        private Duration ticketTtl = Duration.ofSeconds(30);
+        /** Expected duration of one validation, from which retry delays are estimated. */
+        private Duration expectedServiceTime = Duration.ofMillis(100);
+        private Duration minRetryAfter = Duration.ofMillis(250);
+        private Duration maxRetryAfter = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class ReadReplicaConfig {
+        private boolean enabled = false;
+        /** JDBC URLs of streaming replicas of the primary. */
+        private List<String> urls = new ArrayList<>();
+        /** Defaults to the primary's. */
+        private String username;
+        /** Defaults to the primary's. */
+        private String password;
+        /** Connections per replica. */
+        private int maximumPoolSize = 10;
+        /** Replicas further behind the primary than this serve no reads until they catch up. */
+        private Duration maxLag = Duration.ofSeconds(5);
+        private long lagCheckIntervalMs = 2000;
+    }
+
+    @Data
+    public static class EntityCacheConfig {
+        private boolean enabled = true;
+        private String channel = "event-seating::entity-cache";
+        /** Entries kept per cache region. */
+        private long maxEntries = 10000;
+        /** Backstop for instances that missed an invalidation. */
+        private Duration timeToLive = Duration.ofMinutes(10);
+    }
+
     @Data
     public static class SeatingLayoutConfig {
         private int defaultPageSize;
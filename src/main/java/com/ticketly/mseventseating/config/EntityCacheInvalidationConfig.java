@@ -0,0 +1,32 @@
+package com.ticketly.mseventseating.config;
+
+import com.ticketly.mseventseating.service.cache.EntityCacheInvalidationService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Subscribes every instance to the channel announcing changed categories, tiers and organizations,
+ * so each evicts them from its own second-level cache.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.entity-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class EntityCacheInvalidationConfig {
+
+    @Bean
+    public RedisMessageListenerContainer entityCacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                                  EntityCacheInvalidationService invalidationService,
+                                                                                  AppLimitsConfig appLimitsConfig) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> invalidationService.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(appLimitsConfig.getEntityCache().getChannel()));
+        return container;
+    }
+}
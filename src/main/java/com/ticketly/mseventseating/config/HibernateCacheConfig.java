@@ -0,0 +1,78 @@
+package com.ticketly.mseventseating.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache for reference data: categories with their subcategories, tiers and
+ * organizations, plus the queries marked cacheable on their repositories.
+ * <p>
+ * Entries live in a bounded, expiring Caffeine cache on each instance, and are evicted on the
+ * others through {@link EntityCacheInvalidationConfig} when they change. Hit and miss counts per
+ * region are published under {@code hibernate.second.level.cache.*} and
+ * {@code hibernate.query.cache.*} in {@code /actuator/metrics}.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    private static final List<String> EXPIRING_REGIONS =
+            List.of("category", "category-children", "tier", "organization", "default-query-results-region");
+
+    /**
+     * Query results are checked against the last change to their tables, which must never be
+     * evicted or a result could outlive a change.
+     */
+    private static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.entity-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public CacheManager entityCacheManager(AppLimitsConfig appLimitsConfig) {
+        AppLimitsConfig.EntityCacheConfig config = appLimitsConfig.getEntityCache();
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        for (String region : EXPIRING_REGIONS) {
+            CaffeineConfiguration<Object, Object> regionConfig = new CaffeineConfiguration<>();
+            regionConfig.setMaximumSize(OptionalLong.of(config.getMaxEntries()));
+            regionConfig.setExpireAfterWrite(OptionalLong.of(config.getTimeToLive().toNanos()));
+            regionConfig.setStatisticsEnabled(true);
+            createIfMissing(cacheManager, region, regionConfig);
+        }
+        createIfMissing(cacheManager, TIMESTAMPS_REGION, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    private static void createIfMissing(CacheManager cacheManager, String region,
+                                        CaffeineConfiguration<Object, Object> regionConfig) {
+        if (cacheManager.getCache(region) == null) {
+            cacheManager.createCache(region, regionConfig);
+        }
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheProperties(ObjectProvider<CacheManager> entityCacheManager) {
+        return properties -> {
+            CacheManager cacheManager = entityCacheManager.getIfAvailable();
+            // The JCache region factory is picked up from the classpath unless turned off
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, cacheManager != null);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, cacheManager != null);
+            if (cacheManager == null) {
+                return;
+            }
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            // A category's subcategories change when a child's parent does
+            properties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+        };
+    }
+}
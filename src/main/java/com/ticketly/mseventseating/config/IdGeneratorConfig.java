@@ -0,0 +1,20 @@
+package com.ticketly.mseventseating.config;
+
+import com.ticketly.mseventseating.service.id.IdGenerator;
+import com.ticketly.mseventseating.service.id.TimeOrderedIdGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.UUID;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public IdGenerator idGenerator(AppLimitsConfig appLimitsConfig) {
+        return switch (appLimitsConfig.getIds().getStrategy()) {
+            case TIME_ORDERED -> TimeOrderedIdGenerator.INSTANCE;
+            case RANDOM -> UUID::randomUUID;
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package com.ticketly.mseventseating.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread pool used for CPU-heavy image work (cover photo variant generation).
+ * The pool is bounded by the configured size and queue capacity so that a burst of
+ * uploads cannot starve request threads; once full, submissions are rejected and the
+ * photos they were for keep serving their original.
+ */
+@Configuration
+public class ImageProcessingConfig {
+
+    @Bean(name = "coverPhotoExecutor", destroyMethod = "shutdown")
+    public ExecutorService coverPhotoExecutor(AppLimitsConfig appLimitsConfig) {
+        AppLimitsConfig.CoverVariantConfig config = appLimitsConfig.getEvent().getCoverVariants();
+        int poolSize = Math.max(1, Math.min(config.getPoolSize(), Runtime.getRuntime().availableProcessors()));
+
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "cover-variant-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        return new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity())),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
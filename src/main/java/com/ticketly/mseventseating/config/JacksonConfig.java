@@ -2,32 +2,49 @@ package com.ticketly.mseventseating.config;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ticketly.mseventseating.dto.session.SeatGridBlock;
+import com.ticketly.mseventseating.dto.session.SeatGridDTO;
+import dto.SessionSeatingMapDTO;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.UUID;
 
 @Configuration
 public class JacksonConfig {
 
     /**
-     * Custom UUID deserializer that handles empty strings by converting them to null
+     * Custom UUID deserializer that handles empty strings by converting them to null.
+     * Binary formats write UUIDs as 16 raw bytes, which are read back as such.
      */
     private static class EmptyStringToNullUuidDeserializer extends JsonDeserializer<UUID> {
         @Override
         public UUID deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.currentToken() == JsonToken.VALUE_EMBEDDED_OBJECT) {
+                ByteBuffer bytes = ByteBuffer.wrap(p.getBinaryValue());
+                return new UUID(bytes.getLong(), bytes.getLong());
+            }
             String value = p.getValueAsString();
             if (value == null || value.isEmpty()) {
                 return null;
@@ -36,6 +53,37 @@ public class JacksonConfig {
         }
     }
 
+    /**
+     * Reads seating map blocks with a {@code grid} property as {@link SeatGridBlock}s. Grids are not
+     * expanded here, as a few bytes of grid can describe millions of seats: the services expand them
+     * once the whole request's seats are within budget.
+     */
+    private static class SeatGridBlockDeserializer extends DelegatingDeserializer {
+        SeatGridBlockDeserializer(JsonDeserializer<?> delegatee) {
+            super(delegatee);
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+            return new SeatGridBlockDeserializer(newDelegatee);
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonNode node = ctxt.readTree(p);
+            SessionSeatingMapDTO.Block block;
+            try (JsonParser blockParser = node.traverse(p.getCodec())) {
+                blockParser.nextToken();
+                block = (SessionSeatingMapDTO.Block) _delegatee.deserialize(blockParser, ctxt);
+            }
+            JsonNode grid = node.get("grid");
+            if (grid == null || !grid.isObject()) {
+                return block;
+            }
+            return new SeatGridBlock(block, ctxt.readTreeAsValue(grid, SeatGridDTO.class));
+        }
+    }
+
     /**
      * This is the primary, default, and SAFE ObjectMapper for the application.
      * Spring will use this bean for all web-related JSON serialization/deserialization
@@ -45,7 +93,34 @@ public class JacksonConfig {
     @Bean
     @Primary
     public ObjectMapper objectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
+        return configureWebMapper(new ObjectMapper());
+    }
+
+    /**
+     * Smile (binary JSON) counterpart of the primary ObjectMapper, offered to internal callers
+     * that send {@code Accept: application/x-jackson-smile}.
+     */
+    @Bean
+    @Qualifier("smileObjectMapper")
+    public ObjectMapper smileObjectMapper() {
+        return configureWebMapper(new SmileMapper());
+    }
+
+    /**
+     * CBOR counterpart of the primary ObjectMapper, offered to internal callers
+     * that send {@code Accept: application/cbor}.
+     */
+    @Bean
+    @Qualifier("cborObjectMapper")
+    public ObjectMapper cborObjectMapper() {
+        return configureWebMapper(new CBORMapper());
+    }
+
+    /**
+     * Web settings shared by every data format, so a payload decodes to the same objects
+     * whichever format it was sent in.
+     */
+    private static ObjectMapper configureWebMapper(ObjectMapper mapper) {
         mapper.registerModule(new JavaTimeModule());
         mapper.registerModule(new Hibernate6Module());
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS); // ✅ Add this line
@@ -54,6 +129,15 @@ public class JacksonConfig {
         // Register custom deserializer for UUIDs to handle empty strings
         SimpleModule module = new SimpleModule();
         module.addDeserializer(UUID.class, new EmptyStringToNullUuidDeserializer());
+        module.setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
+                                                          JsonDeserializer<?> deserializer) {
+                return beanDesc.getBeanClass() == SessionSeatingMapDTO.Block.class
+                        ? new SeatGridBlockDeserializer(deserializer)
+                        : deserializer;
+            }
+        });
         mapper.registerModule(module);
         
         return mapper;
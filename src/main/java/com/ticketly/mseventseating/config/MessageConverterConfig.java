@@ -0,0 +1,116 @@
+package com.ticketly.mseventseating.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Lets internal callers exchange Smile or CBOR instead of JSON by sending the matching
+ * {@code Accept} or {@code Content-Type} header.
+ * <p>
+ * Spring MVC registers both converters once their data formats are on the classpath, after the
+ * JSON converter so JSON stays the default, but with mappers of its own and for every endpoint.
+ * They are replaced here by converters that use the mappers from {@link JacksonConfig}, so every
+ * format is configured the same way, and that only take part in requests under
+ * {@value #INTERNAL_PATH}. Public endpoints answer a Smile or CBOR {@code Accept} header with 406
+ * and such a request body with 415.
+ */
+@Configuration
+public class MessageConverterConfig implements WebMvcConfigurer {
+
+    static final String INTERNAL_PATH = "/internal/";
+
+    private final ObjectMapper smileObjectMapper;
+    private final ObjectMapper cborObjectMapper;
+
+    public MessageConverterConfig(@Qualifier("smileObjectMapper") ObjectMapper smileObjectMapper,
+                                  @Qualifier("cborObjectMapper") ObjectMapper cborObjectMapper) {
+        this.smileObjectMapper = smileObjectMapper;
+        this.cborObjectMapper = cborObjectMapper;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof MappingJackson2CborHttpMessageConverter);
+        converters.add(new InternalSmileConverter(smileObjectMapper));
+        converters.add(new InternalCborConverter(cborObjectMapper));
+    }
+
+    /**
+     * Whether the request being handled on this thread is addressed to an internal endpoint.
+     */
+    static boolean isInternalRequest() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith(INTERNAL_PATH);
+    }
+
+    static final class InternalSmileConverter extends MappingJackson2SmileHttpMessageConverter {
+
+        InternalSmileConverter(ObjectMapper objectMapper) {
+            super(objectMapper);
+        }
+
+        @Override
+        public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+            return isInternalRequest() && super.canRead(type, contextClass, mediaType);
+        }
+
+        @Override
+        public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+            return isInternalRequest() && super.canWrite(type, clazz, mediaType);
+        }
+
+        @Override
+        public boolean canRead(Class<?> clazz, MediaType mediaType) {
+            return isInternalRequest() && super.canRead(clazz, mediaType);
+        }
+
+        @Override
+        public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+            return isInternalRequest() && super.canWrite(clazz, mediaType);
+        }
+    }
+
+    static final class InternalCborConverter extends MappingJackson2CborHttpMessageConverter {
+
+        InternalCborConverter(ObjectMapper objectMapper) {
+            super(objectMapper);
+        }
+
+        @Override
+        public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+            return isInternalRequest() && super.canRead(type, contextClass, mediaType);
+        }
+
+        @Override
+        public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+            return isInternalRequest() && super.canWrite(type, clazz, mediaType);
+        }
+
+        @Override
+        public boolean canRead(Class<?> clazz, MediaType mediaType) {
+            return isInternalRequest() && super.canRead(clazz, mediaType);
+        }
+
+        @Override
+        public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+            return isInternalRequest() && super.canWrite(clazz, mediaType);
+        }
+    }
+}
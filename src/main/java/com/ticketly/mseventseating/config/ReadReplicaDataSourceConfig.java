@@ -0,0 +1,100 @@
+package com.ticketly.mseventseating.config;
+
+import com.ticketly.mseventseating.service.replica.ReadYourWrites;
+import com.ticketly.mseventseating.service.replica.ReadYourWritesInterceptor;
+import com.ticketly.mseventseating.service.replica.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to streaming replicas of the primary when
+ * {@code app.read-replicas.enabled} is set.
+ * <p>
+ * The application's data source fetches its physical connection on first use, once the
+ * transaction has marked it read-only or not, from the primary's pool for writes and from
+ * {@link ReplicaRoutingDataSource} for reads. Flyway migrates through the primary's pool directly.
+ * As a physical connection then lasts as long as the EntityManager holding it,
+ * {@link ReadReplicaEnvironmentPostProcessor} turns off open-in-view.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.read-replicas.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                                             DataSourceProperties properties,
+                                                             AppLimitsConfig appLimitsConfig,
+                                                             MeterRegistry meterRegistry) {
+        AppLimitsConfig.ReadReplicaConfig config = appLimitsConfig.getReadReplicas();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<String> urls = config.getUrls();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig hikari = new HikariConfig();
+            hikari.setPoolName("replica-" + (i + 1));
+            hikari.setJdbcUrl(urls.get(i));
+            hikari.setDriverClassName(properties.determineDriverClassName());
+            hikari.setUsername(config.getUsername() != null ? config.getUsername() : properties.determineUsername());
+            hikari.setPassword(config.getPassword() != null ? config.getPassword() : properties.determinePassword());
+            hikari.setMaximumPoolSize(config.getMaximumPoolSize());
+            hikari.setReadOnly(true);
+            // Replicas may be down when the application starts; reads fall back to the primary
+            hikari.setInitializationFailTimeout(-1);
+            hikari.setMetricRegistry(meterRegistry);
+            replicas.put(hikari.getPoolName(), new HikariDataSource(hikari));
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, config.getMaxLag(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                 ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+
+    /**
+     * Applies {@link ReadYourWrites} ahead of the transaction interceptor, so the transaction
+     * starts with the primary required.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor readYourWritesAdvisor() {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new ComposablePointcut(new AnnotationMatchingPointcut(ReadYourWrites.class, true))
+                        .union(AnnotationMatchingPointcut.forMethodAnnotation(ReadYourWrites.class)),
+                new ReadYourWritesInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,35 @@
+package com.ticketly.mseventseating.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Turns off {@code spring.jpa.open-in-view} when {@code app.read-replicas.enabled} is set.
+ * <p>
+ * With open-in-view, one EntityManager lasts the whole request and holds on to the first physical
+ * connection {@link ReadReplicaDataSourceConfig}'s data source hands it. When a read-only transaction
+ * comes first that is a replica connection, and a write later in the same request would run on the
+ * replica and fail. Services load everything they map inside their own transactions, so nothing needs
+ * the EntityManager to outlive them.
+ */
+public class ReadReplicaEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String READ_REPLICAS_ENABLED = "app.read-replicas.enabled";
+    static final String OPEN_IN_VIEW = "spring.jpa.open-in-view";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getProperty(READ_REPLICAS_ENABLED, Boolean.class, false)) {
+            return;
+        }
+        if (environment.getProperty(OPEN_IN_VIEW, Boolean.class, false)) {
+            throw new IllegalStateException(OPEN_IN_VIEW + " cannot be enabled along with " + READ_REPLICAS_ENABLED
+                    + ": a write following a read-only transaction in the same request would run on a replica");
+        }
+        environment.getPropertySources().addLast(new MapPropertySource("readReplicas", Map.of(OPEN_IN_VIEW, false)));
+    }
+}
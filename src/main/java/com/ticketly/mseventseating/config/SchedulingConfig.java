@@ -0,0 +1,12 @@
+package com.ticketly.mseventseating.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs (e.g. session counter reconciliation).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,40 @@
+package com.ticketly.mseventseating.config;
+
+import com.ticketly.mseventseating.service.seat.SeatStatusStreamService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Wiring for live seat status streams. Sends to subscribers run on virtual threads, so a slow
+ * client costs a parked virtual thread rather than a pooled platform thread, and every instance
+ * subscribes to the shared Redis channel that carries deltas from whichever node committed them.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.seat-stream.enabled", havingValue = "true", matchIfMissing = true)
+public class SeatStatusStreamConfig {
+
+    @Bean(name = "seatStreamExecutor", destroyMethod = "shutdown")
+    public ExecutorService seatStreamExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("seat-stream-", 0).factory());
+    }
+
+    @Bean
+    public RedisMessageListenerContainer seatStatusListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                     SeatStatusStreamService seatStatusStreamService,
+                                                                     AppLimitsConfig appLimitsConfig) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> seatStatusStreamService.onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(appLimitsConfig.getSeatStream().getChannel()));
+        return container;
+    }
+}
@@ -0,0 +1,32 @@
+package com.ticketly.mseventseating.config;
+
+import com.ticketly.mseventseating.service.scheduler.SessionLifecycleScheduler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Subscribes every instance to the channel carrying session schedule changes; only the instance
+ * leading the lifecycle scheduler acts on them.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.lifecycle-scheduler.enabled", havingValue = "true")
+public class SessionLifecycleSchedulerConfig {
+
+    @Bean
+    public RedisMessageListenerContainer sessionScheduleListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                          SessionLifecycleScheduler scheduler,
+                                                                          AppLimitsConfig appLimitsConfig) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> scheduler.onSessionsChanged(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(appLimitsConfig.getLifecycleScheduler().getChannel()));
+        return container;
+    }
+}
@@ -0,0 +1,32 @@
+package com.ticketly.mseventseating.config;
+
+import com.ticketly.mseventseating.service.warmup.SessionWarmUpService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Subscribes every instance to the channel announcing sessions put on sale, so each warms its own
+ * caches for them.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class SessionWarmUpConfig {
+
+    @Bean
+    public RedisMessageListenerContainer sessionWarmUpListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                        SessionWarmUpService warmUpService,
+                                                                        AppLimitsConfig appLimitsConfig) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> warmUpService.onWarmUpRequested(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(appLimitsConfig.getWarmUp().getChannel()));
+        return container;
+    }
+}
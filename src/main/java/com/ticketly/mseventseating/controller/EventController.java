@@ -2,6 +2,8 @@ package com.ticketly.mseventseating.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ticketly.mseventseating.dto.event.*;
+import com.ticketly.mseventseating.dto.pagination.CursorPage;
+import com.ticketly.mseventseating.exception.BadRequestException;
 import com.ticketly.mseventseating.service.event.EventCreationService;
 import com.ticketly.mseventseating.service.event.EventLifecycleService;
 import com.ticketly.mseventseating.service.event.EventQueryService;
@@ -63,6 +65,18 @@ public class EventController {
         return ResponseEntity.ok(event);
     }
 
+    /**
+     * Get an event with ownership verification, with its sessions' layouts left out and never loaded
+     */
+    @GetMapping(value = "/{eventId}", params = "view=summary")
+    public ResponseEntity<EventDetailDTO> getEventSummaryOwner(
+            @PathVariable UUID eventId,
+            @AuthenticationPrincipal Jwt jwt) {
+
+        EventDetailDTO event = eventQueryService.findEventSummaryByIdOwner(eventId, jwt.getSubject());
+        return ResponseEntity.ok(event);
+    }
+
     /**
      * Admin endpoint to get detailed information about any event
      * Bypasses ownership verification as admins can view all events
@@ -76,6 +90,18 @@ public class EventController {
         return ResponseEntity.ok(event);
     }
 
+    /**
+     * Admin endpoint to get any event with its sessions' layouts left out and never loaded
+     */
+    @GetMapping(value = "/admin/{eventId}", params = "view=summary")
+    @PreAuthorize("hasRole('event_admin')")
+    public ResponseEntity<EventDetailDTO> getEventSummary(
+            @PathVariable UUID eventId) {
+
+        EventDetailDTO event = eventQueryService.findEventSummaryById(eventId);
+        return ResponseEntity.ok(event);
+    }
+
     /**
      * Delete an event - only possible for events with PENDING status
      * Ownership verification is performed in the service layer
@@ -107,6 +133,27 @@ public class EventController {
         return ResponseEntity.ok(events);
     }
 
+    /**
+     * Cursor-paginated variant of the organization listing, selected with {@code paging=cursor}.
+     * Events are returned newest first; pass the returned nextCursor back as {@code cursor}.
+     */
+    @GetMapping(value = "/organization/{organizationId}", params = "paging=cursor")
+    public ResponseEntity<CursorPage<EventSummaryDTO>> getOrganizationEventsOwnerByCursor(
+            @PathVariable UUID organizationId,
+            @RequestParam(required = false) EventStatus status,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @AuthenticationPrincipal Jwt jwt) {
+
+        rejectSearchInCursorMode(search);
+        CursorPage<EventSummaryDTO> events = eventQueryService.findEventsByOrganizationOwnerByCursor(
+                organizationId, jwt.getSubject(), status, cursor, size, includeTotal
+        );
+        return ResponseEntity.ok(events);
+    }
+
     /**
      * Admin endpoint to get paginated list of events for any organization
      * Bypasses ownership verification as admins can view all organizations' events
@@ -126,6 +173,26 @@ public class EventController {
         return ResponseEntity.ok(events);
     }
 
+    /**
+     * Admin cursor-paginated variant of the organization listing, selected with {@code paging=cursor}.
+     */
+    @GetMapping(value = "/admin/organization/{organizationId}", params = "paging=cursor")
+    @PreAuthorize("hasRole('event_admin')")
+    public ResponseEntity<CursorPage<EventSummaryDTO>> getOrganizationEventsByCursor(
+            @PathVariable UUID organizationId,
+            @RequestParam(required = false) EventStatus status,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        rejectSearchInCursorMode(search);
+        CursorPage<EventSummaryDTO> events = eventQueryService.findEventsByOrganizationByCursor(
+                organizationId, status, cursor, size, includeTotal
+        );
+        return ResponseEntity.ok(events);
+    }
+
     /**
      * Admin endpoint to get paginated list of all events across all organizations
      * Only accessible by users with the event_admin role
@@ -141,6 +208,23 @@ public class EventController {
         return ResponseEntity.ok(events);
     }
 
+    /**
+     * Admin cursor-paginated variant of the all-events listing, selected with {@code paging=cursor}.
+     */
+    @GetMapping(value = "/admin/all", params = "paging=cursor")
+    @PreAuthorize("hasRole('event_admin')")
+    public ResponseEntity<CursorPage<EventSummaryDTO>> getAllEventsByCursor(
+            @RequestParam(required = false) EventStatus status,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        rejectSearchInCursorMode(search);
+        CursorPage<EventSummaryDTO> events = eventQueryService.findAllEventsByCursor(status, cursor, size, includeTotal);
+        return ResponseEntity.ok(events);
+    }
+
 
     /**
      * Endpoint to approve an event - only accessible by users with the event_admin role
@@ -167,4 +251,13 @@ public class EventController {
         eventLifecycleService.rejectEvent(eventId, request.getReason());
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * Search results are ordered by relevance, which has no stable keyset; use page-based paging for search.
+     */
+    private void rejectSearchInCursorMode(String search) {
+        if (search != null && !search.isBlank()) {
+            throw new BadRequestException("Cursor pagination does not support search. Use page-based pagination instead.");
+        }
+    }
 }
@@ -3,13 +3,21 @@ package com.ticketly.mseventseating.controller;
 
 import com.ticketly.mseventseating.dto.event.SeatDetailsRequest;
 import com.ticketly.mseventseating.dto.event.SeatDetailsResponse;
+import com.ticketly.mseventseating.dto.projection.ProjectionMediaTypes;
+import com.ticketly.mseventseating.dto.session.SessionTransitionRequest;
+import com.ticketly.mseventseating.dto.session.SessionTransitionResponse;
+import com.ticketly.mseventseating.exception.AdmissionDeniedException;
 import com.ticketly.mseventseating.model.OrganizationRole;
+import com.ticketly.mseventseating.service.admission.AdmissionPermit;
+import com.ticketly.mseventseating.service.admission.SessionAdmissionService;
 import com.ticketly.mseventseating.service.category.CategoryProjectionDataService;
 import com.ticketly.mseventseating.service.event.EventLifecycleService;
 import com.ticketly.mseventseating.service.event.EventOwnershipService;
 import com.ticketly.mseventseating.service.organization.OrganizationOwnershipService;
 import com.ticketly.mseventseating.service.projection.DiscountProjectionService;
 import com.ticketly.mseventseating.service.projection.EventProjectionService;
+import com.ticketly.mseventseating.service.projection.EventProjectionStreamService;
+import com.ticketly.mseventseating.service.projection.ProjectionResponseCache;
 import com.ticketly.mseventseating.service.projection.SeatingMapProjectionService;
 import com.ticketly.mseventseating.service.seat.SeatValidationService;
 import com.ticketly.mseventseating.service.projection.SessionProjectionService;
@@ -19,15 +27,16 @@ import dto.CreateOrderRequest;
 import dto.projection.CategoryProjectionDTO;
 import dto.projection.DiscountProjectionDTO;
 import dto.projection.EventProjectionDTO;
-import dto.projection.SeatingMapProjectionDTO;
-import dto.projection.SessionProjectionDTO;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -44,6 +53,7 @@ public class InternalEventController {
 
     private final EventLifecycleService eventLifecycleService;
     private final EventProjectionService eventProjectionService;
+    private final EventProjectionStreamService eventProjectionStreamService;
     private final SessionProjectionService sessionProjectionService;
     private final SeatingMapProjectionService seatingMapProjectionService;
     private final CategoryProjectionDataService categoryProjectionService;
@@ -53,6 +63,8 @@ public class InternalEventController {
     private final EventOwnershipService eventOwnershipService;
     private final SessionOwnershipService sessionOwnershipService;
     private final OrganizationOwnershipService organizationOwnershipService;
+    private final ProjectionResponseCache projectionResponseCache;
+    private final SessionAdmissionService sessionAdmissionService;
 
     /**
      * Secure M2M endpoint for the Scheduler Service to put a session on sale.
@@ -81,19 +93,93 @@ public class InternalEventController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Secure M2M endpoint for the Scheduler Service to put many sessions on sale, or close them,
+     * in one transaction. Sessions that can't be transitioned are reported in the response rather
+     * than failing the others.
+     *
+     * @param request the sessions and the status to move them to, ON_SALE or CLOSED
+     * @return the result for each session
+     */
+    @PostMapping("sessions/transitions")
+    public ResponseEntity<SessionTransitionResponse> transitionSessions(@RequestBody @Valid SessionTransitionRequest request) {
+        return ResponseEntity.ok(eventLifecycleService.transitionSessions(request.getSessionIds(), request.getTargetStatus()));
+    }
+
     @GetMapping("events/{eventId}/projection-data")
     public ResponseEntity<EventProjectionDTO> getEventProjectionData(@PathVariable UUID eventId) {
         return ResponseEntity.ok(eventProjectionService.projectEvent(eventId));
     }
 
+    /**
+     * Streams the projections of all approved and completed events, or of the given ones, as
+     * newline-delimited JSON in event ID order, for rebuilding a read model. An interrupted
+     * consumer resumes by passing the ID of the last event it received as {@code after}.
+     *
+     * @param ids   the events to stream; all projectable events when omitted
+     * @param after resume token: the ID of the last event already received
+     */
+    @GetMapping(value = "events/projection-data", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEventProjectionData(
+            @RequestParam(required = false) List<UUID> ids,
+            @RequestParam(required = false) UUID after) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(eventProjectionStreamService.stream(ids, after));
+    }
+
+    /**
+     * Session projection, served with an ETag and answered with 304 when {@code If-None-Match} is current.
+     */
     @GetMapping("sessions/{sessionId}/projection-data")
-    public ResponseEntity<SessionProjectionDTO> getSessionProjectionData(@PathVariable UUID sessionId) {
-        return ResponseEntity.ok(sessionProjectionService.projectSession(sessionId));
+    public ResponseEntity<byte[]> getSessionProjectionData(@PathVariable UUID sessionId, WebRequest request) {
+        return projectionResponseCache.respond(request, ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId,
+                () -> sessionProjectionService.projectSession(sessionId));
+    }
+
+    /**
+     * Session projection whose seating map lists tiers once and references them from seats by ID.
+     * Selected with {@code Accept: application/vnd.ticketly.projection.compact.v1+json}.
+     */
+    @GetMapping(value = "sessions/{sessionId}/projection-data", produces = ProjectionMediaTypes.COMPACT_V1)
+    public ResponseEntity<byte[]> getCompactSessionProjectionData(@PathVariable UUID sessionId, WebRequest request) {
+        return projectionResponseCache.respond(request, ProjectionResponseCache.Resource.SESSION_PROJECTION_COMPACT,
+                sessionId, () -> sessionProjectionService.projectCompactSession(sessionId));
+    }
+
+    /**
+     * Same as {@link #getCompactSessionProjectionData(UUID, WebRequest)}, selected with {@code ?format=compact}.
+     */
+    @GetMapping(value = "sessions/{sessionId}/projection-data", params = ProjectionMediaTypes.COMPACT_FORMAT_PARAM)
+    public ResponseEntity<byte[]> getCompactSessionProjectionDataByParam(@PathVariable UUID sessionId, WebRequest request) {
+        return getCompactSessionProjectionData(sessionId, request);
     }
 
+    /**
+     * Seating map projection, served with an ETag and answered with 304 when {@code If-None-Match} is current.
+     */
     @GetMapping("seating-maps/{seatingMapId}/projection-data")
-    public ResponseEntity<SeatingMapProjectionDTO> getSeatingMapProjectionData(@PathVariable UUID seatingMapId) {
-        return ResponseEntity.ok(seatingMapProjectionService.projectSeatingMap(seatingMapId));
+    public ResponseEntity<byte[]> getSeatingMapProjectionData(@PathVariable UUID seatingMapId, WebRequest request) {
+        return projectionResponseCache.respond(request, ProjectionResponseCache.Resource.SEATING_MAP_PROJECTION,
+                seatingMapId, () -> seatingMapProjectionService.projectSeatingMap(seatingMapId));
+    }
+
+    /**
+     * Seating map projection with a top-level tier dictionary.
+     * Selected with {@code Accept: application/vnd.ticketly.projection.compact.v1+json}.
+     */
+    @GetMapping(value = "seating-maps/{seatingMapId}/projection-data", produces = ProjectionMediaTypes.COMPACT_V1)
+    public ResponseEntity<byte[]> getCompactSeatingMapProjectionData(@PathVariable UUID seatingMapId, WebRequest request) {
+        return projectionResponseCache.respond(request, ProjectionResponseCache.Resource.SEATING_MAP_PROJECTION_COMPACT,
+                seatingMapId, () -> seatingMapProjectionService.projectCompactSeatingMap(seatingMapId));
+    }
+
+    /**
+     * Same as {@link #getCompactSeatingMapProjectionData(UUID, WebRequest)}, selected with {@code ?format=compact}.
+     */
+    @GetMapping(value = "seating-maps/{seatingMapId}/projection-data", params = ProjectionMediaTypes.COMPACT_FORMAT_PARAM)
+    public ResponseEntity<byte[]> getCompactSeatingMapProjectionDataByParam(@PathVariable UUID seatingMapId, WebRequest request) {
+        return getCompactSeatingMapProjectionData(seatingMapId, request);
     }
 
     /**
@@ -123,21 +209,34 @@ public class InternalEventController {
      * Endpoint for validating and retrieving seat details for a specific session.
      * Returns seat information only if all seats are AVAILABLE, otherwise throws an error.
      * This is used by order service to validate seats before processing an order.
+     * Answered with 429 and a queue ticket while the session is handling as many checkouts as it admits.
      *
-     * @param sessionId The ID of the session the seats belong to
-     * @param request   The request containing seat IDs to validate
+     * @param sessionId       The ID of the session the seats belong to
+     * @param request         The request containing seat IDs to validate
+     * @param admissionTicket The ticket of an earlier 429, to keep the caller's place in the queue
      * @return List of seat details responses for all valid seats
      */
     @PostMapping("/sessions/{sessionId}/seats/details")
     public ResponseEntity<List<SeatDetailsResponse>> validateAndGetSeatsDetails(
-            @RequestBody SeatDetailsRequest request, @PathVariable UUID sessionId) {
-        List<SeatDetailsResponse> seatDetails = seatValidationService.validateAndGetSeatsDetails(sessionId, request);
-        return ResponseEntity.ok(seatDetails);
+            @RequestBody SeatDetailsRequest request, @PathVariable UUID sessionId,
+            @RequestHeader(value = AdmissionDeniedException.TICKET_HEADER, required = false) String admissionTicket) {
+        try (AdmissionPermit ignored = sessionAdmissionService.admit(sessionId, admissionTicket)) {
+            List<SeatDetailsResponse> seatDetails = seatValidationService.validateAndGetSeatsDetails(sessionId, request);
+            return ResponseEntity.ok(seatDetails);
+        }
     }
 
+    /**
+     * Validates an order before it is placed. Admitted per session like
+     * {@link #validateAndGetSeatsDetails(SeatDetailsRequest, UUID, String)}.
+     */
     @PostMapping("/validate-pre-order")
-    public ResponseEntity<Void> validatePreOrder(@RequestBody @Valid CreateOrderRequest request) {
-        validationService.validatePreOrder(request);
+    public ResponseEntity<Void> validatePreOrder(
+            @RequestBody @Valid CreateOrderRequest request,
+            @RequestHeader(value = AdmissionDeniedException.TICKET_HEADER, required = false) String admissionTicket) {
+        try (AdmissionPermit ignored = sessionAdmissionService.admit(request.getSession_id(), admissionTicket)) {
+            validationService.validatePreOrder(request);
+        }
         // If no exception is thrown, all validations passed.
         return ResponseEntity.ok().build();
     }
@@ -0,0 +1,47 @@
+package com.ticketly.mseventseating.controller;
+
+import com.ticketly.mseventseating.service.seat.SeatStatusStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/v1/public/sessions")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.seat-stream.enabled", havingValue = "true", matchIfMissing = true)
+@Tag(name = "Seat Status Stream", description = "Live seat status changes for seating maps")
+public class SeatStatusStreamController {
+
+    private final SeatStatusStreamService seatStatusStreamService;
+
+    /**
+     * Stream seat status deltas for a session as server-sent events.
+     * A fresh subscription first receives a {@code version} event; the client then loads the
+     * seating map and applies {@code seat-status} events with a higher id. Reconnecting with
+     * {@code Last-Event-ID} replays missed deltas, or sends {@code resync} if they are gone.
+     */
+    @GetMapping(value = "/{sessionId}/seat-status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream seat status changes",
+            description = "Server-sent events with the seat IDs and new status of every committed change in the session.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened"),
+            @ApiResponse(responseCode = "404", description = "Session not found")
+    })
+    public SseEmitter streamSeatStatus(
+            @PathVariable UUID sessionId,
+            @Parameter(description = "Last version applied by the client, set automatically by EventSource on reconnect")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @Parameter(description = "Alternative to Last-Event-ID for clients that cannot set headers")
+            @RequestParam(value = "sinceVersion", required = false) Long sinceVersion) {
+        return seatStatusStreamService.subscribe(sessionId, lastEventId != null ? lastEventId : sinceVersion);
+    }
+}
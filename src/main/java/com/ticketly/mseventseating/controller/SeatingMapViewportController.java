@@ -0,0 +1,44 @@
+package com.ticketly.mseventseating.controller;
+
+import com.ticketly.mseventseating.dto.session.SeatingMapViewportDTO;
+import com.ticketly.mseventseating.service.projection.SeatingMapViewportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/v1/public/sessions")
+@RequiredArgsConstructor
+@Tag(name = "Seating Map Viewport", description = "Progressive loading of large seating maps")
+public class SeatingMapViewportController {
+
+    private final SeatingMapViewportService seatingMapViewportService;
+
+    /**
+     * Get the blocks of a session's seating map that intersect a rectangle in layout coordinates.
+     * Clients typically request outlines for the whole map first, then seats for what is on screen.
+     */
+    @GetMapping("/{sessionId}/seating-map/viewport")
+    @Operation(summary = "Get the seating map blocks inside a viewport",
+            description = "Returns blocks intersecting the rectangle, as outlines (detail=BLOCKS) or with rows and seats (detail=SEATS).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Viewport retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid viewport rectangle"),
+            @ApiResponse(responseCode = "404", description = "Session not found or seating map not published")
+    })
+    public ResponseEntity<SeatingMapViewportDTO> getViewport(
+            @PathVariable UUID sessionId,
+            @RequestParam double minX,
+            @RequestParam double minY,
+            @RequestParam double maxX,
+            @RequestParam double maxY,
+            @RequestParam(defaultValue = "SEATS") SeatingMapViewportDTO.Detail detail) {
+        return ResponseEntity.ok(seatingMapViewportService.getViewport(sessionId, minX, minY, maxX, maxY, detail));
+    }
+}
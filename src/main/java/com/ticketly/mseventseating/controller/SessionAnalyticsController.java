@@ -1,5 +1,6 @@
 package com.ticketly.mseventseating.controller;
 
+import com.ticketly.mseventseating.dto.pagination.CursorPage;
 import com.ticketly.mseventseating.dto.session.OrganizationSessionDTO;
 import com.ticketly.mseventseating.dto.session.SessionAnalyticsResponse;
 import com.ticketly.mseventseating.service.session.SessionAnalyticsService;
@@ -134,6 +135,34 @@ public class SessionAnalyticsController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Cursor-paginated variant of the organization sessions listing, selected with {@code paging=cursor}
+     * Owner endpoint - requires organization ownership
+     */
+    @GetMapping(value = "/organizations/{organizationId}/sessions", params = "paging=cursor")
+    @Operation(summary = "Get sessions for an organization using cursor pagination",
+            description = "Returns sessions ordered by start time using keyset pagination. Pass the returned nextCursor " +
+                    "as the cursor parameter to fetch the next page. The total count is only computed when includeTotal=true.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sessions retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "403", description = "User not authorized to access this organization's data"),
+            @ApiResponse(responseCode = "404", description = "Organization not found")
+    })
+    public ResponseEntity<CursorPage<OrganizationSessionDTO>> getOrganizationSessionsByCursor(
+            @PathVariable UUID organizationId,
+            @RequestParam(required = false) SessionStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @AuthenticationPrincipal Jwt jwt) {
+
+        CursorPage<OrganizationSessionDTO> response = sessionAnalyticsService.getOrganizationSessionsByCursor(
+                organizationId, jwt.getSubject(), status, cursor, size, includeTotal
+        );
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Admin endpoint to get all sessions for any organization with filtering options
      * Bypasses ownership verification as admins can view all organizations
@@ -158,4 +187,30 @@ public class SessionAnalyticsController {
         );
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Admin cursor-paginated variant of the organization sessions listing, selected with {@code paging=cursor}
+     */
+    @GetMapping(value = "/admin/organizations/{organizationId}/sessions", params = "paging=cursor")
+    @PreAuthorize("hasRole('event_admin')")
+    @Operation(summary = "Admin: Get sessions for any organization using cursor pagination",
+            description = "Returns sessions ordered by start time using keyset pagination. Admin access required.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sessions retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "403", description = "User not authorized as admin"),
+            @ApiResponse(responseCode = "404", description = "Organization not found")
+    })
+    public ResponseEntity<CursorPage<OrganizationSessionDTO>> getOrganizationSessionsAdminByCursor(
+            @PathVariable UUID organizationId,
+            @RequestParam(required = false) SessionStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        CursorPage<OrganizationSessionDTO> response = sessionAnalyticsService.getOrganizationSessionsByCursor(
+                organizationId, null, status, cursor, size, includeTotal
+        );
+        return ResponseEntity.ok(response);
+    }
+}
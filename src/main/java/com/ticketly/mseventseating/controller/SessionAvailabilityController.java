@@ -0,0 +1,63 @@
+package com.ticketly.mseventseating.controller;
+
+import com.ticketly.mseventseating.dto.session.BestAvailableSeatsDTO;
+import com.ticketly.mseventseating.dto.session.SessionAvailabilityDTO;
+import com.ticketly.mseventseating.service.seat.BestAvailableSeatService;
+import com.ticketly.mseventseating.service.seat.SeatAvailabilityService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/v1/public/sessions")
+@RequiredArgsConstructor
+@Tag(name = "Session Availability", description = "Public seat availability for listing pages")
+public class SessionAvailabilityController {
+
+    private final SeatAvailabilityService seatAvailabilityService;
+    private final BestAvailableSeatService bestAvailableSeatService;
+
+    /**
+     * Get remaining capacity per tier for several sessions in one call.
+     * Reads the maintained counters only, never the seating layouts.
+     */
+    @GetMapping("/availability")
+    @Operation(summary = "Get seat availability for multiple sessions",
+            description = "Returns total and per-tier capacity and available seats for up to 100 sessions.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Availability retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Too many session IDs requested")
+    })
+    public ResponseEntity<List<SessionAvailabilityDTO>> getAvailability(@RequestParam("sessionIds") List<UUID> sessionIds) {
+        return ResponseEntity.ok(seatAvailabilityService.getAvailability(sessionIds));
+    }
+
+    /**
+     * Suggest the best adjacent seats in a tier so that clients do not have to pick from the full map.
+     * The seats are not held; they are validated again when the order is placed.
+     */
+    @GetMapping("/{sessionId}/best-available")
+    @Operation(summary = "Find the best available adjacent seats",
+            description = "Returns the given number of adjacent available seats in one row of a tier, closest to the "
+                    + "focal point in layout coordinates, or to the front centre of the seating by default.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Seats found"),
+            @ApiResponse(responseCode = "400", description = "Invalid quantity or session not on sale"),
+            @ApiResponse(responseCode = "404", description = "Session not found or no adjacent seats available")
+    })
+    public ResponseEntity<BestAvailableSeatsDTO> getBestAvailable(
+            @PathVariable UUID sessionId,
+            @RequestParam UUID tierId,
+            @RequestParam(defaultValue = "1") int quantity,
+            @RequestParam(required = false) Double focalX,
+            @RequestParam(required = false) Double focalY) {
+        return ResponseEntity.ok(bestAvailableSeatService.findBestAvailable(sessionId, tierId, quantity, focalX, focalY));
+    }
+}
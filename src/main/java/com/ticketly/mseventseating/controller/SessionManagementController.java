@@ -8,8 +8,12 @@ import com.ticketly.mseventseating.dto.session.SessionStatusUpdateDTO;
 import com.ticketly.mseventseating.dto.session.SessionTimeUpdateDTO;
 import com.ticketly.mseventseating.dto.session.SessionVenueDetailsUpdateDTO;
 import com.ticketly.mseventseating.dto.session.SessionVenueUpdateDTO;
+import com.ticketly.mseventseating.service.projection.ProjectionResponseCache;
 import com.ticketly.mseventseating.service.session.SessionManagementService;
+import dto.SessionSeatingMapDTO;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -20,8 +24,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -31,6 +37,7 @@ import java.util.UUID;
 public class SessionManagementController {
 
     private final SessionManagementService sessionManagementService;
+    private final ProjectionResponseCache projectionResponseCache;
 
     /**
      * Create multiple sessions for an event
@@ -60,17 +67,42 @@ public class SessionManagementController {
     @Operation(summary = "Get a session by ID",
             description = "Retrieves a specific session by its ID. Organization owners and scanners can access.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Session retrieved successfully"),
+            @ApiResponse(responseCode = "200", description = "Session retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = SessionResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Session unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "403", description = "User not authorized to access this session"),
             @ApiResponse(responseCode = "404", description = "Session not found")
     })
-    public ResponseEntity<SessionResponse> getSession(
+    public ResponseEntity<byte[]> getSession(
+            @PathVariable UUID sessionId,
+            @AuthenticationPrincipal Jwt jwt,
+            WebRequest request) {
+
+        String userId = jwt.getClaimAsString("sub");
+        // Authorize before the cache, which may answer without loading the session
+        sessionManagementService.checkReadAccess(sessionId, userId);
+        return projectionResponseCache.respond(request, ProjectionResponseCache.Resource.SESSION, sessionId,
+                () -> sessionManagementService.getSession(sessionId, userId));
+    }
+
+    /**
+     * Get the seating layout of a session
+     */
+    @GetMapping("/{sessionId}/layout")
+    @Operation(summary = "Get the seating layout of a session",
+            description = "Retrieves only the seating layout of a session, for clients that listed sessions without it. " +
+                    "Organization owners and scanners can access.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Layout retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "User not authorized to access this session"),
+            @ApiResponse(responseCode = "404", description = "Session or seating map not found")
+    })
+    public ResponseEntity<SessionSeatingMapDTO> getSessionLayout(
             @PathVariable UUID sessionId,
             @AuthenticationPrincipal Jwt jwt) {
 
         String userId = jwt.getClaimAsString("sub");
-        SessionResponse response = sessionManagementService.getSession(sessionId, userId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(sessionManagementService.getSessionLayout(sessionId, userId));
     }
 
     /**
@@ -224,4 +256,47 @@ public class SessionManagementController {
         List<SessionResponse> responses = sessionManagementService.getSessionsByEvent(eventId, userId);
         return ResponseEntity.ok(responses);
     }
+
+    /**
+     * Get all sessions for a specific event without their layouts
+     */
+    @GetMapping(params = {"view=summary", "!fields"})
+    @Operation(summary = "Get all sessions for a specific event without layouts",
+            description = "Like listing the sessions of an event, but layoutData is left out and never loaded. " +
+                    "Fetch a layout with GET /v1/sessions/{sessionId}/layout when it's needed.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sessions retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "User not authorized to access these sessions"),
+            @ApiResponse(responseCode = "404", description = "Event not found")
+    })
+    public ResponseEntity<List<SessionResponse>> getSessionSummariesByEventId(
+            @RequestParam UUID eventId,
+            @AuthenticationPrincipal Jwt jwt) {
+
+        String userId = jwt.getClaimAsString("sub");
+        List<SessionResponse> responses = sessionManagementService.getSessionSummariesByEvent(eventId, userId);
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * Get selected fields of all sessions for a specific event
+     */
+    @GetMapping(params = "fields")
+    @Operation(summary = "Get selected fields of all sessions for a specific event",
+            description = "Returns only the comma-separated session fields named in 'fields', plus the ID, " +
+                    "e.g. fields=startTime,status,venueDetails. Layouts are only loaded when layoutData is selected.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sessions retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Unknown field"),
+            @ApiResponse(responseCode = "403", description = "User not authorized to access these sessions"),
+            @ApiResponse(responseCode = "404", description = "Event not found")
+    })
+    public ResponseEntity<List<Map<String, Object>>> getSessionFieldsByEventId(
+            @RequestParam UUID eventId,
+            @RequestParam String fields,
+            @AuthenticationPrincipal Jwt jwt) {
+
+        String userId = jwt.getClaimAsString("sub");
+        return ResponseEntity.ok(sessionManagementService.getSessionFieldsByEvent(eventId, userId, fields));
+    }
 }
\ No newline at end of file
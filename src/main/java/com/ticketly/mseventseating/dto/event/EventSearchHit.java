@@ -0,0 +1,15 @@
+package com.ticketly.mseventseating.dto.event;
+
+import java.util.UUID;
+
+/**
+ * Native query projection for a single full-text search match: the event ID,
+ * its relevance score and a highlighted excerpt of the description.
+ */
+public interface EventSearchHit {
+    UUID getId();
+
+    Double getRank();
+
+    String getSnippet();
+}
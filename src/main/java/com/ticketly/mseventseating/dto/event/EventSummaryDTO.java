@@ -25,4 +25,6 @@ public class EventSummaryDTO {
     private String coverPhoto; // Just the first cover photo for the summary
     private int sessionCount;
     private OffsetDateTime earliestSessionDate;
+    private Double searchRank; // Only set for search results
+    private String searchSnippet; // Highlighted description excerpt, only set for search results
 }
@@ -0,0 +1,19 @@
+package com.ticketly.mseventseating.dto.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published to other services when a session's seating layout is replaced. Seats that were neither
+ * added, removed nor changed kept their IDs.
+ */
+public record SeatingLayoutChangedEventDto(
+        UUID session_id,
+        List<UUID> added_block_ids,
+        List<UUID> removed_block_ids,
+        List<UUID> changed_block_ids,
+        List<UUID> added_seat_ids,
+        List<UUID> removed_seat_ids,
+        List<UUID> changed_seat_ids
+) {
+}
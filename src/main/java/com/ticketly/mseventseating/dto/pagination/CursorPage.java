@@ -0,0 +1,24 @@
+package com.ticketly.mseventseating.dto.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page of results fetched with keyset (cursor) pagination.
+ * Pass {@code nextCursor} back as the {@code cursor} parameter to fetch the following page.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // Null when there are no more results
+    private Long totalElements; // Only populated when includeTotal=true is requested
+}
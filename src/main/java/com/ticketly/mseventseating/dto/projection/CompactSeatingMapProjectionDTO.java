@@ -0,0 +1,78 @@
+package com.ticketly.mseventseating.dto.projection;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dto.projection.SeatingMapProjectionDTO;
+import dto.projection.TierInfo;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import model.SeatStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Seating map projection with each tier serialized once in {@code tiers} and referenced from seats
+ * by {@code tierId}, instead of being embedded in every seat.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CompactSeatingMapProjectionDTO {
+    private String name;
+    private Map<UUID, TierInfo> tiers;
+    private LayoutInfo layout;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class LayoutInfo {
+        private List<BlockInfo> blocks;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class BlockInfo {
+        private UUID id;
+        private String name;
+        private String type;
+        private SeatingMapProjectionDTO.PositionInfo position;
+        private List<RowInfo> rows;
+        private List<SeatInfo> seats;
+        private Number capacity;
+        private Number width;
+        private Number height;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class RowInfo {
+        private UUID id;
+        private String label;
+        private List<SeatInfo> seats;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class SeatInfo {
+        private UUID id;
+        private String label;
+        private SeatStatus status;
+        private UUID tierId;
+    }
+}
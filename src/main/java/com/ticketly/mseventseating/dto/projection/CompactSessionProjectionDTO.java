@@ -0,0 +1,30 @@
+package com.ticketly.mseventseating.dto.projection;
+
+import dto.projection.SessionProjectionDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import model.SessionStatus;
+import model.SessionType;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Session projection carrying a {@link CompactSeatingMapProjectionDTO} as its layout.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CompactSessionProjectionDTO {
+    private UUID id;
+    private OffsetDateTime startTime;
+    private OffsetDateTime endTime;
+    private SessionStatus sessionStatus;
+    private SessionType sessionType;
+    private SessionProjectionDTO.VenueDetailsInfo venueDetails;
+    private OffsetDateTime salesStartTime;
+    private CompactSeatingMapProjectionDTO layoutData;
+}
@@ -0,0 +1,20 @@
+package com.ticketly.mseventseating.dto.projection;
+
+/**
+ * Media types and query flags for alternative projection representations.
+ */
+public final class ProjectionMediaTypes {
+
+    /**
+     * Seating maps with a top-level tier dictionary; seats reference tiers by ID.
+     */
+    public static final String COMPACT_V1 = "application/vnd.ticketly.projection.compact.v1+json";
+
+    /**
+     * Query parameter selecting {@link #COMPACT_V1} for clients that cannot set the Accept header.
+     */
+    public static final String COMPACT_FORMAT_PARAM = "format=compact";
+
+    private ProjectionMediaTypes() {
+    }
+}
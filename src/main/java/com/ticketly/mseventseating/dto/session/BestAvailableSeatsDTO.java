@@ -0,0 +1,32 @@
+package com.ticketly.mseventseating.dto.session;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BestAvailableSeatsDTO {
+    private UUID sessionId;
+    private UUID tierId;
+    private UUID blockId;
+    private String blockName;
+    private UUID rowId;
+    private String rowLabel;
+    private List<SeatRef> seats;
+    private double score;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class SeatRef {
+        private UUID id;
+        private String label;
+    }
+}
@@ -0,0 +1,31 @@
+package com.ticketly.mseventseating.dto.session;
+
+import dto.SessionSeatingMapDTO;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A {@code seated_grid} block in grid form, as it is read from a request body or from
+ * {@code layout_grid}: its rows are described by {@link #grid} and not listed.
+ * <p>
+ * Reading a body never expands a grid. Services expand them with {@code SeatGridCodec.expandLayout},
+ * which charges every seat to a budget before creating it.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SeatGridBlock extends SessionSeatingMapDTO.Block {
+    private SeatGridDTO grid;
+
+    public SeatGridBlock(SessionSeatingMapDTO.Block block, SeatGridDTO grid) {
+        setId(block.getId());
+        setName(block.getName());
+        setType(block.getType());
+        setPosition(block.getPosition());
+        setCapacity(block.getCapacity());
+        setWidth(block.getWidth());
+        setHeight(block.getHeight());
+        this.grid = grid;
+    }
+}
@@ -0,0 +1,66 @@
+package com.ticketly.mseventseating.dto.session;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import model.SeatStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Procedural form of a {@code seated_grid} block, sent as its {@code grid} property in place of
+ * {@code rows}: the grid's dimensions, the tiers of each row as runs of consecutive seats, and the
+ * few seats that differ from what the dimensions describe.
+ * <p>
+ * Rows are labelled on from {@code startRowLabel} and seats numbered on from {@code startColumnLabel},
+ * every seat is available, and seat IDs are derived from the block ID and the seat's position.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SeatGridDTO {
+    private Integer rows;
+    private Integer columns;
+    private String startRowLabel;
+    private Integer startColumnLabel;
+
+    /**
+     * Tier runs of each row, covering all its columns. Rows past the end of the list repeat the
+     * runs of the last row listed.
+     */
+    private List<List<TierRun>> tierRuns;
+
+    private List<SeatOverride> overrides;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class TierRun {
+        private UUID tierId;
+        private Integer count;
+    }
+
+    /**
+     * One seat that is missing or differs from the grid, or a row label when {@code column} is null.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class SeatOverride {
+        private Integer row;
+        private Integer column;
+        private Boolean gap;
+        private SeatStatus status;
+        private UUID tierId;
+        private String label;
+    }
+}
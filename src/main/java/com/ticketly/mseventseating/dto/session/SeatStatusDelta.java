@@ -0,0 +1,25 @@
+package com.ticketly.mseventseating.dto.session;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import model.SeatStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A change of seat statuses in one session, as pushed to live seating map subscribers.
+ * Versions increase by one per delta within a session.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SeatStatusDelta {
+    private UUID sessionId;
+    private long version;
+    private List<UUID> seatIds;
+    private SeatStatus status;
+}
@@ -0,0 +1,30 @@
+package com.ticketly.mseventseating.dto.session;
+
+import java.util.UUID;
+
+/**
+ * Geometry of one block of a session layout, read from the layout JSON without its seats.
+ * Width and height are only stored for standing and non-sellable blocks; seated grids are sized
+ * from their row count and longest row.
+ */
+public interface SeatingBlockBounds {
+    UUID getId();
+
+    String getName();
+
+    String getType();
+
+    Double getX();
+
+    Double getY();
+
+    Double getWidth();
+
+    Double getHeight();
+
+    Integer getCapacity();
+
+    Integer getRowCount();
+
+    Integer getMaxSeatsPerRow();
+}
@@ -0,0 +1,51 @@
+package com.ticketly.mseventseating.dto.session;
+
+import dto.projection.SeatingMapProjectionDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The blocks of a session's seating map that intersect a viewport rectangle.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SeatingMapViewportDTO {
+    private UUID sessionId;
+    private Detail detail;
+    private List<BlockDTO> blocks;
+
+    public enum Detail {
+        /**
+         * Block outlines only: position, size, type and capacity.
+         */
+        BLOCKS,
+        /**
+         * Block outlines with their rows and seats, including seat status and tier.
+         */
+        SEATS
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class BlockDTO {
+        private UUID id;
+        private String name;
+        private String type;
+        private double x;
+        private double y;
+        private double width;
+        private double height;
+        private Integer capacity;
+        private List<SeatingMapProjectionDTO.RowInfo> rows;
+        private List<SeatingMapProjectionDTO.SeatInfo> seats;
+    }
+}
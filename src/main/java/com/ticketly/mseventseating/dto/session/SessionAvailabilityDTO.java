@@ -0,0 +1,20 @@
+package com.ticketly.mseventseating.dto.session;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SessionAvailabilityDTO {
+    private UUID sessionId;
+    private int capacity;
+    private int available;
+    private List<TierAvailabilityDTO> tiers;
+}
@@ -0,0 +1,18 @@
+package com.ticketly.mseventseating.dto.session;
+
+import model.EventStatus;
+import model.SessionStatus;
+
+import java.util.UUID;
+
+/**
+ * The status of a session and of its event, read without loading the session, whose seating map
+ * would come with it.
+ */
+public record SessionEventStatus(
+        UUID sessionId,
+        SessionStatus status,
+        UUID eventId,
+        EventStatus eventStatus
+) {
+}
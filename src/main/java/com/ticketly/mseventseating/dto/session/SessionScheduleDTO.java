@@ -0,0 +1,20 @@
+package com.ticketly.mseventseating.dto.session;
+
+import model.EventStatus;
+import model.SessionStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * The fields of a session that decide when it goes on sale and when it closes.
+ */
+public record SessionScheduleDTO(
+        UUID sessionId,
+        SessionStatus status,
+        OffsetDateTime startTime,
+        OffsetDateTime salesStartTime,
+        OffsetDateTime endTime,
+        EventStatus eventStatus
+) {
+}
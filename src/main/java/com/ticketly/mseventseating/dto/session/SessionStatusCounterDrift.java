@@ -0,0 +1,19 @@
+package com.ticketly.mseventseating.dto.session;
+
+import java.util.UUID;
+
+/**
+ * Native query projection for a counter row that disagrees with the base tables:
+ * the count stored in session_status_counters versus the actual number of sessions.
+ */
+public interface SessionStatusCounterDrift {
+    UUID getOrganizationId();
+
+    UUID getEventId();
+
+    String getStatus();
+
+    Long getCounted();
+
+    Long getActual();
+}
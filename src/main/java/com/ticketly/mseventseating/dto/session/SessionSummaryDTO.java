@@ -0,0 +1,29 @@
+package com.ticketly.mseventseating.dto.session;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import model.SessionStatus;
+import model.SessionType;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * A session's own columns, read without its seating map.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SessionSummaryDTO {
+    private UUID id;
+    private UUID eventId;
+    private OffsetDateTime startTime;
+    private OffsetDateTime endTime;
+    private OffsetDateTime salesStartTime;
+    private SessionType sessionType;
+    private SessionStatus status;
+    private String venueDetails; // Raw JSON of a VenueDetailsDTO
+}
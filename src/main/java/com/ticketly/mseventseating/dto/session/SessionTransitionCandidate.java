@@ -0,0 +1,21 @@
+package com.ticketly.mseventseating.dto.session;
+
+import model.EventStatus;
+import model.SessionStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * What a batch transition checks about a session, read for all sessions of the batch in one query
+ * without loading them or their seating maps.
+ */
+public record SessionTransitionCandidate(
+        UUID sessionId,
+        SessionStatus status,
+        OffsetDateTime startTime,
+        UUID eventId,
+        EventStatus eventStatus,
+        UUID organizationId
+) {
+}
@@ -0,0 +1,31 @@
+package com.ticketly.mseventseating.dto.session;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import model.SessionStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Sessions the scheduler moves to the same status at once: ON_SALE when their sales open, or
+ * CLOSED when they end.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionTransitionRequest {
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@NotNull UUID> sessionIds;
+
+    @NotNull
+    private SessionStatus targetStatus;
+}
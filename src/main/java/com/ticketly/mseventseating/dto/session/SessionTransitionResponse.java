@@ -0,0 +1,23 @@
+package com.ticketly.mseventseating.dto.session;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import model.SessionStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionTransitionResponse {
+    private SessionStatus targetStatus;
+    /** Result per requested session, in request order. */
+    private Map<UUID, SessionTransitionResult> results;
+    /** Events marked COMPLETED because their last open session was closed. */
+    private List<UUID> completedEventIds;
+}
@@ -0,0 +1,37 @@
+package com.ticketly.mseventseating.dto.session;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * What a batch transition did with one session.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionTransitionResult {
+
+    public enum Outcome {
+        /** The session was moved to the target status. */
+        TRANSITIONED,
+        /** The session already had the target status, e.g. when the scheduler retries a batch. */
+        UNCHANGED,
+        NOT_FOUND,
+        /** The session can't be moved to the target status; see the message. */
+        REJECTED
+    }
+
+    private Outcome outcome;
+    private String message;
+
+    public static SessionTransitionResult of(Outcome outcome) {
+        return new SessionTransitionResult(outcome, null);
+    }
+
+    public static SessionTransitionResult rejected(String message) {
+        return new SessionTransitionResult(Outcome.REJECTED, message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.ticketly.mseventseating.dto.session;
+
+import java.util.UUID;
+
+/**
+ * Native query projection: the number of seats of a tier matching some condition.
+ */
+public interface TierSeatCount {
+    UUID getTierId();
+
+    Long getSeatCount();
+}
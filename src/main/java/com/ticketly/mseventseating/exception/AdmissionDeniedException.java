@@ -0,0 +1,27 @@
+package com.ticketly.mseventseating.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a session is handling as many requests as it admits at once. The caller
+ * holds a place in the session's queue and should retry with its ticket after the given delay.
+ */
+@Getter
+public class AdmissionDeniedException extends RuntimeException {
+
+    /** Carries the caller's ticket, in the rejection and in its retries. */
+    public static final String TICKET_HEADER = "X-Admission-Ticket";
+
+    private final String ticket;
+    private final long position;
+    private final Duration retryAfter;
+
+    public AdmissionDeniedException(String message, String ticket, long position, Duration retryAfter) {
+        super(message);
+        this.ticket = ticket;
+        this.position = position;
+        this.retryAfter = retryAfter;
+    }
+}
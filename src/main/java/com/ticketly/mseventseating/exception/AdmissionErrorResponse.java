@@ -0,0 +1,21 @@
+package com.ticketly.mseventseating.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdmissionErrorResponse {
+    private int status;
+    private String message;
+    private String ticket;
+    private long position;
+    private long retryAfterMs;
+    private LocalDateTime timestamp;
+}
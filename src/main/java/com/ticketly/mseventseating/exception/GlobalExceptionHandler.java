@@ -1,7 +1,9 @@
 package com.ticketly.mseventseating.exception;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
@@ -36,6 +38,14 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, "Invalid parameter type: " + ex.getName());
     }
 
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleNotReadable(HttpMessageNotReadableException ex) {
+        log.error("Unreadable request body: {}", ex.getMessage());
+        Throwable cause = ex.getMostSpecificCause();
+        return buildResponse(HttpStatus.BAD_REQUEST, cause instanceof IllegalArgumentException
+                ? cause.getMessage() : "Malformed request body.");
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
         log.error("Validation error: {}", ex.getMessage());
@@ -107,6 +117,25 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
+    @ExceptionHandler(AdmissionDeniedException.class)
+    public ResponseEntity<AdmissionErrorResponse> handleAdmissionDenied(AdmissionDeniedException ex) {
+        log.debug("Admission denied at position {}: {}", ex.getPosition(), ex.getMessage());
+        AdmissionErrorResponse response = AdmissionErrorResponse.builder()
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .message(ex.getMessage())
+                .ticket(ex.getTicket())
+                .position(ex.getPosition())
+                .retryAfterMs(ex.getRetryAfter().toMillis())
+                .timestamp(LocalDateTime.now())
+                .build();
+        // Retry-After only takes whole seconds; the body has the exact delay
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .header(AdmissionDeniedException.TICKET_HEADER, ex.getTicket())
+                .body(response);
+    }
+
     private ResponseEntity<ErrorResponse> buildResponse(HttpStatus status, String message) {
         ErrorResponse err = ErrorResponse.builder()
                 .status(status.value())
@@ -2,6 +2,7 @@ package com.ticketly.mseventseating.factory;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.config.AppLimitsConfig;
 import com.ticketly.mseventseating.dto.event.CreateEventRequest;
 import com.ticketly.mseventseating.dto.event.DiscountRequestDTO;
 import com.ticketly.mseventseating.dto.event.SessionRequest;
@@ -11,6 +12,10 @@ import com.ticketly.mseventseating.exception.ResourceNotFoundException;
 import com.ticketly.mseventseating.model.*;
 import com.ticketly.mseventseating.model.discount.DiscountParameters;
 import com.ticketly.mseventseating.repository.CategoryRepository;
+import com.ticketly.mseventseating.service.id.IdGenerator;
+import com.ticketly.mseventseating.service.seating_layout.SeatGridCodec;
+import com.ticketly.mseventseating.service.seating_layout.SeatingLayoutDiffer;
+import com.ticketly.mseventseating.service.seating_layout.StoredLayout;
 import dto.SessionSeatingMapDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +34,8 @@ public class EventFactory {
 
     private final CategoryRepository categoryRepository;
     private final ObjectMapper objectMapper;
+    private final IdGenerator idGenerator;
+    private final AppLimitsConfig appLimitsConfig;
 
     /**
      * Assembles the complete Event aggregate (Event, Tiers, Sessions, Maps) in memory
@@ -78,7 +85,7 @@ public class EventFactory {
         return tierRequests.stream()
                 .map(req -> {
                     Tier tier = Tier.builder()
-                            .id(UUID.randomUUID())
+                            .id(idGenerator.next())
                             .name(req.getName())
                             .price(req.getPrice())
                             .color(req.getColor())
@@ -92,6 +99,7 @@ public class EventFactory {
 
     private List<EventSession> buildSessions(List<SessionRequest> sessionRequests, Event event, Map<UUID, Tier> tierIdMap, Map<UUID, EventSession> sessionIdMap) {
         List<EventSession> sessions = new ArrayList<>();
+        SeatGridCodec.SeatBudget seatBudget = newSeatBudget();
         for (SessionRequest req : sessionRequests) {
             // This object now contains either the online link or physical address.
             String venueDetailsJson = null;
@@ -117,10 +125,11 @@ public class EventFactory {
             // Map the client's temp session ID to the fully formed EventSession object
             sessionIdMap.put(req.getId(), session);
 
-            String validatedLayoutData = prepareSessionLayout(req.getLayoutData(), tierIdMap);
+            StoredLayout storedLayout = prepareSessionLayout(req.getLayoutData(), tierIdMap, seatBudget);
 
             SessionSeatingMap map = SessionSeatingMap.builder()
-                    .layoutData(validatedLayoutData)
+                    .layoutData(storedLayout.layoutData())
+                    .layoutGrid(storedLayout.layoutGrid())
                     .eventSession(session)
                     .build();
 
@@ -130,31 +139,37 @@ public class EventFactory {
         return sessions;
     }
 
-    private String prepareSessionLayout(SessionSeatingMapDTO layoutData, Map<UUID, Tier> tierIdMap) {
+    private SeatGridCodec.SeatBudget newSeatBudget() {
+        AppLimitsConfig.SeatingMapConfig limits = appLimitsConfig.getSeatingMap();
+        return new SeatGridCodec.SeatBudget(limits.getMaxLayoutSeats(), limits.getMaxLayoutBlocks(),
+                limits.getMaxRequestSeats());
+    }
+
+    private StoredLayout prepareSessionLayout(SessionSeatingMapDTO layoutData, Map<UUID, Tier> tierIdMap,
+                                              SeatGridCodec.SeatBudget seatBudget) {
         try {
             if (layoutData == null || layoutData.getLayout() == null || layoutData.getLayout().getBlocks() == null) {
                 throw new BadRequestException("Layout data or blocks cannot be null.");
             }
 
-            for (SessionSeatingMapDTO.Block block : layoutData.getLayout().getBlocks()) {
-                block.setId(UUID.randomUUID());
+            SeatGridCodec.expandLayout(layoutData, seatBudget);
 
-                if ("seated_grid".equals(block.getType())) {
+            // Grid row and seat IDs are derived from the block ID, so the grid can be stored in layout_grid procedurally
+            SeatingLayoutDiffer.forNewLayout(objectMapper, idGenerator).assignIds(layoutData);
+            for (SessionSeatingMapDTO.Block block : layoutData.getLayout().getBlocks()) {
+                if (SeatGridCodec.SEATED_GRID.equals(block.getType())) {
                     if (block.getRows() == null) continue;
                     for (SessionSeatingMapDTO.Row row : block.getRows()) {
-                        row.setId(UUID.randomUUID());
                         if (row.getSeats() != null) {
                             prepareSeats(row.getSeats(), tierIdMap);
                         }
                     }
-                } else if ("standing_capacity".equals(block.getType())) {
-                    if (block.getSeats() != null) {
-                        prepareSeats(block.getSeats(), tierIdMap);
-                    }
+                } else if ("standing_capacity".equals(block.getType()) && block.getSeats() != null) {
+                    prepareSeats(block.getSeats(), tierIdMap);
                 }
             }
-            return objectMapper.writeValueAsString(layoutData);
-        } catch (IOException e) {
+            return StoredLayout.of(objectMapper, layoutData);
+        } catch (IOException | IllegalArgumentException e) {
             log.error("Invalid session layout data", e);
             throw new BadRequestException("Invalid session layout data: " + e.getMessage());
         }
@@ -162,7 +177,6 @@ public class EventFactory {
 
     private void prepareSeats(List<SessionSeatingMapDTO.Seat> seats, Map<UUID, Tier> tierIdMap) {
         for (SessionSeatingMapDTO.Seat seat : seats) {
-            seat.setId(UUID.randomUUID());
             if (seat.getStatus() == SeatStatus.RESERVED) {
                 continue;
             }
@@ -198,7 +212,7 @@ public class EventFactory {
             List<EventSession> applicableSessions = req.getApplicableSessionIds().stream().map(sessionMap::get).toList();
 
             return Discount.builder()
-                    .id(UUID.randomUUID())
+                    .id(idGenerator.next())
                     .code(req.getCode())
                     .parameters(parameters)
                     .maxUsage(req.getMaxUsage())
@@ -2,13 +2,17 @@ package com.ticketly.mseventseating.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.ticketly.mseventseating.service.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.Set;
 import java.util.UUID;
 
 @Entity
 @Table(name = "categories")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +21,7 @@ import java.util.UUID;
 public class Category {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @Column(nullable = false, unique = true)
@@ -31,6 +35,7 @@ public class Category {
 
     // ✅ This is the "parent" side. It will be serialized.
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category-children")
     @JsonManagedReference("category-parent")
     private Set<Category> subCategories;
 }
@@ -2,6 +2,8 @@ package com.ticketly.mseventseating.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.ticketly.mseventseating.service.id.TimeOrderedId;
+import com.ticketly.mseventseating.service.projection.ProjectionVersionListener;
 import jakarta.persistence.*;
 import lombok.*;
 import model.EventStatus;
@@ -14,6 +16,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "events")
+@EntityListeners(ProjectionVersionListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,7 +25,7 @@ import java.util.UUID;
 public class Event {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
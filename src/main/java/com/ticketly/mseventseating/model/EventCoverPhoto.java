@@ -1,6 +1,7 @@
 package com.ticketly.mseventseating.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.ticketly.mseventseating.service.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -16,12 +17,21 @@ import java.util.UUID;
 public class EventCoverPhoto {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @Column(name = "photo_url", nullable = false)
     private String photoUrl;
 
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    @Column(name = "card_url")
+    private String cardUrl;
+
+    @Column(name = "hero_url")
+    private String heroUrl;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", nullable = false)
     @JsonBackReference("event-photos")
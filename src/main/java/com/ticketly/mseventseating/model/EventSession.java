@@ -1,6 +1,9 @@
 package com.ticketly.mseventseating.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.ticketly.mseventseating.service.id.TimeOrderedId;
+import com.ticketly.mseventseating.service.projection.ProjectionVersionListener;
+import com.ticketly.mseventseating.service.scheduler.SessionScheduleListener;
 import jakarta.persistence.*;
 import lombok.*;
 import model.SessionStatus;
@@ -13,6 +16,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "event_sessions")
+@EntityListeners({ProjectionVersionListener.class, SessionScheduleListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,7 +25,7 @@ import java.util.UUID;
 public class EventSession {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,6 +33,10 @@ public class EventSession {
     @JsonBackReference("event-sessions") // Add this
     private Event event;
 
+    // Copied from the event, so an organization's sessions can be paged in (startTime, id) order
+    @Column(name = "organization_id", nullable = false, updatable = false)
+    private UUID organizationId;
+
     @Column(name = "start_time", nullable = false)
     private OffsetDateTime startTime;
 
@@ -57,4 +65,11 @@ public class EventSession {
 
     @OneToOne(mappedBy = "eventSession", cascade = CascadeType.ALL, orphanRemoval = true)
     private SessionSeatingMap sessionSeatingMap;
+
+    @PrePersist
+    void copyOrganizationFromEvent() {
+        if (organizationId == null) {
+            organizationId = event.getOrganization().getId();
+        }
+    }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.ticketly.mseventseating.model;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.ticketly.mseventseating.service.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,6 +15,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "organizations")  // Added table name explicitly
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "organization")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,7 +24,7 @@ import java.util.UUID;
 public class Organization {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @Column(nullable = false)
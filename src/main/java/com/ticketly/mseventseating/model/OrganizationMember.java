@@ -1,6 +1,7 @@
 package com.ticketly.mseventseating.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.ticketly.mseventseating.service.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -21,7 +22,7 @@ import java.util.UUID;
 public class OrganizationMember {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,5 +1,6 @@
 package com.ticketly.mseventseating.model;
 
+import com.ticketly.mseventseating.service.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.JdbcTypeCode;
@@ -18,7 +19,7 @@ import java.util.UUID;
 public class SeatingLayoutTemplate {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,5 +1,7 @@
 package com.ticketly.mseventseating.model;
 
+import com.ticketly.mseventseating.service.id.TimeOrderedId;
+import com.ticketly.mseventseating.service.projection.ProjectionVersionListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.JdbcTypeCode;
@@ -9,6 +11,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "session_seating_maps")  // Changed from "session_seating_map" to "session_seating_maps"
+@EntityListeners(ProjectionVersionListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +20,7 @@ import java.util.UUID;
 public class SessionSeatingMap {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     // Changed from OneToOne with Event to OneToOne with EventSession
@@ -28,4 +31,9 @@ public class SessionSeatingMap {
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "layout_data", columnDefinition = "jsonb")
     private String layoutData; // Store the raw JSON string for the event-specific snapshot
+
+    // layout_data with seated grids in grid form; internal only, and left out of change data capture
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "layout_grid", columnDefinition = "jsonb")
+    private String layoutGrid;
 }
\ No newline at end of file
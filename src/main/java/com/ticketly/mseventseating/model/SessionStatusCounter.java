@@ -0,0 +1,24 @@
+package com.ticketly.mseventseating.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Number of sessions of an event currently in a given status. Maintained incrementally by
+ * SessionStatusCounterService and periodically verified against event_sessions.
+ */
+@Entity
+@Table(name = "session_status_counters")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SessionStatusCounter {
+
+    @EmbeddedId
+    private SessionStatusCounterId id;
+
+    @Column(name = "session_count", nullable = false)
+    private long sessionCount;
+}
@@ -0,0 +1,48 @@
+package com.ticketly.mseventseating.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Seat counters for one tier of one session: how many seats are sellable in total and how many
+ * are still available. Seeded from the prepared layout and decremented by the booking path.
+ * <p>
+ * The ID is assigned, so counters report themselves as new until persisted or loaded; otherwise
+ * {@code saveAll} would merge them and select each one before inserting it.
+ */
+@Entity
+@Table(name = "session_tier_availability")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SessionTierAvailability implements Persistable<SessionTierAvailabilityId> {
+
+    @EmbeddedId
+    private SessionTierAvailabilityId id;
+
+    @Column(nullable = false)
+    private int capacity;
+
+    @Column(nullable = false)
+    private int available;
+
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        newEntity = false;
+    }
+}
@@ -1,14 +1,19 @@
 package com.ticketly.mseventseating.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.ticketly.mseventseating.service.projection.ProjectionVersionListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.util.UUID;
 
 @Entity
 @Table(name = "tiers")  // Added table name explicitly
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tier")
+@EntityListeners(ProjectionVersionListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,7 +1,10 @@
 package com.ticketly.mseventseating.repository;
 
 import com.ticketly.mseventseating.model.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
@@ -25,6 +28,7 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
      *
      * @return list of top-level categories
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Category> findByParentIsNull();
 
     /**
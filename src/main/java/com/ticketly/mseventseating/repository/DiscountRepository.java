@@ -4,7 +4,10 @@ import com.ticketly.mseventseating.model.Discount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,4 +16,16 @@ public interface DiscountRepository extends JpaRepository<Discount, UUID> {
     Page<Discount> findAllByEventIdAndIsPublic(UUID eventId, boolean isPublic, Pageable pageable);
     List<Discount> findAllByEventId(UUID eventId);
     List<Discount> findAllByEventIdAndIsPublic(UUID eventId, boolean isPublic);
+
+    /**
+     * Projection streaming: initializes the applicable tiers of every discount of a chunk of events.
+     */
+    @Query("SELECT d FROM Discount d LEFT JOIN FETCH d.applicableTiers WHERE d.event.id IN :eventIds")
+    List<Discount> findAllWithApplicableTiersByEventIdIn(@Param("eventIds") Collection<UUID> eventIds);
+
+    /**
+     * Projection streaming: initializes the applicable sessions of every discount of a chunk of events.
+     */
+    @Query("SELECT d FROM Discount d LEFT JOIN FETCH d.applicableSessions WHERE d.event.id IN :eventIds")
+    List<Discount> findAllWithApplicableSessionsByEventIdIn(@Param("eventIds") Collection<UUID> eventIds);
 }
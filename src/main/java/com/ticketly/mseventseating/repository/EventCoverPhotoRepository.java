@@ -0,0 +1,27 @@
+package com.ticketly.mseventseating.repository;
+
+import com.ticketly.mseventseating.model.EventCoverPhoto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface EventCoverPhotoRepository extends JpaRepository<EventCoverPhoto, UUID> {
+
+    /**
+     * Record the generated renditions of a cover photo. Returns 0 when the photo has been removed
+     * since it was saved.
+     */
+    @Modifying
+    @Query("UPDATE EventCoverPhoto p SET p.thumbnailUrl = :thumbnailKey, p.cardUrl = :cardKey, p.heroUrl = :heroKey " +
+            "WHERE p.id = :id")
+    int updateVariants(
+            @Param("id") UUID id,
+            @Param("thumbnailKey") String thumbnailKey,
+            @Param("cardKey") String cardKey,
+            @Param("heroKey") String heroKey);
+}
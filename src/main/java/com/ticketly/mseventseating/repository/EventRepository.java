@@ -1,7 +1,10 @@
 package com.ticketly.mseventseating.repository;
 
+import com.ticketly.mseventseating.dto.event.EventSearchHit;
 import com.ticketly.mseventseating.model.Event;
 import model.EventStatus;
+import model.SessionStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +12,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -33,42 +39,206 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
     Page<Event> findAllByStatus(EventStatus status, Pageable pageable);
 
     /**
-     * Finds all events with title or description containing the search term,
-     * optionally filtered by status.
-     *
-     * @param searchTerm The term to search for in title or description.
-     * @param status     The event status to filter by (can be null).
-     * @param pageable   The pagination information.
-     * @return A page of events matching the search criteria.
-     */
-    @Query("SELECT e FROM Event e WHERE " +
-            "(:searchTerm IS NULL OR " +
-            "LOWER(COALESCE(e.title, '')) LIKE LOWER(CONCAT('%', CAST(:searchTerm AS string), '%')) OR " +
-            "LOWER(COALESCE(e.description, '')) LIKE LOWER(CONCAT('%', CAST(:searchTerm AS string), '%'))) AND " +
-            "(:status IS NULL OR e.status = :status)")
-    Page<Event> findBySearchTermAndStatus(
-            @Param("searchTerm") String searchTerm,
-            @Param("status") EventStatus status,
-            Pageable pageable);
-
-
-    /**
-     * Finds all events for a specific organization with optional search and status filtering.
+     * Finds all events for a specific organization, optionally filtered by status.
      *
      * @param organizationId The organization ID to filter by.
-     * @param searchTerm     The term to search for in title or description (optional).
      * @param status         The event status to filter by (optional).
      * @param pageable       The pagination information.
      * @return A page of events matching the criteria.
      */
     @Query("SELECT e FROM Event e WHERE e.organization.id = :organizationId AND " +
-            "(:searchTerm IS NULL OR " +
-            "LOWER(COALESCE(e.title, '')) LIKE LOWER(CONCAT('%', CAST(:searchTerm AS string), '%')) OR " +
-            "LOWER(COALESCE(e.description, '')) LIKE LOWER(CONCAT('%', CAST(:searchTerm AS string), '%'))) AND " +
             "(:status IS NULL OR e.status = :status)")
-    Page<Event> findByOrganizationIdAndSearchTermAndStatus(
+    Page<Event> findByOrganizationIdAndOptionalStatus(
             @Param("organizationId") UUID organizationId,
-            @Param("searchTerm") String searchTerm,
             @Param("status") EventStatus status,
             Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Full-text search across all events, optionally filtered by status.
+     * Matches the weighted search_vector (title, overview, description) with a prefix tsquery,
+     * and the title by substring or trigram similarity. Results are ordered by relevance, then
+     * by most recently updated. The snippet is only computed for the rows of the requested page.
+     *
+     * @param term        The raw search term, used for trigram similarity.
+     * @param tsQuery     The prefix tsquery built from the term (see EventSearchQuery).
+     * @param likePattern The escaped '%term%' pattern for substring title matches.
+     * @param status      The event status name to filter by (can be null).
+     * @param limit       The page size.
+     * @param offset      The page offset.
+     * @return The matching event IDs with their rank and highlight snippet.
+     */
+    @Query(value = "SELECT hit.id AS id, hit.rank AS rank, " +
+            "ts_headline('english', COALESCE(ev.description, ''), to_tsquery('english', :tsQuery), " +
+            "'StartSel=<mark>, StopSel=</mark>, MaxWords=30, MinWords=10, MaxFragments=2') AS snippet " +
+            "FROM (SELECT e.id, e.updated_at, " +
+            "ts_rank_cd(e.search_vector, to_tsquery('english', :tsQuery)) + similarity(e.title, :term) AS rank " +
+            "FROM events e " +
+            "WHERE (e.search_vector @@ to_tsquery('english', :tsQuery) " +
+            "OR e.title ILIKE :likePattern OR e.title % :term) " +
+            "AND (CAST(:status AS varchar) IS NULL OR e.status = CAST(:status AS varchar)) " +
+            "ORDER BY rank DESC, e.updated_at DESC, e.id " +
+            "LIMIT :limit OFFSET :offset) hit " +
+            "JOIN events ev ON ev.id = hit.id " +
+            "ORDER BY hit.rank DESC, hit.updated_at DESC, hit.id",
+            nativeQuery = true)
+    List<EventSearchHit> searchEvents(
+            @Param("term") String term,
+            @Param("tsQuery") String tsQuery,
+            @Param("likePattern") String likePattern,
+            @Param("status") String status,
+            @Param("limit") int limit,
+            @Param("offset") long offset);
+
+    @Query(value = "SELECT COUNT(*) FROM events e " +
+            "WHERE (e.search_vector @@ to_tsquery('english', :tsQuery) " +
+            "OR e.title ILIKE :likePattern OR e.title % :term) " +
+            "AND (CAST(:status AS varchar) IS NULL OR e.status = CAST(:status AS varchar))",
+            nativeQuery = true)
+    long countSearchEvents(
+            @Param("term") String term,
+            @Param("tsQuery") String tsQuery,
+            @Param("likePattern") String likePattern,
+            @Param("status") String status);
+
+    /**
+     * Full-text search within a single organization's events. See {@link #searchEvents}.
+     */
+    @Query(value = "SELECT hit.id AS id, hit.rank AS rank, " +
+            "ts_headline('english', COALESCE(ev.description, ''), to_tsquery('english', :tsQuery), " +
+            "'StartSel=<mark>, StopSel=</mark>, MaxWords=30, MinWords=10, MaxFragments=2') AS snippet " +
+            "FROM (SELECT e.id, e.updated_at, " +
+            "ts_rank_cd(e.search_vector, to_tsquery('english', :tsQuery)) + similarity(e.title, :term) AS rank " +
+            "FROM events e " +
+            "WHERE e.organization_id = :organizationId " +
+            "AND (e.search_vector @@ to_tsquery('english', :tsQuery) " +
+            "OR e.title ILIKE :likePattern OR e.title % :term) " +
+            "AND (CAST(:status AS varchar) IS NULL OR e.status = CAST(:status AS varchar)) " +
+            "ORDER BY rank DESC, e.updated_at DESC, e.id " +
+            "LIMIT :limit OFFSET :offset) hit " +
+            "JOIN events ev ON ev.id = hit.id " +
+            "ORDER BY hit.rank DESC, hit.updated_at DESC, hit.id",
+            nativeQuery = true)
+    List<EventSearchHit> searchOrganizationEvents(
+            @Param("organizationId") UUID organizationId,
+            @Param("term") String term,
+            @Param("tsQuery") String tsQuery,
+            @Param("likePattern") String likePattern,
+            @Param("status") String status,
+            @Param("limit") int limit,
+            @Param("offset") long offset);
+
+    @Query(value = "SELECT COUNT(*) FROM events e " +
+            "WHERE e.organization_id = :organizationId " +
+            "AND (e.search_vector @@ to_tsquery('english', :tsQuery) " +
+            "OR e.title ILIKE :likePattern OR e.title % :term) " +
+            "AND (CAST(:status AS varchar) IS NULL OR e.status = CAST(:status AS varchar))",
+            nativeQuery = true)
+    long countSearchOrganizationEvents(
+            @Param("organizationId") UUID organizationId,
+            @Param("term") String term,
+            @Param("tsQuery") String tsQuery,
+            @Param("likePattern") String likePattern,
+            @Param("status") String status);
+
+    /**
+     * Keyset pagination: first page of events ordered newest first by (createdAt, id),
+     * optionally filtered by status. Fetch with a limit of page size + 1.
+     */
+    @Query("SELECT e FROM Event e WHERE (:status IS NULL OR e.status = :status) " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<Event> findEventsFirstPage(@Param("status") EventStatus status, Limit limit);
+
+    /**
+     * Keyset pagination: the events that follow the given (createdAt, id) position.
+     */
+    @Query("SELECT e FROM Event e WHERE (:status IS NULL OR e.status = :status) " +
+            "AND (e.createdAt, e.id) < (:afterCreatedAt, :afterId) " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<Event> findEventsAfter(
+            @Param("status") EventStatus status,
+            @Param("afterCreatedAt") OffsetDateTime afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            Limit limit);
+
+    /**
+     * Keyset pagination: first page of an organization's events ordered newest first by (createdAt, id).
+     */
+    @Query("SELECT e FROM Event e WHERE e.organization.id = :organizationId " +
+            "AND (:status IS NULL OR e.status = :status) " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<Event> findOrganizationEventsFirstPage(
+            @Param("organizationId") UUID organizationId,
+            @Param("status") EventStatus status,
+            Limit limit);
+
+    /**
+     * Keyset pagination: the organization's events that follow the given (createdAt, id) position.
+     */
+    @Query("SELECT e FROM Event e WHERE e.organization.id = :organizationId " +
+            "AND (:status IS NULL OR e.status = :status) " +
+            "AND (e.createdAt, e.id) < (:afterCreatedAt, :afterId) " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<Event> findOrganizationEventsAfter(
+            @Param("organizationId") UUID organizationId,
+            @Param("status") EventStatus status,
+            @Param("afterCreatedAt") OffsetDateTime afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            Limit limit);
+
+    @Query("SELECT COUNT(e) FROM Event e WHERE (:status IS NULL OR e.status = :status)")
+    long countByOptionalStatus(@Param("status") EventStatus status);
+
+    @Query("SELECT COUNT(e) FROM Event e WHERE e.organization.id = :organizationId " +
+            "AND (:status IS NULL OR e.status = :status)")
+    long countByOrganizationIdAndOptionalStatus(
+            @Param("organizationId") UUID organizationId,
+            @Param("status") EventStatus status);
+
+    /**
+     * Projection streaming: IDs of the events in the given statuses, in ID order. Fetch with a
+     * limit of the chunk size.
+     */
+    @Query("SELECT e.id FROM Event e WHERE e.status IN :statuses ORDER BY e.id")
+    List<UUID> findIdsByStatusIn(@Param("statuses") Collection<EventStatus> statuses, Limit limit);
+
+    /**
+     * Projection streaming: the event IDs that follow the given one.
+     */
+    @Query("SELECT e.id FROM Event e WHERE e.status IN :statuses AND e.id > :afterId ORDER BY e.id")
+    List<UUID> findIdsByStatusInAfter(
+            @Param("statuses") Collection<EventStatus> statuses,
+            @Param("afterId") UUID afterId,
+            Limit limit);
+
+    /**
+     * Loads a chunk of events with their organization, category and tiers. Together with the
+     * other {@code findAllWith...} queries run in the same transaction, this initializes everything
+     * a projection reads with one query per association rather than one per event. Collections
+     * are fetched one per query, as fetching several bags at once is not possible.
+     */
+    @Query("SELECT e FROM Event e JOIN FETCH e.organization LEFT JOIN FETCH e.category c " +
+            "LEFT JOIN FETCH c.parent LEFT JOIN FETCH e.tiers WHERE e.id IN :ids")
+    List<Event> findAllWithTiersByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * The events among the given ones that have the given status, at least one session, and no
+     * session outside the given statuses.
+     */
+    @Query("SELECT e FROM Event e WHERE e.id IN :ids AND e.status = :status " +
+           "AND EXISTS (SELECT 1 FROM EventSession s WHERE s.event = e) " +
+           "AND NOT EXISTS (SELECT 1 FROM EventSession s WHERE s.event = e AND s.status NOT IN :sessionStatuses)")
+    List<Event> findAllByIdInAndStatusWithAllSessionsIn(
+            @Param("ids") Collection<UUID> ids,
+            @Param("status") EventStatus status,
+            @Param("sessionStatuses") Collection<SessionStatus> sessionStatuses);
+
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.coverPhotos WHERE e.id IN :ids")
+    List<Event> findAllWithCoverPhotosByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.sessions s LEFT JOIN FETCH s.sessionSeatingMap " +
+            "WHERE e.id IN :ids")
+    List<Event> findAllWithSessionsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.discounts WHERE e.id IN :ids")
+    List<Event> findAllWithDiscountsByIdIn(@Param("ids") Collection<UUID> ids);
+}
@@ -1,15 +1,21 @@
 package com.ticketly.mseventseating.repository;
 
 import com.ticketly.mseventseating.model.EventSession;
+import jakarta.persistence.LockModeType;
+import model.EventStatus;
 import model.SessionStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -45,6 +51,92 @@ public interface EventSessionRepository extends JpaRepository<EventSession, UUID
 
     List<EventSession> findAllByEventId(UUID eventId);
 
+    /**
+     * The sessions of an event ordered by start time, without their seating maps. Loading the
+     * entities would also load each session's map, as the one-to-one is mapped from the map's side.
+     */
+    @Query("SELECT new com.ticketly.mseventseating.dto.session.SessionSummaryDTO(" +
+           "s.id, s.event.id, s.startTime, s.endTime, s.salesStartTime, s.sessionType, s.status, s.venueDetails) " +
+           "FROM EventSession s " +
+           "WHERE s.event.id = :eventId " +
+           "ORDER BY s.startTime ASC, s.id ASC")
+    List<com.ticketly.mseventseating.dto.session.SessionSummaryDTO> findSummariesByEventId(@Param("eventId") UUID eventId);
+
+    /**
+     * The status of a session and its event. Loading the session itself would load its seating map
+     * too, as the inverse one-to-one can't be lazy.
+     */
+    @Query("SELECT new com.ticketly.mseventseating.dto.session.SessionEventStatus(s.id, s.status, e.id, e.status) " +
+           "FROM EventSession s JOIN s.event e " +
+           "WHERE s.id = :sessionId")
+    Optional<com.ticketly.mseventseating.dto.session.SessionEventStatus> findEventStatusById(
+            @Param("sessionId") UUID sessionId);
+
+    /**
+     * The status and parent event of each of the given sessions, for validating a batch transition.
+     * Sessions that don't exist are simply missing from the result. The rows are locked until the
+     * transaction ends, so no other status change lands between this read and the update that
+     * follows it; they are locked in ID order so two overlapping batches can't deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.ticketly.mseventseating.dto.session.SessionTransitionCandidate(" +
+           "s.id, s.status, s.startTime, e.id, e.status, e.organization.id) " +
+           "FROM EventSession s JOIN s.event e " +
+           "WHERE s.id IN :sessionIds ORDER BY s.id")
+    List<com.ticketly.mseventseating.dto.session.SessionTransitionCandidate> findTransitionCandidatesByIdIn(
+            @Param("sessionIds") Collection<UUID> sessionIds);
+
+    /**
+     * Set the status of the given sessions in one statement. Entity callbacks don't see this, so
+     * callers report the change to whatever they would have notified. Callers lock the sessions with
+     * {@link #findTransitionCandidatesByIdIn} first, as this overwrites whatever status they have.
+     *
+     * @return the number of sessions updated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE EventSession s SET s.status = :status WHERE s.id IN :sessionIds")
+    int updateStatusByIdIn(@Param("sessionIds") Collection<UUID> sessionIds, @Param("status") SessionStatus status);
+
+    /**
+     * Sessions with the given status, of events with the given status, whose sales start in
+     * [from, until) and that haven't started by {@code now}.
+     */
+    @Query("SELECT new com.ticketly.mseventseating.dto.session.SessionScheduleDTO(" +
+           "s.id, s.status, s.startTime, s.salesStartTime, s.endTime, e.status) " +
+           "FROM EventSession s JOIN s.event e " +
+           "WHERE s.status = :status AND s.salesStartTime >= :from AND s.salesStartTime < :until " +
+           "AND s.startTime > :now AND e.status = :eventStatus")
+    List<com.ticketly.mseventseating.dto.session.SessionScheduleDTO> findSchedulesBySalesStartBetween(
+            @Param("status") SessionStatus status,
+            @Param("eventStatus") EventStatus eventStatus,
+            @Param("from") OffsetDateTime from,
+            @Param("until") OffsetDateTime until,
+            @Param("now") OffsetDateTime now);
+
+    /**
+     * Sessions in one of the given statuses, of events with the given status, that end in [from, until).
+     */
+    @Query("SELECT new com.ticketly.mseventseating.dto.session.SessionScheduleDTO(" +
+           "s.id, s.status, s.startTime, s.salesStartTime, s.endTime, e.status) " +
+           "FROM EventSession s JOIN s.event e " +
+           "WHERE s.status IN :statuses AND s.endTime >= :from AND s.endTime < :until " +
+           "AND e.status = :eventStatus")
+    List<com.ticketly.mseventseating.dto.session.SessionScheduleDTO> findSchedulesByEndBetween(
+            @Param("statuses") Collection<SessionStatus> statuses,
+            @Param("eventStatus") EventStatus eventStatus,
+            @Param("from") OffsetDateTime from,
+            @Param("until") OffsetDateTime until);
+
+    @Query("SELECT new com.ticketly.mseventseating.dto.session.SessionScheduleDTO(" +
+           "s.id, s.status, s.startTime, s.salesStartTime, s.endTime, e.status) " +
+           "FROM EventSession s JOIN s.event e " +
+           "WHERE s.id IN :sessionIds")
+    List<com.ticketly.mseventseating.dto.session.SessionScheduleDTO> findSchedulesByIdIn(
+            @Param("sessionIds") Collection<UUID> sessionIds);
+
+    @Query("SELECT s.event.id FROM EventSession s WHERE s.id = :sessionId")
+    Optional<UUID> findEventIdById(@Param("sessionId") UUID sessionId);
+
     boolean existsByEventIdAndStatus(UUID eventId, SessionStatus status);
     
     /**
@@ -111,4 +203,53 @@ public interface EventSessionRepository extends JpaRepository<EventSession, UUID
             @Param("organizationId") UUID organizationId, 
             @Param("status") SessionStatus status,
             Pageable pageable);
+
+    /**
+     * Keyset pagination: first page of an organization's sessions ordered by (startTime, id).
+     * Filters on the session's own organizationId so the rows come off its (organizationId, startTime, id)
+     * index in order instead of being sorted.
+     * Fetch with a limit of page size + 1 to detect whether another page exists.
+     */
+    @Query("SELECT new com.ticketly.mseventseating.dto.session.OrganizationSessionDTO(" +
+           "s.id, s.startTime, s.endTime, s.salesStartTime, s.sessionType, s.status, " +
+           "e.id, e.title, e.status, c.name) " +
+           "FROM EventSession s " +
+           "JOIN s.event e " +
+           "LEFT JOIN e.category c " +
+           "WHERE s.organizationId = :organizationId " +
+           "AND (:status IS NULL OR s.status = :status) " +
+           "ORDER BY s.startTime ASC, s.id ASC")
+    List<com.ticketly.mseventseating.dto.session.OrganizationSessionDTO> findSessionsByOrganizationFirstPage(
+            @Param("organizationId") UUID organizationId,
+            @Param("status") SessionStatus status,
+            Limit limit);
+
+    /**
+     * Keyset pagination: the sessions that follow the given (startTime, id) position.
+     */
+    @Query("SELECT new com.ticketly.mseventseating.dto.session.OrganizationSessionDTO(" +
+           "s.id, s.startTime, s.endTime, s.salesStartTime, s.sessionType, s.status, " +
+           "e.id, e.title, e.status, c.name) " +
+           "FROM EventSession s " +
+           "JOIN s.event e " +
+           "LEFT JOIN e.category c " +
+           "WHERE s.organizationId = :organizationId " +
+           "AND (:status IS NULL OR s.status = :status) " +
+           "AND (s.startTime, s.id) > (:afterStartTime, :afterId) " +
+           "ORDER BY s.startTime ASC, s.id ASC")
+    List<com.ticketly.mseventseating.dto.session.OrganizationSessionDTO> findSessionsByOrganizationAfter(
+            @Param("organizationId") UUID organizationId,
+            @Param("status") SessionStatus status,
+            @Param("afterStartTime") OffsetDateTime afterStartTime,
+            @Param("afterId") UUID afterId,
+            Limit limit);
+
+    /**
+     * Count sessions for an organization, optionally filtered by status
+     */
+    @Query("SELECT COUNT(s) FROM EventSession s JOIN s.event e WHERE e.organization.id = :organizationId " +
+           "AND (:status IS NULL OR s.status = :status)")
+    long countSessionsByOrganizationAndOptionalStatus(
+            @Param("organizationId") UUID organizationId,
+            @Param("status") SessionStatus status);
 }
@@ -1,11 +1,15 @@
 package com.ticketly.mseventseating.repository;
 
+import com.ticketly.mseventseating.dto.session.SeatingBlockBounds;
 import com.ticketly.mseventseating.model.SessionSeatingMap;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -14,6 +18,7 @@ public interface SessionSeatingMapRepository extends JpaRepository<SessionSeatin
     /**
      * Calls the native PostgreSQL function 'update_seat_statuses' to perform
      * an efficient, selective update of seat statuses within the layout_data JSONB field.
+     * Seats of grids with a grid form in layout_grid also get a status override there.
      *
      * @param sessionId The UUID of the event session to update.
      * @param seatIds   A list of seat UUIDs whose status needs to be changed.
@@ -37,4 +42,49 @@ public interface SessionSeatingMapRepository extends JpaRepository<SessionSeatin
      */
     @Query(value = "SELECT validate_seat_statuses(?1, ?2)", nativeQuery = true)
     int countUnavailableSeatsInLayout(UUID sessionId, UUID[] seatIds);
-}
\ No newline at end of file
+
+    /**
+     * Loads only the layout JSON of a session's seating map, without the session or event.
+     */
+    @Query("SELECT m.layoutData FROM SessionSeatingMap m WHERE m.eventSession.id = :sessionId")
+    Optional<String> findLayoutDataBySessionId(@Param("sessionId") UUID sessionId);
+
+    @Query("SELECT m.id FROM SessionSeatingMap m WHERE m.eventSession.id = :sessionId")
+    Optional<UUID> findIdBySessionId(@Param("sessionId") UUID sessionId);
+
+    @Query("SELECT m.eventSession.id FROM SessionSeatingMap m WHERE m.id = :id")
+    Optional<UUID> findSessionIdById(@Param("id") UUID id);
+
+    /**
+     * Reads the geometry of every block in a session's layout, leaving the rows and seats in the database.
+     * Read from the grid form when there is one, so seated grids are sized from their dimensions.
+     */
+    @Query(value = "SELECT CAST(b ->> 'id' AS uuid) AS id, b ->> 'name' AS name, b ->> 'type' AS type, " +
+            "CAST(b -> 'position' ->> 'x' AS double precision) AS x, " +
+            "CAST(b -> 'position' ->> 'y' AS double precision) AS y, " +
+            "CAST(b ->> 'width' AS double precision) AS width, " +
+            "CAST(b ->> 'height' AS double precision) AS height, " +
+            "CAST(b ->> 'capacity' AS integer) AS capacity, " +
+            "CASE WHEN jsonb_typeof(b -> 'grid') = 'object' THEN CAST(b -> 'grid' ->> 'rows' AS integer) " +
+            "WHEN jsonb_typeof(b -> 'rows') = 'array' THEN jsonb_array_length(b -> 'rows') ELSE 0 END AS rowCount, " +
+            "CASE WHEN jsonb_typeof(b -> 'grid') = 'object' THEN CAST(b -> 'grid' ->> 'columns' AS integer) " +
+            "WHEN jsonb_typeof(b -> 'rows') = 'array' THEN " +
+            "(SELECT MAX(jsonb_array_length(r -> 'seats')) FROM jsonb_array_elements(b -> 'rows') r " +
+            "WHERE jsonb_typeof(r -> 'seats') = 'array') ELSE 0 END AS maxSeatsPerRow " +
+            "FROM session_seating_maps m " +
+            "CROSS JOIN LATERAL jsonb_array_elements(COALESCE(m.layout_grid, m.layout_data) -> 'layout' -> 'blocks') b " +
+            "WHERE m.event_session_id = :sessionId",
+            nativeQuery = true)
+    List<SeatingBlockBounds> findBlockBoundsBySessionId(@Param("sessionId") UUID sessionId);
+
+    /**
+     * Reads the full JSON of selected blocks of a session's layout, including their rows and seats.
+     */
+    @Query(value = "SELECT CAST(b AS text) " +
+            "FROM session_seating_maps m " +
+            "CROSS JOIN LATERAL jsonb_array_elements(m.layout_data -> 'layout' -> 'blocks') b " +
+            "WHERE m.event_session_id = :sessionId AND b ->> 'id' = ANY (CAST(:blockIds AS text[]))",
+            nativeQuery = true)
+    List<String> findBlocksBySessionIdAndBlockIds(@Param("sessionId") UUID sessionId,
+                                                  @Param("blockIds") String[] blockIds);
+}
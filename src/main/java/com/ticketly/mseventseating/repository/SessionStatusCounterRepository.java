@@ -0,0 +1,86 @@
+package com.ticketly.mseventseating.repository;
+
+import com.ticketly.mseventseating.dto.session.SessionStatusCounterDrift;
+import com.ticketly.mseventseating.model.SessionStatusCounter;
+import com.ticketly.mseventseating.model.SessionStatusCounterId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SessionStatusCounterRepository extends JpaRepository<SessionStatusCounter, SessionStatusCounterId> {
+
+    /**
+     * Atomically add a (possibly negative) delta to a counter, creating the row if needed.
+     * Concurrent transactions touching the same key serialize on the row lock.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO session_status_counters (organization_id, event_id, status, session_count) " +
+            "VALUES (:organizationId, :eventId, :status, :delta) " +
+            "ON CONFLICT (organization_id, event_id, status) " +
+            "DO UPDATE SET session_count = session_status_counters.session_count + EXCLUDED.session_count",
+            nativeQuery = true)
+    void addToCounter(
+            @Param("organizationId") UUID organizationId,
+            @Param("eventId") UUID eventId,
+            @Param("status") String status,
+            @Param("delta") long delta);
+
+    /**
+     * Session counts by status for an event, in the same shape as
+     * {@link EventSessionRepository#countSessionsByStatusForEvent(UUID)}.
+     */
+    @Query("SELECT c.id.status, SUM(c.sessionCount) FROM SessionStatusCounter c " +
+            "WHERE c.id.eventId = :eventId AND c.sessionCount > 0 GROUP BY c.id.status")
+    List<Object[]> sumByStatusForEvent(@Param("eventId") UUID eventId);
+
+    /**
+     * Session counts by status for an organization, in the same shape as
+     * {@link EventSessionRepository#countSessionsByStatusForOrganization(UUID)}.
+     */
+    @Query("SELECT c.id.status, SUM(c.sessionCount) FROM SessionStatusCounter c " +
+            "WHERE c.id.organizationId = :organizationId AND c.sessionCount > 0 GROUP BY c.id.status")
+    List<Object[]> sumByStatusForOrganization(@Param("organizationId") UUID organizationId);
+
+    @Modifying
+    @Query("DELETE FROM SessionStatusCounter c WHERE c.id.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") UUID eventId);
+
+    /**
+     * Compare every counter with a fresh aggregate of event_sessions. Returns only the keys
+     * whose stored count differs, including keys missing on either side.
+     */
+    @Query(value = "SELECT COALESCE(a.organization_id, c.organization_id) AS organizationId, " +
+            "COALESCE(a.event_id, c.event_id) AS eventId, " +
+            "COALESCE(a.status, c.status) AS status, " +
+            "COALESCE(c.session_count, 0) AS counted, " +
+            "COALESCE(a.actual, 0) AS actual " +
+            "FROM (SELECT e.organization_id, s.event_id, s.status, COUNT(*) AS actual " +
+            "      FROM event_sessions s JOIN events e ON e.id = s.event_id " +
+            "      GROUP BY e.organization_id, s.event_id, s.status) a " +
+            "FULL OUTER JOIN session_status_counters c " +
+            "ON c.organization_id = a.organization_id AND c.event_id = a.event_id AND c.status = a.status " +
+            "WHERE COALESCE(c.session_count, 0) <> COALESCE(a.actual, 0)",
+            nativeQuery = true)
+    List<SessionStatusCounterDrift> findDrift();
+
+    /**
+     * Overwrite a single counter with the count recomputed from event_sessions at execution time.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO session_status_counters (organization_id, event_id, status, session_count) " +
+            "VALUES (:organizationId, :eventId, :status, " +
+            "(SELECT COUNT(*) FROM event_sessions s WHERE s.event_id = :eventId AND s.status = :status)) " +
+            "ON CONFLICT (organization_id, event_id, status) " +
+            "DO UPDATE SET session_count = EXCLUDED.session_count",
+            nativeQuery = true)
+    void resetCounter(
+            @Param("organizationId") UUID organizationId,
+            @Param("eventId") UUID eventId,
+            @Param("status") String status);
+}
@@ -0,0 +1,71 @@
+package com.ticketly.mseventseating.repository;
+
+import com.ticketly.mseventseating.dto.session.TierSeatCount;
+import com.ticketly.mseventseating.model.SessionTierAvailability;
+import com.ticketly.mseventseating.model.SessionTierAvailabilityId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SessionTierAvailabilityRepository extends JpaRepository<SessionTierAvailability, SessionTierAvailabilityId> {
+
+    List<SessionTierAvailability> findAllByIdSessionIdIn(Collection<UUID> sessionIds);
+
+    /**
+     * Calls the native PostgreSQL function 'count_available_seats_by_tier', which locks the
+     * session's seating map row and counts, per tier, how many of the given seats are AVAILABLE.
+     */
+    @Query(value = "SELECT tier_id AS tierId, seat_count AS seatCount FROM count_available_seats_by_tier(?1, ?2)",
+            nativeQuery = true)
+    List<TierSeatCount> countAvailableSeatsByTier(UUID sessionId, UUID[] seatIds);
+
+    /**
+     * Atomically take seats from a tier's available counter, never going below zero.
+     */
+    @Modifying
+    @Query(value = "UPDATE session_tier_availability SET available = GREATEST(available - :seats, 0) " +
+            "WHERE session_id = :sessionId AND tier_id = :tierId",
+            nativeQuery = true)
+    int decrementAvailable(
+            @Param("sessionId") UUID sessionId,
+            @Param("tierId") UUID tierId,
+            @Param("seats") long seats);
+
+    /**
+     * Move a tier's counters by a layout change, creating them for a tier the session had no seats in.
+     * Neither counter goes below zero, and available never exceeds capacity.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO session_tier_availability (session_id, tier_id, capacity, available) " +
+            "VALUES (:sessionId, :tierId, GREATEST(:capacity, 0), LEAST(GREATEST(:available, 0), GREATEST(:capacity, 0))) " +
+            "ON CONFLICT (session_id, tier_id) DO UPDATE SET " +
+            "capacity = GREATEST(session_tier_availability.capacity + :capacity, 0), " +
+            "available = LEAST(GREATEST(session_tier_availability.available + :available, 0), " +
+            "GREATEST(session_tier_availability.capacity + :capacity, 0))",
+            nativeQuery = true)
+    int adjustCounters(
+            @Param("sessionId") UUID sessionId,
+            @Param("tierId") UUID tierId,
+            @Param("capacity") int capacity,
+            @Param("available") int available);
+
+    /**
+     * Drop the counters of tiers a session no longer has sellable seats in.
+     */
+    @Modifying
+    @Query("DELETE FROM SessionTierAvailability a WHERE a.id.sessionId = :sessionId AND a.capacity = 0")
+    int deleteEmptyBySessionId(@Param("sessionId") UUID sessionId);
+
+    /**
+     * Seats still available across all tiers of a session, or null if the session has no counters.
+     */
+    @Query("SELECT SUM(a.available) FROM SessionTierAvailability a WHERE a.id.sessionId = :sessionId")
+    Long sumAvailableForSession(@Param("sessionId") UUID sessionId);
+}
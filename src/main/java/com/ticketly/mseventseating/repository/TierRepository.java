@@ -1,7 +1,10 @@
 package com.ticketly.mseventseating.repository;
 
 import com.ticketly.mseventseating.model.Tier;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,6 +12,7 @@ import java.util.UUID;
 
 @Repository
 public interface TierRepository extends JpaRepository<Tier, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Tier> findByEventId(UUID eventId);
     List<Tier> findAllByIdIn(List<UUID> ids);
 }
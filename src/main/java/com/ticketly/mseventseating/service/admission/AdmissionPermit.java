@@ -0,0 +1,17 @@
+package com.ticketly.mseventseating.service.admission;
+
+/**
+ * A place among the requests a session is handling at once, given up when closed.
+ */
+@FunctionalInterface
+public interface AdmissionPermit extends AutoCloseable {
+
+    /**
+     * Holds no place, for requests admitted without a limit.
+     */
+    AdmissionPermit NONE = () -> {
+    };
+
+    @Override
+    void close();
+}
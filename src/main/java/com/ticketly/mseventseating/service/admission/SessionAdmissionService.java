@@ -0,0 +1,173 @@
+package com.ticketly.mseventseating.service.admission;
+
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.exception.AdmissionDeniedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Limits how many checkout validations of a session run at once across all instances, and queues
+ * the rest in arrival order, so a big on-sale is served at the rate the seat-map queries sustain
+ * rather than slowing down for everyone.
+ * <p>
+ * Admitted requests hold a permit in Redis until they finish, or until the permit's TTL should the
+ * instance die. A request arriving while the session is full, or while others are already queued,
+ * gets a ticket with its position and an estimated retry delay, and is admitted on a retry with the
+ * ticket once everyone ahead of it has been. Tickets not retried within their TTL lose their place.
+ * <p>
+ * When Redis is unavailable, requests are admitted without a limit. Outcomes are counted under
+ * {@code admission.requests} and queue positions recorded under {@code admission.queue.position}.
+ */
+@Service
+@Slf4j
+public class SessionAdmissionService {
+
+    private static final String KEY_PREFIX = "event-seating::admission::";
+    private static final int MAX_TICKET_LENGTH = 64;
+
+    /**
+     * Drops expired permits and abandoned tickets, then admits the caller if a permit is free and
+     * no more callers are queued ahead of it than there are free permits. Otherwise the caller
+     * keeps or takes a place at the end of the queue. Returns {admitted, permit or ticket, position}.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADMIT_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now)
+            local abandoned = redis.call('ZRANGEBYSCORE', KEYS[3], '-inf', now - tonumber(ARGV[4]), 'LIMIT', 0, 100)
+            for _, stale in ipairs(abandoned) do
+                redis.call('ZREM', KEYS[2], stale)
+                redis.call('ZREM', KEYS[3], stale)
+            end
+
+            local free = tonumber(ARGV[2]) - redis.call('ZCARD', KEYS[1])
+            local ticket = ARGV[3]
+            local ahead = false
+            if ticket ~= '' then
+                ahead = redis.call('ZRANK', KEYS[2], ticket)
+            end
+            if not ahead then
+                ticket = ''
+                ahead = redis.call('ZCARD', KEYS[2])
+            end
+
+            if ahead < free then
+                if ticket ~= '' then
+                    redis.call('ZREM', KEYS[2], ticket)
+                    redis.call('ZREM', KEYS[3], ticket)
+                end
+                redis.call('ZADD', KEYS[1], now + tonumber(ARGV[1]), ARGV[5])
+                redis.call('PEXPIRE', KEYS[1], ARGV[6])
+                return {'1', ARGV[5], '0'}
+            end
+
+            if ticket == '' then
+                ticket = ARGV[5]
+                redis.call('ZADD', KEYS[2], redis.call('INCR', KEYS[4]), ticket)
+            end
+            redis.call('ZADD', KEYS[3], now, ticket)
+            for i = 2, 4 do
+                redis.call('PEXPIRE', KEYS[i], ARGV[6])
+            end
+            return {'0', ticket, tostring(ahead + 1)}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final AppLimitsConfig.AdmissionConfig config;
+    private final Counter admitted;
+    private final Counter queued;
+    private final Counter bypassed;
+    private final DistributionSummary positions;
+
+    public SessionAdmissionService(StringRedisTemplate redisTemplate,
+                                   MeterRegistry meterRegistry,
+                                   AppLimitsConfig appLimitsConfig) {
+        this.redisTemplate = redisTemplate;
+        this.config = appLimitsConfig.getAdmission();
+        this.admitted = counter("admitted", meterRegistry);
+        this.queued = counter("queued", meterRegistry);
+        this.bypassed = counter("bypassed", meterRegistry);
+        this.positions = DistributionSummary.builder("admission.queue.position").register(meterRegistry);
+    }
+
+    private static Counter counter(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("admission.requests").tag("outcome", outcome).register(meterRegistry);
+    }
+
+    /**
+     * Admit a request for a session, to be closed once it is handled.
+     *
+     * @param ticket the ticket of an earlier rejection, if the caller has one
+     * @throws AdmissionDeniedException if the caller has to wait for its turn
+     */
+    public AdmissionPermit admit(UUID sessionId, String ticket) {
+        if (!config.isEnabled() || sessionId == null) {
+            return AdmissionPermit.NONE;
+        }
+
+        String id = UUID.randomUUID().toString();
+        String key = KEY_PREFIX + sessionId;
+        long keyTtl = 2 * Math.max(config.getPermitTtl().toMillis(), config.getTicketTtl().toMillis());
+        List<?> result;
+        try {
+            result = redisTemplate.execute(ADMIT_SCRIPT,
+                    List.of(key + "::permits", key + "::queue", key + "::seen", key + "::sequence"),
+                    String.valueOf(config.getPermitTtl().toMillis()),
+                    String.valueOf(config.getMaxConcurrentPerSession()),
+                    ticket != null && ticket.length() <= MAX_TICKET_LENGTH ? ticket : "",
+                    String.valueOf(config.getTicketTtl().toMillis()),
+                    id,
+                    String.valueOf(keyTtl));
+        } catch (DataAccessException e) {
+            log.warn("Admission control unavailable for session {}, admitting without a limit", sessionId, e);
+            bypassed.increment();
+            return AdmissionPermit.NONE;
+        }
+
+        if ("1".equals(String.valueOf(result.get(0)))) {
+            admitted.increment();
+            String permitId = String.valueOf(result.get(1));
+            return () -> release(key + "::permits", permitId);
+        }
+
+        long position = Long.parseLong(String.valueOf(result.get(2)));
+        queued.increment();
+        positions.record(position);
+        throw new AdmissionDeniedException("Session " + sessionId + " is busy; you are number " + position
+                + " in the queue.", String.valueOf(result.get(1)), position, retryAfter(position));
+    }
+
+    /**
+     * Estimate when a caller's turn comes: everyone ahead of it is admitted in waves as large as
+     * the limit, each taking about the expected service time.
+     */
+    Duration retryAfter(long position) {
+        long waves = (position + config.getMaxConcurrentPerSession() - 1) / config.getMaxConcurrentPerSession();
+        Duration estimate = config.getExpectedServiceTime().multipliedBy(waves);
+        if (estimate.compareTo(config.getMinRetryAfter()) < 0) {
+            return config.getMinRetryAfter();
+        }
+        return estimate.compareTo(config.getMaxRetryAfter()) > 0 ? config.getMaxRetryAfter() : estimate;
+    }
+
+    private void release(String permitsKey, String permitId) {
+        try {
+            redisTemplate.opsForZSet().remove(permitsKey, permitId);
+        } catch (DataAccessException e) {
+            // The permit expires on its own
+            log.warn("Failed to release admission permit {}", permitId, e);
+        }
+    }
+}
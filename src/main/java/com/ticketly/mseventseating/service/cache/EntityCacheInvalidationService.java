@@ -0,0 +1,134 @@
+package com.ticketly.mseventseating.service.cache;
+
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.model.Category;
+import com.ticketly.mseventseating.model.Organization;
+import com.ticketly.mseventseating.model.Tier;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the Hibernate second-level caches of the other instances in step with changes to
+ * categories, tiers and organizations made on this one.
+ * <p>
+ * Hibernate updates this instance's cache itself when a transaction commits. The services changing
+ * cached entities record them here, and once the transaction commits the changes are announced on
+ * a Redis channel, on which every other instance evicts the entities along with its cached
+ * collections and query results, as those may list them. An instance missing an announcement,
+ * such as while Redis is unavailable, serves its copies until they expire; so does one reloading
+ * an entity from a read replica that has not replayed the change yet.
+ */
+@Service
+@Slf4j
+public class EntityCacheInvalidationService {
+
+    private static final Map<String, Class<?>> CACHED_ENTITIES = Stream.of(Category.class, Tier.class, Organization.class)
+            .collect(Collectors.toMap(Class::getSimpleName, Function.identity()));
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final EntityManagerFactory entityManagerFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final AppLimitsConfig.EntityCacheConfig config;
+
+    public EntityCacheInvalidationService(EntityManagerFactory entityManagerFactory,
+                                          StringRedisTemplate redisTemplate,
+                                          AppLimitsConfig appLimitsConfig) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.redisTemplate = redisTemplate;
+        this.config = appLimitsConfig.getEntityCache();
+    }
+
+    /**
+     * Record that cached entities were created, changed or deleted. Inside a transaction, changes
+     * are collected and announced once after commit; outside of one they are announced immediately.
+     */
+    public void markChanged(Class<?> entityType, Collection<UUID> ids) {
+        if (!config.isEnabled() || ids.isEmpty()) {
+            return;
+        }
+        if (!CACHED_ENTITIES.containsKey(entityType.getSimpleName())) {
+            throw new IllegalArgumentException(entityType.getSimpleName() + " is not cached");
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            announce(Map.of(entityType, Set.copyOf(ids)));
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.ids.computeIfAbsent(entityType, type -> new HashSet<>()).addAll(ids);
+    }
+
+    public void markChanged(Class<?> entityType, UUID id) {
+        markChanged(entityType, List.of(id));
+    }
+
+    /**
+     * Evict the entities another instance announced as changed.
+     *
+     * @param message the announcement, as {@code instance;Type:id,Type:id,...}
+     */
+    public void onInvalidation(String message) {
+        String[] parts = message.split(";", 2);
+        if (parts.length < 2 || parts[0].equals(instanceId)) {
+            return;
+        }
+
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        for (String entry : parts[1].split(",")) {
+            String[] typeAndId = entry.split(":", 2);
+            Class<?> entityType = CACHED_ENTITIES.get(typeAndId[0]);
+            if (entityType == null || typeAndId.length < 2) {
+                log.warn("Ignoring unknown entity cache invalidation: {}", entry);
+                continue;
+            }
+            try {
+                cache.evictEntityData(entityType, UUID.fromString(typeAndId[1]));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring entity cache invalidation with a malformed ID: {}", entry);
+            }
+        }
+        cache.evictCollectionData();
+        cache.evictQueryRegions();
+    }
+
+    private void announce(Map<Class<?>, Set<UUID>> changes) {
+        String entries = changes.entrySet().stream()
+                .flatMap(change -> change.getValue().stream().map(id -> change.getKey().getSimpleName() + ":" + id))
+                .collect(Collectors.joining(","));
+        try {
+            redisTemplate.convertAndSend(config.getChannel(), instanceId + ";" + entries);
+        } catch (DataAccessException e) {
+            log.error("Failed to announce entity cache invalidation of {}", entries, e);
+        }
+    }
+
+    private final class PendingChanges implements TransactionSynchronization {
+        private final Map<Class<?>, Set<UUID>> ids = new HashMap<>();
+
+        @Override
+        public void afterCommit() {
+            announce(ids);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(EntityCacheInvalidationService.this);
+        }
+    }
+}
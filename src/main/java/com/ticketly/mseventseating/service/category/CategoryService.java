@@ -6,6 +6,7 @@ import com.ticketly.mseventseating.exception.BadRequestException;
 import com.ticketly.mseventseating.exception.ResourceNotFoundException;
 import com.ticketly.mseventseating.model.Category;
 import com.ticketly.mseventseating.repository.CategoryRepository;
+import com.ticketly.mseventseating.service.cache.EntityCacheInvalidationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,10 +20,12 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CategoryService {
     private final CategoryRepository categoryRepository;
+    private final EntityCacheInvalidationService entityCacheInvalidationService;
 
     /**
      * Retrieve all top-level categories and their subcategories.
      */
+    @Transactional(readOnly = true)
     public List<CategoryResponse> getAllCategories() {
         log.info("Retrieving all top-level categories and their subcategories");
         // Get all top-level categories (without parents)
@@ -37,6 +40,7 @@ public class CategoryService {
     /**
      * Retrieve a category by its ID, including its subcategories.
      */
+    @Transactional(readOnly = true)
     public CategoryResponse getCategoryById(UUID id) {
         log.info("Retrieving category by id: {}", id);
         Category category = categoryRepository.findById(id)
@@ -68,6 +72,7 @@ public class CategoryService {
         }
 
         Category savedCategory = categoryRepository.save(category);
+        entityCacheInvalidationService.markChanged(Category.class, savedCategory.getId());
         return mapToResponse(savedCategory);
     }
 
@@ -111,6 +116,7 @@ public class CategoryService {
         }
 
         Category updatedCategory = categoryRepository.save(existingCategory);
+        entityCacheInvalidationService.markChanged(Category.class, id);
         return mapToResponse(updatedCategory);
     }
 
@@ -124,6 +130,7 @@ public class CategoryService {
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + id));
 
         categoryRepository.delete(category);
+        entityCacheInvalidationService.markChanged(Category.class, id);
     }
 
     /**
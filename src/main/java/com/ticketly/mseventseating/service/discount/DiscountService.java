@@ -15,6 +15,7 @@ import com.ticketly.mseventseating.repository.EventRepository;
 import com.ticketly.mseventseating.repository.EventSessionRepository;
 import com.ticketly.mseventseating.repository.TierRepository;
 import com.ticketly.mseventseating.service.event.EventOwnershipService;
+import com.ticketly.mseventseating.service.id.IdGenerator;
 import com.ticketly.mseventseating.service.projection.EventMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +39,7 @@ public class DiscountService {
     private final EventOwnershipService eventOwnershipService;
     private final EventMapper eventMapper;
     private final ObjectMapper objectMapper;
+    private final IdGenerator idGenerator;
 
     /**
      * Create a new discount for an event
@@ -278,7 +280,7 @@ public class DiscountService {
         DiscountParameters parameters = objectMapper.convertValue(requestDTO.getParameters(), DiscountParameters.class);
 
         return Discount.builder()
-                .id(UUID.randomUUID())
+                .id(idGenerator.next())
                 .event(event)
                 .code(requestDTO.getCode())
                 .parameters(parameters)
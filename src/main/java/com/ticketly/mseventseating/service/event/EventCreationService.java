@@ -8,6 +8,9 @@ import com.ticketly.mseventseating.model.*;
 import com.ticketly.mseventseating.repository.EventRepository;
 import com.ticketly.mseventseating.service.limts.LimitService;
 import com.ticketly.mseventseating.service.organization.OrganizationService;
+import com.ticketly.mseventseating.service.seat.SeatAvailabilityService;
+import com.ticketly.mseventseating.service.session.SessionStatusCounterService;
+import com.ticketly.mseventseating.service.storage.CoverPhotoVariantService;
 import com.ticketly.mseventseating.service.storage.S3StorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,7 +22,9 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -33,6 +38,9 @@ public class EventCreationService {
     private final EventFactory eventFactory;
     private final S3StorageService s3StorageService;
     private final OrganizationService organizationService;
+    private final CoverPhotoVariantService coverPhotoVariantService;
+    private final SessionStatusCounterService sessionStatusCounterService;
+    private final SeatAvailabilityService seatAvailabilityService;
     // private final EventSchedulingService eventSchedulingService; // This would be injected here
 
     @Transactional
@@ -50,7 +58,8 @@ public class EventCreationService {
 
         // 2. Handle File Uploads
         log.debug("Processing {} cover images", coverImages != null ? coverImages.length : 0);
-        List<String> coverPhotoKeys = uploadCoverImages(coverImages);
+        Map<String, byte[]> coverPhotoOriginals = new LinkedHashMap<>();
+        List<String> coverPhotoKeys = uploadCoverImages(coverImages, coverPhotoOriginals);
         log.debug("Successfully uploaded {} cover photos", coverPhotoKeys.size());
 
         // 3. Build the Complete Object Graph in Memory
@@ -60,6 +69,10 @@ public class EventCreationService {
         // 4. Persist the Entire Aggregate in One Operation
         log.debug("Saving event to database");
         Event savedEvent = eventRepository.save(event);
+        sessionStatusCounterService.recordCreated(savedEvent, savedEvent.getSessions());
+        seatAvailabilityService.seedForSessions(savedEvent.getSessions());
+        // Resized renditions are generated once the event has committed; until then the original is served
+        coverPhotoVariantService.generateVariantsAfterCommit(savedEvent.getCoverPhotos(), coverPhotoOriginals);
         log.info("Created new PENDING event with ID: {} and title: '{}'", savedEvent.getId(), savedEvent.getTitle());
 
 
@@ -88,7 +101,7 @@ public class EventCreationService {
         log.debug("Tier limits validation successful");
     }
 
-    private List<String> uploadCoverImages(MultipartFile[] coverImages) {
+    private List<String> uploadCoverImages(MultipartFile[] coverImages, Map<String, byte[]> originals) {
         if (coverImages == null || coverImages.length == 0) {
             log.debug("No cover images to upload");
             return new ArrayList<>();
@@ -121,6 +134,7 @@ public class EventCreationService {
                 String key = s3StorageService.uploadFile(file, "event-cover-photos");
                 log.debug("Successfully uploaded image to S3, key: {}", key);
                 keys.add(key);
+                originals.put(key, file.getBytes());
             } catch (IOException e) {
                 log.error("Failed to upload cover image {}/{}", i + 1, coverImages.length, e);
                 throw new RuntimeException("Failed to upload cover image.", e);
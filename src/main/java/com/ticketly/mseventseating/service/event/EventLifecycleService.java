@@ -1,23 +1,33 @@
 package com.ticketly.mseventseating.service.event;
 
+import com.ticketly.mseventseating.dto.session.SessionTransitionCandidate;
+import com.ticketly.mseventseating.dto.session.SessionTransitionResponse;
+import com.ticketly.mseventseating.dto.session.SessionTransitionResult;
+import com.ticketly.mseventseating.exception.BadRequestException;
 import com.ticketly.mseventseating.exception.InvalidStateException;
 import com.ticketly.mseventseating.exception.ResourceNotFoundException;
 import com.ticketly.mseventseating.exception.SchedulingException;
 import com.ticketly.mseventseating.model.*;
 import com.ticketly.mseventseating.repository.EventRepository;
 import com.ticketly.mseventseating.repository.EventSessionRepository;
+import com.ticketly.mseventseating.service.cache.EntityCacheInvalidationService;
+import com.ticketly.mseventseating.service.projection.ProjectionVersionService;
+import com.ticketly.mseventseating.service.session.SessionStatusCounterService;
+import com.ticketly.mseventseating.service.storage.CoverPhotoVariantService;
 import com.ticketly.mseventseating.service.storage.S3StorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import model.EventStatus;
 import model.SessionStatus;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +39,11 @@ public class EventLifecycleService {
     private final EventSessionRepository eventSessionRepository;
     private final EventOwnershipService eventOwnershipService;
     private final S3StorageService s3StorageService;
+    private final CoverPhotoVariantService coverPhotoVariantService;
+    private final SessionStatusCounterService sessionStatusCounterService;
+    private final ProjectionVersionService projectionVersionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityCacheInvalidationService entityCacheInvalidationService;
 
 
     /**
@@ -63,8 +78,10 @@ public class EventLifecycleService {
         int cancelledSessions = 0;
         int scheduledSessions = 0;
         OffsetDateTime now = OffsetDateTime.now();
+        Map<SessionStatus, Long> counterDeltas = new EnumMap<>(SessionStatus.class);
 
         for (EventSession session : event.getSessions()) {
+            counterDeltas.merge(session.getStatus(), -1L, Long::sum);
             if (session.getStartTime().isBefore(now)) {
                 session.setStatus(SessionStatus.CANCELLED);
                 cancelledSessions++;
@@ -81,12 +98,14 @@ public class EventLifecycleService {
                 log.debug("Session {} for event {} is scheduled for future sale at {}, setting status to SCHEDULED.",
                         session.getId(), event.getId(), session.getSalesStartTime() != null ? session.getSalesStartTime() : "N/A");
             }
+            counterDeltas.merge(session.getStatus(), 1L, Long::sum);
         }
 
         log.debug("Event {} has {} cancelled past sessions and {} future sessions to schedule",
                 eventId, cancelledSessions, scheduledSessions);
 
         eventRepository.save(event);
+        sessionStatusCounterService.applyDeltas(event, counterDeltas);
         log.info("Event with ID {} has been successfully approved with {} active sessions",
                 eventId, scheduledSessions);
     }
@@ -154,11 +173,16 @@ public class EventLifecycleService {
                     // Log the error but continue with deletion process
                     log.error("Failed to delete cover photo with key: {}", coverPhoto.getPhotoUrl(), e);
                 }
+                coverPhotoVariantService.deleteVariants(coverPhoto);
             }
         }
 
         log.debug("Deleting event {}: {}", eventId, event.getTitle());
+        sessionStatusCounterService.removeEvent(eventId);
         eventRepository.delete(event);
+        if (event.getTiers() != null) {
+            entityCacheInvalidationService.markChanged(Tier.class, event.getTiers().stream().map(Tier::getId).toList());
+        }
         log.info("Event with ID {} has been successfully deleted with its cover photos", eventId);
     }
 
@@ -188,8 +212,11 @@ public class EventLifecycleService {
             throw new InvalidStateException("Cannot put session on sale because its start time is in the past.");
         }
 
+        SessionStatus previousStatus = session.getStatus();
         session.setStatus(SessionStatus.ON_SALE);
         eventSessionRepository.save(session);
+        sessionStatusCounterService.recordTransition(session, previousStatus);
+        eventPublisher.publishEvent(new SessionsOnSaleEvent(List.of(sessionId)));
         log.info("Session {} has been successfully put ON_SALE.", sessionId);
     }
 
@@ -204,21 +231,149 @@ public class EventLifecycleService {
         EventSession session = eventSessionRepository.findById(sessionId)
                 .orElseThrow(() -> new ResourceNotFoundException("EventSession not found with ID: " + sessionId));
 
-        // Check if session can be marked as CLOSED
-        if (session.getStatus() != SessionStatus.ON_SALE && session.getStatus() != SessionStatus.SCHEDULED) {
+        // Check if session can be marked as CLOSED (sold out sessions still close when they end)
+        if (session.getStatus() != SessionStatus.ON_SALE && session.getStatus() != SessionStatus.SCHEDULED
+                && session.getStatus() != SessionStatus.SOLD_OUT) {
             log.warn("Cannot mark session {} as CLOSED because its status is {}", sessionId, session.getStatus());
             throw new InvalidStateException("Cannot mark session as CLOSED because its current status is " + session.getStatus());
         }
 
         // Update session status
+        SessionStatus previousStatus = session.getStatus();
         session.setStatus(SessionStatus.CLOSED);
         eventSessionRepository.save(session);
+        sessionStatusCounterService.recordTransition(session, previousStatus);
         log.info("Session {} has been successfully marked as CLOSED", sessionId);
 
         // Check if the parent event should be marked as COMPLETED
         checkAndUpdateEventCompletion(session.getEvent().getId());
     }
 
+    /**
+     * Moves many sessions to ON_SALE or CLOSED at once, for the scheduler when a series opens or
+     * ends several sessions at the same time. Each session is checked with the same rules as
+     * {@link #putSessionOnSale(UUID)} and {@link #markSessionAsClosed(UUID)}, but all of them are
+     * read and locked in one query and updated in one statement, and event completion is checked once
+     * per affected event. The lock holds off concurrent status changes, such as a session selling out,
+     * until the batch commits, so the update never overwrites a status the checks didn't see and the
+     * counters move from the statuses actually replaced. A session that fails its checks is reported and skipped rather than failing
+     * the batch; one that already has the target status is reported as unchanged, so a retried
+     * batch is harmless.
+     *
+     * @throws BadRequestException if the target status is neither ON_SALE nor CLOSED
+     */
+    public SessionTransitionResponse transitionSessions(Collection<UUID> sessionIds, SessionStatus targetStatus) {
+        if (targetStatus != SessionStatus.ON_SALE && targetStatus != SessionStatus.CLOSED) {
+            throw new BadRequestException("Sessions can only be transitioned to ON_SALE or CLOSED, not " + targetStatus);
+        }
+        Set<UUID> requested = new LinkedHashSet<>(sessionIds);
+        log.info("Transitioning {} sessions to {}", requested.size(), targetStatus);
+
+        Map<UUID, SessionTransitionCandidate> candidates = eventSessionRepository.findTransitionCandidatesByIdIn(requested)
+                .stream()
+                .collect(Collectors.toMap(SessionTransitionCandidate::sessionId, Function.identity()));
+
+        OffsetDateTime now = OffsetDateTime.now();
+        Map<UUID, SessionTransitionResult> results = new LinkedHashMap<>();
+        List<SessionTransitionCandidate> transitioned = new ArrayList<>();
+        for (UUID sessionId : requested) {
+            SessionTransitionCandidate candidate = candidates.get(sessionId);
+            SessionTransitionResult result;
+            if (candidate == null) {
+                result = SessionTransitionResult.of(SessionTransitionResult.Outcome.NOT_FOUND);
+            } else if (candidate.status() == targetStatus) {
+                result = SessionTransitionResult.of(SessionTransitionResult.Outcome.UNCHANGED);
+            } else {
+                String rejection = targetStatus == SessionStatus.ON_SALE
+                        ? onSaleRejection(candidate, now)
+                        : closedRejection(candidate);
+                if (rejection != null) {
+                    log.warn("Cannot transition session {} to {}: {}", sessionId, targetStatus, rejection);
+                    result = SessionTransitionResult.rejected(rejection);
+                } else {
+                    transitioned.add(candidate);
+                    result = SessionTransitionResult.of(SessionTransitionResult.Outcome.TRANSITIONED);
+                }
+            }
+            results.put(sessionId, result);
+        }
+
+        List<UUID> completedEventIds = List.of();
+        if (!transitioned.isEmpty()) {
+            List<UUID> transitionedIds = transitioned.stream().map(SessionTransitionCandidate::sessionId).toList();
+            eventSessionRepository.updateStatusByIdIn(transitionedIds, targetStatus);
+            recordTransitions(transitioned, targetStatus);
+            transitionedIds.forEach(sessionId -> projectionVersionService.markChanged(null, sessionId));
+
+            if (targetStatus == SessionStatus.ON_SALE) {
+                eventPublisher.publishEvent(new SessionsOnSaleEvent(transitionedIds));
+            } else {
+                Set<UUID> eventIds = transitioned.stream()
+                        .map(SessionTransitionCandidate::eventId)
+                        .collect(Collectors.toSet());
+                completedEventIds = completeEvents(eventIds);
+            }
+        }
+
+        log.info("Transitioned {} of {} sessions to {}; {} events completed",
+                transitioned.size(), requested.size(), targetStatus, completedEventIds.size());
+        return SessionTransitionResponse.builder()
+                .targetStatus(targetStatus)
+                .results(results)
+                .completedEventIds(completedEventIds)
+                .build();
+    }
+
+    private static String onSaleRejection(SessionTransitionCandidate candidate, OffsetDateTime now) {
+        if (candidate.eventStatus() != EventStatus.APPROVED) {
+            return "Cannot put session on sale because the parent event is not APPROVED.";
+        }
+        if (candidate.startTime().isBefore(now)) {
+            return "Cannot put session on sale because its start time is in the past.";
+        }
+        return null;
+    }
+
+    private static String closedRejection(SessionTransitionCandidate candidate) {
+        SessionStatus status = candidate.status();
+        if (status != SessionStatus.ON_SALE && status != SessionStatus.SCHEDULED && status != SessionStatus.SOLD_OUT) {
+            return "Cannot mark session as CLOSED because its current status is " + status;
+        }
+        return null;
+    }
+
+    /**
+     * Apply the status counter changes of a batch with one upsert per event and status.
+     */
+    private void recordTransitions(List<SessionTransitionCandidate> transitioned, SessionStatus targetStatus) {
+        Map<UUID, List<SessionTransitionCandidate>> byEvent = transitioned.stream()
+                .collect(Collectors.groupingBy(SessionTransitionCandidate::eventId, LinkedHashMap::new, Collectors.toList()));
+        byEvent.forEach((eventId, sessions) -> {
+            Map<SessionStatus, Long> deltas = new EnumMap<>(SessionStatus.class);
+            for (SessionTransitionCandidate session : sessions) {
+                deltas.merge(session.status(), -1L, Long::sum);
+            }
+            deltas.merge(targetStatus, (long) sessions.size(), Long::sum);
+            sessionStatusCounterService.applyDeltas(sessions.get(0).organizationId(), eventId, deltas);
+        });
+    }
+
+    /**
+     * Mark as COMPLETED those of the given events whose sessions are now all CLOSED or CANCELLED.
+     *
+     * @return the IDs of the events that were completed
+     */
+    private List<UUID> completeEvents(Set<UUID> eventIds) {
+        List<Event> completed = eventRepository.findAllByIdInAndStatusWithAllSessionsIn(
+                eventIds, EventStatus.APPROVED, List.of(SessionStatus.CLOSED, SessionStatus.CANCELLED));
+        for (Event event : completed) {
+            log.info("All sessions for event ID: {} are either CLOSED or CANCELLED, marking event as COMPLETED", event.getId());
+            event.setStatus(EventStatus.COMPLETED);
+        }
+        eventRepository.saveAll(completed);
+        return completed.stream().map(Event::getId).toList();
+    }
+
     /**
      * Checks if all sessions for an event are either CLOSED or CANCELLED, and if so,
      * marks the event as COMPLETED.
@@ -3,6 +3,7 @@ package com.ticketly.mseventseating.service.event;
 import com.ticketly.mseventseating.exception.ResourceNotFoundException;
 import com.ticketly.mseventseating.model.Event;
 import com.ticketly.mseventseating.repository.EventRepository;
+import com.ticketly.mseventseating.service.replica.ReadYourWrites;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -20,6 +21,7 @@ import java.util.UUID;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@ReadYourWrites
 public class EventOwnershipService {
 
     private final EventRepository eventRepository;
@@ -2,11 +2,15 @@ package com.ticketly.mseventseating.service.event;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ticketly.mseventseating.dto.event.*;
+import com.ticketly.mseventseating.dto.pagination.CursorPage;
 import com.ticketly.mseventseating.dto.session.SessionResponse;
+import com.ticketly.mseventseating.dto.session.SessionSummaryDTO;
 import com.ticketly.mseventseating.exception.ResourceNotFoundException;
 import com.ticketly.mseventseating.model.*;
 import com.ticketly.mseventseating.repository.EventRepository;
+import com.ticketly.mseventseating.repository.EventSessionRepository;
 import com.ticketly.mseventseating.service.organization.OrganizationOwnershipService;
+import com.ticketly.mseventseating.service.pagination.KeysetCursor;
 import com.ticketly.mseventseating.service.projection.EventMapper;
 import com.ticketly.mseventseating.service.storage.S3StorageService;
 import dto.SessionSeatingMapDTO;
@@ -14,8 +18,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import model.EventStatus;
 import model.SessionStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,7 +30,9 @@ import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,6 +46,7 @@ public class EventQueryService {
     private final OrganizationOwnershipService ownershipService;
     private final S3StorageService s3StorageService;
     private final EventMapper eventMapper;
+    private final EventSessionRepository sessionRepository;
 
     /**
      * Finds all events with optional status filtering and search term
@@ -55,9 +64,9 @@ public class EventQueryService {
         Page<Event> eventPage;
 
         if (searchTerm != null && !searchTerm.trim().isEmpty()) {
-            // If search term is provided, use the search method
-            eventPage = eventRepository.findBySearchTermAndStatus(searchTerm.trim(), status, pageable);
+            // If search term is provided, use the full-text search
             log.debug("Admin search with term: '{}'", searchTerm.trim());
+            return searchEvents(null, searchTerm.trim(), status, pageable);
         } else if (status != null) {
             // If only status filter is provided
             eventPage = eventRepository.findAllByStatus(status, pageable);
@@ -97,7 +106,31 @@ public class EventQueryService {
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found with ID: " + eventId));
 
         log.debug("User {} successfully retrieved owned event: {}", userId, eventId);
-        return mapToEventDetail(event);
+        return mapToEventDetail(event, mapSessions(event));
+    }
+
+    /**
+     * Like {@link #findEventByIdOwner}, but the sessions come without their layouts, which are
+     * then never loaded
+     *
+     * @param eventId Event ID
+     * @param userId  The ID of the requesting user
+     * @return Event information with session summaries
+     * @throws AuthorizationDeniedException if the user doesn't own the event
+     * @throws ResourceNotFoundException    if the event doesn't exist
+     */
+    @Transactional(readOnly = true)
+    public EventDetailDTO findEventSummaryByIdOwner(UUID eventId, String userId) {
+        log.info("User {} requesting event summary for ID: {}", userId, eventId);
+
+        if (!eventOwnershipService.isOwner(eventId, userId)) {
+            log.warn("Access denied: User {} is not authorized to access event {}", userId, eventId);
+            throw new AuthorizationDeniedException("You don't have permission to access this event");
+        }
+
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found with ID: " + eventId));
+        return mapToEventDetail(event, mapSessionSummaries(eventId));
     }
 
     /**
@@ -118,7 +151,26 @@ public class EventQueryService {
                 });
 
         log.debug("Admin successfully retrieved event: {} with title: '{}'", eventId, event.getTitle());
-        return mapToEventDetail(event);
+        return mapToEventDetail(event, mapSessions(event));
+    }
+
+    /**
+     * Like {@link #findEventById}, but the sessions come without their layouts, which are then
+     * never loaded. Intended for admin-level access only
+     *
+     * @param eventId Event ID
+     * @return Event information with session summaries
+     * @throws ResourceNotFoundException if the event doesn't exist
+     */
+    @Transactional(readOnly = true)
+    public EventDetailDTO findEventSummaryById(UUID eventId) {
+        log.info("Admin query: Finding event summary for ID: {}", eventId);
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> {
+                    log.warn("Event not found with ID: {}", eventId);
+                    return new ResourceNotFoundException("Event not found with ID: " + eventId);
+                });
+        return mapToEventDetail(event, mapSessionSummaries(eventId));
     }
 
     /**
@@ -167,17 +219,82 @@ public class EventQueryService {
         return getEventSummaryDTOS(organizationId, status, searchTerm, pageable);
     }
 
+    /**
+     * Finds all events using keyset pagination, newest first
+     * This method is typically used by admin users who can view all events across organizations
+     *
+     * @param status       Filter by status (optional)
+     * @param cursor       The opaque cursor from the previous page (null for the first page)
+     * @param size         The page size
+     * @param includeTotal Whether to also count all matching events
+     * @return Cursor page of event summaries
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<EventSummaryDTO> findAllEventsByCursor(EventStatus status, String cursor, int size, boolean includeTotal) {
+        log.info("Admin query: Finding all events by cursor with status: {}, size: {}", status, size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.normalizeSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Event> rows = after == null
+                ? eventRepository.findEventsFirstPage(status, limit)
+                : eventRepository.findEventsAfter(status, after.sortKey(), after.id(), limit);
+
+        return KeysetCursor.toPage(rows, pageSize, this::cursorOf, this::mapToEventSummary,
+                includeTotal, () -> eventRepository.countByOptionalStatus(status));
+    }
+
+    /**
+     * Finds events for a specific organization using keyset pagination, with ownership verification
+     *
+     * @throws AuthorizationDeniedException if the user doesn't have access to the organization
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<EventSummaryDTO> findEventsByOrganizationOwnerByCursor(
+            UUID organizationId, String userId, EventStatus status, String cursor, int size, boolean includeTotal) {
+        log.info("User {} requesting events by cursor for organization: {}, status: {}", userId, organizationId, status);
+
+        if (!ownershipService.isOwner(organizationId, userId)) {
+            log.warn("Access denied: User {} is not authorized to access organization {}", userId, organizationId);
+            throw new AuthorizationDeniedException("User does not have access to this organization");
+        }
+
+        return findEventsByOrganizationByCursor(organizationId, status, cursor, size, includeTotal);
+    }
+
+    /**
+     * Finds events for a specific organization using keyset pagination, newest first
+     * This method is intended for admin-level access only
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<EventSummaryDTO> findEventsByOrganizationByCursor(
+            UUID organizationId, EventStatus status, String cursor, int size, boolean includeTotal) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.normalizeSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Event> rows = after == null
+                ? eventRepository.findOrganizationEventsFirstPage(organizationId, status, limit)
+                : eventRepository.findOrganizationEventsAfter(organizationId, status, after.sortKey(), after.id(), limit);
+
+        return KeysetCursor.toPage(rows, pageSize, this::cursorOf, this::mapToEventSummary,
+                includeTotal, () -> eventRepository.countByOrganizationIdAndOptionalStatus(organizationId, status));
+    }
+
+    private KeysetCursor cursorOf(Event event) {
+        return new KeysetCursor(event.getCreatedAt(), event.getId());
+    }
+
     private Page<EventSummaryDTO> getEventSummaryDTOS(UUID organizationId, EventStatus status, String searchTerm, Pageable pageable) {
         searchTerm = (searchTerm != null && !searchTerm.trim().isEmpty())
                 ? searchTerm.trim()
                 : null;
 
-        Page<Event> eventPage = eventRepository.findByOrganizationIdAndSearchTermAndStatus(
-                organizationId,
-                searchTerm != null ? searchTerm.trim() : null,
-                status,
-                pageable
-        );
+        if (searchTerm != null) {
+            return searchEvents(organizationId, searchTerm, status, pageable);
+        }
+
+        Page<Event> eventPage = eventRepository.findByOrganizationIdAndOptionalStatus(organizationId, status, pageable);
 
         Page<EventSummaryDTO> result = eventPage.map(this::mapToEventSummary);
         log.debug("Found {} events in page {} for organization {}",
@@ -186,6 +303,47 @@ public class EventQueryService {
     }
 
 
+    /**
+     * Runs the full-text search and maps the hits to summaries in relevance order.
+     * Search results are always ordered by relevance (then most recently updated), so the
+     * pageable's sort is ignored; page number and size behave as for the other listings.
+     *
+     * @param organizationId Restrict the search to this organization (null for all organizations)
+     */
+    private Page<EventSummaryDTO> searchEvents(UUID organizationId, String searchTerm, EventStatus status, Pageable pageable) {
+        String tsQuery = EventSearchQuery.toPrefixTsQuery(searchTerm);
+        String likePattern = EventSearchQuery.toLikePattern(searchTerm);
+        String statusName = status != null ? status.name() : null;
+
+        List<EventSearchHit> hits = organizationId != null
+                ? eventRepository.searchOrganizationEvents(organizationId, searchTerm, tsQuery, likePattern, statusName,
+                pageable.getPageSize(), pageable.getOffset())
+                : eventRepository.searchEvents(searchTerm, tsQuery, likePattern, statusName,
+                pageable.getPageSize(), pageable.getOffset());
+
+        Map<UUID, Event> eventsById = eventRepository.findAllById(
+                        hits.stream().map(EventSearchHit::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+        List<EventSummaryDTO> content = hits.stream()
+                .filter(hit -> eventsById.containsKey(hit.getId()))
+                .map(hit -> {
+                    EventSummaryDTO summary = mapToEventSummary(eventsById.get(hit.getId()));
+                    summary.setSearchRank(hit.getRank());
+                    summary.setSearchSnippet(hit.getSnippet());
+                    return summary;
+                })
+                .collect(Collectors.toList());
+
+        log.debug("Search for '{}' returned {} events in page {}", searchTerm, content.size(), pageable.getPageNumber());
+
+        // The count query is skipped when the page itself shows the total (e.g. a short first page)
+        return PageableExecutionUtils.getPage(content, pageable, () -> organizationId != null
+                ? eventRepository.countSearchOrganizationEvents(organizationId, searchTerm, tsQuery, likePattern, statusName)
+                : eventRepository.countSearchEvents(searchTerm, tsQuery, likePattern, statusName));
+    }
+
     /**
      * Maps an Event entity to EventSummaryDTO for list view
      */
@@ -214,7 +372,7 @@ public class EventQueryService {
         if (event.getCoverPhotos() != null && !event.getCoverPhotos().isEmpty()) {
             // Get first cover photo URL and generate presigned URL
             coverPhotoUrl = s3StorageService.generatePresignedUrl(
-                    event.getCoverPhotos().getFirst().getPhotoUrl(), 60);
+                    summaryPhotoKey(event.getCoverPhotos().getFirst()), 60);
         }
 
         return EventSummaryDTO.builder()
@@ -236,21 +394,30 @@ public class EventQueryService {
                 .build();
     }
 
+    /**
+     * Pick the smallest rendition suitable for a summary card, falling back to the original
+     * for photos uploaded before variants were generated.
+     */
+    private String summaryPhotoKey(EventCoverPhoto coverPhoto) {
+        if (coverPhoto.getCardUrl() != null) {
+            return coverPhoto.getCardUrl();
+        }
+        if (coverPhoto.getThumbnailUrl() != null) {
+            return coverPhoto.getThumbnailUrl();
+        }
+        return coverPhoto.getPhotoUrl();
+    }
+
     /**
      * Maps an Event entity to EventDetailDTO with all nested data
      */
-    private EventDetailDTO mapToEventDetail(Event event) {
+    private EventDetailDTO mapToEventDetail(Event event, List<SessionResponse> sessionDTOs) {
         log.debug("Mapping event {} to detailed DTO with {} tiers and {} sessions",
-                event.getId(), event.getTiers().size(), event.getSessions().size());
+                event.getId(), event.getTiers().size(), sessionDTOs.size());
         List<TierDTO> tierDTOs = event.getTiers().stream()
                 .map(this::mapToTierDTO)
                 .collect(Collectors.toList());
 
-        List<SessionResponse> sessionDTOs = event.getSessions().stream()
-                .sorted(Comparator.comparing(EventSession::getStartTime))
-                .map(this::mapToSessionResponse)
-                .collect(Collectors.toList());
-
         // Map cover photo entities to URLs
         List<String> coverPhotoUrls = event.getCoverPhotos() != null
                 ? event.getCoverPhotos().stream()
@@ -284,6 +451,19 @@ public class EventQueryService {
                 .build();
     }
 
+    private List<SessionResponse> mapSessions(Event event) {
+        return event.getSessions().stream()
+                .sorted(Comparator.comparing(EventSession::getStartTime))
+                .map(this::mapToSessionResponse)
+                .collect(Collectors.toList());
+    }
+
+    private List<SessionResponse> mapSessionSummaries(UUID eventId) {
+        return sessionRepository.findSummariesByEventId(eventId).stream()
+                .map(this::mapToSessionResponse)
+                .collect(Collectors.toList());
+    }
+
     private TierDTO mapToTierDTO(Tier tier) {
         return TierDTO.builder()
                 .id(tier.getId())
@@ -323,4 +503,26 @@ public class EventQueryService {
                 .layoutData(layoutData)
                 .build();
     }
+
+    private SessionResponse mapToSessionResponse(SessionSummaryDTO session) {
+        VenueDetailsDTO venueDetails = null;
+        try {
+            if (session.getVenueDetails() != null) {
+                venueDetails = objectMapper.readValue(session.getVenueDetails(), VenueDetailsDTO.class);
+            }
+        } catch (IOException e) {
+            log.error("Error parsing JSON data for session {}", session.getId(), e);
+        }
+
+        return SessionResponse.builder()
+                .id(session.getId())
+                .eventId(session.getEventId())
+                .sessionType(session.getSessionType())
+                .startTime(session.getStartTime())
+                .endTime(session.getEndTime())
+                .venueDetails(venueDetails)
+                .salesStartTime(session.getSalesStartTime())
+                .status(session.getStatus())
+                .build();
+    }
 }
@@ -0,0 +1,38 @@
+package com.ticketly.mseventseating.service.event;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the parameters for the event full-text search queries from raw user input.
+ * User input is never passed to to_tsquery directly: it is reduced to letter/digit tokens
+ * so that operators typed by the user cannot produce a tsquery syntax error.
+ */
+final class EventSearchQuery {
+
+    private EventSearchQuery() {
+    }
+
+    /**
+     * Converts a search term into a prefix tsquery where every token must match,
+     * e.g. "jazz fest" becomes "jazz:* &amp; fest:*" so results appear while the user is still typing.
+     *
+     * @return the tsquery text, or an empty string if the term has no searchable tokens
+     */
+    static String toPrefixTsQuery(String term) {
+        return Arrays.stream(term.toLowerCase().split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
+    /**
+     * Converts a search term into an ILIKE substring pattern, escaping LIKE wildcards.
+     */
+    static String toLikePattern(String term) {
+        String escaped = term.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -10,6 +10,7 @@ import com.ticketly.mseventseating.model.Event;
 import com.ticketly.mseventseating.model.EventCoverPhoto;
 import com.ticketly.mseventseating.repository.CategoryRepository;
 import com.ticketly.mseventseating.repository.EventRepository;
+import com.ticketly.mseventseating.service.storage.CoverPhotoVariantService;
 import com.ticketly.mseventseating.service.storage.S3StorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +20,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -40,6 +42,7 @@ public class EventUpdateService {
     private final EventOwnershipService eventOwnershipService;
     private final CategoryRepository categoryRepository;
     private final AppLimitsConfig appLimitsConfig;
+    private final CoverPhotoVariantService coverPhotoVariantService;
 
     /**
      * Updates basic information about an event (title, description, overview)
@@ -154,6 +157,10 @@ public class EventUpdateService {
             // Save the changes
             Event updatedEvent = eventRepository.save(event);
             log.info("Successfully added cover photo to event: {}", eventId);
+
+            // Generate resized renditions after commit; the original is used until then, or if this fails
+            coverPhotoVariantService.generateVariantsAfterCommit(
+                    updatedEvent.getCoverPhotos(), Map.of(photoKey, coverImage.getBytes()));
             
             return mapToEventResponseDTO(updatedEvent);
         } catch (IOException e) {
@@ -205,6 +212,7 @@ public class EventUpdateService {
                     log.warn("Failed to delete photo from S3: {}", photoToRemove.getPhotoUrl(), e);
                     // Continue with removal from database even if S3 delete fails
                 }
+                coverPhotoVariantService.deleteVariants(photoToRemove);
                 
                 // Remove from the event's photos
                 event.getCoverPhotos().remove(photoToRemove);
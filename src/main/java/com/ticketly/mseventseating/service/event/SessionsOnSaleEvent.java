@@ -0,0 +1,13 @@
+package com.ticketly.mseventseating.service.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published inside the transaction that puts sessions on sale. Listeners warming state for the
+ * sessions should only act after commit.
+ */
+public record SessionsOnSaleEvent(
+        List<UUID> sessionIds
+) {
+}
@@ -0,0 +1,13 @@
+package com.ticketly.mseventseating.service.id;
+
+import java.util.UUID;
+
+/**
+ * Source of IDs for entities assembled in memory and for the blocks, rows and seats of layouts.
+ * The implementation is chosen by {@code app.ids.strategy}.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID next();
+}
@@ -0,0 +1,19 @@
+package com.ticketly.mseventseating.service.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generate an entity's UUID primary key with {@link TimeOrderedIdGenerator}, in place of
+ * {@code @GeneratedValue(strategy = GenerationType.UUID)}, whose random IDs scatter inserts
+ * across the primary key index.
+ */
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,25 @@
+package com.ticketly.mseventseating.service.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * Hibernate side of {@link TimeOrderedId}. Entity keys are always time-ordered, whatever
+ * {@code app.ids.strategy} says, as that is what keeps their inserts local.
+ */
+public class TimeOrderedIdentifierGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return TimeOrderedIdGenerator.INSTANCE.next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
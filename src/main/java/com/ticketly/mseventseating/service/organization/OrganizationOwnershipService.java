@@ -6,6 +6,7 @@ import com.ticketly.mseventseating.model.OrganizationMember;
 import com.ticketly.mseventseating.model.OrganizationRole;
 import com.ticketly.mseventseating.repository.OrganizationMemberRepository;
 import com.ticketly.mseventseating.repository.OrganizationRepository;
+import com.ticketly.mseventseating.service.replica.ReadYourWrites;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -20,6 +21,7 @@ import java.util.UUID;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@ReadYourWrites
 public class OrganizationOwnershipService {
 
     private final OrganizationRepository organizationRepository;
@@ -8,6 +8,7 @@ import com.ticketly.mseventseating.exception.ResourceNotFoundException;
 import com.ticketly.mseventseating.model.Organization;
 import com.ticketly.mseventseating.model.SubscriptionLimitType;
 import com.ticketly.mseventseating.repository.OrganizationRepository;
+import com.ticketly.mseventseating.service.cache.EntityCacheInvalidationService;
 import com.ticketly.mseventseating.service.limts.LimitService;
 import com.ticketly.mseventseating.service.storage.S3StorageService;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +37,7 @@ public class OrganizationService {
     private final S3StorageService s3StorageService;
     private final OrganizationOwnershipService ownershipService;
     private final LimitService limitService;
+    private final EntityCacheInvalidationService entityCacheInvalidationService;
 
     /**
      * Get all organizations owned by the specified user.
@@ -122,6 +124,7 @@ public class OrganizationService {
         organization.setWebsite(request.getWebsite());
 
         Organization updatedOrganization = organizationRepository.save(organization);
+        entityCacheInvalidationService.markChanged(Organization.class, id);
         log.info("Organization updated. ID: {}, Owner: {}", updatedOrganization.getId(), userId);
         return mapToDto(updatedOrganization);
     }
@@ -156,6 +159,7 @@ public class OrganizationService {
         organization.setLogoUrl(logoKey);
 
         Organization updatedOrganization = organizationRepository.save(organization);
+        entityCacheInvalidationService.markChanged(Organization.class, id);
         log.info("Logo uploaded for organization. ID: {}, Owner: {}", updatedOrganization.getId(), userId);
         return mapToDto(updatedOrganization);
     }
@@ -175,6 +179,7 @@ public class OrganizationService {
             s3StorageService.deleteFile(organization.getLogoUrl());
             organization.setLogoUrl(null);
             organizationRepository.save(organization);
+            entityCacheInvalidationService.markChanged(Organization.class, id);
             log.info("Logo removed from organization. ID: {}, Owner: {}", id, userId);
         }
     }
@@ -195,6 +200,7 @@ public class OrganizationService {
 
         organizationRepository.delete(organization);
         ownershipService.evictOrganizationCacheById(id);
+        entityCacheInvalidationService.markChanged(Organization.class, id);
         log.info("Organization deleted. ID: {}, Owner: {}", id, userId);
     }
 
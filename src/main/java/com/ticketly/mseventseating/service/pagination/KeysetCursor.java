@@ -0,0 +1,91 @@
+package com.ticketly.mseventseating.service.pagination;
+
+import com.ticketly.mseventseating.dto.pagination.CursorPage;
+import com.ticketly.mseventseating.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Position of the last row of a keyset-paginated page: the value of the sort key and the row ID
+ * used as a tie-breaker. Clients receive it as an opaque, URL-safe token.
+ */
+public record KeysetCursor(OffsetDateTime sortKey, UUID id) {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = sortKey.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor token received from a client.
+     *
+     * @return the decoded cursor, or null if no cursor was supplied (first page)
+     * @throws BadRequestException if the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException("Invalid pagination cursor");
+            }
+            return new KeysetCursor(
+                    OffsetDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+    }
+
+    /**
+     * Clamps a requested page size to the allowed range.
+     */
+    public static int normalizeSize(int requestedSize) {
+        if (requestedSize <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(requestedSize, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Builds a cursor page from rows fetched with a limit of {@code size + 1}; the extra row
+     * only signals that another page exists and is neither mapped nor returned.
+     *
+     * @param rows         rows fetched with limit size + 1
+     * @param size         the requested page size
+     * @param cursorOf     extracts the cursor position of a row
+     * @param mapper       maps a row to its response representation
+     * @param includeTotal whether to run the (potentially expensive) count query
+     * @param totalCounter the count query
+     */
+    public static <R, T> CursorPage<T> toPage(List<R> rows, int size, Function<R, KeysetCursor> cursorOf,
+                                              Function<R, T> mapper, boolean includeTotal, LongSupplier totalCounter) {
+        boolean hasNext = rows.size() > size;
+        List<R> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.getLast()).encode() : null;
+
+        return CursorPage.<T>builder()
+                .content(pageRows.stream().map(mapper).collect(Collectors.toList()))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalElements(includeTotal ? totalCounter.getAsLong() : null)
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package com.ticketly.mseventseating.service.projection;
+
+import com.ticketly.mseventseating.dto.session.SeatingBlockBounds;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Uniform grid over the bounding boxes of a layout's blocks.
+ * <p>
+ * The layout's extent is divided into roughly as many cells as there are blocks, and each cell lists
+ * the blocks overlapping it. A viewport query only tests the blocks registered in the cells it covers,
+ * so small viewports over large arenas touch a handful of blocks instead of all of them. Layouts have
+ * at most a few hundred blocks, which keeps a grid both simpler and as fast as a tree here.
+ */
+final class BlockSpatialIndex {
+
+    /**
+     * A block with its bounding box in layout coordinates.
+     */
+    record Bounds(SeatingBlockBounds block, double minX, double minY, double maxX, double maxY) {
+
+        boolean intersects(double left, double top, double right, double bottom) {
+            return minX <= right && maxX >= left && minY <= bottom && maxY >= top;
+        }
+    }
+
+    private final List<Bounds> blocks;
+    private final double originX;
+    private final double originY;
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[][] cells;
+
+    private BlockSpatialIndex(List<Bounds> blocks, double originX, double originY, double cellSize,
+                              int columns, int rows, int[][] cells) {
+        this.blocks = blocks;
+        this.originX = originX;
+        this.originY = originY;
+        this.cellSize = cellSize;
+        this.columns = columns;
+        this.rows = rows;
+        this.cells = cells;
+    }
+
+    static BlockSpatialIndex build(List<SeatingBlockBounds> source, double seatSpacing) {
+        List<Bounds> blocks = new ArrayList<>(source.size());
+        double minX = Double.MAX_VALUE;
+        double minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE;
+        double maxY = -Double.MAX_VALUE;
+        for (SeatingBlockBounds block : source) {
+            Bounds bounds = boundsOf(block, seatSpacing);
+            blocks.add(bounds);
+            minX = Math.min(minX, bounds.minX());
+            minY = Math.min(minY, bounds.minY());
+            maxX = Math.max(maxX, bounds.maxX());
+            maxY = Math.max(maxY, bounds.maxY());
+        }
+        if (blocks.isEmpty()) {
+            return new BlockSpatialIndex(blocks, 0, 0, 1, 0, 0, new int[0][]);
+        }
+
+        int cellsPerSide = (int) Math.ceil(Math.sqrt(blocks.size()));
+        double cellSize = Math.max(1, Math.max(maxX - minX, maxY - minY) / cellsPerSide);
+        int columns = (int) ((maxX - minX) / cellSize) + 1;
+        int rows = (int) ((maxY - minY) / cellSize) + 1;
+
+        List<List<Integer>> cellLists = new ArrayList<>(columns * rows);
+        for (int i = 0; i < columns * rows; i++) {
+            cellLists.add(new ArrayList<>(2));
+        }
+        BlockSpatialIndex index = new BlockSpatialIndex(blocks, minX, minY, cellSize, columns, rows, null);
+        for (int b = 0; b < blocks.size(); b++) {
+            Bounds bounds = blocks.get(b);
+            for (int row = index.rowOf(bounds.minY()); row <= index.rowOf(bounds.maxY()); row++) {
+                for (int column = index.columnOf(bounds.minX()); column <= index.columnOf(bounds.maxX()); column++) {
+                    cellLists.get(row * columns + column).add(b);
+                }
+            }
+        }
+        int[][] cells = new int[cellLists.size()][];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = cellLists.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return new BlockSpatialIndex(blocks, minX, minY, cellSize, columns, rows, cells);
+    }
+
+    /**
+     * Blocks whose bounding box intersects the rectangle, in layout order.
+     */
+    List<Bounds> query(double left, double top, double right, double bottom) {
+        List<Bounds> result = new ArrayList<>();
+        if (blocks.isEmpty()) {
+            return result;
+        }
+        boolean[] seen = new boolean[blocks.size()];
+        for (int row = rowOf(top); row <= rowOf(bottom); row++) {
+            for (int column = columnOf(left); column <= columnOf(right); column++) {
+                for (int b : cells[row * columns + column]) {
+                    if (!seen[b] && blocks.get(b).intersects(left, top, right, bottom)) {
+                        seen[b] = true;
+                    }
+                }
+            }
+        }
+        for (int b = 0; b < seen.length; b++) {
+            if (seen[b]) {
+                result.add(blocks.get(b));
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return blocks.size();
+    }
+
+    private int columnOf(double x) {
+        return clamp((int) Math.floor((x - originX) / cellSize), columns);
+    }
+
+    private int rowOf(double y) {
+        return clamp((int) Math.floor((y - originY) / cellSize), rows);
+    }
+
+    private static int clamp(int cell, int count) {
+        return Math.max(0, Math.min(count - 1, cell));
+    }
+
+    /**
+     * Standing and non-sellable blocks carry their size; seated grids are one seat spacing per seat
+     * across and one per row down, matching how seat positions are derived elsewhere.
+     */
+    static Bounds boundsOf(SeatingBlockBounds block, double seatSpacing) {
+        double x = block.getX() != null ? block.getX() : 0;
+        double y = block.getY() != null ? block.getY() : 0;
+        double width = block.getWidth() != null ? block.getWidth()
+                : (block.getMaxSeatsPerRow() != null ? block.getMaxSeatsPerRow() : 0) * seatSpacing;
+        double height = block.getHeight() != null ? block.getHeight()
+                : (block.getRowCount() != null ? block.getRowCount() : 0) * seatSpacing;
+        return new Bounds(block, x, y, x + width, y + height);
+    }
+}
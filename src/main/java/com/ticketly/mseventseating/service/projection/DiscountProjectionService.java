@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import model.EventStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -22,6 +23,7 @@ public class DiscountProjectionService {
     private final TierRepository tierRepository;
     private final EventMapper eventMapper;
 
+    @Transactional(readOnly = true)
     public DiscountProjectionDTO projectDiscount(UUID discountId) {
         Discount discount = discountRepository.findById(discountId).orElse(null);
         if (discount == null) {
@@ -11,6 +11,7 @@ import dto.projection.TierInfo;
 import lombok.RequiredArgsConstructor;
 import model.EventStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
@@ -25,13 +26,21 @@ public class EventProjectionService {
     private final EventMapper eventMapper;
     private final EventRepository eventRepository;
 
+    @Transactional(readOnly = true)
     public EventProjectionDTO projectEvent(UUID eventId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found for projection: " + eventId));
         if (event.getStatus() != EventStatus.APPROVED && event.getStatus() != EventStatus.COMPLETED) {
             throw new ResourceNotFoundException("Event is not approved for projection: " + event.getId());
         }
+        return projectEvent(event);
+    }
 
+    /**
+     * Project an event that is already loaded, reading its organization, category, tiers,
+     * sessions and discounts
+     */
+    public EventProjectionDTO projectEvent(Event event) {
         EventProjectionDTO.OrganizationInfo orgInfo = EventProjectionDTO.OrganizationInfo.builder()
                 .id(event.getOrganization().getId())
                 .name(event.getOrganization().getName())
@@ -0,0 +1,167 @@
+package com.ticketly.mseventseating.service.projection;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.exception.BadRequestException;
+import com.ticketly.mseventseating.model.Event;
+import com.ticketly.mseventseating.repository.DiscountRepository;
+import com.ticketly.mseventseating.repository.EventRepository;
+import dto.projection.EventProjectionDTO;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import model.EventStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Streams the projections of many events as newline-delimited JSON, for rebuilding a read model
+ * in one pass instead of one request per event.
+ * <p>
+ * Events are streamed in ID order, a chunk per read-only transaction. The IDs of a chunk are found
+ * by keyset, and its events are then loaded with one query per association instead of one per
+ * event and association. The persistence context is cleared after each chunk, so memory stays
+ * constant however many events are streamed, and no transaction stays open while the client
+ * reads. A consumer that is cut off resumes by passing the ID of the last event it received.
+ */
+@Service
+@Slf4j
+public class EventProjectionStreamService {
+
+    static final List<EventStatus> PROJECTABLE_STATUSES = List.of(EventStatus.APPROVED, EventStatus.COMPLETED);
+
+    /**
+     * The order PostgreSQL sorts UUIDs in: bytewise, so both halves compare unsigned.
+     */
+    static final Comparator<UUID> ID_ORDER = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    private final EventRepository eventRepository;
+    private final DiscountRepository discountRepository;
+    private final EventProjectionService eventProjectionService;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final AppLimitsConfig.ProjectionStreamConfig config;
+
+    public EventProjectionStreamService(EventRepository eventRepository,
+                                        DiscountRepository discountRepository,
+                                        EventProjectionService eventProjectionService,
+                                        ObjectMapper objectMapper,
+                                        EntityManager entityManager,
+                                        PlatformTransactionManager transactionManager,
+                                        AppLimitsConfig appLimitsConfig) {
+        this.eventRepository = eventRepository;
+        this.discountRepository = discountRepository;
+        this.eventProjectionService = eventProjectionService;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.config = appLimitsConfig.getProjectionStream();
+    }
+
+    /**
+     * Stream the projections of all approved and completed events, or of those among the given
+     * ones. The request is validated here, before the response starts.
+     *
+     * @param ids   the events to stream, or null for all of them
+     * @param after the ID of the last event already received, or null to start from the beginning
+     * @throws BadRequestException if more IDs are given than allowed per request
+     */
+    public StreamingResponseBody stream(Collection<UUID> ids, UUID after) {
+        if (ids == null) {
+            return out -> streamAll(out, after);
+        }
+        if (ids.size() > config.getMaxIds()) {
+            throw new BadRequestException("At most " + config.getMaxIds() + " event IDs can be streamed per request");
+        }
+        List<UUID> remaining = ids.stream()
+                .distinct()
+                .filter(id -> after == null || ID_ORDER.compare(id, after) > 0)
+                .sorted(ID_ORDER)
+                .toList();
+        return out -> streamGiven(out, remaining);
+    }
+
+    private void streamAll(OutputStream out, UUID after) throws IOException {
+        int chunkSize = Math.max(1, config.getChunkSize());
+        UUID cursor = after;
+        int streamed = 0;
+        while (true) {
+            UUID position = cursor;
+            List<UUID> chunk = transactionTemplate.execute(status -> position == null
+                    ? eventRepository.findIdsByStatusIn(PROJECTABLE_STATUSES, Limit.of(chunkSize))
+                    : eventRepository.findIdsByStatusInAfter(PROJECTABLE_STATUSES, position, Limit.of(chunkSize)));
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+            streamed += write(out, projectChunk(chunk));
+            cursor = chunk.getLast();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        log.info("Streamed {} event projections", streamed);
+    }
+
+    private void streamGiven(OutputStream out, List<UUID> ids) throws IOException {
+        int chunkSize = Math.max(1, config.getChunkSize());
+        int streamed = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            streamed += write(out, projectChunk(ids.subList(from, Math.min(from + chunkSize, ids.size()))));
+        }
+        log.info("Streamed {} of {} requested event projections", streamed, ids.size());
+    }
+
+    /**
+     * Load and project a chunk of events in one transaction, keeping the order of the IDs and
+     * skipping events that don't exist or can't be projected.
+     */
+    List<EventProjectionDTO> projectChunk(List<UUID> ids) {
+        return transactionTemplate.execute(status -> {
+            try {
+                Map<UUID, Event> events = eventRepository.findAllWithTiersByIdIn(ids).stream()
+                        .collect(Collectors.toMap(Event::getId, Function.identity()));
+                List<UUID> eventIds = List.copyOf(events.keySet());
+                if (!eventIds.isEmpty()) {
+                    eventRepository.findAllWithCoverPhotosByIdIn(eventIds);
+                    eventRepository.findAllWithSessionsByIdIn(eventIds);
+                    eventRepository.findAllWithDiscountsByIdIn(eventIds);
+                    discountRepository.findAllWithApplicableTiersByEventIdIn(eventIds);
+                    discountRepository.findAllWithApplicableSessionsByEventIdIn(eventIds);
+                }
+
+                List<EventProjectionDTO> projections = new ArrayList<>(events.size());
+                for (UUID id : ids) {
+                    Event event = events.get(id);
+                    if (event != null && PROJECTABLE_STATUSES.contains(event.getStatus())) {
+                        projections.add(eventProjectionService.projectEvent(event));
+                    }
+                }
+                return projections;
+            } finally {
+                // The request's entity manager outlives the transaction, so drop what the chunk loaded
+                entityManager.clear();
+            }
+        });
+    }
+
+    private int write(OutputStream out, List<EventProjectionDTO> projections) throws IOException {
+        for (EventProjectionDTO projection : projections) {
+            out.write(objectMapper.writeValueAsBytes(projection));
+            out.write('\n');
+        }
+        out.flush();
+        return projections.size();
+    }
+}
@@ -0,0 +1,368 @@
+package com.ticketly.mseventseating.service.projection;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.dto.projection.ProjectionMediaTypes;
+import com.ticketly.mseventseating.service.singleflight.RedisSingleFlight;
+import com.ticketly.mseventseating.service.singleflight.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves session and seating map representations with strong ETags and keeps their serialized and
+ * gzip-compressed bodies in memory.
+ * <p>
+ * The ETag is derived from the session's {@link ProjectionVersionService version}, which is read
+ * from Redis, so a matching {@code If-None-Match} is answered with 304 before anything is loaded
+ * from the database, and an unchanged body is served from memory without being rebuilt. Each
+ * content coding gets its own ETag, and the cache holds at most the configured number of bytes.
+ * <p>
+ * A body is rebuilt by one request at a time per version, on this instance through a
+ * {@link SingleFlight} and across instances through a {@link RedisSingleFlight}, so a version
+ * change on a hot session doesn't send every concurrent request to the database. While it is
+ * rebuilt, other requests are served the previous body under its own ETag.
+ * <p>
+ * Internal representations are also available as Smile or CBOR when the {@code Accept} header asks
+ * for them, with JSON as the default.
+ */
+@Service
+@Slf4j
+public class ProjectionResponseCache {
+
+    private static final String GZIP = "gzip";
+    private static final String GZIP_SUFFIX = "-" + GZIP;
+
+    private final ProjectionVersionService versionService;
+    private final Map<Format, ObjectMapper> mappers;
+    private final AppLimitsConfig.ProjectionCacheConfig config;
+    private final SingleFlight<String, Entry> builds;
+    private final RedisSingleFlight redisSingleFlight;
+    private final Counter staleServed;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+
+    /**
+     * Representations served through the cache. Seating maps are versioned by their session, and
+     * only internal representations are offered in binary formats.
+     */
+    public enum Resource {
+        SESSION("s", MediaType.APPLICATION_JSON, false, false),
+        SESSION_PROJECTION("sp", MediaType.APPLICATION_JSON, false, true),
+        SESSION_PROJECTION_COMPACT("spc", MediaType.parseMediaType(ProjectionMediaTypes.COMPACT_V1), false, true),
+        SEATING_MAP_PROJECTION("mp", MediaType.APPLICATION_JSON, true, true),
+        SEATING_MAP_PROJECTION_COMPACT("mpc", MediaType.parseMediaType(ProjectionMediaTypes.COMPACT_V1), true, true);
+
+        private final String tag;
+        private final MediaType mediaType;
+        private final boolean seatingMap;
+        private final boolean internal;
+
+        Resource(String tag, MediaType mediaType, boolean seatingMap, boolean internal) {
+            this.tag = tag;
+            this.mediaType = mediaType;
+            this.seatingMap = seatingMap;
+            this.internal = internal;
+        }
+    }
+
+    enum Format {
+        JSON(null, ""),
+        SMILE(new MediaType("application", "x-jackson-smile"), "+smile"),
+        CBOR(MediaType.APPLICATION_CBOR, "+cbor");
+
+        private final MediaType mediaType;
+        private final String tagSuffix;
+
+        Format(MediaType mediaType, String tagSuffix) {
+            this.mediaType = mediaType;
+            this.tagSuffix = tagSuffix;
+        }
+
+        MediaType mediaTypeFor(Resource resource) {
+            return mediaType != null ? mediaType : resource.mediaType;
+        }
+    }
+
+    private record Entry(String version, byte[] body, byte[] gzipBody) {
+        long size() {
+            return body.length + (gzipBody != null ? gzipBody.length : 0);
+        }
+    }
+
+    public ProjectionResponseCache(ProjectionVersionService versionService,
+                                   ObjectMapper objectMapper,
+                                   @Qualifier("smileObjectMapper") ObjectMapper smileObjectMapper,
+                                   @Qualifier("cborObjectMapper") ObjectMapper cborObjectMapper,
+                                   RedisSingleFlight redisSingleFlight,
+                                   MeterRegistry meterRegistry,
+                                   AppLimitsConfig appLimitsConfig) {
+        this.versionService = versionService;
+        this.mappers = new EnumMap<>(Map.of(
+                Format.JSON, objectMapper, Format.SMILE, smileObjectMapper, Format.CBOR, cborObjectMapper));
+        this.config = appLimitsConfig.getProjectionCache();
+        this.builds = new SingleFlight<>("projection", meterRegistry);
+        this.redisSingleFlight = redisSingleFlight;
+        this.staleServed = Counter.builder("singleflight.calls")
+                .tag("name", "projection")
+                .tag("outcome", "stale")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Answer a GET for a session or seating map representation.
+     *
+     * @param request    the request, for its {@code If-None-Match}, {@code Accept} and {@code Accept-Encoding} headers
+     * @param resource   which representation is requested
+     * @param resourceId the session or seating map ID
+     * @param loader     builds the representation; only called when the cached body is outdated
+     */
+    public ResponseEntity<byte[]> respond(WebRequest request, Resource resource, UUID resourceId, Supplier<?> loader) {
+        Format format = resource.internal ? negotiate(request.getHeader(HttpHeaders.ACCEPT)) : Format.JSON;
+        if (!config.isEnabled()) {
+            return ResponseEntity.ok().contentType(format.mediaTypeFor(resource)).body(serialize(format, loader.get()));
+        }
+
+        String version;
+        try {
+            UUID sessionId = resource.seatingMap ? versionService.sessionIdOfSeatingMap(resourceId) : resourceId;
+            version = versionService.currentVersion(sessionId);
+        } catch (DataAccessException e) {
+            log.warn("Projection version unavailable for {} {}, serving without an ETag", resource, resourceId, e);
+            return ResponseEntity.ok().contentType(format.mediaTypeFor(resource)).body(serialize(format, loader.get()));
+        }
+
+        String etag = version + "." + resource.tag + format.tagSuffix;
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return notModified(etag, gzip);
+        }
+
+        Entry entry = entryFor(resource, format, resourceId, version, loader, true);
+        if (!entry.version().equals(version)) {
+            // A stale body, served while another request rebuilds it
+            etag = entry.version() + "." + resource.tag + format.tagSuffix;
+            if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+                return notModified(etag, gzip);
+            }
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.mediaTypeFor(resource))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip && entry.gzipBody() != null) {
+            return response.eTag(quote(etag + GZIP_SUFFIX))
+                    .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                    .body(entry.gzipBody());
+        }
+        return response.eTag(quote(etag)).body(entry.body());
+    }
+
+    private static ResponseEntity<byte[]> notModified(String etag, boolean gzip) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(quote(gzip ? etag + GZIP_SUFFIX : etag))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .build();
+    }
+
+    /**
+     * Build and cache the JSON body of a representation for its current version, unless it is
+     * already cached, so the first requests after a session goes on sale are served from memory.
+     *
+     * @return the bytes cached for the representation, 0 when the cache is disabled or the body too
+     * large to keep
+     */
+    public long warm(Resource resource, UUID resourceId, Supplier<?> loader) {
+        if (!config.isEnabled()) {
+            return 0;
+        }
+        UUID sessionId = resource.seatingMap ? versionService.sessionIdOfSeatingMap(resourceId) : resourceId;
+        String version = versionService.currentVersion(sessionId);
+        Entry entry = entryFor(resource, Format.JSON, resourceId, version, loader, false);
+        return get(key(resource, Format.JSON, resourceId)) == entry ? entry.size() : 0;
+    }
+
+    /**
+     * Get the cached entry for a version, building it unless another request is already building
+     * it. Then, if stale entries are allowed and there is one, it is returned instead of waiting.
+     */
+    private Entry entryFor(Resource resource, Format format, UUID resourceId, String version, Supplier<?> loader,
+                           boolean allowStale) {
+        String key = key(resource, format, resourceId);
+        Entry entry = get(key);
+        if (entry != null && entry.version().equals(version)) {
+            return entry;
+        }
+        String build = key + ":" + version;
+        if (entry != null && allowStale && config.isStaleWhileRevalidate() && builds.isInFlight(build)) {
+            staleServed.increment();
+            return entry;
+        }
+        return builds.execute(build, () -> {
+            byte[] body = redisSingleFlight.execute("projection", build, () -> serialize(format, loader.get()));
+            Entry built = new Entry(version, body, body.length >= config.getMinCompressBytes() ? gzip(body) : null);
+            put(key, built);
+            return built;
+        });
+    }
+
+    private static String key(Resource resource, Format format, UUID resourceId) {
+        return resource.name() + ":" + format.name() + ":" + resourceId;
+    }
+
+    synchronized long cachedBytes() {
+        return cachedBytes;
+    }
+
+    private synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    private synchronized void put(String key, Entry entry) {
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            cachedBytes -= previous.size();
+        }
+        if (entry.size() > config.getMaxBytes() / 4) {
+            // A few huge maps would otherwise evict everything else
+            return;
+        }
+        entries.put(key, entry);
+        cachedBytes += entry.size();
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (cachedBytes > config.getMaxBytes() && eldest.hasNext()) {
+            cachedBytes -= eldest.next().size();
+            eldest.remove();
+        }
+    }
+
+    private byte[] serialize(Format format, Object value) {
+        try {
+            return mappers.get(format).writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize projection", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to compress projection", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Whether any entity tag in an {@code If-None-Match} header names the current version in any
+     * content coding.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                tag = tag.substring(1, tag.length() - 1);
+            }
+            if (tag.endsWith(GZIP_SUFFIX)) {
+                tag = tag.substring(0, tag.length() - GZIP_SUFFIX.length());
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Pick the binary format the {@code Accept} header prefers over JSON, if any.
+     */
+    static Format negotiate(String accept) {
+        if (accept == null) {
+            return Format.JSON;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return Format.JSON;
+        }
+        mediaTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            if (mediaType.equalsTypeAndSubtype(Format.SMILE.mediaType)) {
+                return Format.SMILE;
+            }
+            if (mediaType.equalsTypeAndSubtype(Format.CBOR.mediaType)) {
+                return Format.CBOR;
+            }
+            if (mediaType.isWildcardSubtype() || mediaType.getSubtype().endsWith("json")) {
+                return Format.JSON;
+            }
+        }
+        return Format.JSON;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase(GZIP) && !name.equals("*")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") && isZero(parameter.substring(2))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String quote(String etag) {
+        return "\"" + etag + "\"";
+    }
+}
@@ -0,0 +1,46 @@
+package com.ticketly.mseventseating.service.projection;
+
+import com.ticketly.mseventseating.model.Event;
+import com.ticketly.mseventseating.model.EventSession;
+import com.ticketly.mseventseating.model.SessionSeatingMap;
+import com.ticketly.mseventseating.model.Tier;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.UUID;
+
+/**
+ * Entity callback that reports writes to the entities projections are built from.
+ * <p>
+ * Instantiated by Hibernate through Spring's bean container. The service is looked up lazily
+ * because it depends on repositories, which need the entity manager factory this listener is part of.
+ */
+public class ProjectionVersionListener {
+
+    private final ObjectProvider<ProjectionVersionService> versionService;
+
+    public ProjectionVersionListener(ObjectProvider<ProjectionVersionService> versionService) {
+        this.versionService = versionService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(Object entity) {
+        switch (entity) {
+            case Event event -> markChanged(event.getId(), null);
+            case Tier tier -> markChanged(tier.getEvent() != null ? tier.getEvent().getId() : null, null);
+            case EventSession session -> markChanged(null, session.getId());
+            case SessionSeatingMap seatingMap -> markChanged(null,
+                    seatingMap.getEventSession() != null ? seatingMap.getEventSession().getId() : null);
+            default -> {
+            }
+        }
+    }
+
+    private void markChanged(UUID eventId, UUID sessionId) {
+        versionService.ifAvailable(service -> service.markChanged(eventId, sessionId));
+    }
+}
@@ -0,0 +1,180 @@
+package com.ticketly.mseventseating.service.projection;
+
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.exception.ResourceNotFoundException;
+import com.ticketly.mseventseating.repository.EventSessionRepository;
+import com.ticketly.mseventseating.repository.SessionSeatingMapRepository;
+import com.ticketly.mseventseating.service.seat.SeatStatusChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Tracks a version for everything rendered from a session: the session itself, its seating map and
+ * seat statuses, and its event and tiers.
+ * <p>
+ * Each event and each session has a token in Redis that is replaced when it changes, and a
+ * session's version combines both, so an event change needs no fan-out to its sessions. Tokens are
+ * random rather than counters: a token lost with a Redis restart is replaced by one no client has
+ * seen, so an outdated ETag can never match again. Changes are applied after the transaction that
+ * made them commits, so a reader never caches old data under a new version.
+ */
+@Service
+@Slf4j
+public class ProjectionVersionService {
+
+    private static final String KEY_PREFIX = "event-seating::projection-version::";
+
+    private final StringRedisTemplate redisTemplate;
+    private final EventSessionRepository eventSessionRepository;
+    private final SessionSeatingMapRepository seatingMapRepository;
+    private final AppLimitsConfig.ProjectionCacheConfig config;
+    private final Map<UUID, UUID> sessionEvents;
+    private final Map<UUID, UUID> seatingMapSessions;
+
+    public ProjectionVersionService(StringRedisTemplate redisTemplate,
+                                    EventSessionRepository eventSessionRepository,
+                                    SessionSeatingMapRepository seatingMapRepository,
+                                    AppLimitsConfig appLimitsConfig) {
+        this.redisTemplate = redisTemplate;
+        this.eventSessionRepository = eventSessionRepository;
+        this.seatingMapRepository = seatingMapRepository;
+        this.config = appLimitsConfig.getProjectionCache();
+        this.sessionEvents = lruMap(config.getMaxCachedRelations());
+        this.seatingMapSessions = lruMap(config.getMaxCachedRelations());
+    }
+
+    /**
+     * Get the current version of a session, creating tokens for it and its event if they have none.
+     */
+    public String currentVersion(UUID sessionId) {
+        UUID eventId = remembered(sessionEvents, sessionId, id -> eventSessionRepository.findEventIdById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Session not found with ID: " + id)));
+        String eventKey = eventKey(eventId);
+        String sessionKey = sessionKey(sessionId);
+        List<String> tokens = redisTemplate.opsForValue().multiGet(List.of(eventKey, sessionKey));
+        String eventToken = tokens != null && tokens.get(0) != null ? tokens.get(0) : createToken(eventKey);
+        String sessionToken = tokens != null && tokens.get(1) != null ? tokens.get(1) : createToken(sessionKey);
+        return eventToken + "." + sessionToken;
+    }
+
+    /**
+     * Find the session a seating map belongs to.
+     */
+    public UUID sessionIdOfSeatingMap(UUID seatingMapId) {
+        return remembered(seatingMapSessions, seatingMapId, id -> seatingMapRepository.findSessionIdById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Seating map not found with ID: " + id)));
+    }
+
+    /**
+     * Record that an event or a session changed. Inside a transaction, changes are collected and
+     * applied once after commit; outside of one they are applied immediately.
+     */
+    public void markChanged(UUID eventId, UUID sessionId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(eventId != null ? Set.of(eventId) : Set.of(), sessionId != null ? Set.of(sessionId) : Set.of());
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        if (eventId != null) {
+            pending.eventIds.add(eventId);
+        }
+        if (sessionId != null) {
+            pending.sessionIds.add(sessionId);
+        }
+    }
+
+    /**
+     * Seat statuses are updated in place by a database procedure, which entity callbacks do not see.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        apply(Set.of(), Set.of(event.sessionId()));
+    }
+
+    private void apply(Set<UUID> eventIds, Set<UUID> sessionIds) {
+        try {
+            for (UUID eventId : eventIds) {
+                redisTemplate.opsForValue().set(eventKey(eventId), newToken(), config.getVersionRetention());
+            }
+            for (UUID sessionId : sessionIds) {
+                redisTemplate.opsForValue().set(sessionKey(sessionId), newToken(), config.getVersionRetention());
+            }
+        } catch (DataAccessException e) {
+            // Clients may revalidate against an outdated version until the next change
+            log.error("Failed to update projection versions for events {} and sessions {}", eventIds, sessionIds, e);
+        }
+    }
+
+    private String createToken(String key) {
+        String created = newToken();
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, created, config.getVersionRetention()))) {
+            return created;
+        }
+        // Another instance created it first
+        String existing = redisTemplate.opsForValue().get(key);
+        return existing != null ? existing : created;
+    }
+
+    /**
+     * The parent of a session or seating map is fixed at creation, so lookups can be kept.
+     */
+    private static UUID remembered(Map<UUID, UUID> relations, UUID id, Function<UUID, UUID> lookup) {
+        UUID parentId = relations.get(id);
+        if (parentId == null) {
+            parentId = lookup.apply(id);
+            relations.put(id, parentId);
+        }
+        return parentId;
+    }
+
+    private static Map<UUID, UUID> lruMap(int maxEntries) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, UUID> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    private static String eventKey(UUID eventId) {
+        return KEY_PREFIX + "event::" + eventId;
+    }
+
+    private static String sessionKey(UUID sessionId) {
+        return KEY_PREFIX + "session::" + sessionId;
+    }
+
+    private static String newToken() {
+        UUID token = UUID.randomUUID();
+        return Long.toHexString(token.getMostSignificantBits()) + Long.toHexString(token.getLeastSignificantBits());
+    }
+
+    private final class PendingChanges implements TransactionSynchronization {
+        private final Set<UUID> eventIds = new HashSet<>();
+        private final Set<UUID> sessionIds = new HashSet<>();
+
+        @Override
+        public void afterCommit() {
+            apply(eventIds, sessionIds);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ProjectionVersionService.this);
+        }
+    }
+}
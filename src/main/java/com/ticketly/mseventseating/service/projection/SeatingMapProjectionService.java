@@ -1,6 +1,7 @@
 package com.ticketly.mseventseating.service.projection;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.dto.projection.CompactSeatingMapProjectionDTO;
 import com.ticketly.mseventseating.exception.ResourceNotFoundException;
 import com.ticketly.mseventseating.model.*;
 import com.ticketly.mseventseating.repository.SessionSeatingMapRepository;
@@ -11,7 +12,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import model.EventStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -30,28 +34,8 @@ public class SeatingMapProjectionService {
         if (sourceDto == null) return null;
 
         List<SeatingMapProjectionDTO.BlockInfo> blockInfos = sourceDto.getLayout().getBlocks().stream()
-                .map(blockDto -> {
-                    List<SeatingMapProjectionDTO.RowInfo> rowInfos = blockDto.getRows() != null ? blockDto.getRows().stream()
-                            .map(rowDto -> SeatingMapProjectionDTO.RowInfo.builder()
-                                    .id(rowDto.getId())
-                                    .label(rowDto.getLabel())
-                                    .seats(mapSeatsWithTiers(rowDto.getSeats(), tierInfoMap))
-                                    .build())
-                            .collect(Collectors.toList()) : null;
-
-                    List<SeatingMapProjectionDTO.SeatInfo> seatInfos = blockDto.getSeats() != null ?
-                            mapSeatsWithTiers(blockDto.getSeats(), tierInfoMap) : null;
-
-                    return SeatingMapProjectionDTO.BlockInfo.builder()
-                            .id(blockDto.getId()).name(blockDto.getName()).type(blockDto.getType())
-                            .position(SeatingMapProjectionDTO.PositionInfo.builder()
-                                    .x(blockDto.getPosition().getX())
-                                    .y(blockDto.getPosition().getY())
-                                    .build())
-                            .rows(rowInfos).seats(seatInfos).capacity(blockDto.getCapacity())
-                            .width(blockDto.getWidth()).height(blockDto.getHeight())
-                            .build();
-                }).collect(Collectors.toList());
+                .map(blockDto -> projectBlock(blockDto, tierInfoMap))
+                .collect(Collectors.toList());
 
         return SeatingMapProjectionDTO.builder()
                 .name(sourceDto.getName())
@@ -59,7 +43,65 @@ public class SeatingMapProjectionService {
                 .build();
     }
 
+    public SeatingMapProjectionDTO.BlockInfo projectBlock(SessionSeatingMapDTO.Block blockDto, Map<UUID, TierInfo> tierInfoMap) {
+        List<SeatingMapProjectionDTO.RowInfo> rowInfos = blockDto.getRows() != null ? blockDto.getRows().stream()
+                .map(rowDto -> SeatingMapProjectionDTO.RowInfo.builder()
+                        .id(rowDto.getId())
+                        .label(rowDto.getLabel())
+                        .seats(mapSeatsWithTiers(rowDto.getSeats(), tierInfoMap))
+                        .build())
+                .collect(Collectors.toList()) : null;
+
+        List<SeatingMapProjectionDTO.SeatInfo> seatInfos = blockDto.getSeats() != null ?
+                mapSeatsWithTiers(blockDto.getSeats(), tierInfoMap) : null;
+
+        return SeatingMapProjectionDTO.BlockInfo.builder()
+                .id(blockDto.getId()).name(blockDto.getName()).type(blockDto.getType())
+                .position(SeatingMapProjectionDTO.PositionInfo.builder()
+                        .x(blockDto.getPosition().getX())
+                        .y(blockDto.getPosition().getY())
+                        .build())
+                .rows(rowInfos).seats(seatInfos).capacity(blockDto.getCapacity())
+                .width(blockDto.getWidth()).height(blockDto.getHeight())
+                .build();
+    }
+
+    /**
+     * Project a layout with every referenced tier listed once at the top level and seats pointing
+     * at it by ID. Large maps have few tiers and tens of thousands of seats, so this avoids
+     * repeating the tier name, price and color in each seat.
+     */
+    public CompactSeatingMapProjectionDTO projectCompactSeatingMap(String layoutJson, Map<UUID, TierInfo> tierInfoMap) {
+        SessionSeatingMapDTO sourceDto = parseLayoutData(layoutJson);
+        if (sourceDto == null) return null;
+
+        Map<UUID, TierInfo> referencedTiers = new LinkedHashMap<>();
+        List<CompactSeatingMapProjectionDTO.BlockInfo> blockInfos = sourceDto.getLayout().getBlocks().stream()
+                .map(blockDto -> projectCompactBlock(blockDto, tierInfoMap, referencedTiers))
+                .collect(Collectors.toList());
+
+        return CompactSeatingMapProjectionDTO.builder()
+                .name(sourceDto.getName())
+                .tiers(referencedTiers)
+                .layout(CompactSeatingMapProjectionDTO.LayoutInfo.builder().blocks(blockInfos).build())
+                .build();
+    }
+
+    @Transactional(readOnly = true)
     public SeatingMapProjectionDTO projectSeatingMap(UUID seatingMapId) {
+        SessionSeatingMap seatingMap = findPublishedSeatingMap(seatingMapId);
+        return projectSeatingMap(seatingMap.getLayoutData(),
+                buildTierInfoMap(seatingMap.getEventSession().getEvent().getTiers()));
+    }
+
+    @Transactional(readOnly = true)
+    public CompactSeatingMapProjectionDTO projectCompactSeatingMap(UUID seatingMapId) {
+        SessionSeatingMap seatingMap = findPublishedSeatingMap(seatingMapId);
+        return projectCompactSeatingMap(seatingMap.getLayoutData(),
+                buildTierInfoMap(seatingMap.getEventSession().getEvent().getTiers()));
+    }
+
+    private SessionSeatingMap findPublishedSeatingMap(UUID seatingMapId) {
         SessionSeatingMap seatingMap = seatingMapRepository.findById(seatingMapId)
                 .orElseThrow(() -> new IllegalArgumentException("Seating map not found with ID: " + seatingMapId));
 
@@ -82,13 +124,13 @@ public class SeatingMapProjectionService {
             throw new ResourceNotFoundException("Event is not approved for session projection: " + event.getId());
         }
 
-        List<TierInfo> tierInfoList = event.getTiers().stream()
+        return seatingMap;
+    }
+
+    public Map<UUID, TierInfo> buildTierInfoMap(Collection<Tier> tiers) {
+        return tiers.stream()
                 .map(this::mapToTierInfo)
-                .toList();
-        Map<UUID, TierInfo> tierInfoMap = tierInfoList.stream()
                 .collect(Collectors.toMap(TierInfo::getId, Function.identity()));
-
-        return projectSeatingMap(seatingMap.getLayoutData(), tierInfoMap);
     }
 
     private List<SeatingMapProjectionDTO.SeatInfo> mapSeatsWithTiers(List<SessionSeatingMapDTO.Seat> seatDtos, Map<UUID, TierInfo> tierInfoMap) {
@@ -105,6 +147,50 @@ public class SeatingMapProjectionService {
         }).collect(Collectors.toList());
     }
 
+    private CompactSeatingMapProjectionDTO.BlockInfo projectCompactBlock(SessionSeatingMapDTO.Block blockDto,
+                                                                         Map<UUID, TierInfo> tierInfoMap,
+                                                                         Map<UUID, TierInfo> referencedTiers) {
+        List<CompactSeatingMapProjectionDTO.RowInfo> rowInfos = blockDto.getRows() != null ? blockDto.getRows().stream()
+                .map(rowDto -> CompactSeatingMapProjectionDTO.RowInfo.builder()
+                        .id(rowDto.getId())
+                        .label(rowDto.getLabel())
+                        .seats(mapSeatsWithTierIds(rowDto.getSeats(), tierInfoMap, referencedTiers))
+                        .build())
+                .collect(Collectors.toList()) : null;
+
+        List<CompactSeatingMapProjectionDTO.SeatInfo> seatInfos = blockDto.getSeats() != null ?
+                mapSeatsWithTierIds(blockDto.getSeats(), tierInfoMap, referencedTiers) : null;
+
+        return CompactSeatingMapProjectionDTO.BlockInfo.builder()
+                .id(blockDto.getId()).name(blockDto.getName()).type(blockDto.getType())
+                .position(SeatingMapProjectionDTO.PositionInfo.builder()
+                        .x(blockDto.getPosition().getX())
+                        .y(blockDto.getPosition().getY())
+                        .build())
+                .rows(rowInfos).seats(seatInfos).capacity(blockDto.getCapacity())
+                .width(blockDto.getWidth()).height(blockDto.getHeight())
+                .build();
+    }
+
+    private List<CompactSeatingMapProjectionDTO.SeatInfo> mapSeatsWithTierIds(List<SessionSeatingMapDTO.Seat> seatDtos,
+                                                                              Map<UUID, TierInfo> tierInfoMap,
+                                                                              Map<UUID, TierInfo> referencedTiers) {
+        return seatDtos.stream().map(seatDto -> {
+            UUID tierId = seatDto.getTierId();
+            TierInfo tier = tierId != null ? tierInfoMap.get(tierId) : null;
+            if (tier != null) {
+                referencedTiers.putIfAbsent(tierId, tier);
+            }
+            // Same as the embedded form: seats pointing at an unknown tier carry no tier
+            return CompactSeatingMapProjectionDTO.SeatInfo.builder()
+                    .id(seatDto.getId())
+                    .label(seatDto.getLabel())
+                    .status(seatDto.getStatus())
+                    .tierId(tier != null ? tierId : null)
+                    .build();
+        }).collect(Collectors.toList());
+    }
+
     private SessionSeatingMapDTO parseLayoutData(String json) {
         try {
             if (json == null) return null;
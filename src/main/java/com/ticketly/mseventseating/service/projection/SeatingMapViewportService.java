@@ -0,0 +1,177 @@
+package com.ticketly.mseventseating.service.projection;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.dto.session.SeatingMapViewportDTO;
+import com.ticketly.mseventseating.dto.session.SessionEventStatus;
+import com.ticketly.mseventseating.exception.BadRequestException;
+import com.ticketly.mseventseating.exception.ResourceNotFoundException;
+import com.ticketly.mseventseating.repository.EventSessionRepository;
+import com.ticketly.mseventseating.repository.SessionSeatingMapRepository;
+import com.ticketly.mseventseating.repository.TierRepository;
+import com.ticketly.mseventseating.service.seating_layout.SeatingLayoutChangedEvent;
+import dto.SessionSeatingMapDTO;
+import dto.projection.SeatingMapProjectionDTO;
+import dto.projection.TierInfo;
+import lombok.extern.slf4j.Slf4j;
+import model.EventStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * Serves the part of a session's seating map that is inside a viewport, so clients can load large
+ * arenas progressively.
+ * <p>
+ * Block geometry is read without seats and kept in a {@link BlockSpatialIndex} per session for a short
+ * TTL. Seats are only loaded for the intersecting blocks, straight from the layout JSON in the database,
+ * so a viewport over a few blocks never transfers or parses the whole map.
+ */
+@Service
+@Slf4j
+public class SeatingMapViewportService {
+
+    private final EventSessionRepository eventSessionRepository;
+    private final SessionSeatingMapRepository seatingMapRepository;
+    private final TierRepository tierRepository;
+    private final SeatingMapProjectionService seatingMapProjectionService;
+    private final ObjectMapper objectMapper;
+    private final AppLimitsConfig.SeatingMapConfig config;
+    private final Map<UUID, CachedIndex> indexes;
+
+    private record CachedIndex(BlockSpatialIndex index, long builtAt) {
+    }
+
+    public SeatingMapViewportService(EventSessionRepository eventSessionRepository,
+                                     SessionSeatingMapRepository seatingMapRepository,
+                                     TierRepository tierRepository,
+                                     SeatingMapProjectionService seatingMapProjectionService,
+                                     ObjectMapper objectMapper,
+                                     AppLimitsConfig appLimitsConfig) {
+        this.eventSessionRepository = eventSessionRepository;
+        this.seatingMapRepository = seatingMapRepository;
+        this.tierRepository = tierRepository;
+        this.seatingMapProjectionService = seatingMapProjectionService;
+        this.objectMapper = objectMapper;
+        this.config = appLimitsConfig.getSeatingMap();
+        int maxEntries = config.getMaxCachedViewportIndexes();
+        this.indexes = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CachedIndex> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Get the blocks of a session's seating map intersecting the rectangle from (minX, minY) to
+     * (maxX, maxY) in layout coordinates, with or without their seats.
+     */
+    @Transactional(readOnly = true)
+    public SeatingMapViewportDTO getViewport(UUID sessionId, double minX, double minY, double maxX, double maxY,
+                                             SeatingMapViewportDTO.Detail detail) {
+        if (minX > maxX || minY > maxY) {
+            throw new BadRequestException("Viewport minimum coordinates must not exceed the maximum coordinates.");
+        }
+
+        SessionEventStatus session = eventSessionRepository.findEventStatusById(sessionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Session not found: " + sessionId));
+        if (session.eventStatus() != EventStatus.APPROVED) {
+            throw new ResourceNotFoundException("Seating map is not published for session: " + sessionId);
+        }
+
+        List<BlockSpatialIndex.Bounds> hits = indexFor(sessionId).query(minX, minY, maxX, maxY);
+        Map<UUID, SessionSeatingMapDTO.Block> blocksWithSeats = detail == SeatingMapViewportDTO.Detail.SEATS
+                ? loadBlocks(sessionId, hits)
+                : Map.of();
+        Map<UUID, TierInfo> tierInfoMap = blocksWithSeats.isEmpty()
+                ? Map.of()
+                : seatingMapProjectionService.buildTierInfoMap(tierRepository.findByEventId(session.eventId()));
+
+        List<SeatingMapViewportDTO.BlockDTO> blocks = new ArrayList<>(hits.size());
+        for (BlockSpatialIndex.Bounds bounds : hits) {
+            SeatingMapViewportDTO.BlockDTO.BlockDTOBuilder block = SeatingMapViewportDTO.BlockDTO.builder()
+                    .id(bounds.block().getId())
+                    .name(bounds.block().getName())
+                    .type(bounds.block().getType())
+                    .x(bounds.minX())
+                    .y(bounds.minY())
+                    .width(bounds.maxX() - bounds.minX())
+                    .height(bounds.maxY() - bounds.minY())
+                    .capacity(bounds.block().getCapacity());
+            SessionSeatingMapDTO.Block source = blocksWithSeats.get(bounds.block().getId());
+            if (source != null) {
+                SeatingMapProjectionDTO.BlockInfo projected = seatingMapProjectionService.projectBlock(source, tierInfoMap);
+                block.rows(projected.getRows()).seats(projected.getSeats());
+            }
+            blocks.add(block.build());
+        }
+
+        return SeatingMapViewportDTO.builder()
+                .sessionId(sessionId)
+                .detail(detail)
+                .blocks(blocks)
+                .build();
+    }
+
+    /**
+     * Drop a session's index once a layout change that added, removed or changed blocks has committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSeatingLayoutChanged(SeatingLayoutChangedEvent event) {
+        if (event.diff().hasBlockChanges()) {
+            indexes.remove(event.sessionId());
+        }
+    }
+
+    private Map<UUID, SessionSeatingMapDTO.Block> loadBlocks(UUID sessionId, List<BlockSpatialIndex.Bounds> hits) {
+        if (hits.isEmpty()) {
+            return Map.of();
+        }
+        String[] blockIds = hits.stream().map(bounds -> String.valueOf(bounds.block().getId())).toArray(String[]::new);
+        Map<UUID, SessionSeatingMapDTO.Block> blocks = new HashMap<>();
+        for (String json : seatingMapRepository.findBlocksBySessionIdAndBlockIds(sessionId, blockIds)) {
+            try {
+                SessionSeatingMapDTO.Block block = objectMapper.readValue(json, SessionSeatingMapDTO.Block.class);
+                blocks.put(block.getId(), block);
+            } catch (JsonProcessingException e) {
+                log.error("Error parsing seating map block for session ID: {}", sessionId, e);
+                throw new BadRequestException("Invalid seating map data format");
+            }
+        }
+        if (blocks.size() < blockIds.length) {
+            // The layout was replaced since the index was built; rebuild it on the next request
+            indexes.remove(sessionId);
+        }
+        return blocks;
+    }
+
+    /**
+     * Build a session's index ahead of its first viewport request, replacing any cached one.
+     *
+     * @return the number of blocks indexed
+     */
+    public int warm(UUID sessionId) {
+        return build(sessionId, System.currentTimeMillis()).size();
+    }
+
+    private BlockSpatialIndex indexFor(UUID sessionId) {
+        CachedIndex cached = indexes.get(sessionId);
+        long now = System.currentTimeMillis();
+        if (cached != null && now - cached.builtAt() < config.getViewportIndexTtlMs()) {
+            return cached.index();
+        }
+        return build(sessionId, now);
+    }
+
+    private BlockSpatialIndex build(UUID sessionId, long now) {
+        BlockSpatialIndex index = BlockSpatialIndex.build(
+                seatingMapRepository.findBlockBoundsBySessionId(sessionId), config.getSeatSpacing());
+        indexes.put(sessionId, new CachedIndex(index, now));
+        return index;
+    }
+}
@@ -1,6 +1,8 @@
 package com.ticketly.mseventseating.service.projection;
 
 import com.ticketly.mseventseating.dto.event.VenueDetailsDTO;
+import com.ticketly.mseventseating.dto.projection.CompactSeatingMapProjectionDTO;
+import com.ticketly.mseventseating.dto.projection.CompactSessionProjectionDTO;
 import com.ticketly.mseventseating.exception.ResourceNotFoundException;
 import com.ticketly.mseventseating.model.Event;
 import com.ticketly.mseventseating.model.EventSession;
@@ -13,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import model.EventStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
@@ -45,7 +48,36 @@ public class SessionProjectionService {
                 .build();
     }
 
+    public CompactSessionProjectionDTO projectCompactSession(EventSession session, Map<UUID, TierInfo> tierInfoMap) {
+        VenueDetailsDTO venueDetails = venueDetailsMapper.parseVenueDetails(session.getVenueDetails());
+        CompactSeatingMapProjectionDTO layoutData = seatingMapProjectionService.projectCompactSeatingMap(
+                session.getSessionSeatingMap().getLayoutData(), tierInfoMap
+        );
+        return CompactSessionProjectionDTO.builder()
+                .id(session.getId())
+                .startTime(session.getStartTime())
+                .endTime(session.getEndTime())
+                .sessionStatus(session.getStatus())
+                .sessionType(session.getSessionType())
+                .venueDetails(venueDetailsMapper.mapToVenueDetailsInfo(venueDetails))
+                .salesStartTime(session.getSalesStartTime())
+                .layoutData(layoutData)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
     public SessionProjectionDTO projectSession(UUID session) {
+        EventSession eventSession = findProjectableSession(session);
+        return projectSession(eventSession, buildTierInfoMap(eventSession.getEvent()));
+    }
+
+    @Transactional(readOnly = true)
+    public CompactSessionProjectionDTO projectCompactSession(UUID session) {
+        EventSession eventSession = findProjectableSession(session);
+        return projectCompactSession(eventSession, buildTierInfoMap(eventSession.getEvent()));
+    }
+
+    private EventSession findProjectableSession(UUID session) {
         EventSession eventSession = eventSessionRepository.findById(session)
                 .orElseThrow(() -> new ResourceNotFoundException("Session not found for projection: " + session));
         Event event = eventSession.getEvent();
@@ -60,13 +92,15 @@ public class SessionProjectionService {
             throw new ResourceNotFoundException("Event is not approved for session projection: " + event.getId());
         }
 
+        return eventSession;
+    }
+
+    private Map<UUID, TierInfo> buildTierInfoMap(Event event) {
         List<TierInfo> tierInfoList = event.getTiers().stream()
                 .map(this::mapToTierInfo)
                 .toList();
-        Map<UUID, TierInfo> tierInfoMap = tierInfoList.stream()
+        return tierInfoList.stream()
                 .collect(Collectors.toMap(TierInfo::getId, Function.identity()));
-
-        return projectSession(eventSession, tierInfoMap);
     }
 
     private TierInfo mapToTierInfo(Tier tier) {
@@ -0,0 +1,22 @@
+package com.ticketly.mseventseating.service.replica;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method whose read-only transactions must see writes already committed on the primary,
+ * such as a check made right after the caller created what it checks. Such transactions read from
+ * the primary instead of a replica.
+ * <p>
+ * Only affects transactions begun within the call, so it belongs on the method starting the
+ * transaction or one calling it, not on one joining a transaction already under way. Has no
+ * effect unless read replicas are enabled.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadYourWrites {
+}
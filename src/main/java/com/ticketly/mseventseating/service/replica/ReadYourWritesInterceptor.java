@@ -0,0 +1,21 @@
+package com.ticketly.mseventseating.service.replica;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Sends the read-only transactions of {@link ReadYourWrites} methods to the primary. Must run
+ * outside the transaction interceptor, before the transaction takes its connection.
+ */
+public class ReadYourWritesInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        boolean previous = ReplicaRoutingDataSource.requirePrimary(true);
+        try {
+            return invocation.proceed();
+        } finally {
+            ReplicaRoutingDataSource.requirePrimary(previous);
+        }
+    }
+}
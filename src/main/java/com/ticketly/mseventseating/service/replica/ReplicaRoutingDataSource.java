@@ -0,0 +1,240 @@
+package com.ticketly.mseventseating.service.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hands out connections for read-only transactions, taken in turn from the streaming replicas of
+ * the primary that are within the allowed lag, or from the primary when none is.
+ * <p>
+ * Replicas are only used once a lag check has found them in recovery and close enough to the
+ * primary; checks run on a fixed delay. A replica's lag is the age of its last replayed transaction
+ * while it is behind the primary's WAL position, and zero once it has caught up. After a long quiet
+ * spell on the primary, this overstates the lag until the next check, which only sends reads to
+ * the primary for a moment. A replica failing to hand out a connection is skipped until its next
+ * successful check.
+ * <p>
+ * Reads that must see the caller's own writes run on the primary through {@link ReadYourWrites}
+ * or {@link #onPrimary(Supplier)}. Reads are counted under {@code datasource.reads}, tagged with
+ * where they went and why; replica lag is recorded under {@code datasource.replica.lag}.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = ThreadLocal.withInitial(() -> false);
+
+    private static final String LAG_QUERY = """
+            SELECT pg_is_in_recovery(),
+                   pg_wal_lsn_diff(CAST(? AS pg_lsn), pg_last_wal_replay_lsn()),
+                   EXTRACT(EPOCH FROM clock_timestamp() - pg_last_xact_replay_timestamp()) * 1000
+            """;
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter toReplica;
+    private final Counter readYourWrites;
+    private final Counter lagging;
+    private final Counter replicaFailed;
+
+    /**
+     * @param primary  the primary's pool
+     * @param replicas the replicas' pools by name
+     * @param maxLag   how far behind the primary a replica may be to serve reads
+     */
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    Map<String, DataSource> replicas,
+                                    Duration maxLag,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.maxLag = maxLag;
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            this.replicas.add(replica);
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagMillis)
+                    .tag("replica", name)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        });
+        this.toReplica = counter("replica", "replica", meterRegistry);
+        this.readYourWrites = counter("primary", "read_your_writes", meterRegistry);
+        this.lagging = counter("primary", "lagging", meterRegistry);
+        this.replicaFailed = counter("primary", "replica_failed", meterRegistry);
+    }
+
+    private static Counter counter(String target, String reason, MeterRegistry meterRegistry) {
+        return Counter.builder("datasource.reads")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run a call whose read-only transactions must see writes already committed on the primary.
+     * Only affects transactions the call begins, not one it runs in.
+     */
+    public static <T> T onPrimary(Supplier<T> call) {
+        boolean previous = requirePrimary(true);
+        try {
+            return call.get();
+        } finally {
+            requirePrimary(previous);
+        }
+    }
+
+    /**
+     * Set whether read-only transactions begun on this thread go to the primary.
+     *
+     * @return the previous setting, to be restored afterwards
+     */
+    static boolean requirePrimary(boolean required) {
+        boolean previous = PRIMARY_REQUIRED.get();
+        if (required) {
+            PRIMARY_REQUIRED.set(true);
+        } else {
+            PRIMARY_REQUIRED.remove();
+        }
+        return previous;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (PRIMARY_REQUIRED.get()) {
+            readYourWrites.increment();
+            return fromPrimary(username, password);
+        }
+        Replica replica = pick();
+        if (replica == null) {
+            lagging.increment();
+            return fromPrimary(username, password);
+        }
+        try {
+            Connection connection = username != null
+                    ? replica.dataSource.getConnection(username, password)
+                    : replica.dataSource.getConnection();
+            toReplica.increment();
+            return connection;
+        } catch (SQLException e) {
+            log.warn("Replica {} failed to hand out a connection, reading from the primary until it is checked again",
+                    replica.name, e);
+            replica.healthy = false;
+            replicaFailed.increment();
+            return fromPrimary(username, password);
+        }
+    }
+
+    private Connection fromPrimary(String username, String password) throws SQLException {
+        Connection connection = username != null ? primary.getConnection(username, password) : primary.getConnection();
+        connection.setReadOnly(true);
+        return connection;
+    }
+
+    /**
+     * The next healthy replica in turn, or null if there is none.
+     */
+    private Replica pick() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Measure how far each replica is behind the primary, taking those within the allowed lag into
+     * use and the others out.
+     */
+    @Scheduled(fixedDelayString = "${app.read-replicas.lag-check-interval-ms:2000}")
+    public void checkLag() {
+        String primaryPosition;
+        try (Connection connection = primary.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT pg_current_wal_lsn()")) {
+            resultSet.next();
+            primaryPosition = resultSet.getString(1);
+        } catch (SQLException e) {
+            log.warn("Failed to read the primary's WAL position, reading from the primary until the next check", e);
+            replicas.forEach(replica -> replica.healthy = false);
+            return;
+        }
+        replicas.forEach(replica -> check(replica, primaryPosition));
+    }
+
+    private void check(Replica replica, String primaryPosition) {
+        Long lag = null;
+        try (Connection connection = replica.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(LAG_QUERY)) {
+            statement.setString(1, primaryPosition);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                if (!resultSet.getBoolean(1)) {
+                    log.warn("Replica {} is not in recovery, not reading from it", replica.name);
+                } else if (resultSet.getDouble(2) <= 0) {
+                    lag = 0L;
+                } else {
+                    double replayAge = resultSet.getDouble(3);
+                    // No transaction replayed yet while behind: the lag is unknown
+                    lag = resultSet.wasNull() ? null : Math.max(0, (long) replayAge);
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Failed to check the lag of replica {}", replica.name, e);
+        }
+
+        boolean healthy = lag != null && lag <= maxLag.toMillis();
+        if (healthy != replica.healthy) {
+            log.info("Replica {} {} reads (lag {} ms)", replica.name, healthy ? "now serves" : "no longer serves", lag);
+        }
+        replica.lagMillis = lag != null ? lag : -1;
+        replica.healthy = healthy;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        // Unknown until the first check
+        private volatile long lagMillis = -1;
+        private volatile boolean healthy;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
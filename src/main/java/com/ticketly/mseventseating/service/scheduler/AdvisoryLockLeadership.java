@@ -0,0 +1,130 @@
+package com.ticketly.mseventseating.service.scheduler;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Leadership held through a PostgreSQL session-level advisory lock.
+ * <p>
+ * The lock belongs to the connection that took it, so this keeps one connection out of the pool
+ * while leading. If the instance dies or the connection breaks, PostgreSQL releases the lock and
+ * another instance takes over on its next attempt; there is no lease to expire or renew.
+ */
+@Slf4j
+final class AdvisoryLockLeadership {
+
+    private final DataSource dataSource;
+    private final long lockKey;
+    private Connection connection;
+
+    AdvisoryLockLeadership(DataSource dataSource, long lockKey) {
+        // With read replicas, lock through the primary's pool itself so a broken connection can be evicted
+        this.dataSource = dataSource instanceof LazyConnectionDataSourceProxy proxy
+                ? proxy.getTargetDataSource()
+                : dataSource;
+        this.lockKey = lockKey;
+    }
+
+    /**
+     * Take the lock if no other instance holds it.
+     *
+     * @return whether this instance now leads
+     */
+    synchronized boolean tryAcquire() {
+        if (connection != null) {
+            return true;
+        }
+        Connection candidate = null;
+        try {
+            candidate = dataSource.getConnection();
+            candidate.setAutoCommit(true);
+            try (PreparedStatement statement = candidate.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+                statement.setLong(1, lockKey);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (resultSet.next() && resultSet.getBoolean(1)) {
+                        connection = candidate;
+                        return true;
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Failed to try the scheduler leadership lock", e);
+        }
+        closeQuietly(candidate);
+        return false;
+    }
+
+    /**
+     * Check that the connection holding the lock is still alive, giving leadership up if it is not.
+     *
+     * @return whether this instance still leads
+     */
+    synchronized boolean verify() {
+        if (connection == null) {
+            return false;
+        }
+        try {
+            if (connection.isValid(5)) {
+                return true;
+            }
+        } catch (SQLException e) {
+            log.warn("Failed to check the scheduler leadership connection", e);
+        }
+        log.warn("Lost the connection holding the scheduler leadership lock");
+        discard(connection);
+        connection = null;
+        return false;
+    }
+
+    synchronized boolean isLeader() {
+        return connection != null;
+    }
+
+    synchronized void release() {
+        if (connection == null) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            statement.setLong(1, lockKey);
+            statement.execute();
+        } catch (SQLException e) {
+            log.warn("Failed to release the scheduler leadership lock; it is released with the connection", e);
+        }
+        closeQuietly(connection);
+        connection = null;
+    }
+
+    /**
+     * Close a connection that may still hold the lock without returning it to the pool, where the
+     * next borrower would otherwise hold the lock without knowing.
+     */
+    private void discard(Connection connection) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                dataSource.unwrap(HikariDataSource.class).evictConnection(connection);
+                return;
+            }
+        } catch (SQLException e) {
+            log.debug("Failed to evict connection", e);
+        }
+        closeQuietly(connection);
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Failed to close connection", e);
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.ticketly.mseventseating.service.scheduler;
+
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.dto.session.SessionScheduleDTO;
+import com.ticketly.mseventseating.dto.session.SessionTransitionResponse;
+import com.ticketly.mseventseating.dto.session.SessionTransitionResult;
+import com.ticketly.mseventseating.repository.EventSessionRepository;
+import com.ticketly.mseventseating.service.event.EventLifecycleService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import model.EventStatus;
+import model.SessionStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Puts sessions on sale when their sales start and closes them when they end, in place of the
+ * external scheduler's per-session callbacks.
+ * <p>
+ * One instance leads, elected through a PostgreSQL advisory lock. The leader loads the transitions
+ * due within its horizon into an in-memory queue and sleeps until the earliest one is due. Sessions
+ * due at the same moment, such as a series whose sales open together, are then transitioned in a
+ * single batch. Writes to sessions on any instance are reported through {@link SessionScheduleNotifier},
+ * and the leader re-reads just those sessions. The queue is rebuilt from the table at each reload,
+ * which also covers a lost notification.
+ * <p>
+ * Every queue operation runs on one scheduler thread, so loading, incremental updates and firing
+ * never interleave and the queue needs no locking.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "app.lifecycle-scheduler.enabled", havingValue = "true")
+public class SessionLifecycleScheduler {
+
+    private static final List<SessionStatus> CLOSABLE_STATUSES =
+            List.of(SessionStatus.SCHEDULED, SessionStatus.ON_SALE, SessionStatus.SOLD_OUT);
+
+    private final EventSessionRepository eventSessionRepository;
+    private final EventLifecycleService eventLifecycleService;
+    private final AppLimitsConfig.LifecycleSchedulerConfig config;
+    private final AdvisoryLockLeadership leadership;
+    private final ScheduledExecutorService executor;
+    private final Clock clock;
+    private final TransitionQueue queue = new TransitionQueue();
+
+    // Only touched from the scheduler thread
+    private long loadedUntil;
+    private ScheduledFuture<?> armed;
+    private long armedAt;
+
+    public SessionLifecycleScheduler(EventSessionRepository eventSessionRepository,
+                                     EventLifecycleService eventLifecycleService,
+                                     DataSource dataSource,
+                                     AppLimitsConfig appLimitsConfig) {
+        this(eventSessionRepository, eventLifecycleService, appLimitsConfig.getLifecycleScheduler(),
+                new AdvisoryLockLeadership(dataSource, appLimitsConfig.getLifecycleScheduler().getLockKey()),
+                Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                        .name("session-lifecycle-scheduler").daemon().factory()),
+                Clock.systemUTC());
+    }
+
+    SessionLifecycleScheduler(EventSessionRepository eventSessionRepository,
+                              EventLifecycleService eventLifecycleService,
+                              AppLimitsConfig.LifecycleSchedulerConfig config,
+                              AdvisoryLockLeadership leadership,
+                              ScheduledExecutorService executor,
+                              Clock clock) {
+        this.eventSessionRepository = eventSessionRepository;
+        this.eventLifecycleService = eventLifecycleService;
+        this.config = config;
+        this.leadership = leadership;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::checkLeadership, 0,
+                config.getLeaderCheckInterval().toMillis(), TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::reload, config.getReloadInterval().toMillis(),
+                config.getReloadInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        leadership.release();
+    }
+
+    /**
+     * Handle a message from {@link SessionScheduleNotifier}: a comma-separated list of session IDs.
+     */
+    public void onSessionsChanged(String message) {
+        List<UUID> sessionIds = new ArrayList<>();
+        for (String id : message.split(",")) {
+            try {
+                sessionIds.add(UUID.fromString(id.trim()));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring invalid session ID '{}' in schedule change", id);
+            }
+        }
+        if (!sessionIds.isEmpty()) {
+            executor.execute(() -> refresh(sessionIds));
+        }
+    }
+
+    void checkLeadership() {
+        if (leadership.isLeader()) {
+            if (!leadership.verify()) {
+                log.warn("Gave up session lifecycle scheduler leadership with {} transitions queued", queue.size());
+                queue.clear();
+                disarm();
+                loadedUntil = 0;
+            }
+            return;
+        }
+        if (leadership.tryAcquire()) {
+            log.info("Took session lifecycle scheduler leadership");
+            reload();
+        }
+    }
+
+    /**
+     * Rebuild the queue from the sessions whose sales start or end falls between the catch-up
+     * window and the horizon.
+     */
+    void reload() {
+        if (!leadership.isLeader()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        OffsetDateTime from = now.minus(config.getCatchUp());
+        OffsetDateTime until = now.plus(config.getHorizon());
+        try {
+            List<SessionScheduleDTO> schedules = new ArrayList<>(eventSessionRepository.findSchedulesBySalesStartBetween(
+                    SessionStatus.SCHEDULED, EventStatus.APPROVED, from, until, now));
+            schedules.addAll(eventSessionRepository.findSchedulesByEndBetween(
+                    CLOSABLE_STATUSES, EventStatus.APPROVED, from, until));
+
+            long untilMillis = until.toInstant().toEpochMilli();
+            queue.clear();
+            for (SessionScheduleDTO schedule : schedules) {
+                for (TransitionQueue.Transition transition : transitionsOf(schedule, now)) {
+                    if (transition.dueAt() < untilMillis) {
+                        queue.add(transition);
+                    }
+                }
+            }
+            loadedUntil = untilMillis;
+            log.info("Loaded {} session transitions due before {}", queue.size(), until);
+            rearm();
+        } catch (RuntimeException e) {
+            log.error("Failed to load session transitions; keeping the {} already queued", queue.size(), e);
+        }
+    }
+
+    /**
+     * Replace the queued transitions of the given sessions with their current ones.
+     */
+    void refresh(List<UUID> sessionIds) {
+        if (!leadership.isLeader()) {
+            return;
+        }
+        try {
+            OffsetDateTime now = OffsetDateTime.now(clock);
+            Map<UUID, SessionScheduleDTO> schedules = new HashMap<>();
+            for (SessionScheduleDTO schedule : eventSessionRepository.findSchedulesByIdIn(sessionIds)) {
+                schedules.put(schedule.sessionId(), schedule);
+            }
+            for (UUID sessionId : sessionIds) {
+                SessionScheduleDTO schedule = schedules.get(sessionId);
+                List<TransitionQueue.Transition> transitions = schedule == null ? List.of()
+                        : transitionsOf(schedule, now).stream().filter(t -> t.dueAt() < loadedUntil).toList();
+                queue.replace(sessionId, transitions);
+            }
+            log.debug("Refreshed the schedule of {} sessions", sessionIds.size());
+            rearm();
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh the schedule of sessions {}; the next reload picks them up", sessionIds, e);
+        }
+    }
+
+    /**
+     * Transition every session that is due, on-sale transitions first so that a session whose sales
+     * start and end were both missed ends up closed.
+     */
+    void fireDue() {
+        armed = null;
+        if (!leadership.isLeader()) {
+            return;
+        }
+        long now = clock.millis();
+        List<TransitionQueue.Transition> due = queue.pollDue(now);
+        if (!due.isEmpty()) {
+            log.debug("Firing {} session transitions, {} ms after the earliest was due", due.size(), now - due.get(0).dueAt());
+        }
+        for (SessionStatus target : List.of(SessionStatus.ON_SALE, SessionStatus.CLOSED)) {
+            List<UUID> sessionIds = due.stream()
+                    .filter(transition -> transition.target() == target)
+                    .map(TransitionQueue.Transition::sessionId)
+                    .toList();
+            for (int i = 0; i < sessionIds.size(); i += config.getBatchSize()) {
+                fire(sessionIds.subList(i, Math.min(i + config.getBatchSize(), sessionIds.size())), target);
+            }
+        }
+        rearm();
+    }
+
+    private void fire(List<UUID> sessionIds, SessionStatus target) {
+        try {
+            SessionTransitionResponse response = eventLifecycleService.transitionSessions(sessionIds, target);
+            long transitioned = response.getResults().values().stream()
+                    .filter(result -> result.getOutcome() == SessionTransitionResult.Outcome.TRANSITIONED)
+                    .count();
+            log.info("Transitioned {} of {} due sessions to {}", transitioned, sessionIds.size(), target);
+        } catch (RuntimeException e) {
+            long retryAt = clock.millis() + config.getRetryDelay().toMillis();
+            log.error("Failed to transition {} sessions to {}; retrying at {}",
+                    sessionIds.size(), target, Instant.ofEpochMilli(retryAt), e);
+            sessionIds.forEach(sessionId -> queue.add(new TransitionQueue.Transition(sessionId, target, retryAt)));
+        }
+    }
+
+    /**
+     * Wake up when the earliest queued transition is due, unless already set to.
+     */
+    private void rearm() {
+        Long next = queue.nextDueAt();
+        if (next == null) {
+            disarm();
+            return;
+        }
+        if (armed != null && armedAt == next) {
+            return;
+        }
+        disarm();
+        armedAt = next;
+        armed = executor.schedule(this::fireDue, Math.max(0, next - clock.millis()), TimeUnit.MILLISECONDS);
+    }
+
+    private void disarm() {
+        if (armed != null) {
+            armed.cancel(false);
+            armed = null;
+        }
+    }
+
+    /**
+     * The transitions a session is waiting for: going on sale if it is scheduled and hasn't
+     * started, and closing when it ends if it is still open. Sessions of events that aren't
+     * approved wait for approval, which writes them again.
+     */
+    static List<TransitionQueue.Transition> transitionsOf(SessionScheduleDTO schedule, OffsetDateTime now) {
+        if (schedule.eventStatus() != EventStatus.APPROVED) {
+            return List.of();
+        }
+        List<TransitionQueue.Transition> transitions = new ArrayList<>(2);
+        if (schedule.status() == SessionStatus.SCHEDULED && schedule.salesStartTime() != null
+                && schedule.startTime().isAfter(now)) {
+            transitions.add(new TransitionQueue.Transition(schedule.sessionId(), SessionStatus.ON_SALE,
+                    schedule.salesStartTime().toInstant().toEpochMilli()));
+        }
+        if (CLOSABLE_STATUSES.contains(schedule.status()) && schedule.endTime() != null) {
+            transitions.add(new TransitionQueue.Transition(schedule.sessionId(), SessionStatus.CLOSED,
+                    schedule.endTime().toInstant().toEpochMilli()));
+        }
+        return transitions;
+    }
+}
@@ -0,0 +1,29 @@
+package com.ticketly.mseventseating.service.scheduler;
+
+import com.ticketly.mseventseating.model.EventSession;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Entity callback that reports session writes to the lifecycle scheduler, when it is enabled.
+ * <p>
+ * Instantiated by Hibernate through Spring's bean container, like
+ * {@link com.ticketly.mseventseating.service.projection.ProjectionVersionListener}.
+ */
+public class SessionScheduleListener {
+
+    private final ObjectProvider<SessionScheduleNotifier> notifier;
+
+    public SessionScheduleListener(ObjectProvider<SessionScheduleNotifier> notifier) {
+        this.notifier = notifier;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(EventSession session) {
+        notifier.ifAvailable(service -> service.markChanged(session.getId()));
+    }
+}
@@ -0,0 +1,77 @@
+package com.ticketly.mseventseating.service.scheduler;
+
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Tells the lifecycle scheduler, on whichever instance leads, which sessions were written.
+ * <p>
+ * The sessions written in a transaction are published once after it commits, as one message on a
+ * shared Redis channel. The leader re-reads just those sessions, so creating, rescheduling or
+ * cancelling sessions updates its queue without it polling the table.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "app.lifecycle-scheduler.enabled", havingValue = "true")
+public class SessionScheduleNotifier {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+
+    public SessionScheduleNotifier(StringRedisTemplate redisTemplate, AppLimitsConfig appLimitsConfig) {
+        this.redisTemplate = redisTemplate;
+        this.channel = appLimitsConfig.getLifecycleScheduler().getChannel();
+    }
+
+    /**
+     * Record that a session was written. Inside a transaction, sessions are collected and published
+     * once after commit; outside of one they are published immediately.
+     */
+    public void markChanged(UUID sessionId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(Set.of(sessionId));
+            return;
+        }
+        PendingSessions pending = (PendingSessions) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingSessions();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.sessionIds.add(sessionId);
+    }
+
+    private void publish(Set<UUID> sessionIds) {
+        try {
+            redisTemplate.convertAndSend(channel, sessionIds.stream().map(UUID::toString).collect(Collectors.joining(",")));
+        } catch (DataAccessException e) {
+            // The leader's next reload picks the change up
+            log.error("Failed to publish schedule changes for sessions {}", sessionIds, e);
+        }
+    }
+
+    private final class PendingSessions implements TransactionSynchronization {
+        private final Set<UUID> sessionIds = new LinkedHashSet<>();
+
+        @Override
+        public void afterCommit() {
+            publish(sessionIds);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(SessionScheduleNotifier.this);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.ticketly.mseventseating.service.scheduler;
+
+import model.SessionStatus;
+
+import java.util.*;
+
+/**
+ * Pending session transitions ordered by due time, with each session's entries indexed so that a
+ * rescheduled or cancelled session is replaced in O(log n) without scanning the queue.
+ * <p>
+ * Not thread-safe: {@link SessionLifecycleScheduler} only touches it from its scheduler thread.
+ */
+final class TransitionQueue {
+
+    /**
+     * Move a session to {@code target} at {@code dueAt} (epoch milliseconds).
+     */
+    record Transition(UUID sessionId, SessionStatus target, long dueAt) {
+    }
+
+    private static final Comparator<Transition> ORDER = Comparator.comparingLong(Transition::dueAt)
+            .thenComparing(Transition::sessionId)
+            .thenComparing(Transition::target);
+
+    private final NavigableSet<Transition> queue = new TreeSet<>(ORDER);
+    private final Map<UUID, List<Transition>> bySession = new HashMap<>();
+
+    /**
+     * Replace whatever is queued for a session with the given transitions, which may be none.
+     */
+    void replace(UUID sessionId, List<Transition> transitions) {
+        remove(sessionId);
+        if (!transitions.isEmpty()) {
+            queue.addAll(transitions);
+            bySession.put(sessionId, new ArrayList<>(transitions));
+        }
+    }
+
+    /**
+     * Queue a transition in addition to whatever is queued for its session.
+     */
+    void add(Transition transition) {
+        if (queue.add(transition)) {
+            bySession.computeIfAbsent(transition.sessionId(), id -> new ArrayList<>(2)).add(transition);
+        }
+    }
+
+    void remove(UUID sessionId) {
+        List<Transition> previous = bySession.remove(sessionId);
+        if (previous != null) {
+            previous.forEach(queue::remove);
+        }
+    }
+
+    /**
+     * Take every transition due at or before {@code now}, earliest first.
+     */
+    List<Transition> pollDue(long now) {
+        List<Transition> due = new ArrayList<>();
+        while (!queue.isEmpty() && queue.first().dueAt() <= now) {
+            Transition transition = queue.pollFirst();
+            due.add(transition);
+            List<Transition> remaining = bySession.get(transition.sessionId());
+            remaining.remove(transition);
+            if (remaining.isEmpty()) {
+                bySession.remove(transition.sessionId());
+            }
+        }
+        return due;
+    }
+
+    /**
+     * @return when the earliest transition is due, or null when none is queued
+     */
+    Long nextDueAt() {
+        return queue.isEmpty() ? null : queue.first().dueAt();
+    }
+
+    int size() {
+        return queue.size();
+    }
+
+    void clear() {
+        queue.clear();
+        bySession.clear();
+    }
+}
@@ -0,0 +1,150 @@
+package com.ticketly.mseventseating.service.seat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.dto.session.BestAvailableSeatsDTO;
+import com.ticketly.mseventseating.dto.session.SessionEventStatus;
+import com.ticketly.mseventseating.exception.BadRequestException;
+import com.ticketly.mseventseating.exception.ResourceNotFoundException;
+import com.ticketly.mseventseating.repository.EventSessionRepository;
+import com.ticketly.mseventseating.repository.SessionSeatingMapRepository;
+import dto.SessionSeatingMapDTO;
+import lombok.extern.slf4j.Slf4j;
+import model.SeatStatus;
+import model.SessionStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * Finds the best contiguous available seats in a tier of a session.
+ * <p>
+ * Queries run against a {@link SeatOccupancyIndex} kept per session in a small LRU cache. Bookings
+ * committed on this instance are applied to the cached index directly; bookings on other instances
+ * are picked up when the index is rebuilt after its TTL. Suggestions are advisory: the order flow
+ * still validates the seats, so a stale suggestion costs a retry, never a double booking.
+ */
+@Service
+@Slf4j
+public class BestAvailableSeatService {
+
+    private final EventSessionRepository eventSessionRepository;
+    private final SessionSeatingMapRepository seatingMapRepository;
+    private final ObjectMapper objectMapper;
+    private final AppLimitsConfig.BestAvailableConfig config;
+    private final double seatSpacing;
+    private final Map<UUID, CachedIndex> indexes;
+
+    private record CachedIndex(SeatOccupancyIndex index, long builtAt) {
+    }
+
+    public BestAvailableSeatService(EventSessionRepository eventSessionRepository,
+                                    SessionSeatingMapRepository seatingMapRepository,
+                                    ObjectMapper objectMapper,
+                                    AppLimitsConfig appLimitsConfig) {
+        this.eventSessionRepository = eventSessionRepository;
+        this.seatingMapRepository = seatingMapRepository;
+        this.objectMapper = objectMapper;
+        this.config = appLimitsConfig.getBestAvailable();
+        this.seatSpacing = appLimitsConfig.getSeatingMap().getSeatSpacing();
+        int maxEntries = config.getMaxCachedSessions();
+        this.indexes = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CachedIndex> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Find {@code quantity} adjacent available seats in one row of the given tier, closest to the
+     * focal point (layout coordinates), or to the front centre of the seating when none is given.
+     */
+    public BestAvailableSeatsDTO findBestAvailable(UUID sessionId, UUID tierId, int quantity, Double focalX, Double focalY) {
+        if (quantity < 1 || quantity > config.getMaxQuantity()) {
+            throw new BadRequestException("Quantity must be between 1 and " + config.getMaxQuantity() + ".");
+        }
+
+        SeatOccupancyIndex.Selection selection = indexFor(sessionId)
+                .findBest(tierId, quantity, focalX, focalY)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "No " + quantity + " adjacent seats available in tier " + tierId + " for session " + sessionId));
+
+        List<BestAvailableSeatsDTO.SeatRef> seats = new ArrayList<>(quantity);
+        for (int i = 0; i < selection.seatIds().size(); i++) {
+            seats.add(new BestAvailableSeatsDTO.SeatRef(selection.seatIds().get(i), selection.seatLabels().get(i)));
+        }
+        return BestAvailableSeatsDTO.builder()
+                .sessionId(sessionId)
+                .tierId(tierId)
+                .blockId(selection.blockId())
+                .blockName(selection.blockName())
+                .rowId(selection.rowId())
+                .rowLabel(selection.rowLabel())
+                .seats(seats)
+                .score(selection.score())
+                .build();
+    }
+
+    /**
+     * Take seats out of the cached index once their status change has committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        if (event.status() == SeatStatus.AVAILABLE) {
+            // Seats coming back are rare; rebuilding on the next query is simpler than re-adding them
+            indexes.remove(event.sessionId());
+            return;
+        }
+        CachedIndex cached = indexes.get(event.sessionId());
+        if (cached != null) {
+            cached.index().markUnavailable(event.seatIds());
+        }
+    }
+
+    /**
+     * Build a session's index ahead of its first query, replacing any cached one.
+     *
+     * @return the number of seats indexed
+     * @throws BadRequestException if the session is not on sale
+     */
+    public int warm(UUID sessionId) {
+        return build(sessionId, System.currentTimeMillis()).seatCount();
+    }
+
+    private SeatOccupancyIndex indexFor(UUID sessionId) {
+        CachedIndex cached = indexes.get(sessionId);
+        long now = System.currentTimeMillis();
+        if (cached != null && now - cached.builtAt() < config.getIndexTtlMs()) {
+            return cached.index();
+        }
+        return build(sessionId, now);
+    }
+
+    private SeatOccupancyIndex build(UUID sessionId, long now) {
+        SessionEventStatus session = eventSessionRepository.findEventStatusById(sessionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Session not found: " + sessionId));
+        if (session.status() != SessionStatus.ON_SALE) {
+            indexes.remove(sessionId);
+            throw new BadRequestException("Session is not on sale: " + sessionId);
+        }
+        String layoutData = seatingMapRepository.findLayoutDataBySessionId(sessionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Seating map not found for session: " + sessionId));
+
+        SeatOccupancyIndex index;
+        try {
+            index = SeatOccupancyIndex.build(objectMapper.readValue(layoutData, SessionSeatingMapDTO.class),
+                    seatSpacing);
+        } catch (JsonProcessingException e) {
+            log.error("Error parsing seating map data for session ID: {}", sessionId, e);
+            throw new BadRequestException("Invalid seating map data format");
+        }
+        log.debug("Built seat occupancy index for session {} with {} seats in {} ms",
+                sessionId, index.seatCount(), System.currentTimeMillis() - now);
+        indexes.put(sessionId, new CachedIndex(index, now));
+        return index;
+    }
+}
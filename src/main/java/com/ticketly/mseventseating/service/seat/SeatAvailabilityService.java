@@ -0,0 +1,192 @@
+package com.ticketly.mseventseating.service.seat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.dto.session.SessionAvailabilityDTO;
+import com.ticketly.mseventseating.dto.session.TierAvailabilityDTO;
+import com.ticketly.mseventseating.dto.session.TierSeatCount;
+import com.ticketly.mseventseating.exception.BadRequestException;
+import com.ticketly.mseventseating.model.EventSession;
+import com.ticketly.mseventseating.model.SessionSeatingMap;
+import com.ticketly.mseventseating.model.SessionTierAvailability;
+import com.ticketly.mseventseating.model.SessionTierAvailabilityId;
+import com.ticketly.mseventseating.repository.SessionTierAvailabilityRepository;
+import com.ticketly.mseventseating.service.seating_layout.SeatingLayoutDiff;
+import dto.SessionSeatingMapDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import model.SeatStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Maintains the per-session, per-tier capacity and availability counters.
+ * <p>
+ * Counters are seeded from a session's prepared layout when it is created, moved by the difference
+ * when its layout is replaced, and decremented by the booking path in the same transaction that updates the seat statuses.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeatAvailabilityService {
+
+    static final int MAX_SESSIONS_PER_REQUEST = 100;
+
+    private final SessionTierAvailabilityRepository availabilityRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Seed the counters of newly persisted sessions from their prepared layouts.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void seedForSessions(Collection<EventSession> sessions) {
+        if (sessions == null) {
+            return;
+        }
+        List<SessionTierAvailability> counters = new ArrayList<>();
+        for (EventSession session : sessions) {
+            counters.addAll(buildCounters(session));
+        }
+        availabilityRepository.saveAll(counters);
+    }
+
+    /**
+     * Move the counters of a session whose layout was changed by the seats the change added,
+     * removed or changed, rather than reseeding them from the whole layout.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyLayoutDiff(UUID sessionId, SeatingLayoutDiff diff) {
+        if (diff.tierDeltas().isEmpty()) {
+            return;
+        }
+        diff.tierDeltas().forEach((tierId, delta) ->
+                availabilityRepository.adjustCounters(sessionId, tierId, delta.capacity(), delta.available()));
+        availabilityRepository.deleteEmptyBySessionId(sessionId);
+    }
+
+    /**
+     * Lock the session's seating map and count, per tier, how many of the given seats are still
+     * AVAILABLE. Must be called before the seat statuses are updated so that only seats that
+     * actually change status are taken from the counters (e.g. on redelivered booking events).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<UUID, Long> lockAndCountAvailableSeats(UUID sessionId, UUID[] seatIds) {
+        Map<UUID, Long> result = new HashMap<>();
+        for (TierSeatCount count : availabilityRepository.countAvailableSeatsByTier(sessionId, seatIds)) {
+            result.put(count.getTierId(), count.getSeatCount());
+        }
+        return result;
+    }
+
+    /**
+     * Take booked seats from the counters.
+     *
+     * @return the seats still available across all tiers, or null if the session has no counters
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Long recordBooked(UUID sessionId, Map<UUID, Long> seatsByTier) {
+        seatsByTier.forEach((tierId, seats) -> {
+            if (availabilityRepository.decrementAvailable(sessionId, tierId, seats) == 0) {
+                log.warn("No availability counter for tier {} of session {}", tierId, sessionId);
+            }
+        });
+        return availabilityRepository.sumAvailableForSession(sessionId);
+    }
+
+    /**
+     * Availability for several sessions at once, in the order requested. Sessions without
+     * counters are returned with zero capacity and no tiers.
+     */
+    @Transactional(readOnly = true)
+    public List<SessionAvailabilityDTO> getAvailability(List<UUID> sessionIds) {
+        if (sessionIds == null || sessionIds.isEmpty()) {
+            return List.of();
+        }
+        Set<UUID> distinctIds = new LinkedHashSet<>(sessionIds);
+        if (distinctIds.size() > MAX_SESSIONS_PER_REQUEST) {
+            throw new BadRequestException("Cannot request availability for more than "
+                    + MAX_SESSIONS_PER_REQUEST + " sessions at once.");
+        }
+
+        Map<UUID, List<TierAvailabilityDTO>> tiersBySession = new HashMap<>();
+        for (SessionTierAvailability counter : availabilityRepository.findAllByIdSessionIdIn(distinctIds)) {
+            tiersBySession.computeIfAbsent(counter.getId().getSessionId(), id -> new ArrayList<>())
+                    .add(new TierAvailabilityDTO(counter.getId().getTierId(), counter.getCapacity(), counter.getAvailable()));
+        }
+
+        List<SessionAvailabilityDTO> result = new ArrayList<>(distinctIds.size());
+        for (UUID sessionId : distinctIds) {
+            List<TierAvailabilityDTO> tiers = tiersBySession.getOrDefault(sessionId, List.of());
+            result.add(SessionAvailabilityDTO.builder()
+                    .sessionId(sessionId)
+                    .capacity(tiers.stream().mapToInt(TierAvailabilityDTO::getCapacity).sum())
+                    .available(tiers.stream().mapToInt(TierAvailabilityDTO::getAvailable).sum())
+                    .tiers(tiers)
+                    .build());
+        }
+        return result;
+    }
+
+    private List<SessionTierAvailability> buildCounters(EventSession session) {
+        SessionSeatingMap seatingMap = session.getSessionSeatingMap();
+        if (seatingMap == null || seatingMap.getLayoutData() == null) {
+            return List.of();
+        }
+        SessionSeatingMapDTO layout;
+        try {
+            layout = objectMapper.readValue(seatingMap.getLayoutData(), SessionSeatingMapDTO.class);
+        } catch (IOException e) {
+            log.error("Failed to parse layout of session {} for availability counters", session.getId(), e);
+            throw new BadRequestException("Invalid session layout data: " + e.getMessage());
+        }
+
+        List<SessionTierAvailability> counters = new ArrayList<>();
+        tally(layout).forEach((tierId, counts) -> counters.add(SessionTierAvailability.builder()
+                .id(new SessionTierAvailabilityId(session.getId(), tierId))
+                .capacity(counts[0])
+                .available(counts[1])
+                .build()));
+        return counters;
+    }
+
+    /**
+     * Count sellable (non-RESERVED) and AVAILABLE seats per tier in a prepared layout.
+     *
+     * @return {capacity, available} keyed by tier ID
+     */
+    static Map<UUID, int[]> tally(SessionSeatingMapDTO layout) {
+        Map<UUID, int[]> counts = new LinkedHashMap<>();
+        if (layout == null || layout.getLayout() == null || layout.getLayout().getBlocks() == null) {
+            return counts;
+        }
+        for (SessionSeatingMapDTO.Block block : layout.getLayout().getBlocks()) {
+            if (block.getSeats() != null) {
+                tallySeats(block.getSeats(), counts);
+            }
+            if (block.getRows() != null) {
+                for (SessionSeatingMapDTO.Row row : block.getRows()) {
+                    if (row.getSeats() != null) {
+                        tallySeats(row.getSeats(), counts);
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static void tallySeats(List<SessionSeatingMapDTO.Seat> seats, Map<UUID, int[]> counts) {
+        for (SessionSeatingMapDTO.Seat seat : seats) {
+            if (seat.getTierId() == null || seat.getStatus() == SeatStatus.RESERVED) {
+                continue;
+            }
+            int[] tierCounts = counts.computeIfAbsent(seat.getTierId(), id -> new int[2]);
+            tierCounts[0]++;
+            if (seat.getStatus() == SeatStatus.AVAILABLE) {
+                tierCounts[1]++;
+            }
+        }
+    }
+}
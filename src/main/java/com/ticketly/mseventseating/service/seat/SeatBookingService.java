@@ -1,13 +1,19 @@
 package com.ticketly.mseventseating.service.seat;
 
 import com.ticketly.mseventseating.dto.event.SeatStatusChangeEventDto;
+import com.ticketly.mseventseating.model.EventSession;
+import com.ticketly.mseventseating.repository.EventSessionRepository;
 import com.ticketly.mseventseating.repository.SessionSeatingMapRepository;
+import com.ticketly.mseventseating.service.session.SessionStatusCounterService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import model.SeatStatus; // Assuming your enum is in this package
+import model.SessionStatus;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -16,11 +22,19 @@ import java.util.UUID;
 public class SeatBookingService {
 
     private final SessionSeatingMapRepository seatingMapRepository;
+    private final EventSessionRepository eventSessionRepository;
+    private final SeatAvailabilityService seatAvailabilityService;
+    private final SessionStatusCounterService sessionStatusCounterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Processes the seat booking event by updating the status of the specified seats
      * to BOOKED within the session's seating map.
      * <p>
+     * The per-tier availability counters are decremented by the number of seats that were
+     * actually AVAILABLE before the update, and an ON_SALE session whose last seat was taken
+     * transitions to SOLD_OUT. Live seating map subscribers are notified once the transaction commits.
+     * <p>
      * This operation is transactional. If the database update fails, the transaction
      * will be rolled back.
      *
@@ -37,6 +51,10 @@ public class SeatBookingService {
 
         UUID[] seatIdsArray = event.seat_ids().toArray(new UUID[0]);
 
+        // Locks the seating map row, so the count and the update below see the same seat statuses
+        Map<UUID, Long> newlyBookedByTier = seatAvailabilityService.lockAndCountAvailableSeats(
+                event.session_id(), seatIdsArray);
+
         seatingMapRepository.updateSeatStatusesInLayout(
                 event.session_id(),
                 seatIdsArray, // Pass the new array
@@ -44,5 +62,29 @@ public class SeatBookingService {
         );
 
         log.info("Successfully updated seat statuses to BOOKED for session {}", event.session_id());
+        eventPublisher.publishEvent(new SeatStatusChangedEvent(event.session_id(), event.seat_ids(), SeatStatus.BOOKED));
+
+        if (newlyBookedByTier.isEmpty()) {
+            log.debug("No seats changed from AVAILABLE in session {}, availability unchanged", event.session_id());
+            return;
+        }
+
+        Long remaining = seatAvailabilityService.recordBooked(event.session_id(), newlyBookedByTier);
+        if (remaining != null && remaining == 0) {
+            markSoldOut(event.session_id());
+        }
+    }
+
+    private void markSoldOut(UUID sessionId) {
+        eventSessionRepository.findById(sessionId)
+                .filter(session -> session.getStatus() == SessionStatus.ON_SALE)
+                .ifPresent(this::transitionToSoldOut);
+    }
+
+    private void transitionToSoldOut(EventSession session) {
+        session.setStatus(SessionStatus.SOLD_OUT);
+        eventSessionRepository.save(session);
+        sessionStatusCounterService.recordTransition(session, SessionStatus.ON_SALE);
+        log.info("Session {} has no seats left and is now SOLD_OUT", session.getId());
     }
-}
\ No newline at end of file
+}
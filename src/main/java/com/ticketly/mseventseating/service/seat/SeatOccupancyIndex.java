@@ -0,0 +1,246 @@
+package com.ticketly.mseventseating.service.seat;
+
+import com.ticketly.mseventseating.service.seating_layout.SeatGridCodec;
+import dto.SessionSeatingMapDTO;
+import model.SeatStatus;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Precomputed row occupancy for the seated grid blocks of one session layout.
+ * <p>
+ * Each row keeps its seats in order with a tier code, an x coordinate and an availability bit, so a
+ * best-available query is a scan over contiguous runs rather than a walk of the layout JSON. Rows are
+ * visited in order of their distance from the focal point, and the scan stops as soon as no remaining
+ * row can beat the best window found, which keeps queries on 50k-seat layouts in the microseconds.
+ * <p>
+ * Seats have no coordinates of their own in the layout, so they are placed on a regular grid of the
+ * given spacing from their block's position, in the column their ID was derived from. Gaps in a grid
+ * are left out of its rows, so seats on either side of one are not contiguous.
+ */
+final class SeatOccupancyIndex {
+
+    private final Map<UUID, Integer> tierCodes;
+    private final Row[] rows;
+    private final Map<UUID, Long> seatLocations;
+    private final double defaultFocalX;
+    private final double defaultFocalY;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private SeatOccupancyIndex(Map<UUID, Integer> tierCodes, Row[] rows, Map<UUID, Long> seatLocations,
+                               double defaultFocalX, double defaultFocalY) {
+        this.tierCodes = tierCodes;
+        this.rows = rows;
+        this.seatLocations = seatLocations;
+        this.defaultFocalX = defaultFocalX;
+        this.defaultFocalY = defaultFocalY;
+    }
+
+    /**
+     * A run of contiguous seats in one row, with its distance from the focal point.
+     */
+    record Selection(UUID blockId, String blockName, UUID rowId, String rowLabel,
+                     List<UUID> seatIds, List<String> seatLabels, double score) {
+    }
+
+    static SeatOccupancyIndex build(SessionSeatingMapDTO layout, double seatSpacing) {
+        Map<UUID, Integer> tierCodes = new HashMap<>();
+        List<Row> rows = new ArrayList<>();
+        Map<UUID, Long> seatLocations = new HashMap<>();
+        double minX = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE;
+        double minY = Double.MAX_VALUE;
+
+        List<SessionSeatingMapDTO.Block> blocks = layout != null && layout.getLayout() != null
+                && layout.getLayout().getBlocks() != null ? layout.getLayout().getBlocks() : List.of();
+        for (SessionSeatingMapDTO.Block block : blocks) {
+            if (!SeatGridCodec.SEATED_GRID.equals(block.getType()) || block.getRows() == null) {
+                continue;
+            }
+            double blockX = block.getPosition() != null && block.getPosition().getX() != null ? block.getPosition().getX() : 0;
+            double blockY = block.getPosition() != null && block.getPosition().getY() != null ? block.getPosition().getY() : 0;
+
+            for (int r = 0; r < block.getRows().size(); r++) {
+                SessionSeatingMapDTO.Row sourceRow = block.getRows().get(r);
+                List<SessionSeatingMapDTO.Seat> seats = sourceRow.getSeats() != null ? sourceRow.getSeats() : List.of();
+                Row row = new Row(block.getId(), block.getName(), sourceRow.getId(), sourceRow.getLabel(),
+                        seats.size(), blockY + (r + 0.5) * seatSpacing);
+
+                int column = -1;
+                for (int s = 0; s < seats.size(); s++) {
+                    SessionSeatingMapDTO.Seat seat = seats.get(s);
+                    column = SeatGridCodec.column(block.getId(), r, seat.getId(), column);
+                    row.seatIds[s] = seat.getId();
+                    row.labels[s] = seat.getLabel();
+                    row.columns[s] = column;
+                    row.x[s] = blockX + (column + 0.5) * seatSpacing;
+                    row.tiers[s] = seat.getTierId() == null ? -1
+                            : tierCodes.computeIfAbsent(seat.getTierId(), id -> tierCodes.size());
+                    if (seat.getStatus() == SeatStatus.AVAILABLE && row.tiers[s] >= 0) {
+                        row.available.set(s);
+                    }
+                    if (seat.getId() != null) {
+                        seatLocations.put(seat.getId(), ((long) rows.size() << 32) | s);
+                    }
+                }
+                if (seats.isEmpty()) {
+                    continue;
+                }
+                rows.add(row);
+                minX = Math.min(minX, row.x[0]);
+                maxX = Math.max(maxX, row.x[seats.size() - 1]);
+                minY = Math.min(minY, row.y);
+            }
+        }
+
+        // Counted once every tier has its code, so all rows share the same count layout
+        rows.forEach(row -> row.countAvailable(tierCodes.size()));
+
+        // Without a stage position in the layout, the front centre of the seating is the best view
+        double focalX = rows.isEmpty() ? 0 : (minX + maxX) / 2;
+        double focalY = rows.isEmpty() ? 0 : minY;
+        return new SeatOccupancyIndex(tierCodes, rows.toArray(new Row[0]), seatLocations, focalX, focalY);
+    }
+
+    /**
+     * Find the {@code quantity} contiguous available seats of a tier whose centre is closest to the
+     * focal point, or the front centre of the seating when no focal point is given.
+     */
+    Optional<Selection> findBest(UUID tierId, int quantity, Double focalX, Double focalY) {
+        Integer tier = tierCodes.get(tierId);
+        if (tier == null || quantity <= 0) {
+            return Optional.empty();
+        }
+        double fx = focalX != null ? focalX : defaultFocalX;
+        double fy = focalY != null ? focalY : defaultFocalY;
+
+        lock.readLock().lock();
+        try {
+            Integer[] order = new Integer[rows.length];
+            double[] bounds = new double[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                order[i] = i;
+                bounds[i] = rows[i].lowerBound(fx, fy);
+            }
+            Arrays.sort(order, Comparator.comparingDouble(i -> bounds[i]));
+
+            Row bestRow = null;
+            int bestStart = -1;
+            double bestScore = Double.MAX_VALUE;
+            for (int i : order) {
+                if (bounds[i] >= bestScore) {
+                    break;
+                }
+                Row row = rows[i];
+                if (row.availableCount[tier] < quantity) {
+                    continue;
+                }
+                int run = 0;
+                for (int s = 0; s < row.seatIds.length; s++) {
+                    if (!row.available.get(s) || row.tiers[s] != tier) {
+                        run = 0;
+                        continue;
+                    }
+                    run = run > 0 && row.columns[s] == row.columns[s - 1] + 1 ? run + 1 : 1;
+                    if (run >= quantity) {
+                        int start = s - quantity + 1;
+                        double score = Math.hypot((row.x[start] + row.x[s]) / 2 - fx, row.y - fy);
+                        if (score < bestScore) {
+                            bestScore = score;
+                            bestRow = row;
+                            bestStart = start;
+                        }
+                    }
+                }
+            }
+            if (bestRow == null) {
+                return Optional.empty();
+            }
+            return Optional.of(bestRow.select(bestStart, quantity, bestScore));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a committed status change so that later queries skip the seats.
+     */
+    void markUnavailable(Collection<UUID> seatIds) {
+        lock.writeLock().lock();
+        try {
+            for (UUID seatId : seatIds) {
+                Long location = seatLocations.get(seatId);
+                if (location == null) {
+                    continue;
+                }
+                Row row = rows[(int) (location >>> 32)];
+                int seat = (int) (long) location;
+                if (row.available.get(seat)) {
+                    row.available.clear(seat);
+                    row.availableCount[row.tiers[seat]]--;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int seatCount() {
+        return seatLocations.size();
+    }
+
+    private static final class Row {
+        private final UUID blockId;
+        private final String blockName;
+        private final UUID rowId;
+        private final String rowLabel;
+        private final UUID[] seatIds;
+        private final String[] labels;
+        private final int[] tiers;
+        private final int[] columns;
+        private final double[] x;
+        private final double y;
+        private final BitSet available;
+        private int[] availableCount;
+
+        Row(UUID blockId, String blockName, UUID rowId, String rowLabel, int size, double y) {
+            this.blockId = blockId;
+            this.blockName = blockName;
+            this.rowId = rowId;
+            this.rowLabel = rowLabel;
+            this.seatIds = new UUID[size];
+            this.labels = new String[size];
+            this.tiers = new int[size];
+            this.columns = new int[size];
+            this.x = new double[size];
+            this.y = y;
+            this.available = new BitSet(size);
+        }
+
+        /**
+         * Per-tier available counts let rows without enough seats of the tier be skipped unscanned.
+         */
+        void countAvailable(int tierCount) {
+            availableCount = new int[tierCount];
+            for (int s = available.nextSetBit(0); s >= 0; s = available.nextSetBit(s + 1)) {
+                availableCount[tiers[s]]++;
+            }
+        }
+
+        /**
+         * No window in this row can be closer to the focal point than this.
+         */
+        double lowerBound(double fx, double fy) {
+            double dx = Math.max(0, Math.max(x[0] - fx, fx - x[x.length - 1]));
+            return Math.hypot(dx, y - fy);
+        }
+
+        Selection select(int start, int quantity, double score) {
+            List<UUID> ids = Arrays.asList(Arrays.copyOfRange(seatIds, start, start + quantity));
+            List<String> seatLabels = Arrays.asList(Arrays.copyOfRange(labels, start, start + quantity));
+            return new Selection(blockId, blockName, rowId, rowLabel, ids, seatLabels, score);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.ticketly.mseventseating.service.seat;
+
+import model.SeatStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published inside the transaction that changes seat statuses in a session's layout.
+ * Listeners that push the change to clients should only act after commit.
+ */
+public record SeatStatusChangedEvent(
+        UUID sessionId,
+        List<UUID> seatIds,
+        SeatStatus status
+) {
+}
@@ -0,0 +1,390 @@
+package com.ticketly.mseventseating.service.seat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.dto.session.SeatStatusDelta;
+import com.ticketly.mseventseating.exception.ResourceNotFoundException;
+import com.ticketly.mseventseating.repository.EventSessionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pushes seat status deltas to live seating map subscribers over server-sent events.
+ * <p>
+ * Each committed change is numbered with a per-session version and appended to a short replay
+ * buffer in Redis by a single script, which also publishes it on a shared channel. Every instance
+ * listens on that channel and forwards deltas to its own subscribers, so a client can be connected
+ * to any node. A client that reconnects with {@code Last-Event-ID} receives the deltas it missed,
+ * or a {@code resync} event when they are no longer buffered and it must re-fetch the seating map.
+ * <p>
+ * Idle subscribers hold no thread: emitters are completed asynchronously by the servlet container,
+ * and sends run on the virtual thread executor, serialised per session to keep versions in order.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "app.seat-stream.enabled", havingValue = "true", matchIfMissing = true)
+public class SeatStatusStreamService {
+
+    static final String DELTA_EVENT = "seat-status";
+    static final String VERSION_EVENT = "version";
+    static final String RESYNC_EVENT = "resync";
+
+    private static final String KEY_PREFIX = "event-seating::seat-status::";
+
+    /**
+     * Assigns the next version, appends the delta to the bounded replay buffer, refreshes the
+     * retention of both keys and publishes the versioned delta, atomically.
+     */
+    private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('INCR', KEYS[1])
+            local delta = cjson.decode(ARGV[1])
+            delta['version'] = version
+            local message = cjson.encode(delta)
+            redis.call('RPUSH', KEYS[2], message)
+            redis.call('LTRIM', KEYS[2], -tonumber(ARGV[2]), -1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            redis.call('PUBLISH', ARGV[4], message)
+            return version
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final EventSessionRepository eventSessionRepository;
+    private final AppLimitsConfig.SeatStreamConfig config;
+    private final Executor executor;
+
+    private final Map<UUID, SessionStream> streams = new ConcurrentHashMap<>();
+
+    public SeatStatusStreamService(StringRedisTemplate redisTemplate,
+                                   ObjectMapper objectMapper,
+                                   EventSessionRepository eventSessionRepository,
+                                   AppLimitsConfig appLimitsConfig,
+                                   @Qualifier("seatStreamExecutor") Executor executor) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.eventSessionRepository = eventSessionRepository;
+        this.config = appLimitsConfig.getSeatStream();
+        this.executor = executor;
+    }
+
+    /**
+     * Open a stream of seat status deltas for a session.
+     *
+     * @param sessionId   the session whose seats to follow
+     * @param lastVersion the last version the client has applied, or null for a fresh subscription
+     */
+    public SseEmitter subscribe(UUID sessionId, Long lastVersion) {
+        if (!eventSessionRepository.existsById(sessionId)) {
+            throw new ResourceNotFoundException("Session not found with ID: " + sessionId);
+        }
+
+        SseEmitter emitter = new SseEmitter(config.getEmitterTimeoutMs());
+        Subscriber subscriber = new Subscriber(emitter);
+        register(sessionId, subscriber);
+        emitter.onCompletion(() -> unregister(sessionId, subscriber));
+        emitter.onTimeout(() -> unregister(sessionId, subscriber));
+        emitter.onError(e -> unregister(sessionId, subscriber));
+
+        // Registered before reading the buffer, so deltas published meanwhile are held back, not lost
+        executor.execute(() -> catchUp(sessionId, subscriber, lastVersion));
+        return emitter;
+    }
+
+    /**
+     * Publish seat status changes once the transaction that made them has committed, so that
+     * subscribers never see a change that was rolled back.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        SeatStatusDelta delta = SeatStatusDelta.builder()
+                .sessionId(event.sessionId())
+                .seatIds(event.seatIds())
+                .status(event.status())
+                .build();
+        try {
+            Long version = redisTemplate.execute(PUBLISH_SCRIPT,
+                    List.of(versionKey(event.sessionId()), bufferKey(event.sessionId())),
+                    objectMapper.writeValueAsString(delta),
+                    String.valueOf(config.getReplayBufferSize()),
+                    String.valueOf(config.getRetention().toMillis()),
+                    config.getChannel());
+            log.debug("Published seat status delta {} for session {}", version, event.sessionId());
+        } catch (Exception e) {
+            // The booking is already committed; clients pick the change up on their next re-fetch
+            log.error("Failed to publish seat status delta for session {}", event.sessionId(), e);
+        }
+    }
+
+    /**
+     * Entry point for deltas received on the shared Redis channel.
+     */
+    public void onMessage(String message) {
+        SeatStatusDelta delta;
+        try {
+            delta = objectMapper.readValue(message, SeatStatusDelta.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed seat status delta: {}", message);
+            return;
+        }
+        SessionStream stream = streams.get(delta.getSessionId());
+        if (stream != null) {
+            stream.enqueue(delta);
+        }
+    }
+
+    /**
+     * Keeps idle connections open through proxies and detects clients that went away.
+     */
+    @Scheduled(fixedDelayString = "${app.seat-stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        streams.forEach((sessionId, stream) -> executor.execute(() -> {
+            for (Subscriber subscriber : stream.subscribers) {
+                if (!subscriber.heartbeat()) {
+                    unregister(sessionId, subscriber);
+                }
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Clients reconnect to another node with their Last-Event-ID
+        streams.values().forEach(stream -> stream.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        streams.clear();
+    }
+
+    int subscriberCount(UUID sessionId) {
+        SessionStream stream = streams.get(sessionId);
+        return stream == null ? 0 : stream.subscribers.size();
+    }
+
+    private void catchUp(UUID sessionId, Subscriber subscriber, Long lastVersion) {
+        try {
+            String storedVersion = redisTemplate.opsForValue().get(versionKey(sessionId));
+            long currentVersion = storedVersion == null ? 0 : Long.parseLong(storedVersion);
+
+            boolean started;
+            if (lastVersion == null) {
+                started = subscriber.announce(VERSION_EVENT, currentVersion);
+            } else {
+                List<String> buffered = redisTemplate.opsForList().range(bufferKey(sessionId), 0, -1);
+                List<SeatStatusDelta> missed = missedSince(lastVersion, currentVersion, parse(buffered));
+                started = missed != null
+                        ? subscriber.replay(missed)
+                        : subscriber.announce(RESYNC_EVENT, currentVersion);
+            }
+            if (!started) {
+                unregister(sessionId, subscriber);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to start seat status stream for session {}", sessionId, e);
+            subscriber.emitter.completeWithError(e);
+            unregister(sessionId, subscriber);
+        }
+    }
+
+    /**
+     * The deltas a client at {@code lastVersion} has missed, in order, or null if they cannot all be
+     * replayed from the buffer (evicted, or the version counter expired and restarted).
+     */
+    static List<SeatStatusDelta> missedSince(long lastVersion, long currentVersion, List<SeatStatusDelta> buffered) {
+        if (currentVersion < lastVersion) {
+            return null;
+        }
+        List<SeatStatusDelta> missed = buffered.stream()
+                .filter(delta -> delta.getVersion() > lastVersion)
+                .sorted(Comparator.comparingLong(SeatStatusDelta::getVersion))
+                .toList();
+        if (currentVersion > lastVersion && (missed.isEmpty() || missed.get(0).getVersion() != lastVersion + 1)) {
+            return null;
+        }
+        return missed;
+    }
+
+    private List<SeatStatusDelta> parse(List<String> buffered) {
+        if (buffered == null) {
+            return List.of();
+        }
+        List<SeatStatusDelta> deltas = new ArrayList<>(buffered.size());
+        for (String message : buffered) {
+            try {
+                deltas.add(objectMapper.readValue(message, SeatStatusDelta.class));
+            } catch (JsonProcessingException e) {
+                log.warn("Skipping malformed buffered seat status delta: {}", message);
+            }
+        }
+        return deltas;
+    }
+
+    private void register(UUID sessionId, Subscriber subscriber) {
+        streams.compute(sessionId, (id, stream) -> {
+            SessionStream target = stream != null ? stream : new SessionStream();
+            target.subscribers.add(subscriber);
+            return target;
+        });
+    }
+
+    private void unregister(UUID sessionId, Subscriber subscriber) {
+        streams.computeIfPresent(sessionId, (id, stream) -> {
+            stream.subscribers.remove(subscriber);
+            return stream.subscribers.isEmpty() ? null : stream;
+        });
+    }
+
+    private static String versionKey(UUID sessionId) {
+        // Hash tag keeps both keys of a session in the same cluster slot for the script
+        return KEY_PREFIX + "{" + sessionId + "}::version";
+    }
+
+    private static String bufferKey(UUID sessionId) {
+        return KEY_PREFIX + "{" + sessionId + "}::buffer";
+    }
+
+    /**
+     * Subscribers of one session on this node, with a queue drained by at most one task at a time
+     * so that deltas reach every subscriber in version order.
+     */
+    private final class SessionStream {
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final Queue<SeatStatusDelta> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        void enqueue(SeatStatusDelta delta) {
+            queue.add(delta);
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                SeatStatusDelta delta;
+                while ((delta = queue.poll()) != null) {
+                    for (Subscriber subscriber : subscribers) {
+                        if (!subscriber.offer(delta)) {
+                            unregister(delta.getSessionId(), subscriber);
+                        }
+                    }
+                }
+                draining.set(false);
+            } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+    }
+
+    /**
+     * One connected client. Deltas that arrive before its catch-up has been sent are held back,
+     * and versions it has already received are skipped, so the client sees each version once and
+     * in order. A lock rather than synchronized avoids pinning the virtual thread during writes.
+     */
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final ReentrantLock lock = new ReentrantLock();
+        private List<SeatStatusDelta> pending = new ArrayList<>();
+        private long lastSentVersion;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Tell the client which version its seating map must be at before it applies deltas: the
+         * current one for a fresh subscription, or after a resync when the missed deltas are gone.
+         */
+        boolean announce(String eventName, long currentVersion) {
+            lock.lock();
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(currentVersion))
+                        .name(eventName)
+                        .data(currentVersion));
+                lastSentVersion = Math.max(lastSentVersion, currentVersion);
+                return flushPending();
+            } catch (IOException | IllegalStateException e) {
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean replay(List<SeatStatusDelta> missed) {
+            lock.lock();
+            try {
+                for (SeatStatusDelta delta : missed) {
+                    sendDelta(delta);
+                }
+                return flushPending();
+            } catch (IOException | IllegalStateException e) {
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean offer(SeatStatusDelta delta) {
+            lock.lock();
+            try {
+                if (pending != null) {
+                    pending.add(delta);
+                    return true;
+                }
+                sendDelta(delta);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean heartbeat() {
+            lock.lock();
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean flushPending() throws IOException {
+            for (SeatStatusDelta delta : pending) {
+                sendDelta(delta);
+            }
+            pending = null;
+            return true;
+        }
+
+        private void sendDelta(SeatStatusDelta delta) throws IOException {
+            if (delta.getVersion() <= lastSentVersion) {
+                return;
+            }
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(delta.getVersion()))
+                    .name(DELTA_EVENT)
+                    .data(delta));
+            lastSentVersion = delta.getVersion();
+        }
+    }
+}
@@ -11,8 +11,9 @@ import com.ticketly.mseventseating.model.SessionSeatingMap;
 import com.ticketly.mseventseating.model.Tier;
 import com.ticketly.mseventseating.repository.EventSessionRepository;
 import com.ticketly.mseventseating.repository.TierRepository;
+import com.ticketly.mseventseating.service.singleflight.SingleFlight;
 import dto.SessionSeatingMapDTO;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import model.SeatStatus;
 import model.SessionStatus;
@@ -22,14 +23,35 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * Validates the seats of an order against a session's layout.
+ * <p>
+ * The layout is read and parsed for every validation, as seat statuses change in place. Concurrent
+ * validations of the same session share one read and parse through a {@link SingleFlight}. A
+ * validation that joins a read already running sees the layout as of when that read started, which
+ * is no weaker than before: statuses could always change right after the read.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class SeatValidationService {
 
     private final EventSessionRepository sessionRepository;
     private final TierRepository tierRepository;
     private final ObjectMapper objectMapper;
+    private final SingleFlight<UUID, SessionSeats> layoutLoads;
+
+    private record SessionSeats(SessionSeatingMapDTO layout, Map<UUID, Tier> tiersById) {
+    }
+
+    public SeatValidationService(EventSessionRepository sessionRepository,
+                                 TierRepository tierRepository,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry) {
+        this.sessionRepository = sessionRepository;
+        this.tierRepository = tierRepository;
+        this.objectMapper = objectMapper;
+        this.layoutLoads = new SingleFlight<>("seat-validation", meterRegistry);
+    }
 
     /**
      * Validates and retrieves details for seats in a specific session, ensuring they are all AVAILABLE.
@@ -45,6 +67,29 @@ public class SeatValidationService {
             throw new BadRequestException("Seat IDs list cannot be empty");
         }
 
+        SessionSeats seats = layoutLoads.execute(sessionId, () -> loadSeats(sessionId));
+
+        List<SeatDetailsResponse> results = new ArrayList<>();
+        Set<UUID> remainingSeatIds = new HashSet<>(request.getSeatIds());
+
+        // Process each block and validate seats
+        for (SessionSeatingMapDTO.Block block : seats.layout().getLayout().getBlocks()) {
+            processSeatsByBlock(block, remainingSeatIds, seats.tiersById(), results);
+        }
+
+        // Check if all requested seats were found
+        if (!remainingSeatIds.isEmpty()) {
+            throw new ResourceNotFoundException("Some seats were not found: " + remainingSeatIds);
+        }
+
+        return results;
+    }
+
+    /**
+     * Read and parse a session's layout, along with its event's tiers. The result is shared between
+     * concurrent callers, so it is only read from.
+     */
+    private SessionSeats loadSeats(UUID sessionId) {
         // Get the session
         EventSession session = sessionRepository.findById(sessionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Session not found: " + sessionId));
@@ -72,21 +117,7 @@ public class SeatValidationService {
             log.error("Error parsing seating map data for session ID: {}", sessionId, e);
             throw new BadRequestException("Invalid seating map data format");
         }
-
-        List<SeatDetailsResponse> results = new ArrayList<>();
-        Set<UUID> remainingSeatIds = new HashSet<>(request.getSeatIds());
-
-        // Process each block and validate seats
-        for (SessionSeatingMapDTO.Block block : mapDTO.getLayout().getBlocks()) {
-            processSeatsByBlock(block, remainingSeatIds, tiersById, results);
-        }
-
-        // Check if all requested seats were found
-        if (!remainingSeatIds.isEmpty()) {
-            throw new ResourceNotFoundException("Some seats were not found: " + remainingSeatIds);
-        }
-
-        return results;
+        return new SessionSeats(mapDTO, tiersById);
     }
 
     private void processSeatsByBlock(SessionSeatingMapDTO.Block block, Set<UUID> seatIds,
@@ -0,0 +1,454 @@
+package com.ticketly.mseventseating.service.seating_layout;
+
+import com.ticketly.mseventseating.dto.session.SeatGridBlock;
+import com.ticketly.mseventseating.dto.session.SeatGridDTO;
+import dto.SessionSeatingMapDTO;
+import model.SeatStatus;
+
+import java.util.*;
+
+/**
+ * Converts {@code seated_grid} blocks between their expanded form, with every row and seat listed,
+ * and the procedural {@link SeatGridDTO} form kept in {@code layout_grid} (see {@link StoredLayout}).
+ * <p>
+ * Row and seat IDs of a grid are its block ID with {@code (row + 1) << 16 | (column + 1)} XORed into
+ * the last 32 bits, a row taking column -1. They are never stored, and the position of a seat can be
+ * recovered from its ID, which is how {@code grid_seats} locates seats in SQL.
+ */
+public final class SeatGridCodec {
+
+    public static final String SEATED_GRID = "seated_grid";
+
+    /**
+     * Largest row or column count, as each position takes 16 bits of a derived ID.
+     */
+    public static final int MAX_DIMENSION = 0xFFFF;
+
+    /**
+     * Largest number of seats a grid may expand to, so a few bytes can't describe billions of seats.
+     */
+    public static final int MAX_SEATS = 100_000;
+
+    private SeatGridCodec() {
+    }
+
+    /**
+     * Seats and blocks the layouts of one request may expand to. A grid describes any number of seats
+     * in a few bytes, so a layout's seats are counted against the limits before any of them is created.
+     */
+    public static final class SeatBudget {
+        private final int maxLayoutSeats;
+        private final int maxLayoutBlocks;
+        private final long maxRequestSeats;
+        private long remainingSeats;
+
+        public SeatBudget(int maxLayoutSeats, int maxLayoutBlocks, long maxRequestSeats) {
+            this.maxLayoutSeats = maxLayoutSeats;
+            this.maxLayoutBlocks = maxLayoutBlocks;
+            this.maxRequestSeats = maxRequestSeats;
+            this.remainingSeats = maxRequestSeats;
+        }
+
+        private void charge(int blocks, long seats) {
+            if (blocks > maxLayoutBlocks) {
+                throw new IllegalArgumentException("A layout cannot have more than " + maxLayoutBlocks + " blocks");
+            }
+            if (seats > maxLayoutSeats) {
+                throw new IllegalArgumentException("A layout cannot have more than " + maxLayoutSeats + " seats");
+            }
+            if (seats > remainingSeats) {
+                throw new IllegalArgumentException("The layouts of a request cannot have more than "
+                        + maxRequestSeats + " seats in total");
+            }
+            remainingSeats -= seats;
+        }
+    }
+
+    public static UUID rowId(UUID blockId, int row) {
+        return derive(blockId, row, -1);
+    }
+
+    public static UUID seatId(UUID blockId, int row, int column) {
+        return derive(blockId, row, column);
+    }
+
+    private static UUID derive(UUID blockId, int row, int column) {
+        long offset = ((long) (row + 1) << 16) | (column + 1);
+        return new UUID(blockId.getMostSignificantBits(), blockId.getLeastSignificantBits() ^ offset);
+    }
+
+    /**
+     * The row and column of a seat whose ID is derived from the given block ID, or null if it isn't.
+     */
+    static int[] position(UUID blockId, UUID seatId) {
+        if (blockId == null || seatId == null || blockId.getMostSignificantBits() != seatId.getMostSignificantBits()) {
+            return null;
+        }
+        long offset = blockId.getLeastSignificantBits() ^ seatId.getLeastSignificantBits();
+        if ((offset & ~0xFFFFFFFFL) != 0) {
+            return null;
+        }
+        int row = (int) (offset >>> 16) - 1;
+        int column = (int) (offset & 0xFFFF) - 1;
+        return row < 0 || column < 0 ? null : new int[]{row, column};
+    }
+
+    /**
+     * The column of a seat in the given row of a grid: the one its ID was derived from, or the column
+     * after the seat before it when its ID isn't derived from the block ID. Columns skipped between
+     * two seats are gaps.
+     */
+    public static int column(UUID blockId, int row, UUID seatId, int previousColumn) {
+        int[] position = position(blockId, seatId);
+        return position != null && position[0] == row && position[1] > previousColumn ? position[1] : previousColumn + 1;
+    }
+
+    /**
+     * Expand a grid into its rows and seats. IDs are derived from the block ID, and left out
+     * without one.
+     *
+     * @throws IllegalArgumentException if the grid is malformed or too large
+     */
+    public static List<SessionSeatingMapDTO.Row> expand(UUID blockId, SeatGridDTO grid) {
+        int rowCount = dimension(grid.getRows(), "rows");
+        int columnCount = dimension(grid.getColumns(), "columns");
+        if ((long) rowCount * columnCount > MAX_SEATS) {
+            throw new IllegalArgumentException("Seat grid cannot have more than " + MAX_SEATS + " seats");
+        }
+        List<List<SeatGridDTO.TierRun>> tierRuns = grid.getTierRuns();
+        if (tierRuns == null || tierRuns.isEmpty()) {
+            throw new IllegalArgumentException("Seat grid must have tier runs");
+        }
+
+        Map<Integer, SeatGridDTO.SeatOverride> seatOverrides = new HashMap<>();
+        Map<Integer, String> rowLabels = new HashMap<>();
+        if (grid.getOverrides() != null) {
+            for (SeatGridDTO.SeatOverride override : grid.getOverrides()) {
+                Integer row = override.getRow();
+                Integer column = override.getColumn();
+                if (row == null || row < 0 || row >= rowCount
+                        || column != null && (column < 0 || column >= columnCount)) {
+                    throw new IllegalArgumentException("Seat grid override is outside the grid");
+                }
+                if (column == null) {
+                    rowLabels.put(row, override.getLabel());
+                } else {
+                    seatOverrides.put(row * columnCount + column, override);
+                }
+            }
+        }
+
+        int startColumn = grid.getStartColumnLabel() != null ? grid.getStartColumnLabel() : 1;
+        UUID[] tiers = new UUID[columnCount];
+        List<SessionSeatingMapDTO.Row> rows = new ArrayList<>(rowCount);
+        for (int r = 0; r < rowCount; r++) {
+            if (r < tierRuns.size()) {
+                fillTiers(tierRuns.get(r), tiers);
+            }
+            String rowLabel = rowLabels.get(r) != null ? rowLabels.get(r) : rowLabel(grid.getStartRowLabel(), r);
+            List<SessionSeatingMapDTO.Seat> seats = new ArrayList<>(columnCount);
+            for (int c = 0; c < columnCount; c++) {
+                SeatGridDTO.SeatOverride override = seatOverrides.get(r * columnCount + c);
+                if (override != null && Boolean.TRUE.equals(override.getGap())) {
+                    continue;
+                }
+                SessionSeatingMapDTO.Seat seat = new SessionSeatingMapDTO.Seat();
+                seat.setId(blockId != null ? seatId(blockId, r, c) : null);
+                seat.setLabel(override != null && override.getLabel() != null
+                        ? override.getLabel() : rowLabel + (startColumn + c));
+                seat.setTierId(override != null && override.getTierId() != null ? override.getTierId() : tiers[c]);
+                seat.setStatus(override != null && override.getStatus() != null
+                        ? override.getStatus() : SeatStatus.AVAILABLE);
+                seats.add(seat);
+            }
+            SessionSeatingMapDTO.Row row = new SessionSeatingMapDTO.Row();
+            row.setId(blockId != null ? rowId(blockId, r) : null);
+            row.setLabel(rowLabel);
+            row.setSeats(seats);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * The grid form of an expanded seated grid, or null if it can't have one: its row and seat IDs
+     * aren't derived from its block ID, as in layouts stored before grids were, or it is too large.
+     */
+    public static SeatGridDTO encode(SessionSeatingMapDTO.Block block) {
+        UUID blockId = block.getId();
+        List<SessionSeatingMapDTO.Row> rows = block.getRows();
+        if (blockId == null || rows == null || rows.isEmpty() || rows.size() > MAX_DIMENSION
+                || block.getSeats() != null && !block.getSeats().isEmpty()) {
+            return null;
+        }
+        int columnCount = 0;
+        for (int r = 0; r < rows.size(); r++) {
+            SessionSeatingMapDTO.Row row = rows.get(r);
+            if (!rowId(blockId, r).equals(row.getId())) {
+                return null;
+            }
+            int previous = -1;
+            for (SessionSeatingMapDTO.Seat seat : seatsOf(row)) {
+                int[] position = position(blockId, seat.getId());
+                if (position == null || position[0] != r || position[1] <= previous) {
+                    return null;
+                }
+                previous = position[1];
+            }
+            columnCount = Math.max(columnCount, previous + 1);
+        }
+        if (columnCount == 0 || (long) rows.size() * columnCount > MAX_SEATS) {
+            return null;
+        }
+
+        String startRowLabel = rows.get(0).getLabel() != null ? rows.get(0).getLabel() : rowLabel(null, 0);
+        int startColumn = startColumnLabel(blockId, rows, startRowLabel);
+        List<List<SeatGridDTO.TierRun>> tierRuns = new ArrayList<>(rows.size());
+        List<SeatGridDTO.SeatOverride> overrides = new ArrayList<>();
+        for (int r = 0; r < rows.size(); r++) {
+            SessionSeatingMapDTO.Row row = rows.get(r);
+            String rowLabel = rowLabel(startRowLabel, r);
+            if (row.getLabel() != null && !row.getLabel().equals(rowLabel)) {
+                rowLabel = row.getLabel();
+                overrides.add(SeatGridDTO.SeatOverride.builder().row(r).label(rowLabel).build());
+            }
+
+            SessionSeatingMapDTO.Seat[] cells = new SessionSeatingMapDTO.Seat[columnCount];
+            for (SessionSeatingMapDTO.Seat seat : seatsOf(row)) {
+                cells[position(blockId, seat.getId())[1]] = seat;
+            }
+            for (int c = 0; c < columnCount; c++) {
+                SessionSeatingMapDTO.Seat seat = cells[c];
+                if (seat == null) {
+                    overrides.add(SeatGridDTO.SeatOverride.builder().row(r).column(c).gap(true).build());
+                    continue;
+                }
+                String label = rowLabel + (startColumn + c);
+                boolean relabelled = seat.getLabel() != null && !seat.getLabel().equals(label);
+                boolean unavailable = seat.getStatus() != null && seat.getStatus() != SeatStatus.AVAILABLE;
+                if (relabelled || unavailable) {
+                    overrides.add(SeatGridDTO.SeatOverride.builder()
+                            .row(r).column(c)
+                            .label(relabelled ? seat.getLabel() : null)
+                            .status(unavailable ? seat.getStatus() : null)
+                            .build());
+                }
+            }
+            tierRuns.add(tierRuns(cells));
+        }
+        while (tierRuns.size() > 1 && tierRuns.get(tierRuns.size() - 1).equals(tierRuns.get(tierRuns.size() - 2))) {
+            tierRuns.remove(tierRuns.size() - 1);
+        }
+
+        return SeatGridDTO.builder()
+                .rows(rows.size())
+                .columns(columnCount)
+                .startRowLabel(startRowLabel)
+                .startColumnLabel(startColumn)
+                .tierRuns(tierRuns)
+                .overrides(overrides.isEmpty() ? null : overrides)
+                .build();
+    }
+
+    /**
+     * Replace, in place, the grid blocks of an incoming layout with their rows and seats, once the
+     * layout's blocks and seats are within the budget. A grid without a block ID gets a random one to
+     * derive its seat IDs from, so {@link #assignIds} keeps the columns of its gaps.
+     *
+     * @throws IllegalArgumentException if a grid is malformed or the layout is over budget
+     */
+    public static void expandLayout(SessionSeatingMapDTO layout, SeatBudget budget) {
+        if (layout.getLayout() == null || layout.getLayout().getBlocks() == null) {
+            return;
+        }
+        List<SessionSeatingMapDTO.Block> blocks = layout.getLayout().getBlocks();
+        long seats = 0;
+        for (SessionSeatingMapDTO.Block block : blocks) {
+            seats += seatCount(block);
+        }
+        budget.charge(blocks.size(), seats);
+
+        List<SessionSeatingMapDTO.Block> expanded = new ArrayList<>(blocks.size());
+        for (SessionSeatingMapDTO.Block block : blocks) {
+            if (!(block instanceof SeatGridBlock gridBlock) || gridBlock.getGrid() == null) {
+                expanded.add(block);
+                continue;
+            }
+            SessionSeatingMapDTO.Block plain = new SessionSeatingMapDTO.Block();
+            plain.setId(block.getId() != null ? block.getId() : UUID.randomUUID());
+            plain.setName(block.getName());
+            plain.setType(block.getType());
+            plain.setPosition(block.getPosition());
+            plain.setCapacity(block.getCapacity());
+            plain.setWidth(block.getWidth());
+            plain.setHeight(block.getHeight());
+            plain.setRows(expand(plain.getId(), gridBlock.getGrid()));
+            expanded.add(plain);
+        }
+        layout.getLayout().setBlocks(expanded);
+    }
+
+    /**
+     * The seats a block has or, for a grid, will have once expanded, counting gaps as seats.
+     */
+    private static long seatCount(SessionSeatingMapDTO.Block block) {
+        if (block instanceof SeatGridBlock gridBlock && gridBlock.getGrid() != null) {
+            SeatGridDTO grid = gridBlock.getGrid();
+            return (long) dimension(grid.getRows(), "rows") * dimension(grid.getColumns(), "columns");
+        }
+        long seats = block.getSeats() != null ? block.getSeats().size() : 0;
+        if (block.getRows() != null) {
+            for (SessionSeatingMapDTO.Row row : block.getRows()) {
+                seats += seatsOf(row).size();
+            }
+        }
+        return seats;
+    }
+
+    /**
+     * Replace, in place, the blocks of a layout that can be stored in grid form with their grid form.
+     *
+     * @return the same layout, ready to be serialized for storage
+     */
+    public static SessionSeatingMapDTO encodeLayout(SessionSeatingMapDTO layout) {
+        if (layout.getLayout() == null || layout.getLayout().getBlocks() == null) {
+            return layout;
+        }
+        List<SessionSeatingMapDTO.Block> blocks = new ArrayList<>(layout.getLayout().getBlocks().size());
+        for (SessionSeatingMapDTO.Block block : layout.getLayout().getBlocks()) {
+            SeatGridDTO grid = SEATED_GRID.equals(block.getType()) ? encode(block) : null;
+            blocks.add(grid != null ? new SeatGridBlock(block, grid) : block);
+        }
+        layout.getLayout().setBlocks(blocks);
+        return layout;
+    }
+
+    /**
+     * Give a seated grid a new block ID and derive its row and seat IDs from it. A seat keeps the
+     * column its current ID was derived from, as seats expanded from a grid with gaps do; any other
+     * seat takes the column after the seat before it.
+     *
+     * @throws IllegalArgumentException if the grid is too large for derived IDs
+     */
+    public static void assignIds(SessionSeatingMapDTO.Block block, UUID blockId) {
+        UUID previousBlockId = block.getId();
+        block.setId(blockId);
+        if (block.getRows() == null) {
+            return;
+        }
+        if (block.getRows().size() > MAX_DIMENSION) {
+            throw new IllegalArgumentException("Seat grid cannot have more than " + MAX_DIMENSION + " rows");
+        }
+        for (int r = 0; r < block.getRows().size(); r++) {
+            SessionSeatingMapDTO.Row row = block.getRows().get(r);
+            row.setId(rowId(blockId, r));
+            int column = -1;
+            for (SessionSeatingMapDTO.Seat seat : seatsOf(row)) {
+                column = column(previousBlockId, r, seat.getId(), column);
+                if (column >= MAX_DIMENSION) {
+                    throw new IllegalArgumentException("Seat grid cannot have more than " + MAX_DIMENSION + " columns");
+                }
+                seat.setId(seatId(blockId, r, column));
+            }
+        }
+    }
+
+    /**
+     * The label of the row the given number of rows after the start label: letters count on like
+     * spreadsheet columns (Z, AA, AB), numbers count up, and anything else gets the row number appended.
+     */
+    static String rowLabel(String startLabel, int offset) {
+        String start = startLabel == null || startLabel.isEmpty() ? "A" : startLabel;
+        if (start.length() < 10 && start.chars().allMatch(ch -> ch >= '0' && ch <= '9')) {
+            return String.valueOf(Integer.parseInt(start) + offset);
+        }
+        boolean upper = start.chars().allMatch(ch -> ch >= 'A' && ch <= 'Z');
+        boolean lower = start.chars().allMatch(ch -> ch >= 'a' && ch <= 'z');
+        if (!upper && !lower || start.length() > 6) {
+            return offset == 0 ? start : start + (offset + 1);
+        }
+        char base = upper ? 'A' : 'a';
+        long index = 0;
+        for (char ch : start.toCharArray()) {
+            index = index * 26 + (ch - base + 1);
+        }
+        index += offset;
+        StringBuilder label = new StringBuilder();
+        while (index > 0) {
+            index--;
+            label.append((char) (base + index % 26));
+            index /= 26;
+        }
+        return label.reverse().toString();
+    }
+
+    /**
+     * The number of the first column, read from the first seat labelled as its row label followed
+     * by a number, or 1.
+     */
+    private static int startColumnLabel(UUID blockId, List<SessionSeatingMapDTO.Row> rows, String startRowLabel) {
+        for (int r = 0; r < rows.size(); r++) {
+            String rowLabel = rows.get(r).getLabel() != null ? rows.get(r).getLabel() : rowLabel(startRowLabel, r);
+            for (SessionSeatingMapDTO.Seat seat : seatsOf(rows.get(r))) {
+                String label = seat.getLabel();
+                if (label == null || !label.startsWith(rowLabel)) {
+                    continue;
+                }
+                String number = label.substring(rowLabel.length());
+                if (!number.isEmpty() && number.length() < 10 && number.chars().allMatch(ch -> ch >= '0' && ch <= '9')) {
+                    return Integer.parseInt(number) - position(blockId, seat.getId())[1];
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Tier runs of one row. Gaps take the tier of the seat before them, or after them at the start
+     * of the row, so they don't split runs.
+     */
+    private static List<SeatGridDTO.TierRun> tierRuns(SessionSeatingMapDTO.Seat[] cells) {
+        UUID tier = Arrays.stream(cells).filter(Objects::nonNull).findFirst()
+                .map(SessionSeatingMapDTO.Seat::getTierId).orElse(null);
+        List<SeatGridDTO.TierRun> runs = new ArrayList<>();
+        int count = 0;
+        for (SessionSeatingMapDTO.Seat seat : cells) {
+            if (seat != null && !Objects.equals(seat.getTierId(), tier)) {
+                runs.add(SeatGridDTO.TierRun.builder().tierId(tier).count(count).build());
+                tier = seat.getTierId();
+                count = 0;
+            }
+            count++;
+        }
+        runs.add(SeatGridDTO.TierRun.builder().tierId(tier).count(count).build());
+        return runs;
+    }
+
+    private static void fillTiers(List<SeatGridDTO.TierRun> runs, UUID[] tiers) {
+        int column = 0;
+        if (runs != null) {
+            for (SeatGridDTO.TierRun run : runs) {
+                int count = run.getCount() != null ? run.getCount() : 0;
+                if (count <= 0 || column + count > tiers.length) {
+                    throw new IllegalArgumentException("Seat grid tier runs must cover every column of each row");
+                }
+                Arrays.fill(tiers, column, column + count, run.getTierId());
+                column += count;
+            }
+        }
+        if (column != tiers.length) {
+            throw new IllegalArgumentException("Seat grid tier runs must cover every column of each row");
+        }
+    }
+
+    private static int dimension(Integer value, String name) {
+        if (value == null || value < 1 || value > MAX_DIMENSION) {
+            throw new IllegalArgumentException("Seat grid " + name + " must be between 1 and " + MAX_DIMENSION);
+        }
+        return value;
+    }
+
+    private static List<SessionSeatingMapDTO.Seat> seatsOf(SessionSeatingMapDTO.Row row) {
+        return row.getSeats() != null ? row.getSeats() : List.of();
+    }
+}
@@ -0,0 +1,56 @@
+package com.ticketly.mseventseating.service.seating_layout;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.dto.event.SeatingLayoutChangedEventDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Tells other services which blocks and seats a layout replacement added, removed or changed, so
+ * they can update what they hold per seat without re-reading the whole layout.
+ * <p>
+ * The diff is sent to Kafka once the replacement has committed, keyed by session so the changes of
+ * one session stay in order. Sending doesn't block the committing thread; a failed send is logged,
+ * and the full layout still reaches consumers through change data capture.
+ */
+@Service
+@Slf4j
+public class SeatingLayoutChangePublisher {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+
+    public SeatingLayoutChangePublisher(KafkaTemplate<String, String> kafkaTemplate,
+                                        ObjectMapper objectMapper,
+                                        AppLimitsConfig appLimitsConfig) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.topic = appLimitsConfig.getSeatingMap().getLayoutChangesTopic();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSeatingLayoutChanged(SeatingLayoutChangedEvent event) {
+        SeatingLayoutDiff diff = event.diff();
+        SeatingLayoutChangedEventDto message = new SeatingLayoutChangedEventDto(event.sessionId(),
+                diff.addedBlockIds(), diff.removedBlockIds(), diff.changedBlockIds(),
+                diff.addedSeatIds(), diff.removedSeatIds(), diff.changedSeatIds());
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize the layout change of session {}", event.sessionId(), e);
+            return;
+        }
+        kafkaTemplate.send(topic, event.sessionId().toString(), payload).whenComplete((result, e) -> {
+            if (e != null) {
+                log.error("Failed to publish the layout change of session {}", event.sessionId(), e);
+            }
+        });
+    }
+}
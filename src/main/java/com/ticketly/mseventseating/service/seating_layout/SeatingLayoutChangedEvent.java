@@ -0,0 +1,14 @@
+package com.ticketly.mseventseating.service.seating_layout;
+
+import java.util.UUID;
+
+/**
+ * Published inside the transaction that replaces a session's layout, only when the replacement
+ * changed something. Listeners holding state derived from the layout should only act after commit.
+ * {@link SeatingLayoutChangePublisher} forwards it to other services.
+ */
+public record SeatingLayoutChangedEvent(
+        UUID sessionId,
+        SeatingLayoutDiff diff
+) {
+}
@@ -0,0 +1,42 @@
+package com.ticketly.mseventseating.service.seating_layout;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * What replacing a session's layout changed: the blocks and seats added, removed or changed, and how
+ * much each tier's capacity and available seats moved as a result.
+ *
+ * @param layoutChanged whether the stored layout differs at all, which can be true with no block or
+ *                      seat listed when only layout-level properties such as its name changed
+ */
+public record SeatingLayoutDiff(
+        boolean layoutChanged,
+        List<UUID> addedBlockIds,
+        List<UUID> removedBlockIds,
+        List<UUID> changedBlockIds,
+        List<UUID> addedSeatIds,
+        List<UUID> removedSeatIds,
+        List<UUID> changedSeatIds,
+        Map<UUID, TierDelta> tierDeltas
+) {
+
+    /**
+     * Change in a tier's sellable (non-RESERVED) and AVAILABLE seat counts.
+     */
+    public record TierDelta(int capacity, int available) {
+
+        public boolean isZero() {
+            return capacity == 0 && available == 0;
+        }
+    }
+
+    public static SeatingLayoutDiff unchanged() {
+        return new SeatingLayoutDiff(false, List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), Map.of());
+    }
+
+    public boolean hasBlockChanges() {
+        return !addedBlockIds.isEmpty() || !removedBlockIds.isEmpty() || !changedBlockIds.isEmpty();
+    }
+}
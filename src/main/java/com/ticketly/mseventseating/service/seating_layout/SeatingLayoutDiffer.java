@@ -0,0 +1,258 @@
+package com.ticketly.mseventseating.service.seating_layout;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.ticketly.mseventseating.dto.session.SeatGridBlock;
+import com.ticketly.mseventseating.service.id.IdGenerator;
+import dto.SessionSeatingMapDTO;
+import model.SeatStatus;
+
+import java.util.*;
+
+/**
+ * Keeps the IDs of a session's blocks and seats when its layout is replaced, and works out what the
+ * replacement changed.
+ * <p>
+ * A block keeps its ID when the client sends it back, or else when a block of the same type was at
+ * the same position. Seated grid seats then keep theirs too, as they are derived from the block ID
+ * and the seat's position; standing seats are matched the same way within their block. Blocks whose
+ * stored form is unchanged are compared without expanding them, so a diff costs in proportion to the
+ * blocks that changed rather than to the whole map.
+ */
+public final class SeatingLayoutDiffer {
+
+    private static final String STANDING_CAPACITY = "standing_capacity";
+
+    private final ObjectMapper objectMapper;
+    private final IdGenerator idGenerator;
+    private final JsonNode previousRoot;
+    private final List<JsonNode> previousBlocks = new ArrayList<>();
+    private final Map<UUID, JsonNode> previousBlocksById = new HashMap<>();
+
+    private SeatingLayoutDiffer(ObjectMapper objectMapper, IdGenerator idGenerator, JsonNode previousRoot) {
+        this.objectMapper = objectMapper;
+        this.idGenerator = idGenerator;
+        this.previousRoot = previousRoot;
+        for (JsonNode block : previousRoot.path("layout").path("blocks")) {
+            previousBlocks.add(block);
+            UUID id = idOf(block);
+            if (id != null) {
+                previousBlocksById.put(id, block);
+            }
+        }
+    }
+
+    /**
+     * A differ for a layout replacing the given stored one.
+     *
+     * @throws JsonProcessingException if the stored layout is not valid JSON
+     */
+    public static SeatingLayoutDiffer from(ObjectMapper objectMapper, IdGenerator idGenerator, String previousLayoutData)
+            throws JsonProcessingException {
+        JsonNode root = previousLayoutData == null ? MissingNode.getInstance() : objectMapper.readTree(previousLayoutData);
+        return new SeatingLayoutDiffer(objectMapper, idGenerator, root);
+    }
+
+    /**
+     * A differ for a layout with nothing before it, which gives every block and seat a new ID.
+     */
+    public static SeatingLayoutDiffer forNewLayout(ObjectMapper objectMapper, IdGenerator idGenerator) {
+        return new SeatingLayoutDiffer(objectMapper, idGenerator, MissingNode.getInstance());
+    }
+
+    /**
+     * Give the blocks of an incoming layout the IDs of the stored blocks they match, and new IDs
+     * otherwise. Grid row and seat IDs are derived from the block ID; standing seats keep the ID the
+     * client sent back or that of the seat at the same position, and get a new one otherwise.
+     *
+     * @throws IllegalArgumentException if a grid is too large for derived IDs
+     */
+    public void assignIds(SessionSeatingMapDTO layout) {
+        List<SessionSeatingMapDTO.Block> blocks = layout.getLayout().getBlocks();
+        UUID[] matched = new UUID[blocks.size()];
+        Set<UUID> claimed = new HashSet<>();
+
+        // IDs sent back take precedence, so a block inserted in front of others doesn't take their IDs
+        for (int i = 0; i < blocks.size(); i++) {
+            SessionSeatingMapDTO.Block block = blocks.get(i);
+            JsonNode previous = block.getId() == null ? null : previousBlocksById.get(block.getId());
+            if (previous != null && sameType(previous, block) && claimed.add(block.getId())) {
+                matched[i] = block.getId();
+            }
+        }
+        for (int i = 0; i < blocks.size() && i < previousBlocks.size(); i++) {
+            UUID previousId = idOf(previousBlocks.get(i));
+            if (matched[i] == null && previousId != null && sameType(previousBlocks.get(i), blocks.get(i))
+                    && claimed.add(previousId)) {
+                matched[i] = previousId;
+            }
+        }
+
+        for (int i = 0; i < blocks.size(); i++) {
+            SessionSeatingMapDTO.Block block = blocks.get(i);
+            UUID blockId = matched[i] != null ? matched[i] : idGenerator.next();
+            if (SeatGridCodec.SEATED_GRID.equals(block.getType())) {
+                SeatGridCodec.assignIds(block, blockId);
+                continue;
+            }
+            block.setId(blockId);
+            if (STANDING_CAPACITY.equals(block.getType()) && block.getSeats() != null) {
+                assignSeatIds(block.getSeats(), matched[i] == null ? List.of() : previousSeatIds(previousBlocksById.get(blockId)));
+            }
+        }
+    }
+
+    /**
+     * Compare the stored layout with the prepared layout replacing it. Blocks are matched by ID, and
+     * only those whose stored form differs are expanded and compared seat by seat.
+     *
+     * @throws JsonProcessingException if the prepared layout or a changed block can't be read
+     */
+    public SeatingLayoutDiff diff(String layoutData) throws JsonProcessingException {
+        JsonNode root = objectMapper.readTree(layoutData);
+        if (root.equals(previousRoot)) {
+            return SeatingLayoutDiff.unchanged();
+        }
+
+        List<UUID> addedBlocks = new ArrayList<>();
+        List<UUID> removedBlocks = new ArrayList<>();
+        List<UUID> changedBlocks = new ArrayList<>();
+        List<UUID> addedSeats = new ArrayList<>();
+        List<UUID> removedSeats = new ArrayList<>();
+        List<UUID> changedSeats = new ArrayList<>();
+        Map<UUID, int[]> tierCounts = new LinkedHashMap<>();
+
+        Set<UUID> seen = new HashSet<>();
+        for (JsonNode block : root.path("layout").path("blocks")) {
+            UUID id = idOf(block);
+            seen.add(id);
+            JsonNode previous = id == null ? null : previousBlocksById.get(id);
+            if (previous == null) {
+                addedBlocks.add(id);
+                for (SessionSeatingMapDTO.Seat seat : seatsOf(block).values()) {
+                    addedSeats.add(seat.getId());
+                    count(seat, 1, tierCounts);
+                }
+                continue;
+            }
+            if (previous.equals(block)) {
+                continue;
+            }
+            changedBlocks.add(id);
+            Map<UUID, SessionSeatingMapDTO.Seat> before = seatsOf(previous);
+            for (SessionSeatingMapDTO.Seat seat : seatsOf(block).values()) {
+                SessionSeatingMapDTO.Seat old = before.remove(seat.getId());
+                if (old == null) {
+                    addedSeats.add(seat.getId());
+                } else if (!old.equals(seat)) {
+                    changedSeats.add(seat.getId());
+                    count(old, -1, tierCounts);
+                } else {
+                    continue;
+                }
+                count(seat, 1, tierCounts);
+            }
+            for (SessionSeatingMapDTO.Seat seat : before.values()) {
+                removedSeats.add(seat.getId());
+                count(seat, -1, tierCounts);
+            }
+        }
+        for (Map.Entry<UUID, JsonNode> previous : previousBlocksById.entrySet()) {
+            if (seen.contains(previous.getKey())) {
+                continue;
+            }
+            removedBlocks.add(previous.getKey());
+            for (SessionSeatingMapDTO.Seat seat : seatsOf(previous.getValue()).values()) {
+                removedSeats.add(seat.getId());
+                count(seat, -1, tierCounts);
+            }
+        }
+
+        Map<UUID, SeatingLayoutDiff.TierDelta> tierDeltas = new LinkedHashMap<>();
+        tierCounts.forEach((tierId, counts) -> {
+            SeatingLayoutDiff.TierDelta delta = new SeatingLayoutDiff.TierDelta(counts[0], counts[1]);
+            if (!delta.isZero()) {
+                tierDeltas.put(tierId, delta);
+            }
+        });
+        return new SeatingLayoutDiff(true, addedBlocks, removedBlocks, changedBlocks,
+                addedSeats, removedSeats, changedSeats, tierDeltas);
+    }
+
+    private void assignSeatIds(List<SessionSeatingMapDTO.Seat> seats, List<UUID> previousIds) {
+        Set<UUID> unclaimed = new HashSet<>(previousIds);
+        boolean[] kept = new boolean[seats.size()];
+        for (int i = 0; i < seats.size(); i++) {
+            kept[i] = seats.get(i).getId() != null && unclaimed.remove(seats.get(i).getId());
+        }
+        for (int i = 0; i < seats.size(); i++) {
+            if (kept[i]) {
+                continue;
+            }
+            UUID previousId = i < previousIds.size() ? previousIds.get(i) : null;
+            seats.get(i).setId(previousId != null && unclaimed.remove(previousId) ? previousId : idGenerator.next());
+        }
+    }
+
+    private List<UUID> previousSeatIds(JsonNode block) {
+        List<UUID> ids = new ArrayList<>();
+        for (JsonNode seat : block.path("seats")) {
+            ids.add(idOf(seat));
+        }
+        return ids;
+    }
+
+    /**
+     * The seats of a stored block keyed by ID, expanding it first if it is in grid form.
+     */
+    private Map<UUID, SessionSeatingMapDTO.Seat> seatsOf(JsonNode node) throws JsonProcessingException {
+        SessionSeatingMapDTO.Block block = objectMapper.treeToValue(node, SessionSeatingMapDTO.Block.class);
+        if (block instanceof SeatGridBlock gridBlock && gridBlock.getGrid() != null) {
+            block.setRows(SeatGridCodec.expand(block.getId(), gridBlock.getGrid()));
+        }
+        Map<UUID, SessionSeatingMapDTO.Seat> seats = new LinkedHashMap<>();
+        if (block.getSeats() != null) {
+            block.getSeats().forEach(seat -> seats.put(seat.getId(), seat));
+        }
+        if (block.getRows() != null) {
+            for (SessionSeatingMapDTO.Row row : block.getRows()) {
+                if (row.getSeats() != null) {
+                    row.getSeats().forEach(seat -> seats.put(seat.getId(), seat));
+                }
+            }
+        }
+        return seats;
+    }
+
+    /**
+     * Add or take a seat from its tier's counts, the same way the availability counters tally seats.
+     */
+    private static void count(SessionSeatingMapDTO.Seat seat, int sign, Map<UUID, int[]> tierCounts) {
+        if (seat.getTierId() == null || seat.getStatus() == SeatStatus.RESERVED) {
+            return;
+        }
+        int[] counts = tierCounts.computeIfAbsent(seat.getTierId(), id -> new int[2]);
+        counts[0] += sign;
+        if (seat.getStatus() == SeatStatus.AVAILABLE) {
+            counts[1] += sign;
+        }
+    }
+
+    private static boolean sameType(JsonNode previous, SessionSeatingMapDTO.Block block) {
+        return Objects.equals(previous.path("type").asText(null), block.getType());
+    }
+
+    private static UUID idOf(JsonNode node) {
+        String id = node.path("id").asText(null);
+        if (id == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.ticketly.mseventseating.exception.ResourceNotFoundException;
 import com.ticketly.mseventseating.model.SeatingLayoutTemplate;
 import com.ticketly.mseventseating.repository.SeatingLayoutTemplateRepository;
 import com.ticketly.mseventseating.service.organization.OrganizationOwnershipService;
+import com.ticketly.mseventseating.service.replica.ReadYourWrites;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -21,6 +22,7 @@ import java.util.UUID;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@ReadYourWrites
 public class SeatingLayoutTemplateOwnershipService {
 
     private final SeatingLayoutTemplateRepository seatingLayoutTemplateRepository;
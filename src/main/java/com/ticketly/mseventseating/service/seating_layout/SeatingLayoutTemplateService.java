@@ -11,6 +11,7 @@ import com.ticketly.mseventseating.model.Organization;
 import com.ticketly.mseventseating.model.SeatingLayoutTemplate;
 import com.ticketly.mseventseating.model.SubscriptionLimitType;
 import com.ticketly.mseventseating.repository.SeatingLayoutTemplateRepository;
+import com.ticketly.mseventseating.service.id.IdGenerator;
 import com.ticketly.mseventseating.service.limts.LimitService;
 import com.ticketly.mseventseating.service.organization.OrganizationOwnershipService;
 import com.ticketly.mseventseating.service.organization.OrganizationService;
@@ -40,6 +41,7 @@ public class SeatingLayoutTemplateService {
     private final SeatingLayoutTemplateOwnershipService templateOwnershipService;
     private final LimitService limitService;
     private final OrganizationService organizationService;
+    private final IdGenerator idGenerator;
 
     private int getGap() {
         return limitService.getSeatingLayoutConfig().getDefaultGap();
@@ -200,7 +202,7 @@ public class SeatingLayoutTemplateService {
         List<LayoutDataDTO.Block> normalizedBlocks = layoutData.getLayout().getBlocks().stream()
                 .map(block -> {
                     LayoutDataDTO.Block newBlock = new LayoutDataDTO.Block();
-                    newBlock.setId(UUID.randomUUID().toString());
+                    newBlock.setId(idGenerator.next().toString());
                     newBlock.setName(block.getName());
                     newBlock.setType(block.getType());
 
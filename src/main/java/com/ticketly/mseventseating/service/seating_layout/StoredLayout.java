@@ -0,0 +1,58 @@
+package com.ticketly.mseventseating.service.seating_layout;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.dto.session.SeatGridBlock;
+import com.ticketly.mseventseating.model.SessionSeatingMap;
+import dto.SessionSeatingMapDTO;
+
+import java.util.List;
+
+/**
+ * A session layout in the two forms it is stored in. {@code layout_data} always lists every row and
+ * seat, as change data capture publishes it and other services read it as a {@link SessionSeatingMapDTO}.
+ * {@code layout_grid} holds the same layout with its seated grids in grid form, for this service only,
+ * and is null when no block has a grid form.
+ *
+ * @param layoutData the expanded layout
+ * @param layoutGrid the layout with grids encoded, or null
+ */
+public record StoredLayout(String layoutData, String layoutGrid) {
+
+    /**
+     * Serialize a prepared layout in both forms. The layout itself is left expanded.
+     */
+    public static StoredLayout of(ObjectMapper objectMapper, SessionSeatingMapDTO layout) throws JsonProcessingException {
+        String layoutData = objectMapper.writeValueAsString(layout);
+        if (layout.getLayout() == null || layout.getLayout().getBlocks() == null) {
+            return new StoredLayout(layoutData, null);
+        }
+        List<SessionSeatingMapDTO.Block> blocks = layout.getLayout().getBlocks();
+        try {
+            SeatGridCodec.encodeLayout(layout);
+            boolean encoded = layout.getLayout().getBlocks().stream().anyMatch(SeatGridBlock.class::isInstance);
+            return new StoredLayout(layoutData, encoded ? objectMapper.writeValueAsString(layout) : null);
+        } finally {
+            layout.getLayout().setBlocks(blocks);
+        }
+    }
+
+    /**
+     * The stored layout of a seating map.
+     */
+    public static StoredLayout of(SessionSeatingMap seatingMap) {
+        return new StoredLayout(seatingMap.getLayoutData(), seatingMap.getLayoutGrid());
+    }
+
+    /**
+     * The smallest form of the layout: grid form when there is one, and the expanded layout otherwise.
+     */
+    public String compactForm() {
+        return layoutGrid != null ? layoutGrid : layoutData;
+    }
+
+    public void applyTo(SessionSeatingMap seatingMap) {
+        seatingMap.setLayoutData(layoutData);
+        seatingMap.setLayoutGrid(layoutGrid);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ticketly.mseventseating.service.session;
 
+import com.ticketly.mseventseating.dto.pagination.CursorPage;
 import com.ticketly.mseventseating.dto.session.OrganizationSessionDTO;
 import com.ticketly.mseventseating.dto.session.SessionAnalyticsResponse;
 import com.ticketly.mseventseating.dto.session.SessionStatusCountDTO;
@@ -12,9 +13,11 @@ import com.ticketly.mseventseating.repository.EventSessionRepository;
 import com.ticketly.mseventseating.repository.OrganizationRepository;
 import com.ticketly.mseventseating.service.event.EventOwnershipService;
 import com.ticketly.mseventseating.service.organization.OrganizationOwnershipService;
+import com.ticketly.mseventseating.service.pagination.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import model.SessionStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,9 +25,9 @@ import org.springframework.security.oauth2.server.resource.authentication.JwtAut
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -36,6 +39,7 @@ public class SessionAnalyticsService {
     private final OrganizationRepository organizationRepository;
     private final EventOwnershipService eventOwnershipService;
     private final OrganizationOwnershipService organizationOwnershipService;
+    private final SessionStatusCounterService sessionStatusCounterService;
 
     /**
      * Get session analytics (counts by status) for a specific event
@@ -56,19 +60,15 @@ public class SessionAnalyticsService {
             throw new UnauthorizedException("User is not authorized to access this event's data");
         }
         
-        // Get total count
-        Long totalSessions = sessionRepository.countSessionsForEvent(eventId);
-        
-        // Get counts by status
-        List<Object[]> countsByStatus = sessionRepository.countSessionsByStatusForEvent(eventId);
-        List<SessionStatusCountDTO> statusCounts = convertToStatusCounts(countsByStatus);
+        // Counts by status come from the maintained counters; the total is their sum
+        List<SessionStatusCountDTO> statusCounts = sessionStatusCounterService.getStatusCountsForEvent(eventId);
         
         return SessionAnalyticsResponse.builder()
                 .eventId(eventId)
                 .eventTitle(event.getTitle())
                 .organizationId(event.getOrganization().getId())
                 .organizationName(event.getOrganization().getName())
-                .totalSessions(totalSessions)
+                .totalSessions(sumCounts(statusCounts))
                 .sessionsByStatus(statusCounts)
                 .build();
     }
@@ -92,17 +92,13 @@ public class SessionAnalyticsService {
             throw new UnauthorizedException("User is not authorized to access this organization's data");
         }
         
-        // Get total count
-        Long totalSessions = sessionRepository.countSessionsForOrganization(organizationId);
-        
-        // Get counts by status
-        List<Object[]> countsByStatus = sessionRepository.countSessionsByStatusForOrganization(organizationId);
-        List<SessionStatusCountDTO> statusCounts = convertToStatusCounts(countsByStatus);
+        // Counts by status come from the maintained counters; the total is their sum
+        List<SessionStatusCountDTO> statusCounts = sessionStatusCounterService.getStatusCountsForOrganization(organizationId);
         
         return SessionAnalyticsResponse.builder()
                 .organizationId(organizationId)
                 .organizationName(organization.getName())
-                .totalSessions(totalSessions)
+                .totalSessions(sumCounts(statusCounts))
                 .sessionsByStatus(statusCounts)
                 .build();
     }
@@ -123,32 +119,67 @@ public class SessionAnalyticsService {
             SessionStatus status, 
             Pageable pageable) {
         
-        // Verify organization exists
+        verifyOrganizationAccess(organizationId, userId);
+        
+        // Get sessions with database level filtering, pagination, and sorting
+        return sessionRepository.findSessionsByOrganization(organizationId, status, pageable);
+    }
+
+    /**
+     * Get sessions for an organization using keyset pagination ordered by start time.
+     * Unlike offset paging, the cost of a page does not grow with its depth, and the
+     * count query only runs when explicitly requested.
+     *
+     * @param organizationId The organization ID
+     * @param userId The user ID for ownership verification
+     * @param status Optional status filter
+     * @param cursor The opaque cursor from the previous page (null for the first page)
+     * @param size The page size
+     * @param includeTotal Whether to also count all matching sessions
+     * @return A cursor page of OrganizationSessionDTO with event details
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<OrganizationSessionDTO> getOrganizationSessionsByCursor(
+            UUID organizationId,
+            String userId,
+            SessionStatus status,
+            String cursor,
+            int size,
+            boolean includeTotal) {
+
+        verifyOrganizationAccess(organizationId, userId);
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.normalizeSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<OrganizationSessionDTO> rows = after == null
+                ? sessionRepository.findSessionsByOrganizationFirstPage(organizationId, status, limit)
+                : sessionRepository.findSessionsByOrganizationAfter(organizationId, status, after.sortKey(), after.id(), limit);
+
+        return KeysetCursor.toPage(rows, pageSize,
+                row -> new KeysetCursor(row.getStartTime(), row.getSessionId()),
+                Function.identity(),
+                includeTotal,
+                () -> sessionRepository.countSessionsByOrganizationAndOptionalStatus(organizationId, status));
+    }
+
+    /**
+     * Verify the organization exists and the user owns it (admins bypass the ownership check)
+     */
+    private void verifyOrganizationAccess(UUID organizationId, String userId) {
         if (!organizationRepository.existsById(organizationId)) {
             throw new ResourceNotFoundException("Organization not found with id: " + organizationId);
         }
-        
-        // Verify ownership unless user is admin
+
         boolean isAdmin = hasEventAdminRole();
         if (!isAdmin && !organizationOwnershipService.isOwner(organizationId, userId)) {
             throw new UnauthorizedException("User is not authorized to access this organization's data");
         }
-        
-        // Get sessions with database level filtering, pagination, and sorting
-        return sessionRepository.findSessionsByOrganization(organizationId, status, pageable);
     }
     
-    /**
-     * Convert raw query results to DTOs
-     */
-    private List<SessionStatusCountDTO> convertToStatusCounts(List<Object[]> countsByStatus) {
-        List<SessionStatusCountDTO> result = new ArrayList<>();
-        for (Object[] row : countsByStatus) {
-            SessionStatus status = (SessionStatus) row[0];
-            Long count = (Long) row[1];
-            result.add(new SessionStatusCountDTO(status, count));
-        }
-        return result;
+    private Long sumCounts(List<SessionStatusCountDTO> statusCounts) {
+        return statusCounts.stream().mapToLong(SessionStatusCountDTO::getCount).sum();
     }
     
     /**
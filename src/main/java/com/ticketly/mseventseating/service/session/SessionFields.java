@@ -0,0 +1,75 @@
+package com.ticketly.mseventseating.service.session;
+
+import com.ticketly.mseventseating.dto.session.SessionResponse;
+import com.ticketly.mseventseating.exception.BadRequestException;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The {@link SessionResponse} fields a client can select with {@code ?fields=}. The ID is always
+ * included.
+ */
+final class SessionFields {
+
+    static final String LAYOUT_DATA = "layoutData";
+
+    private static final Map<String, Function<SessionResponse, Object>> ACCESSORS = new LinkedHashMap<>();
+
+    static {
+        ACCESSORS.put("id", SessionResponse::getId);
+        ACCESSORS.put("eventId", SessionResponse::getEventId);
+        ACCESSORS.put("startTime", SessionResponse::getStartTime);
+        ACCESSORS.put("endTime", SessionResponse::getEndTime);
+        ACCESSORS.put("salesStartTime", SessionResponse::getSalesStartTime);
+        ACCESSORS.put("sessionType", SessionResponse::getSessionType);
+        ACCESSORS.put("status", SessionResponse::getStatus);
+        ACCESSORS.put("venueDetails", SessionResponse::getVenueDetails);
+        ACCESSORS.put(LAYOUT_DATA, SessionResponse::getLayoutData);
+    }
+
+    private SessionFields() {
+    }
+
+    /**
+     * Parse a comma-separated field list.
+     *
+     * @throws BadRequestException if a field doesn't exist
+     */
+    static Set<String> parse(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        if (fields == null) {
+            return selected;
+        }
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!ACCESSORS.containsKey(name)) {
+                throw new BadRequestException("Unknown session field '" + name + "'. Supported fields: " +
+                        String.join(", ", ACCESSORS.keySet()));
+            }
+            selected.add(name);
+        }
+        return selected;
+    }
+
+    /**
+     * The selected fields of a session, in declaration order. Selected fields without a value are
+     * kept as nulls.
+     */
+    static Map<String, Object> select(SessionResponse session, Set<String> selected) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        ACCESSORS.forEach((name, accessor) -> {
+            if (selected.contains(name)) {
+                values.put(name, accessor.apply(session));
+            }
+        });
+        return values;
+    }
+}
@@ -2,12 +2,14 @@ package com.ticketly.mseventseating.service.session;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.config.AppLimitsConfig;
 import com.ticketly.mseventseating.dto.event.SessionRequest;
 import com.ticketly.mseventseating.dto.session.CreateSessionsRequest;
 import com.ticketly.mseventseating.dto.session.SessionBatchResponse;
 import com.ticketly.mseventseating.dto.session.SessionLayoutUpdateDTO;
 import com.ticketly.mseventseating.dto.session.SessionResponse;
 import com.ticketly.mseventseating.dto.session.SessionStatusUpdateDTO;
+import com.ticketly.mseventseating.dto.session.SessionSummaryDTO;
 import com.ticketly.mseventseating.dto.session.SessionTimeUpdateDTO;
 import com.ticketly.mseventseating.dto.session.SessionVenueDetailsUpdateDTO;
 import com.ticketly.mseventseating.dto.session.SessionVenueUpdateDTO;
@@ -17,8 +19,16 @@ import com.ticketly.mseventseating.exception.UnauthorizedException;
 import com.ticketly.mseventseating.model.*;
 import com.ticketly.mseventseating.repository.EventRepository;
 import com.ticketly.mseventseating.repository.EventSessionRepository;
+import com.ticketly.mseventseating.repository.SessionSeatingMapRepository;
 import com.ticketly.mseventseating.service.event.EventOwnershipService;
+import com.ticketly.mseventseating.service.id.IdGenerator;
 import com.ticketly.mseventseating.service.limts.LimitService;
+import com.ticketly.mseventseating.service.seat.SeatAvailabilityService;
+import com.ticketly.mseventseating.service.seating_layout.SeatGridCodec;
+import com.ticketly.mseventseating.service.seating_layout.SeatingLayoutChangedEvent;
+import com.ticketly.mseventseating.service.seating_layout.SeatingLayoutDiff;
+import com.ticketly.mseventseating.service.seating_layout.SeatingLayoutDiffer;
+import com.ticketly.mseventseating.service.seating_layout.StoredLayout;
 import com.ticketly.mseventseating.dto.event.VenueDetailsDTO;
 import dto.SessionSeatingMapDTO;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +36,7 @@ import lombok.extern.slf4j.Slf4j;
 import model.SeatStatus;
 import model.SessionStatus;
 import model.SessionType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,6 +46,8 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 
@@ -49,6 +62,12 @@ public class SessionManagementService {
     private final LimitService limitService;
     private final SessionOwnershipService ownershipService;
     private final EventOwnershipService eventOwnershipService;
+    private final SessionStatusCounterService sessionStatusCounterService;
+    private final SeatAvailabilityService seatAvailabilityService;
+    private final SessionSeatingMapRepository seatingMapRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IdGenerator idGenerator;
+    private final AppLimitsConfig appLimitsConfig;
 
     /**
      * Create multiple sessions for an event
@@ -71,6 +90,7 @@ public class SessionManagementService {
         validateSessionLimit(event, request.getSessions().size(), jwt);
 
         List<EventSession> createdSessions = new ArrayList<>();
+        SeatGridCodec.SeatBudget seatBudget = newSeatBudget();
 
         for (SessionRequest sessionDTO : request.getSessions()) {
             log.debug("Building session for startTime: {}, endTime: {}", sessionDTO.getStartTime(), sessionDTO.getEndTime());
@@ -78,10 +98,11 @@ public class SessionManagementService {
 
             List<Tier> tiers = event.getTiers();
 
-            String validatedLayoutData = prepareSessionLayout(sessionDTO.getLayoutData(), tiers);
+            StoredLayout storedLayout = prepareSessionLayout(sessionDTO.getLayoutData(), tiers, seatBudget);
 
             SessionSeatingMap map = SessionSeatingMap.builder()
-                    .layoutData(validatedLayoutData)
+                    .layoutData(storedLayout.layoutData())
+                    .layoutGrid(storedLayout.layoutGrid())
                     .eventSession(session)
                     .build();
 
@@ -90,6 +111,8 @@ public class SessionManagementService {
         }
 
         List<EventSession> savedSessions = sessionRepository.saveAll(createdSessions);
+        sessionStatusCounterService.recordCreated(event, savedSessions);
+        seatAvailabilityService.seedForSessions(savedSessions);
         log.info("Successfully created {} sessions for event: {}", savedSessions.size(), event.getId());
 
         List<SessionResponse> sessionResponses = savedSessions.stream()
@@ -116,14 +139,25 @@ public class SessionManagementService {
                     return new ResourceNotFoundException("Session not found with ID: " + sessionId);
                 });
 
+        checkReadAccess(sessionId, userId);
+
+        log.debug("User {} fetched session {}", userId, sessionId);
+        return mapToSessionResponse(session);
+    }
+
+    /**
+     * Check that a user may read a session, without loading it. Both checks are cached, so this
+     * can run ahead of a conditional request that may not need the session at all.
+     *
+     * @throws ResourceNotFoundException if the session doesn't exist
+     * @throws UnauthorizedException     if the user is neither the owner nor a scanner
+     */
+    public void checkReadAccess(UUID sessionId, String userId) {
         if (!ownershipService.isOwner(sessionId, userId) &&
                 !ownershipService.hasRole(sessionId, userId, OrganizationRole.SCANNER)) {
             log.warn("User {} is not authorized to access session {}", userId, sessionId);
             throw new UnauthorizedException("User is not authorized to access this session");
         }
-
-        log.debug("User {} fetched session {}", userId, sessionId);
-        return mapToSessionResponse(session);
     }
 
 
@@ -132,17 +166,7 @@ public class SessionManagementService {
      */
     public List<SessionResponse> getSessionsByEvent(UUID eventId, String userId) {
         log.info("Fetching sessions for event ID: {}", eventId);
-
-        eventRepository.findById(eventId)
-                .orElseThrow(() -> {
-                    log.error("Event not found with ID: {}", eventId);
-                    return new ResourceNotFoundException("Event not found with ID: " + eventId);
-                });
-
-        if (!eventOwnershipService.isOwner(eventId, userId)) {
-            log.warn("User {} is not authorized to view sessions for event {}", userId, eventId);
-            throw new UnauthorizedException("User is not authorized to view sessions for this event");
-        }
+        checkEventAccess(eventId, userId);
 
         List<EventSession> sessions = sessionRepository.findAllByEventId(eventId);
 
@@ -154,6 +178,68 @@ public class SessionManagementService {
                 .toList();
     }
 
+    /**
+     * Get all sessions for an event without their layouts. Only the session columns are read, so
+     * no layout is loaded or parsed; {@link #getSessionLayout} fetches one when it's needed.
+     */
+    public List<SessionResponse> getSessionSummariesByEvent(UUID eventId, String userId) {
+        log.info("Fetching session summaries for event ID: {}", eventId);
+        checkEventAccess(eventId, userId);
+
+        List<SessionSummaryDTO> sessions = sessionRepository.findSummariesByEventId(eventId);
+
+        log.debug("Found {} sessions for event {}", sessions.size(), eventId);
+
+        return sessions.stream()
+                .map(this::mapToSessionResponse)
+                .toList();
+    }
+
+    /**
+     * Get the selected fields of all sessions for an event. Layouts are only loaded when
+     * {@code layoutData} is one of the fields.
+     *
+     * @param fields comma-separated {@link SessionResponse} field names
+     * @throws BadRequestException if a field doesn't exist
+     */
+    public List<Map<String, Object>> getSessionFieldsByEvent(UUID eventId, String userId, String fields) {
+        Set<String> selected = SessionFields.parse(fields);
+        List<SessionResponse> sessions = selected.contains(SessionFields.LAYOUT_DATA)
+                ? getSessionsByEvent(eventId, userId)
+                : getSessionSummariesByEvent(eventId, userId);
+        return sessions.stream()
+                .map(session -> SessionFields.select(session, selected))
+                .toList();
+    }
+
+    /**
+     * Get the seating layout of a session on its own, for clients that listed sessions without it
+     */
+    public SessionSeatingMapDTO getSessionLayout(UUID sessionId, String userId) {
+        checkReadAccess(sessionId, userId);
+
+        String layoutData = seatingMapRepository.findLayoutDataBySessionId(sessionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Seating map not found for session: " + sessionId));
+        try {
+            return objectMapper.readValue(layoutData, SessionSeatingMapDTO.class);
+        } catch (JsonProcessingException e) {
+            log.error("Error parsing layout data for session {}", sessionId, e);
+            throw new IllegalStateException("Stored layout of session " + sessionId + " could not be read", e);
+        }
+    }
+
+    private void checkEventAccess(UUID eventId, String userId) {
+        if (!eventRepository.existsById(eventId)) {
+            log.error("Event not found with ID: {}", eventId);
+            throw new ResourceNotFoundException("Event not found with ID: " + eventId);
+        }
+
+        if (!eventOwnershipService.isOwner(eventId, userId)) {
+            log.warn("User {} is not authorized to view sessions for event {}", userId, eventId);
+            throw new UnauthorizedException("User is not authorized to view sessions for this event");
+        }
+    }
+
     /**
      * Update a session's time details
      */
@@ -229,6 +315,7 @@ public class SessionManagementService {
             throw e;
         }
 
+        SessionStatus previousStatus = session.getStatus();
         SessionStatus newStatus = updateDTO.getStatus();
         session.setStatus(newStatus);
 
@@ -237,6 +324,7 @@ public class SessionManagementService {
         }
 
         EventSession updatedSession = sessionRepository.save(session);
+        sessionStatusCounterService.recordTransition(updatedSession, previousStatus);
 
         ownershipService.evictSessionCacheById(sessionId);
 
@@ -281,10 +369,7 @@ public class SessionManagementService {
 
         List<Tier> tiers = session.getEvent().getTiers();
 
-        String validatedLayoutData = prepareSessionLayout(updateDTO.getLayoutData(), tiers);
-
-        SessionSeatingMap seatingMap = session.getSessionSeatingMap();
-        seatingMap.setLayoutData(validatedLayoutData);
+        replaceSessionLayout(session, updateDTO.getLayoutData(), tiers);
 
         EventSession updatedSession = sessionRepository.save(session);
 
@@ -364,10 +449,7 @@ public class SessionManagementService {
 
         List<Tier> tiers = session.getEvent().getTiers();
 
-        String validatedLayoutData = prepareSessionLayout(updateDTO.getLayoutData(), tiers);
-
-        SessionSeatingMap seatingMap = session.getSessionSeatingMap();
-        seatingMap.setLayoutData(validatedLayoutData);
+        replaceSessionLayout(session, updateDTO.getLayoutData(), tiers);
 
         EventSession updatedSession = sessionRepository.save(session);
 
@@ -405,6 +487,7 @@ public class SessionManagementService {
         sessionRepository.removeSessionFromDiscounts(sessionId);
 
         sessionRepository.delete(session);
+        sessionStatusCounterService.recordDeleted(session);
 
         ownershipService.evictSessionCacheById(sessionId);
 
@@ -442,6 +525,22 @@ public class SessionManagementService {
                 .build();
     }
 
+    /**
+     * Map a session read without its seating map to SessionResponse
+     */
+    private SessionResponse mapToSessionResponse(SessionSummaryDTO session) {
+        return SessionResponse.builder()
+                .id(session.getId())
+                .eventId(session.getEventId())
+                .startTime(session.getStartTime())
+                .endTime(session.getEndTime())
+                .salesStartTime(session.getSalesStartTime())
+                .sessionType(session.getSessionType())
+                .status(session.getStatus())
+                .venueDetails(parseVenueDetails(session.getVenueDetails()))
+                .build();
+    }
+
     /**
      * Validate that adding more sessions won't exceed the subscription limit
      */
@@ -614,6 +713,48 @@ public class SessionManagementService {
         }
     }
 
+    /**
+     * Replace a session's layout, keeping the IDs of blocks and seats that match the stored layout.
+     * Only a layout that changed is written, and the availability counters are moved by the seats
+     * that changed rather than reseeded.
+     */
+    private void replaceSessionLayout(EventSession session, SessionSeatingMapDTO layoutData, List<Tier> tiers) {
+        SessionSeatingMap seatingMap = session.getSessionSeatingMap();
+        SeatingLayoutDiff diff;
+        StoredLayout storedLayout;
+        try {
+            SeatingLayoutDiffer differ = SeatingLayoutDiffer.from(objectMapper, idGenerator,
+                    StoredLayout.of(seatingMap).compactForm());
+            storedLayout = prepareSessionLayout(layoutData, tiers, differ, newSeatBudget());
+            diff = differ.diff(storedLayout.compactForm());
+        } catch (IOException e) {
+            log.error("Failed to compare seating layouts of session {}", session.getId(), e);
+            throw new BadRequestException("Invalid session layout data: " + e.getMessage());
+        }
+        if (!diff.layoutChanged()) {
+            log.info("Seating layout of session {} is unchanged", session.getId());
+            return;
+        }
+
+        storedLayout.applyTo(seatingMap);
+        seatAvailabilityService.applyLayoutDiff(session.getId(), diff);
+        eventPublisher.publishEvent(new SeatingLayoutChangedEvent(session.getId(), diff));
+        log.info("Seating layout of session {} changed: {} blocks added, {} removed, {} changed; {} seats added, {} removed, {} changed",
+                session.getId(), diff.addedBlockIds().size(), diff.removedBlockIds().size(), diff.changedBlockIds().size(),
+                diff.addedSeatIds().size(), diff.removedSeatIds().size(), diff.changedSeatIds().size());
+    }
+
+    private StoredLayout prepareSessionLayout(SessionSeatingMapDTO layoutData, List<Tier> tiers,
+                                              SeatGridCodec.SeatBudget seatBudget) {
+        return prepareSessionLayout(layoutData, tiers, SeatingLayoutDiffer.forNewLayout(objectMapper, idGenerator), seatBudget);
+    }
+
+    private SeatGridCodec.SeatBudget newSeatBudget() {
+        AppLimitsConfig.SeatingMapConfig limits = appLimitsConfig.getSeatingMap();
+        return new SeatGridCodec.SeatBudget(limits.getMaxLayoutSeats(), limits.getMaxLayoutBlocks(),
+                limits.getMaxRequestSeats());
+    }
+
     /**
      * Prepares and validates session layout data.
      * This includes:
@@ -623,34 +764,36 @@ public class SessionManagementService {
      *
      * @param layoutData The layout data to validate
      * @param tiers      The list of tiers to validate against
-     * @return Validated layout data as a JSON string
+     * @param differ     Assigns the IDs, keeping those of the layout being replaced
+     * @param seatBudget Seats and blocks the layout may expand to, shared by the layouts of one request
+     * @return Validated layout data, expanded and in grid form
      */
-    private String prepareSessionLayout(SessionSeatingMapDTO layoutData, List<Tier> tiers) {
+    private StoredLayout prepareSessionLayout(SessionSeatingMapDTO layoutData, List<Tier> tiers, SeatingLayoutDiffer differ,
+                                              SeatGridCodec.SeatBudget seatBudget) {
         try {
             if (layoutData == null || layoutData.getLayout() == null || layoutData.getLayout().getBlocks() == null) {
                 log.warn("Layout data or blocks cannot be null.");
                 throw new BadRequestException("Layout data or blocks cannot be null.");
             }
 
-            for (SessionSeatingMapDTO.Block block : layoutData.getLayout().getBlocks()) {
-                block.setId(UUID.randomUUID());
+            SeatGridCodec.expandLayout(layoutData, seatBudget);
 
-                if ("seated_grid".equals(block.getType())) {
+            // Grid row and seat IDs are derived from the block ID, so the grid can be stored in layout_grid procedurally
+            differ.assignIds(layoutData);
+            for (SessionSeatingMapDTO.Block block : layoutData.getLayout().getBlocks()) {
+                if (SeatGridCodec.SEATED_GRID.equals(block.getType())) {
                     if (block.getRows() == null) continue;
                     for (SessionSeatingMapDTO.Row row : block.getRows()) {
-                        row.setId(UUID.randomUUID());
                         if (row.getSeats() != null) {
                             validateSeats(row.getSeats(), tiers);
                         }
                     }
-                } else if ("standing_capacity".equals(block.getType())) {
-                    if (block.getSeats() != null) {
-                        validateSeats(block.getSeats(), tiers);
-                    }
+                } else if ("standing_capacity".equals(block.getType()) && block.getSeats() != null) {
+                    validateSeats(block.getSeats(), tiers);
                 }
             }
-            return objectMapper.writeValueAsString(layoutData);
-        } catch (IOException e) {
+            return StoredLayout.of(objectMapper, layoutData);
+        } catch (IOException | IllegalArgumentException e) {
             log.error("Invalid session layout data", e);
             throw new BadRequestException("Invalid session layout data: " + e.getMessage());
         }
@@ -659,7 +802,6 @@ public class SessionManagementService {
 
     private void validateSeats(List<SessionSeatingMapDTO.Seat> seats, List<Tier> tiers) {
         for (SessionSeatingMapDTO.Seat seat : seats) {
-            seat.setId(UUID.randomUUID());
             if (seat.getStatus() == SeatStatus.RESERVED) {
                 continue;
             }
@@ -0,0 +1,35 @@
+package com.ticketly.mseventseating.service.session;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically verifies the session status counters against the base tables.
+ * Repairs are idempotent, so it is safe for several instances to run this concurrently.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.analytics.session-counters.reconcile-enabled", havingValue = "true", matchIfMissing = true)
+public class SessionStatusCounterReconciler {
+
+    private final SessionStatusCounterService sessionStatusCounterService;
+
+    @Scheduled(cron = "${app.analytics.session-counters.reconcile-cron:0 17 * * * *}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        try {
+            int repaired = sessionStatusCounterService.reconcile();
+            if (repaired > 0) {
+                log.warn("Reconciled {} drifted session status counters in {} ms", repaired, System.currentTimeMillis() - start);
+            } else {
+                log.debug("Session status counters verified in {} ms", System.currentTimeMillis() - start);
+            }
+        } catch (Exception e) {
+            log.error("Session status counter reconciliation failed", e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.ticketly.mseventseating.service.session;
+
+import com.ticketly.mseventseating.dto.session.SessionStatusCountDTO;
+import com.ticketly.mseventseating.dto.session.SessionStatusCounterDrift;
+import com.ticketly.mseventseating.model.Event;
+import com.ticketly.mseventseating.model.EventSession;
+import com.ticketly.mseventseating.repository.SessionStatusCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import model.SessionStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maintains the per (organization, event, status) session counters used by analytics.
+ * <p>
+ * The write methods must run inside the transaction that changes the sessions, so the counters
+ * commit or roll back together with the base rows. Deltas are applied with an atomic upsert,
+ * which makes concurrent updates to the same event safe without read-modify-write.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SessionStatusCounterService {
+
+    private final SessionStatusCounterRepository counterRepository;
+
+    /**
+     * Count newly created sessions of an event.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Event event, Collection<EventSession> sessions) {
+        if (sessions == null || sessions.isEmpty()) {
+            return;
+        }
+        Map<SessionStatus, Long> deltas = new EnumMap<>(SessionStatus.class);
+        for (EventSession session : sessions) {
+            deltas.merge(session.getStatus(), 1L, Long::sum);
+        }
+        applyDeltas(event, deltas);
+    }
+
+    /**
+     * Move a session from its previous status to its current one.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(EventSession session, SessionStatus previousStatus) {
+        if (previousStatus == session.getStatus()) {
+            return;
+        }
+        Map<SessionStatus, Long> deltas = new EnumMap<>(SessionStatus.class);
+        deltas.put(previousStatus, -1L);
+        deltas.put(session.getStatus(), 1L);
+        applyDeltas(session.getEvent(), deltas);
+    }
+
+    /**
+     * Apply net per-status deltas for an event, e.g. after a bulk transition of its sessions.
+     * Zero deltas are skipped.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyDeltas(Event event, Map<SessionStatus, Long> deltas) {
+        applyDeltas(event.getOrganization().getId(), event.getId(), deltas);
+    }
+
+    /**
+     * Same as {@link #applyDeltas(Event, Map)}, for callers that only have the IDs.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyDeltas(UUID organizationId, UUID eventId, Map<SessionStatus, Long> deltas) {
+        deltas.forEach((status, delta) -> {
+            if (delta != 0) {
+                counterRepository.addToCounter(organizationId, eventId, status.name(), delta);
+            }
+        });
+    }
+
+    /**
+     * Uncount a session that is being deleted.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(EventSession session) {
+        applyDeltas(session.getEvent(), Map.of(session.getStatus(), -1L));
+    }
+
+    /**
+     * Drop all counters of an event that is being deleted together with its sessions.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeEvent(UUID eventId) {
+        counterRepository.deleteByEventId(eventId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SessionStatusCountDTO> getStatusCountsForEvent(UUID eventId) {
+        return toStatusCounts(counterRepository.sumByStatusForEvent(eventId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<SessionStatusCountDTO> getStatusCountsForOrganization(UUID organizationId) {
+        return toStatusCounts(counterRepository.sumByStatusForOrganization(organizationId));
+    }
+
+    /**
+     * Verify every counter against event_sessions and reset the ones that drifted.
+     * Each drifted key is recomputed at repair time rather than written from the comparison
+     * snapshot, so a session change committed in between is not overwritten with a stale value.
+     *
+     * @return the number of counters that were repaired
+     */
+    @Transactional
+    public int reconcile() {
+        List<SessionStatusCounterDrift> drift = counterRepository.findDrift();
+        for (SessionStatusCounterDrift row : drift) {
+            log.warn("Session counter drift for organization {} event {} status {}: counted {}, actual {}",
+                    row.getOrganizationId(), row.getEventId(), row.getStatus(), row.getCounted(), row.getActual());
+            counterRepository.resetCounter(row.getOrganizationId(), row.getEventId(), row.getStatus());
+        }
+        return drift.size();
+    }
+
+    private List<SessionStatusCountDTO> toStatusCounts(List<Object[]> rows) {
+        List<SessionStatusCountDTO> result = new ArrayList<>();
+        for (Object[] row : rows) {
+            result.add(new SessionStatusCountDTO((SessionStatus) row[0], ((Number) row[1]).longValue()));
+        }
+        return result;
+    }
+}
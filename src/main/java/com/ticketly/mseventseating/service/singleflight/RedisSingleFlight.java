@@ -0,0 +1,159 @@
+package com.ticketly.mseventseating.service.singleflight;
+
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one computation per key across instances, through a short lock in Redis. The
+ * instance holding the lock computes the result and shares it in Redis for a few seconds; the
+ * others poll for it instead of computing it again.
+ * <p>
+ * Only instances that ask while the lock is held wait. When the lock expires, is released without
+ * a shared result, or Redis is unavailable, callers compute the result themselves, so a slow or
+ * failed instance never blocks the others for longer than the lock's TTL. Keys should identify
+ * the exact result, e.g. by including a version, as shared results are served until they expire.
+ * <p>
+ * Use behind a {@link SingleFlight}, so each instance takes part with one caller per key. Calls
+ * are counted under {@code singleflight.calls}, tagged {@code led}, {@code remote} or
+ * {@code fallback}.
+ */
+@Service
+@Slf4j
+public class RedisSingleFlight {
+
+    private static final String KEY_PREFIX = "event-seating::single-flight::";
+    private static final String LOCK_SUFFIX = "::lock";
+
+    /**
+     * Deletes the lock only if this instance still holds it.
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final AppLimitsConfig.SingleFlightConfig config;
+    private final MeterRegistry meterRegistry;
+
+    public RedisSingleFlight(@Qualifier("binaryRedisTemplate") RedisTemplate<String, byte[]> redisTemplate,
+                             AppLimitsConfig appLimitsConfig,
+                             MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.config = appLimitsConfig.getSingleFlight();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Get the result for a key from the instance computing it, or compute it here.
+     *
+     * @param name        names the flight in metrics
+     * @param key         identifies the result
+     * @param computation computes the result; called at most once
+     */
+    public byte[] execute(String name, String key, Supplier<byte[]> computation) {
+        if (!config.isDistributed()) {
+            return computation.get();
+        }
+
+        String resultKey = KEY_PREFIX + key;
+        String lockKey = resultKey + LOCK_SUFFIX;
+        byte[] token = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+        byte[] shared = null;
+        boolean leading = false;
+        try {
+            shared = redisTemplate.opsForValue().get(resultKey);
+            if (shared == null) {
+                leading = Boolean.TRUE.equals(
+                        redisTemplate.opsForValue().setIfAbsent(lockKey, token, config.getLockTtl()));
+                if (!leading) {
+                    shared = await(resultKey, lockKey);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Single-flight lock unavailable for {}, computing locally", key, e);
+        }
+        if (shared != null) {
+            count(name, "remote");
+            return shared;
+        }
+        if (!leading) {
+            count(name, "fallback");
+            return computation.get();
+        }
+
+        count(name, "led");
+        try {
+            byte[] result = computation.get();
+            share(resultKey, result);
+            return result;
+        } finally {
+            release(lockKey, token);
+        }
+    }
+
+    /**
+     * Poll for the result of the instance holding the lock until it appears, the lock is gone or
+     * the lock's TTL has passed.
+     *
+     * @return the shared result, or null if there is none to wait for
+     */
+    private byte[] await(String resultKey, String lockKey) {
+        long deadline = System.nanoTime() + config.getLockTtl().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(config.getPollInterval());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            List<byte[]> values = redisTemplate.opsForValue().multiGet(List.of(resultKey, lockKey));
+            if (values == null) {
+                return null;
+            }
+            if (values.get(0) != null || values.get(1) == null) {
+                return values.get(0);
+            }
+        }
+        return null;
+    }
+
+    private void share(String resultKey, byte[] result) {
+        if (result.length > config.getMaxSharedBytes()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(resultKey, result, config.getResultTtl());
+        } catch (DataAccessException e) {
+            // Waiting instances compute it themselves once the lock is released
+            log.warn("Failed to share single-flight result {}", resultKey, e);
+        }
+    }
+
+    private void release(String lockKey, byte[] token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), (Object) token);
+        } catch (DataAccessException e) {
+            // The lock expires on its own
+            log.warn("Failed to release single-flight lock {}", lockKey, e);
+        }
+    }
+
+    private void count(String name, String outcome) {
+        SingleFlight.counter(name, outcome, meterRegistry).increment();
+    }
+}
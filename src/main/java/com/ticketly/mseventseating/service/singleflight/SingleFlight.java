@@ -0,0 +1,83 @@
+package com.ticketly.mseventseating.service.singleflight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one computation per key at a time on this instance. A caller asking for a key that
+ * is already being computed waits for that computation and gets its result, or its exception,
+ * instead of starting another one.
+ * <p>
+ * Nothing is kept once a computation finishes, so this only merges concurrent callers; caching the
+ * result is up to the caller. Calls are counted under {@code singleflight.calls}, tagged with the
+ * flight's name and whether the caller computed or joined.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter joined;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executed = counter(name, "executed", meterRegistry);
+        this.joined = counter(name, "joined", meterRegistry);
+    }
+
+    static Counter counter(String name, String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("singleflight.calls")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Compute the value for a key on the calling thread, or wait for the computation already
+     * running for it.
+     */
+    public V execute(K key, Supplier<V> computation) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> running = calls.putIfAbsent(key, call);
+        if (running != null) {
+            joined.increment();
+            return await(running);
+        }
+
+        executed.increment();
+        try {
+            V value = computation.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    /**
+     * Whether a computation is running for a key.
+     */
+    public boolean isInFlight(K key) {
+        return calls.containsKey(key);
+    }
+
+    private static <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
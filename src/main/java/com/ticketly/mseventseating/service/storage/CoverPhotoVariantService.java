@@ -0,0 +1,393 @@
+package com.ticketly.mseventseating.service.storage;
+
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.model.EventCoverPhoto;
+import com.ticketly.mseventseating.repository.EventCoverPhotoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Generates resized derivatives of uploaded cover photos so that listing pages do not
+ * have to download the full-size original. Each original is decoded once and scaled down
+ * into hero, card and thumbnail renditions on a bounded, CPU-sized thread pool.
+ * <p>
+ * Renditions of photos saved in a transaction are generated once it commits, so the S3 work never
+ * holds a transaction open and nothing is uploaded for one that rolls back. The committing thread
+ * only hands the photos to the pool: each job records its photo's renditions itself, and is given
+ * up on when it runs out of time. Whatever a photo's generation wrote is deleted again when it
+ * fails or runs out of time.
+ */
+@Service
+@Slf4j
+public class CoverPhotoVariantService {
+
+    static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+    static final String VARIANT_EXTENSION = ".jpg";
+
+    private final S3StorageService s3StorageService;
+    private final AppLimitsConfig appLimitsConfig;
+    private final ExecutorService coverPhotoExecutor;
+    private final EventCoverPhotoRepository coverPhotoRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public CoverPhotoVariantService(S3StorageService s3StorageService,
+                                    AppLimitsConfig appLimitsConfig,
+                                    @Qualifier("coverPhotoExecutor") ExecutorService coverPhotoExecutor,
+                                    EventCoverPhotoRepository coverPhotoRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.s3StorageService = s3StorageService;
+        this.appLimitsConfig = appLimitsConfig;
+        this.coverPhotoExecutor = coverPhotoExecutor;
+        this.coverPhotoRepository = coverPhotoRepository;
+        // Variants are recorded from pool threads, after the saving transaction has finished
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Keys of the generated renditions of a single cover photo.
+     */
+    public record CoverPhotoVariants(String thumbnailKey, String cardKey, String heroKey) {
+    }
+
+    /**
+     * Start generating variants for the given cover photos once the current transaction commits;
+     * outside a transaction they are started immediately. Nothing waits for them: each photo's job
+     * records its keys in a transaction of its own when it finishes. Photos without variants keep
+     * serving the original.
+     *
+     * @param coverPhotos    the saved cover photos; only those with an original in the map are processed
+     * @param originalsByKey the raw bytes of each original, keyed by its S3 key
+     */
+    public void generateVariantsAfterCommit(Collection<EventCoverPhoto> coverPhotos, Map<String, byte[]> originalsByKey) {
+        if (!getConfig().isEnabled() || coverPhotos == null || originalsByKey == null || originalsByKey.isEmpty()) {
+            return;
+        }
+        List<EventCoverPhoto> photos = new ArrayList<>(coverPhotos);
+        Map<String, byte[]> originals = new LinkedHashMap<>(originalsByKey);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submitVariants(photos, originals);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submitVariants(photos, originals);
+            }
+        });
+    }
+
+    /**
+     * Queue a job per photo and return. A job records its photo's variants once its uploads are
+     * done, unless it was given up on first when the timeout elapsed. Photos that don't fit in the
+     * pool's queue keep serving the original.
+     */
+    private void submitVariants(List<EventCoverPhoto> photos, Map<String, byte[]> originalsByKey) {
+        AppLimitsConfig.CoverVariantConfig config = getConfig();
+        Executor timeout = CompletableFuture.delayedExecutor(config.getTimeoutSeconds(), TimeUnit.SECONDS);
+        for (EventCoverPhoto photo : photos) {
+            byte[] bytes = originalsByKey.get(photo.getPhotoUrl());
+            if (bytes == null) {
+                continue;
+            }
+            VariantJob job = new VariantJob(photo.getPhotoUrl(), bytes, config, variants -> recordVariants(photo, variants));
+            try {
+                job.future = coverPhotoExecutor.submit(job);
+            } catch (RejectedExecutionException e) {
+                log.warn("Cover photo pool is full, skipping variants for {}", photo.getPhotoUrl());
+                continue;
+            }
+            timeout.execute(() -> {
+                if (job.giveUp()) {
+                    log.warn("Timed out generating variants for cover photo {}", photo.getPhotoUrl());
+                }
+            });
+        }
+    }
+
+    /**
+     * Generate variants for a batch of uploaded originals in parallel.
+     *
+     * @param originalsByKey the raw bytes of each original, keyed by its S3 key
+     * @return the generated variants keyed by the original's S3 key; originals that could
+     * not be decoded or processed in time are omitted so callers fall back to the original
+     */
+    public Map<String, CoverPhotoVariants> generateVariants(Map<String, byte[]> originalsByKey) {
+        AppLimitsConfig.CoverVariantConfig config = getConfig();
+        if (!config.isEnabled() || originalsByKey == null || originalsByKey.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, VariantJob> jobs = new LinkedHashMap<>();
+        originalsByKey.forEach((key, bytes) -> {
+            VariantJob job = new VariantJob(key, bytes, config, null);
+            try {
+                job.future = coverPhotoExecutor.submit(job);
+                jobs.put(key, job);
+            } catch (RejectedExecutionException e) {
+                log.warn("Cover photo pool is full, skipping variants for {}", key);
+            }
+        });
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.getTimeoutSeconds());
+        Map<String, CoverPhotoVariants> result = new LinkedHashMap<>();
+        for (Map.Entry<String, VariantJob> entry : jobs.entrySet()) {
+            VariantJob job = entry.getValue();
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                CoverPhotoVariants variants = job.future.get(remaining, TimeUnit.NANOSECONDS);
+                if (variants != null) {
+                    result.put(entry.getKey(), variants);
+                }
+            } catch (TimeoutException e) {
+                job.abandon();
+                log.warn("Timed out generating variants for cover photo {}", entry.getKey());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                job.abandon();
+                log.warn("Interrupted while generating variants for cover photo {}", entry.getKey());
+            } catch (ExecutionException e) {
+                log.warn("Failed to generate variants for cover photo {}", entry.getKey(), e.getCause());
+            }
+        }
+        log.debug("Generated variants for {}/{} cover photos", result.size(), originalsByKey.size());
+        return result;
+    }
+
+    /**
+     * Delete all generated variants of a cover photo from S3. Failures are logged and ignored.
+     */
+    public void deleteVariants(EventCoverPhoto coverPhoto) {
+        deleteKeys(Arrays.asList(coverPhoto.getThumbnailUrl(), coverPhoto.getCardUrl(), coverPhoto.getHeroUrl()));
+    }
+
+    /**
+     * Store a photo's variant keys, deleting the variants if the photo was removed meanwhile or
+     * could not be updated.
+     */
+    private void recordVariants(EventCoverPhoto photo, CoverPhotoVariants variants) {
+        try {
+            Integer updated = transactionTemplate.execute(status -> coverPhotoRepository.updateVariants(
+                    photo.getId(), variants.thumbnailKey(), variants.cardKey(), variants.heroKey()));
+            if (updated != null && updated > 0) {
+                return;
+            }
+            log.debug("Cover photo {} was removed before its variants were recorded", photo.getId());
+        } catch (RuntimeException e) {
+            log.warn("Failed to record variants for cover photo {}", photo.getId(), e);
+        }
+        deleteKeys(List.of(variants.thumbnailKey(), variants.cardKey(), variants.heroKey()));
+    }
+
+    private void deleteKeys(List<String> keys) {
+        for (String key : keys) {
+            if (key == null) {
+                continue;
+            }
+            try {
+                s3StorageService.deleteFile(key);
+            } catch (Exception e) {
+                log.warn("Failed to delete cover photo variant from S3: {}", key, e);
+            }
+        }
+    }
+
+    /**
+     * Generates one photo's variants. Whichever of the job and its caller settles it first decides
+     * the outcome: the job by finishing its uploads, the caller by giving up on it. A job that loses
+     * deletes what it uploaded, so an abandoned photo leaves nothing behind in S3 however far it got.
+     * A job that wins hands its variants to {@code onSettled}, if it has one, on its own thread.
+     */
+    private final class VariantJob implements Callable<CoverPhotoVariants> {
+        private final String originalKey;
+        private final byte[] bytes;
+        private final AppLimitsConfig.CoverVariantConfig config;
+        private final Consumer<CoverPhotoVariants> onSettled;
+        private final AtomicBoolean settled = new AtomicBoolean();
+        private volatile Future<CoverPhotoVariants> future;
+
+        private VariantJob(String originalKey, byte[] bytes, AppLimitsConfig.CoverVariantConfig config,
+                           Consumer<CoverPhotoVariants> onSettled) {
+            this.originalKey = originalKey;
+            this.bytes = bytes;
+            this.config = config;
+            this.onSettled = onSettled;
+        }
+
+        @Override
+        public CoverPhotoVariants call() throws IOException {
+            CoverPhotoVariants variants = createVariants(originalKey, bytes, config, settled);
+            if (variants != null && onSettled != null) {
+                onSettled.accept(variants);
+            }
+            return variants;
+        }
+
+        /**
+         * Give up on the job unless it has settled, in which case its variants are complete.
+         *
+         * @return whether this call gave up on it
+         */
+        boolean giveUp() {
+            if (!settled.compareAndSet(false, true)) {
+                return false;
+            }
+            future.cancel(true);
+            return true;
+        }
+
+        /**
+         * Give up on a job whose caller records its variants. If it already settled its uploads are
+         * complete and nobody will record them, so they are deleted here; otherwise it deletes them itself.
+         */
+        void abandon() {
+            if (giveUp()) {
+                return;
+            }
+            try {
+                // Settled jobs only have to return, so this does not wait on any work
+                CoverPhotoVariants variants = getUninterruptibly(future);
+                if (variants != null) {
+                    deleteKeys(List.of(variants.thumbnailKey(), variants.cardKey(), variants.heroKey()));
+                }
+            } catch (ExecutionException | CancellationException e) {
+                // The job cleaned up after itself
+            }
+        }
+    }
+
+    private static <T> T getUninterruptibly(Future<T> future) throws ExecutionException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private CoverPhotoVariants createVariants(String originalKey, byte[] bytes, AppLimitsConfig.CoverVariantConfig config,
+                                              AtomicBoolean settled) throws IOException {
+        BufferedImage original = ImageIO.read(new ByteArrayInputStream(bytes));
+        if (original == null) {
+            log.debug("Cover photo {} is not in a decodable format, skipping variants", originalKey);
+            return null;
+        }
+
+        // Scale progressively from the largest rendition down so each step works on a smaller source
+        BufferedImage hero = resizeToWidth(original, config.getHeroWidth());
+        BufferedImage card = resizeToWidth(hero, config.getCardWidth());
+        BufferedImage thumbnail = resizeToWidth(card, config.getThumbnailWidth());
+
+        List<String> uploaded = new ArrayList<>(3);
+        try {
+            String heroKey = upload(originalKey, "hero", hero, config.getQuality(), uploaded, settled);
+            String cardKey = upload(originalKey, "card", card, config.getQuality(), uploaded, settled);
+            String thumbnailKey = upload(originalKey, "thumbnail", thumbnail, config.getQuality(), uploaded, settled);
+            if (!settled.compareAndSet(false, true)) {
+                throw new CancellationException("Variant generation for " + originalKey + " was abandoned");
+            }
+            return new CoverPhotoVariants(thumbnailKey, cardKey, heroKey);
+        } catch (RuntimeException | IOException e) {
+            deleteKeys(uploaded);
+            throw e;
+        }
+    }
+
+    private String upload(String originalKey, String variant, BufferedImage image, float quality, List<String> uploaded,
+                          AtomicBoolean settled) throws IOException {
+        if (settled.get()) {
+            throw new CancellationException("Variant generation for " + originalKey + " was abandoned");
+        }
+        String key = variantKey(originalKey, variant);
+        // Tracked before the upload, since an interrupted upload may still have stored the object
+        uploaded.add(key);
+        s3StorageService.uploadBytes(encodeJpeg(image, quality), key, VARIANT_CONTENT_TYPE);
+        return key;
+    }
+
+    static String variantKey(String originalKey, String variant) {
+        int slash = originalKey.lastIndexOf('/');
+        int dot = originalKey.lastIndexOf('.');
+        String base = dot > slash ? originalKey.substring(0, dot) : originalKey;
+        return base + "_" + variant + VARIANT_EXTENSION;
+    }
+
+    /**
+     * Scale an image down to the given width, preserving aspect ratio. Images that are already
+     * narrower are only converted to RGB, never upscaled.
+     */
+    static BufferedImage resizeToWidth(BufferedImage source, int targetWidth) {
+        int width = Math.min(targetWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // JPEG has no alpha channel, so flatten transparent areas onto white
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    private AppLimitsConfig.CoverVariantConfig getConfig() {
+        return appLimitsConfig.getEvent().getCoverVariants();
+    }
+}
@@ -60,6 +60,26 @@ public class S3StorageService {
         return key;
     }
 
+    /**
+     * Upload raw bytes to S3 under an explicit key
+     * @param content The bytes to upload
+     * @param objectKey The key (path) to store the object under
+     * @param contentType The MIME type of the content
+     * @return The key (path) of the uploaded file
+     */
+    public String uploadBytes(byte[] content, String objectKey, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .contentType(contentType)
+                .build();
+
+        PutObjectResponse response = s3Client.putObject(putObjectRequest, RequestBody.fromBytes(content));
+
+        log.debug("Bytes uploaded successfully to S3. Key: {}, ETag: {}", objectKey, response.eTag());
+        return objectKey;
+    }
+
     /**
      * Generate a presigned URL for accessing a file
      * @param objectKey The key of the file in S3
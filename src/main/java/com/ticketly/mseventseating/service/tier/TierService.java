@@ -9,7 +9,9 @@ import com.ticketly.mseventseating.model.Event;
 import com.ticketly.mseventseating.model.Tier;
 import com.ticketly.mseventseating.repository.EventRepository;
 import com.ticketly.mseventseating.repository.TierRepository;
+import com.ticketly.mseventseating.service.cache.EntityCacheInvalidationService;
 import com.ticketly.mseventseating.service.event.EventOwnershipService;
+import com.ticketly.mseventseating.service.id.IdGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,6 +30,8 @@ public class TierService {
     private final TierRepository tierRepository;
     private final EventRepository eventRepository;
     private final EventOwnershipService eventOwnershipService;
+    private final IdGenerator idGenerator;
+    private final EntityCacheInvalidationService entityCacheInvalidationService;
 
     /**
      * Creates a new tier for an event
@@ -56,7 +60,7 @@ public class TierService {
         
         // Create and save the new tier
         Tier tier = Tier.builder()
-                .id(UUID.randomUUID())
+                .id(idGenerator.next())
                 .name(request.name())
                 .color(request.color())
                 .price(request.price())
@@ -64,6 +68,7 @@ public class TierService {
                 .build();
         
         Tier savedTier = tierRepository.save(tier);
+        entityCacheInvalidationService.markChanged(Tier.class, savedTier.getId());
         log.info("Successfully created tier: {} for event: {}", savedTier.getId(), eventId);
         
         return mapToTierResponseDTO(savedTier);
@@ -114,6 +119,7 @@ public class TierService {
         }
         
         Tier updatedTier = tierRepository.save(tier);
+        entityCacheInvalidationService.markChanged(Tier.class, tierId);
         log.info("Successfully updated tier: {} for event: {}", tierId, eventId);
         
         return mapToTierResponseDTO(updatedTier);
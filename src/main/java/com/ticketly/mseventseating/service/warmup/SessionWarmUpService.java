@@ -0,0 +1,252 @@
+package com.ticketly.mseventseating.service.warmup;
+
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.dto.session.SessionScheduleDTO;
+import com.ticketly.mseventseating.repository.EventSessionRepository;
+import com.ticketly.mseventseating.repository.SessionSeatingMapRepository;
+import com.ticketly.mseventseating.service.event.SessionsOnSaleEvent;
+import com.ticketly.mseventseating.service.projection.ProjectionResponseCache;
+import com.ticketly.mseventseating.service.projection.SeatingMapProjectionService;
+import com.ticketly.mseventseating.service.projection.SeatingMapViewportService;
+import com.ticketly.mseventseating.service.projection.SessionProjectionService;
+import com.ticketly.mseventseating.service.seat.BestAvailableSeatService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import model.EventStatus;
+import model.SessionStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Builds what the first requests for a session need before they arrive, so that the burst when its
+ * sales open doesn't start with every instance parsing the same layout at once.
+ * <p>
+ * Sessions are warmed twice. Shortly before their sales start, each instance builds their
+ * projections, which creates their Redis version and reads their layout into the database's buffers,
+ * and indexes their blocks for viewport queries. Once they are on sale, the change is broadcast on a
+ * Redis channel and every instance builds them again, as going on sale changes their version, along
+ * with the best-available seat index, which only exists for sessions on sale.
+ * <p>
+ * Warm-ups run on a small pool per instance, and their duration and size are recorded per stage
+ * under {@code session.warmup.*}.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "app.warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class SessionWarmUpService {
+
+    public enum Stage {
+        LEAD,
+        ON_SALE
+    }
+
+    public record WarmUpReport(UUID sessionId, Stage stage, long projectionBytes, int indexedSeats,
+                               int indexedBlocks, long millis) {
+    }
+
+    private final EventSessionRepository eventSessionRepository;
+    private final SessionSeatingMapRepository seatingMapRepository;
+    private final SessionProjectionService sessionProjectionService;
+    private final SeatingMapProjectionService seatingMapProjectionService;
+    private final ProjectionResponseCache projectionResponseCache;
+    private final SeatingMapViewportService viewportService;
+    private final BestAvailableSeatService bestAvailableSeatService;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final AppLimitsConfig.WarmUpConfig config;
+    private final Executor executor;
+    private final Clock clock;
+
+    // Only touched from the scheduled check
+    private OffsetDateTime coveredUntil;
+
+    public SessionWarmUpService(EventSessionRepository eventSessionRepository,
+                                SessionSeatingMapRepository seatingMapRepository,
+                                SessionProjectionService sessionProjectionService,
+                                SeatingMapProjectionService seatingMapProjectionService,
+                                ProjectionResponseCache projectionResponseCache,
+                                SeatingMapViewportService viewportService,
+                                BestAvailableSeatService bestAvailableSeatService,
+                                StringRedisTemplate redisTemplate,
+                                MeterRegistry meterRegistry,
+                                AppLimitsConfig appLimitsConfig) {
+        this(eventSessionRepository, seatingMapRepository, sessionProjectionService, seatingMapProjectionService,
+                projectionResponseCache, viewportService, bestAvailableSeatService, redisTemplate, meterRegistry,
+                appLimitsConfig.getWarmUp(),
+                Executors.newFixedThreadPool(appLimitsConfig.getWarmUp().getConcurrency(),
+                        Thread.ofVirtual().name("session-warm-up-", 0).factory()),
+                Clock.systemUTC());
+    }
+
+    SessionWarmUpService(EventSessionRepository eventSessionRepository,
+                         SessionSeatingMapRepository seatingMapRepository,
+                         SessionProjectionService sessionProjectionService,
+                         SeatingMapProjectionService seatingMapProjectionService,
+                         ProjectionResponseCache projectionResponseCache,
+                         SeatingMapViewportService viewportService,
+                         BestAvailableSeatService bestAvailableSeatService,
+                         StringRedisTemplate redisTemplate,
+                         MeterRegistry meterRegistry,
+                         AppLimitsConfig.WarmUpConfig config,
+                         Executor executor,
+                         Clock clock) {
+        this.eventSessionRepository = eventSessionRepository;
+        this.seatingMapRepository = seatingMapRepository;
+        this.sessionProjectionService = sessionProjectionService;
+        this.seatingMapProjectionService = seatingMapProjectionService;
+        this.projectionResponseCache = projectionResponseCache;
+        this.viewportService = viewportService;
+        this.bestAvailableSeatService = bestAvailableSeatService;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.config = config;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (executor instanceof ExecutorService service) {
+            service.shutdownNow();
+            service.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Tell every instance to warm sessions once they have been put on sale.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSessionsOnSale(SessionsOnSaleEvent event) {
+        try {
+            redisTemplate.convertAndSend(config.getChannel(),
+                    event.sessionIds().stream().map(UUID::toString).collect(Collectors.joining(",")));
+        } catch (DataAccessException e) {
+            log.warn("Failed to broadcast the warm-up of sessions {}; warming them here only", event.sessionIds(), e);
+            event.sessionIds().forEach(sessionId -> submit(sessionId, Stage.ON_SALE));
+        }
+    }
+
+    /**
+     * Handle a message from {@link #onSessionsOnSale}: a comma-separated list of session IDs.
+     */
+    public void onWarmUpRequested(String message) {
+        for (String id : message.split(",")) {
+            try {
+                submit(UUID.fromString(id.trim()), Stage.ON_SALE);
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring invalid session ID '{}' in warm-up request", id);
+            }
+        }
+    }
+
+    /**
+     * Warm the sessions whose sales start within the lead time, each once: every check covers the
+     * window from where the previous one ended.
+     */
+    @Scheduled(fixedDelayString = "${app.warm-up.check-interval-ms:30000}")
+    public void warmUpcoming() {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        OffsetDateTime from = coveredUntil != null ? coveredUntil : now;
+        OffsetDateTime until = now.plus(config.getLeadTime());
+        if (!from.isBefore(until)) {
+            return;
+        }
+        try {
+            List<SessionScheduleDTO> upcoming = eventSessionRepository.findSchedulesBySalesStartBetween(
+                    SessionStatus.SCHEDULED, EventStatus.APPROVED, from, until, now);
+            upcoming.forEach(schedule -> submit(schedule.sessionId(), Stage.LEAD));
+            coveredUntil = until;
+            if (!upcoming.isEmpty()) {
+                log.info("Warming {} sessions whose sales start before {}", upcoming.size(), until);
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed to find sessions to warm; retrying at the next check", e);
+        }
+    }
+
+    /**
+     * Build the projections and indexes of a session on this instance. Each part is built on its
+     * own, so one that fails, such as the best-available index of a session that went off sale in
+     * the meantime, doesn't stop the others.
+     */
+    public WarmUpReport warm(UUID sessionId, Stage stage) {
+        long start = System.nanoTime();
+        long projectionBytes = 0;
+        int indexedSeats = 0;
+        int indexedBlocks = 0;
+
+        try {
+            projectionBytes += projectionResponseCache.warm(ProjectionResponseCache.Resource.SESSION_PROJECTION,
+                    sessionId, () -> sessionProjectionService.projectSession(sessionId));
+            projectionBytes += projectionResponseCache.warm(ProjectionResponseCache.Resource.SESSION_PROJECTION_COMPACT,
+                    sessionId, () -> sessionProjectionService.projectCompactSession(sessionId));
+            Optional<UUID> seatingMapId = seatingMapRepository.findIdBySessionId(sessionId);
+            if (seatingMapId.isPresent()) {
+                UUID mapId = seatingMapId.get();
+                projectionBytes += projectionResponseCache.warm(ProjectionResponseCache.Resource.SEATING_MAP_PROJECTION,
+                        mapId, () -> seatingMapProjectionService.projectSeatingMap(mapId));
+                projectionBytes += projectionResponseCache.warm(ProjectionResponseCache.Resource.SEATING_MAP_PROJECTION_COMPACT,
+                        mapId, () -> seatingMapProjectionService.projectCompactSeatingMap(mapId));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to warm the projections of session {}", sessionId, e);
+        }
+
+        try {
+            indexedBlocks = viewportService.warm(sessionId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to warm the viewport index of session {}", sessionId, e);
+        }
+
+        if (stage == Stage.ON_SALE) {
+            try {
+                indexedSeats = bestAvailableSeatService.warm(sessionId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to warm the best-available index of session {}", sessionId, e);
+            }
+        }
+
+        long nanos = System.nanoTime() - start;
+        String stageTag = stage.name().toLowerCase(Locale.ROOT);
+        Timer.builder("session.warmup.duration")
+                .tag("stage", stageTag)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("session.warmup.projection.size")
+                .baseUnit("bytes")
+                .tag("stage", stageTag)
+                .register(meterRegistry)
+                .record(projectionBytes);
+        DistributionSummary.builder("session.warmup.indexed.seats")
+                .tag("stage", stageTag)
+                .register(meterRegistry)
+                .record(indexedSeats);
+
+        WarmUpReport report = new WarmUpReport(sessionId, stage, projectionBytes, indexedSeats, indexedBlocks,
+                TimeUnit.NANOSECONDS.toMillis(nanos));
+        log.info("Warmed session {} for {} in {} ms: {} projection bytes cached, {} seats and {} blocks indexed",
+                sessionId, stage, report.millis(), projectionBytes, indexedSeats, indexedBlocks);
+        return report;
+    }
+
+    private void submit(UUID sessionId, Stage stage) {
+        executor.execute(() -> warm(sessionId, stage));
+    }
+}
@@ -0,0 +1,59 @@
+package db.migration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ticketly.mseventseating.dto.session.SeatGridDTO;
+import com.ticketly.mseventseating.service.seating_layout.SeatGridCodec;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * Moves layouts stored in grid form to {@code layout_grid} and writes them back to {@code layout_data}
+ * expanded, as V39 describes. Grids are expanded by {@link SeatGridCodec}, which labels and derives IDs
+ * the same way the service always has.
+ */
+public class V40__Expand_grid_layouts extends BaseJavaMigration {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        String select = "SELECT id, layout_data::TEXT FROM session_seating_maps " +
+                "WHERE jsonb_path_exists(layout_data, '$.layout.blocks[*].grid')";
+        String update = "UPDATE session_seating_maps SET layout_data = ?::JSONB, layout_grid = ?::JSONB WHERE id = ?";
+        try (Statement statement = context.getConnection().createStatement();
+             ResultSet rows = statement.executeQuery(select);
+             PreparedStatement updates = context.getConnection().prepareStatement(update)) {
+            while (rows.next()) {
+                String layoutGrid = rows.getString(2);
+                updates.setString(1, expand(layoutGrid));
+                updates.setString(2, layoutGrid);
+                updates.setObject(3, rows.getObject(1, UUID.class));
+                updates.addBatch();
+            }
+            updates.executeBatch();
+        }
+    }
+
+    private String expand(String layoutGrid) throws Exception {
+        JsonNode root = objectMapper.readTree(layoutGrid);
+        for (JsonNode block : root.path("layout").path("blocks")) {
+            JsonNode grid = block.get("grid");
+            if (grid == null || !grid.isObject()) {
+                continue;
+            }
+            UUID blockId = UUID.fromString(block.get("id").asText());
+            SeatGridDTO seatGrid = objectMapper.treeToValue(grid, SeatGridDTO.class);
+            ObjectNode expanded = (ObjectNode) block;
+            expanded.remove("grid");
+            expanded.set("rows", objectMapper.valueToTree(SeatGridCodec.expand(blockId, seatGrid)));
+        }
+        return objectMapper.writeValueAsString(root);
+    }
+}
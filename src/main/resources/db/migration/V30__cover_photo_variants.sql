@@ -0,0 +1,6 @@
+-- Keys of the resized renditions generated for each cover photo at upload time.
+-- Nullable: photos uploaded before this migration (or whose variants failed) fall back to photo_url.
+ALTER TABLE event_cover_photos
+    ADD COLUMN thumbnail_url VARCHAR(255),
+    ADD COLUMN card_url      VARCHAR(255),
+    ADD COLUMN hero_url      VARCHAR(255);
@@ -0,0 +1,16 @@
+-- Full-text and fuzzy search for events, replacing LOWER(...) LIKE '%term%' scans.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Weighted document: title matches rank above overview, which ranks above description.
+-- Generated columns are not published by logical decoding, so CDC payloads are unchanged.
+ALTER TABLE events
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', COALESCE(title, '')), 'A') ||
+        setweight(to_tsvector('english', COALESCE(overview, '')), 'B') ||
+        setweight(to_tsvector('english', COALESCE(description, '')), 'C')
+    ) STORED;
+
+CREATE INDEX idx_events_search_vector ON events USING GIN (search_vector);
+
+-- Supports ILIKE '%term%' and similarity (%) matches on the title
+CREATE INDEX idx_events_title_trgm ON events USING GIN (title gin_trgm_ops);
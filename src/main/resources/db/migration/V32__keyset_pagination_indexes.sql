@@ -0,0 +1,13 @@
+-- Composite indexes backing keyset (cursor) pagination.
+-- Events are paged newest first on (created_at, id); sessions on (start_time, id).
+CREATE INDEX IF NOT EXISTS idx_events_created_at_id
+    ON events (created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_events_org_created_at_id
+    ON events (organization_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_events_status_created_at_id
+    ON events (status, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_event_sessions_event_start_time_id
+    ON event_sessions (event_id, start_time, id);
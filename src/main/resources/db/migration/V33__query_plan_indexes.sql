@@ -0,0 +1,36 @@
+-- Indexes for foreign-key and listing lookups that otherwise fall back to sequential scans.
+-- Each one is guarded by a case in QueryPlanRegressionIT.
+
+-- Session counts / existence checks per event, filtered by status
+CREATE INDEX IF NOT EXISTS idx_event_sessions_event_status
+    ON event_sessions (event_id, status);
+
+-- Offset-paged event listings sorted by the default updatedAt DESC
+CREATE INDEX IF NOT EXISTS idx_events_updated_at
+    ON events (updated_at DESC);
+CREATE INDEX IF NOT EXISTS idx_events_status_updated_at
+    ON events (status, updated_at DESC);
+CREATE INDEX IF NOT EXISTS idx_events_org_updated_at
+    ON events (organization_id, updated_at DESC);
+
+-- Child collections loaded by event
+CREATE INDEX IF NOT EXISTS idx_tiers_event_id
+    ON tiers (event_id);
+CREATE INDEX IF NOT EXISTS idx_event_cover_photos_event_id
+    ON event_cover_photos (event_id);
+
+-- Discount join tables have no primary key; index both directions
+CREATE INDEX IF NOT EXISTS idx_discount_tiers_discount_tier
+    ON discount_tiers (discount_id, tier_id);
+CREATE INDEX IF NOT EXISTS idx_discount_tiers_tier
+    ON discount_tiers (tier_id);
+CREATE INDEX IF NOT EXISTS idx_discount_sessions_discount_session
+    ON discount_sessions (discount_id, session_id);
+CREATE INDEX IF NOT EXISTS idx_discount_sessions_session
+    ON discount_sessions (session_id);
+
+-- Ownership lookups and template listings
+CREATE INDEX IF NOT EXISTS idx_organizations_user_id
+    ON organizations (user_id);
+CREATE INDEX IF NOT EXISTS idx_seating_layout_templates_org_updated_at
+    ON seating_layout_templates (organization_id, updated_at DESC);
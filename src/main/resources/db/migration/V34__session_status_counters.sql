@@ -0,0 +1,21 @@
+-- Incrementally maintained session counts per (organization, event, status).
+-- Written in the same transaction as every session create/delete/status change so that
+-- analytics can read a handful of rows instead of grouping event_sessions joined to events.
+CREATE TABLE session_status_counters
+(
+    organization_id UUID         NOT NULL,
+    event_id        UUID         NOT NULL,
+    status          VARCHAR(255) NOT NULL,
+    session_count   BIGINT       NOT NULL DEFAULT 0,
+    CONSTRAINT pk_session_status_counters PRIMARY KEY (organization_id, event_id, status)
+);
+
+-- Event-level analytics and cleanup on event deletion
+CREATE INDEX idx_session_status_counters_event ON session_status_counters (event_id, status);
+
+-- Backfill from the existing sessions
+INSERT INTO session_status_counters (organization_id, event_id, status, session_count)
+SELECT e.organization_id, s.event_id, s.status, COUNT(*)
+FROM event_sessions s
+         JOIN events e ON e.id = s.event_id
+GROUP BY e.organization_id, s.event_id, s.status;
@@ -0,0 +1,84 @@
+-- Per-session, per-tier seat counters so remaining capacity can be read without parsing layout_data.
+-- capacity counts sellable seats (everything except RESERVED); available counts AVAILABLE seats.
+CREATE TABLE session_tier_availability
+(
+    session_id UUID    NOT NULL,
+    tier_id    UUID    NOT NULL,
+    capacity   INTEGER NOT NULL,
+    available  INTEGER NOT NULL,
+    CONSTRAINT pk_session_tier_availability PRIMARY KEY (session_id, tier_id),
+    CONSTRAINT chk_session_tier_availability_range CHECK (available >= 0 AND available <= capacity),
+    CONSTRAINT fk_session_tier_availability_on_session FOREIGN KEY (session_id)
+        REFERENCES event_sessions (id) ON DELETE CASCADE
+);
+
+-- Backfill from the existing layouts (seats directly under blocks and under block rows)
+INSERT INTO session_tier_availability (session_id, tier_id, capacity, available)
+SELECT m.event_session_id,
+       (seat ->> 'tierId')::UUID,
+       COUNT(*) FILTER (WHERE seat ->> 'status' IS DISTINCT FROM 'RESERVED'),
+       COUNT(*) FILTER (WHERE seat ->> 'status' = 'AVAILABLE')
+FROM session_seating_maps m
+         CROSS JOIN LATERAL (
+    SELECT seat
+    FROM jsonb_array_elements(m.layout_data -> 'layout' -> 'blocks') AS block,
+         jsonb_array_elements(block -> 'seats') AS seat
+    WHERE jsonb_typeof(block -> 'seats') = 'array'
+    UNION ALL
+    SELECT seat
+    FROM jsonb_array_elements(m.layout_data -> 'layout' -> 'blocks') AS block,
+         jsonb_array_elements(block -> 'rows') AS row,
+         jsonb_array_elements(row -> 'seats') AS seat
+    WHERE jsonb_typeof(block -> 'rows') = 'array'
+      AND jsonb_typeof(row -> 'seats') = 'array'
+    ) seats
+WHERE jsonb_typeof(m.layout_data -> 'layout' -> 'blocks') = 'array'
+  AND seat ->> 'tierId' IS NOT NULL
+GROUP BY m.event_session_id, (seat ->> 'tierId')::UUID;
+
+-- Counts, per tier, how many of the given seats are currently AVAILABLE in a session's layout.
+-- Locks the seating map row first so concurrent bookings of the same session are serialized
+-- between this count and the status update that follows in the same transaction.
+CREATE OR REPLACE FUNCTION count_available_seats_by_tier(p_session_id UUID, p_seat_ids UUID[])
+    RETURNS TABLE
+            (
+                tier_id    UUID,
+                seat_count BIGINT
+            )
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    v_layout_data JSONB;
+BEGIN
+    SELECT layout_data
+    INTO v_layout_data
+    FROM session_seating_maps
+    WHERE event_session_id = p_session_id
+        FOR UPDATE;
+
+    IF NOT FOUND THEN
+        RETURN;
+    END IF;
+
+    RETURN QUERY
+        WITH all_seats AS (SELECT seat_element
+                           FROM jsonb_array_elements(v_layout_data -> 'layout' -> 'blocks') AS block,
+                                jsonb_array_elements(block -> 'seats') AS seat_element
+                           WHERE block -> 'seats' IS NOT NULL
+
+                           UNION ALL
+
+                           SELECT seat_element
+                           FROM jsonb_array_elements(v_layout_data -> 'layout' -> 'blocks') AS block,
+                                jsonb_array_elements(block -> 'rows') AS row,
+                                jsonb_array_elements(row -> 'seats') AS seat_element
+                           WHERE block -> 'rows' IS NOT NULL)
+        SELECT (seat_element ->> 'tierId')::UUID, COUNT(*)
+        FROM all_seats
+        WHERE (seat_element ->> 'id')::UUID = ANY (p_seat_ids)
+          AND seat_element ->> 'status' = 'AVAILABLE'
+          AND seat_element ->> 'tierId' IS NOT NULL
+        GROUP BY (seat_element ->> 'tierId')::UUID;
+END;
+$$;
@@ -0,0 +1,257 @@
+-- Seated grids can be stored in grid form: a block with a "grid" object (dimensions, per-row tier runs
+-- and sparse overrides) instead of "rows". Row and seat IDs of such a block are the block ID with
+-- ((row + 1) << 16 | (column + 1)) XORed into its last 32 bits, so a seat is found from its ID without
+-- expanding the grid. A grid seat is AVAILABLE unless an override at its row and column says otherwise.
+
+-- The given seats that belong to a grid of the layout, with their position, tier and status.
+CREATE OR REPLACE FUNCTION grid_seats(p_layout JSONB, p_seat_ids UUID[])
+    RETURNS TABLE
+            (
+                seat_id     UUID,
+                block_index INTEGER,
+                seat_row    INTEGER,
+                seat_column INTEGER,
+                tier_id     UUID,
+                status      TEXT
+            )
+    LANGUAGE sql
+    IMMUTABLE
+AS
+$$
+SELECT cell.seat_id,
+       cell.block_index,
+       cell.seat_row,
+       cell.seat_column,
+       COALESCE((override.elem ->> 'tierId')::UUID, (run.elem ->> 'tierId')::UUID),
+       COALESCE(override.elem ->> 'status', 'AVAILABLE')
+FROM (SELECT s.id                                        AS seat_id,
+             (block.idx - 1)::INTEGER                    AS block_index,
+             block.elem -> 'grid'                        AS grid,
+             ((derived.seat_offset >> 16) - 1)::INTEGER  AS seat_row,
+             ((derived.seat_offset & 65535) - 1)::INTEGER AS seat_column
+      FROM unnest(p_seat_ids) AS s(id)
+               CROSS JOIN jsonb_array_elements(p_layout -> 'layout' -> 'blocks') WITH ORDINALITY AS block(elem, idx)
+               CROSS JOIN LATERAL (SELECT ('x' || right(block.elem ->> 'id', 8))::BIT(32)::BIGINT
+                                              # ('x' || right(s.id::TEXT, 8))::BIT(32)::BIGINT AS seat_offset) AS derived
+      WHERE jsonb_typeof(block.elem -> 'grid') = 'object'
+        AND left(block.elem ->> 'id', 28) = left(s.id::TEXT, 28)) AS cell
+         LEFT JOIN LATERAL (SELECT o.elem
+                            FROM jsonb_array_elements(COALESCE(cell.grid -> 'overrides', '[]'::JSONB)) AS o(elem)
+                            WHERE (o.elem ->> 'row')::INTEGER = cell.seat_row
+                              AND (o.elem ->> 'column')::INTEGER = cell.seat_column
+                            LIMIT 1) AS override ON TRUE
+         LEFT JOIN LATERAL (SELECT r.elem
+                            FROM (SELECT t.elem, SUM((t.elem ->> 'count')::INTEGER) OVER (ORDER BY t.idx) AS covered
+                                  FROM jsonb_array_elements(cell.grid -> 'tierRuns'
+                                           -> LEAST(cell.seat_row, jsonb_array_length(cell.grid -> 'tierRuns') - 1))
+                                           WITH ORDINALITY AS t(elem, idx)) AS r
+                            WHERE r.covered > cell.seat_column
+                            ORDER BY r.covered
+                            LIMIT 1) AS run ON TRUE
+WHERE cell.seat_row >= 0
+  AND cell.seat_column >= 0
+  AND cell.seat_row < (cell.grid ->> 'rows')::INTEGER
+  AND cell.seat_column < (cell.grid ->> 'columns')::INTEGER
+  AND (override.elem ->> 'gap')::BOOLEAN IS NOT TRUE
+$$;
+
+CREATE OR REPLACE PROCEDURE update_seat_statuses(
+    p_session_id UUID,
+    p_seat_ids UUID[],
+    p_new_status TEXT
+)
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    v_current_layout JSONB;
+    v_updated_layout JSONB;
+    v_seat_id        UUID;
+    v_seat_path      TEXT[];
+    v_block_index    INTEGER;
+    v_row            INTEGER;
+    v_column         INTEGER;
+    v_overrides      JSONB;
+    v_override_index INTEGER;
+BEGIN
+    SELECT layout_data
+    INTO v_current_layout
+    FROM session_seating_maps
+    WHERE event_session_id = p_session_id;
+
+    IF NOT FOUND THEN
+        RETURN;
+    END IF;
+
+    v_updated_layout := v_current_layout;
+
+    FOREACH v_seat_id IN ARRAY p_seat_ids
+        LOOP
+            -- Seats listed under blocks or block rows
+            SELECT path
+            INTO v_seat_path
+            FROM (SELECT ARRAY ['layout', 'blocks', (block.idx - 1)::TEXT, 'seats', (seat.idx - 1)::TEXT]
+                  FROM jsonb_array_elements(v_current_layout -> 'layout' -> 'blocks') WITH ORDINALITY AS block(elem, idx),
+                       jsonb_array_elements(block.elem -> 'seats') WITH ORDINALITY AS seat(elem, idx)
+                  WHERE (seat.elem ->> 'id')::UUID = v_seat_id
+                  UNION ALL
+                  SELECT ARRAY ['layout', 'blocks', (block.idx - 1)::TEXT, 'rows', (row.idx - 1)::TEXT, 'seats', (seat.idx - 1)::TEXT]
+                  FROM jsonb_array_elements(v_current_layout -> 'layout' -> 'blocks') WITH ORDINALITY AS block(elem, idx),
+                       jsonb_array_elements(block.elem -> 'rows') WITH ORDINALITY AS row(elem, idx),
+                       jsonb_array_elements(row.elem -> 'seats') WITH ORDINALITY AS seat(elem, idx)
+                  WHERE (seat.elem ->> 'id')::UUID = v_seat_id) AS paths(path)
+            LIMIT 1;
+
+            IF v_seat_path IS NOT NULL THEN
+                v_updated_layout := jsonb_set(
+                        v_updated_layout,
+                        v_seat_path || ARRAY ['status'],
+                        to_jsonb(p_new_status),
+                        false
+                                    );
+                CONTINUE;
+            END IF;
+
+            -- Seats of grids: set the status override at the seat's position
+            SELECT g.block_index, g.seat_row, g.seat_column
+            INTO v_block_index, v_row, v_column
+            FROM grid_seats(v_current_layout, ARRAY [v_seat_id]) AS g;
+
+            IF NOT FOUND THEN
+                CONTINUE;
+            END IF;
+
+            v_overrides := COALESCE(v_updated_layout -> 'layout' -> 'blocks' -> v_block_index -> 'grid' -> 'overrides',
+                                    '[]'::JSONB);
+
+            SELECT (o.idx - 1)::INTEGER
+            INTO v_override_index
+            FROM jsonb_array_elements(v_overrides) WITH ORDINALITY AS o(elem, idx)
+            WHERE (o.elem ->> 'row')::INTEGER = v_row
+              AND (o.elem ->> 'column')::INTEGER = v_column
+            LIMIT 1;
+
+            IF v_override_index IS NULL THEN
+                v_overrides := v_overrides || jsonb_build_array(
+                        jsonb_build_object('row', v_row, 'column', v_column, 'status', p_new_status));
+            ELSE
+                v_overrides := jsonb_set(v_overrides, ARRAY [v_override_index::TEXT, 'status'],
+                                         to_jsonb(p_new_status), true);
+            END IF;
+
+            v_updated_layout := jsonb_set(
+                    v_updated_layout,
+                    ARRAY ['layout', 'blocks', v_block_index::TEXT, 'grid', 'overrides'],
+                    v_overrides,
+                    true
+                                );
+        END LOOP;
+
+    UPDATE session_seating_maps
+    SET layout_data = v_updated_layout
+    WHERE event_session_id = p_session_id;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION validate_seat_statuses(p_session_id UUID, p_seat_ids UUID[]) RETURNS INTEGER
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    v_layout_data       JSONB;
+    v_unavailable_count INTEGER;
+BEGIN
+    SELECT layout_data
+    INTO v_layout_data
+    FROM session_seating_maps
+    WHERE event_session_id = p_session_id;
+
+    IF NOT FOUND THEN
+        -- If no layout found, treat all as unavailable
+        RETURN array_length(p_seat_ids, 1);
+    END IF;
+
+    WITH all_seats AS (SELECT seat_element
+                       FROM jsonb_array_elements(v_layout_data -> 'layout' -> 'blocks') AS block,
+                            jsonb_array_elements(block -> 'seats') AS seat_element
+                       WHERE block -> 'seats' IS NOT NULL
+
+                       UNION ALL
+
+                       SELECT seat_element
+                       FROM jsonb_array_elements(v_layout_data -> 'layout' -> 'blocks') AS block,
+                            jsonb_array_elements(block -> 'rows') AS row,
+                            jsonb_array_elements(row -> 'seats') AS seat_element
+                       WHERE block -> 'rows' IS NOT NULL),
+         matched AS (SELECT (seat_element ->> 'id')::UUID AS id,
+                            (seat_element ->> 'status')   AS status
+                     FROM all_seats
+                     WHERE (seat_element ->> 'id')::UUID = ANY (p_seat_ids)
+
+                     UNION ALL
+
+                     SELECT g.seat_id, g.status
+                     FROM grid_seats(v_layout_data, p_seat_ids) AS g)
+    SELECT
+        -- unavailable = booked/reserved/etc
+        COUNT(*) FILTER (WHERE status <> 'AVAILABLE')
+            -- + seats that don’t exist at all
+            + (array_length(p_seat_ids, 1) - COUNT(*))
+    INTO v_unavailable_count
+    FROM matched;
+
+    RETURN v_unavailable_count;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION count_available_seats_by_tier(p_session_id UUID, p_seat_ids UUID[])
+    RETURNS TABLE
+            (
+                tier_id    UUID,
+                seat_count BIGINT
+            )
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    v_layout_data JSONB;
+BEGIN
+    SELECT layout_data
+    INTO v_layout_data
+    FROM session_seating_maps
+    WHERE event_session_id = p_session_id
+        FOR UPDATE;
+
+    IF NOT FOUND THEN
+        RETURN;
+    END IF;
+
+    RETURN QUERY
+        WITH all_seats AS (SELECT seat_element
+                           FROM jsonb_array_elements(v_layout_data -> 'layout' -> 'blocks') AS block,
+                                jsonb_array_elements(block -> 'seats') AS seat_element
+                           WHERE block -> 'seats' IS NOT NULL
+
+                           UNION ALL
+
+                           SELECT seat_element
+                           FROM jsonb_array_elements(v_layout_data -> 'layout' -> 'blocks') AS block,
+                                jsonb_array_elements(block -> 'rows') AS row,
+                                jsonb_array_elements(row -> 'seats') AS seat_element
+                           WHERE block -> 'rows' IS NOT NULL),
+             available AS (SELECT (seat_element ->> 'tierId')::UUID AS seat_tier_id
+                           FROM all_seats
+                           WHERE (seat_element ->> 'id')::UUID = ANY (p_seat_ids)
+                             AND seat_element ->> 'status' = 'AVAILABLE'
+
+                           UNION ALL
+
+                           SELECT g.tier_id
+                           FROM grid_seats(v_layout_data, p_seat_ids) AS g
+                           WHERE g.status = 'AVAILABLE')
+        SELECT seat_tier_id, COUNT(*)
+        FROM available
+        WHERE seat_tier_id IS NOT NULL
+        GROUP BY seat_tier_id;
+END;
+$$;
@@ -0,0 +1,6 @@
+-- Range scans for the in-process lifecycle scheduler, which loads the sessions whose sales start or
+-- whose end falls within its horizon. Guarded by cases in QueryPlanRegressionIT.
+CREATE INDEX IF NOT EXISTS idx_event_sessions_status_sales_start_time
+    ON event_sessions (status, sales_start_time);
+CREATE INDEX IF NOT EXISTS idx_event_sessions_status_end_time
+    ON event_sessions (status, end_time);
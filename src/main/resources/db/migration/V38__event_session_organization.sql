@@ -0,0 +1,22 @@
+-- Copies the owning organization onto its sessions. An organization's sessions are paged across all
+-- of its events on (start_time, id), which no index reachable through events can return in order:
+-- every page sorted all of the organization's sessions. An event never changes organization, so the
+-- column is written once when the session is created. Guarded by cases in QueryPlanRegressionIT.
+ALTER TABLE event_sessions
+    ADD COLUMN IF NOT EXISTS organization_id UUID;
+
+UPDATE event_sessions s
+SET organization_id = e.organization_id
+FROM events e
+WHERE e.id = s.event_id
+  AND s.organization_id IS NULL;
+
+ALTER TABLE event_sessions
+    ALTER COLUMN organization_id SET NOT NULL;
+
+ALTER TABLE event_sessions
+    ADD CONSTRAINT FK_EVENT_SESSIONS_ON_ORGANIZATION
+        FOREIGN KEY (organization_id) REFERENCES organizations (id);
+
+CREATE INDEX IF NOT EXISTS idx_event_sessions_org_start_time_id
+    ON event_sessions (organization_id, start_time, id);
@@ -0,0 +1,113 @@
+-- layout_data goes back to listing every row and seat. session_seating_maps is captured by Debezium and
+-- other services read layout_data as the shared SessionSeatingMapDTO, which has no grid form, so grid
+-- blocks in it reached them as blocks without seats. The grid form moves to layout_grid, which only this
+-- service reads and which the connector leaves out (column.exclude.list). V40 moves existing grids over.
+ALTER TABLE session_seating_maps
+    ADD COLUMN IF NOT EXISTS layout_grid JSONB;
+
+-- Seat statuses are written to both forms: the seat in layout_data, and a status override in layout_grid
+-- when the seat's block has a grid form there.
+CREATE OR REPLACE PROCEDURE update_seat_statuses(
+    p_session_id UUID,
+    p_seat_ids UUID[],
+    p_new_status TEXT
+)
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    v_current_layout JSONB;
+    v_updated_layout JSONB;
+    v_current_grid   JSONB;
+    v_updated_grid   JSONB;
+    v_seat_id        UUID;
+    v_seat_path      TEXT[];
+    v_block_index    INTEGER;
+    v_row            INTEGER;
+    v_column         INTEGER;
+    v_overrides      JSONB;
+    v_override_index INTEGER;
+BEGIN
+    SELECT layout_data, layout_grid
+    INTO v_current_layout, v_current_grid
+    FROM session_seating_maps
+    WHERE event_session_id = p_session_id;
+
+    IF NOT FOUND THEN
+        RETURN;
+    END IF;
+
+    v_updated_layout := v_current_layout;
+    v_updated_grid := v_current_grid;
+
+    FOREACH v_seat_id IN ARRAY p_seat_ids
+        LOOP
+            -- Seats listed under blocks or block rows
+            SELECT path
+            INTO v_seat_path
+            FROM (SELECT ARRAY ['layout', 'blocks', (block.idx - 1)::TEXT, 'seats', (seat.idx - 1)::TEXT]
+                  FROM jsonb_array_elements(v_current_layout -> 'layout' -> 'blocks') WITH ORDINALITY AS block(elem, idx),
+                       jsonb_array_elements(block.elem -> 'seats') WITH ORDINALITY AS seat(elem, idx)
+                  WHERE (seat.elem ->> 'id')::UUID = v_seat_id
+                  UNION ALL
+                  SELECT ARRAY ['layout', 'blocks', (block.idx - 1)::TEXT, 'rows', (row.idx - 1)::TEXT, 'seats', (seat.idx - 1)::TEXT]
+                  FROM jsonb_array_elements(v_current_layout -> 'layout' -> 'blocks') WITH ORDINALITY AS block(elem, idx),
+                       jsonb_array_elements(block.elem -> 'rows') WITH ORDINALITY AS row(elem, idx),
+                       jsonb_array_elements(row.elem -> 'seats') WITH ORDINALITY AS seat(elem, idx)
+                  WHERE (seat.elem ->> 'id')::UUID = v_seat_id) AS paths(path)
+            LIMIT 1;
+
+            IF v_seat_path IS NOT NULL THEN
+                v_updated_layout := jsonb_set(
+                        v_updated_layout,
+                        v_seat_path || ARRAY ['status'],
+                        to_jsonb(p_new_status),
+                        false
+                                    );
+            END IF;
+
+            IF v_current_grid IS NULL THEN
+                CONTINUE;
+            END IF;
+
+            -- Seats of grids: set the status override at the seat's position
+            SELECT g.block_index, g.seat_row, g.seat_column
+            INTO v_block_index, v_row, v_column
+            FROM grid_seats(v_current_grid, ARRAY [v_seat_id]) AS g;
+
+            IF NOT FOUND THEN
+                CONTINUE;
+            END IF;
+
+            v_overrides := COALESCE(v_updated_grid -> 'layout' -> 'blocks' -> v_block_index -> 'grid' -> 'overrides',
+                                    '[]'::JSONB);
+
+            SELECT (o.idx - 1)::INTEGER
+            INTO v_override_index
+            FROM jsonb_array_elements(v_overrides) WITH ORDINALITY AS o(elem, idx)
+            WHERE (o.elem ->> 'row')::INTEGER = v_row
+              AND (o.elem ->> 'column')::INTEGER = v_column
+            LIMIT 1;
+
+            IF v_override_index IS NULL THEN
+                v_overrides := v_overrides || jsonb_build_array(
+                        jsonb_build_object('row', v_row, 'column', v_column, 'status', p_new_status));
+            ELSE
+                v_overrides := jsonb_set(v_overrides, ARRAY [v_override_index::TEXT, 'status'],
+                                         to_jsonb(p_new_status), true);
+            END IF;
+
+            v_updated_grid := jsonb_set(
+                    v_updated_grid,
+                    ARRAY ['layout', 'blocks', v_block_index::TEXT, 'grid', 'overrides'],
+                    v_overrides,
+                    true
+                              );
+        END LOOP;
+
+    UPDATE session_seating_maps
+    SET layout_data = v_updated_layout,
+        layout_grid = v_updated_grid
+    WHERE event_session_id = p_session_id;
+END;
+$$;
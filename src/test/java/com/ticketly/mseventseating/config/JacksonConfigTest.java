@@ -0,0 +1,263 @@
+package com.ticketly.mseventseating.config;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.dto.projection.CompactSeatingMapProjectionDTO;
+import com.ticketly.mseventseating.dto.projection.CompactSessionProjectionDTO;
+import com.ticketly.mseventseating.dto.session.SeatGridBlock;
+import com.ticketly.mseventseating.model.*;
+import com.ticketly.mseventseating.model.discount.PercentageDiscountParams;
+import com.ticketly.mseventseating.repository.EventRepository;
+import com.ticketly.mseventseating.service.projection.EventMapper;
+import com.ticketly.mseventseating.service.projection.EventProjectionService;
+import com.ticketly.mseventseating.service.projection.SeatingMapProjectionService;
+import com.ticketly.mseventseating.service.projection.SessionProjectionService;
+import com.ticketly.mseventseating.service.projection.VenueDetailsMapper;
+import dto.SessionSeatingMapDTO;
+import dto.projection.*;
+import model.DiscountType;
+import model.EventStatus;
+import model.SeatStatus;
+import model.SessionStatus;
+import model.SessionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Every projection DTO must decode from Smile and CBOR to exactly what it decodes to from JSON, and
+ * seating maps in grid form must be read, not expanded, whichever format they come in.
+ */
+@ExtendWith(MockitoExtension.class)
+class JacksonConfigTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private final JacksonConfig jacksonConfig = new JacksonConfig();
+    private final ObjectMapper jsonMapper = jacksonConfig.objectMapper();
+    private final List<ObjectMapper> mappers = List.of(jsonMapper, jacksonConfig.smileObjectMapper(),
+            jacksonConfig.cborObjectMapper());
+
+    private SeatingMapProjectionService seatingMapProjectionService;
+    private SessionProjectionService sessionProjectionService;
+    private EventProjectionService eventProjectionService;
+    private List<Tier> tiers;
+
+    @BeforeEach
+    void setUp() {
+        seatingMapProjectionService = new SeatingMapProjectionService(jsonMapper, null);
+        sessionProjectionService = new SessionProjectionService(seatingMapProjectionService,
+                new VenueDetailsMapper(jsonMapper), null);
+        eventProjectionService = new EventProjectionService(sessionProjectionService, new EventMapper(), eventRepository);
+        tiers = new ArrayList<>();
+        String[] names = {"VIP", "Gold", "Silver", "General Admission"};
+        for (int i = 0; i < names.length; i++) {
+            Tier tier = new Tier();
+            tier.setId(UUID.randomUUID());
+            tier.setName(names[i]);
+            tier.setPrice(BigDecimal.valueOf(5000 - i * 1000L, 2));
+            tier.setColor("#A1B2C" + i);
+            tiers.add(tier);
+        }
+    }
+
+    @Test
+    void eventProjection_ShouldRoundTripInEveryFormat() throws Exception {
+        Event event = event(layoutJson(2, 3, 4));
+        when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+
+        EventProjectionDTO projection = eventProjectionService.projectEvent(event.getId());
+
+        assertNotNull(projection.getDiscounts().get(0).getParameters());
+        assertRoundTrips(projection, EventProjectionDTO.class);
+    }
+
+    @Test
+    void sessionProjections_ShouldRoundTripInEveryFormat() throws Exception {
+        EventSession session = event(layoutJson(2, 3, 4)).getSessions().get(0);
+        Map<UUID, TierInfo> tierInfoMap = seatingMapProjectionService.buildTierInfoMap(tiers);
+
+        assertRoundTrips(sessionProjectionService.projectSession(session, tierInfoMap), SessionProjectionDTO.class);
+        assertRoundTrips(sessionProjectionService.projectCompactSession(session, tierInfoMap),
+                CompactSessionProjectionDTO.class);
+    }
+
+    @Test
+    void seatingMapProjections_ShouldRoundTripInEveryFormat() throws Exception {
+        String layout = layoutJson(3, 4, 5);
+        Map<UUID, TierInfo> tierInfoMap = seatingMapProjectionService.buildTierInfoMap(tiers);
+
+        assertRoundTrips(seatingMapProjectionService.projectSeatingMap(layout, tierInfoMap),
+                SeatingMapProjectionDTO.class);
+        assertRoundTrips(seatingMapProjectionService.projectCompactSeatingMap(layout, tierInfoMap),
+                CompactSeatingMapProjectionDTO.class);
+        assertRoundTrips(tierInfoMap.get(tiers.get(0).getId()), TierInfo.class);
+    }
+
+    @Test
+    void categoryAndDiscountProjections_ShouldRoundTripInEveryFormat() throws Exception {
+        assertRoundTrips(CategoryProjectionDTO.builder()
+                .id(UUID.randomUUID()).name("Jazz").parentId(UUID.randomUUID()).parentName("Music")
+                .build(), CategoryProjectionDTO.class);
+        assertRoundTrips(CategoryProjectionDTO.builder()
+                .id(UUID.randomUUID()).name("Music")
+                .build(), CategoryProjectionDTO.class);
+
+        Event event = event(null);
+        assertRoundTrips(new EventMapper().mapToDiscountDetailsDTO(event.getDiscounts().get(0), tiers),
+                DiscountProjectionDTO.class);
+    }
+
+    @Test
+    void seatingMap_ShouldReadGridBlocksWithoutExpandingThemInEveryFormat() throws Exception {
+        UUID blockId = UUID.randomUUID();
+        String json = "{\"name\":\"Hall\",\"layout\":{\"blocks\":[{\"id\":\"" + blockId + "\",\"type\":\"seated_grid\"," +
+                "\"position\":{\"x\":0,\"y\":0},\"grid\":{\"rows\":60000,\"columns\":60000,\"startRowLabel\":\"A\"," +
+                "\"tierRuns\":[[{\"tierId\":\"" + tiers.get(0).getId() + "\",\"count\":60000}]]," +
+                "\"overrides\":[{\"row\":1,\"column\":1,\"gap\":true}]}}]}}";
+        SessionSeatingMapDTO fromJson = jsonMapper.readValue(json, SessionSeatingMapDTO.class);
+
+        SeatGridBlock block = assertInstanceOf(SeatGridBlock.class, fromJson.getLayout().getBlocks().get(0));
+        assertEquals(blockId, block.getId());
+        assertNull(block.getRows());
+        assertEquals(60000, block.getGrid().getRows());
+        assertEquals(1, block.getGrid().getOverrides().size());
+
+        Object tree = jsonMapper.readValue(json, Object.class);
+        for (ObjectMapper mapper : mappers) {
+            SessionSeatingMapDTO decoded = mapper.readValue(mapper.writeValueAsBytes(tree), SessionSeatingMapDTO.class);
+            assertEquals(jsonMapper.valueToTree(fromJson).toString(), jsonMapper.valueToTree(decoded).toString(),
+                    mapper.getFactory().getFormatName());
+        }
+    }
+
+    @Test
+    void seatingMap_ShouldRejectMalformedGridBlocks() {
+        String json = "{\"layout\":{\"blocks\":[{\"type\":\"seated_grid\",\"grid\":{\"rows\":\"many\",\"columns\":3}}]}}";
+
+        assertThrows(JsonMappingException.class, () -> jsonMapper.readValue(json, SessionSeatingMapDTO.class));
+    }
+
+    /**
+     * 30,000 seats: both binary formats must be smaller than JSON and decode to the same projection.
+     */
+    @Test
+    void seatingMapProjection_ShouldBeSmallerInBinaryFormats() throws Exception {
+        SeatingMapProjectionDTO projection = seatingMapProjectionService.projectSeatingMap(layoutJson(10, 60, 50),
+                seatingMapProjectionService.buildTierInfoMap(tiers));
+
+        int jsonBytes = jsonMapper.writeValueAsBytes(projection).length;
+        for (ObjectMapper mapper : mappers) {
+            if (mapper != jsonMapper) {
+                int encodedBytes = mapper.writeValueAsBytes(projection).length;
+                assertTrue(encodedBytes < jsonBytes, mapper.getFactory().getFormatName() + " took " + encodedBytes
+                        + " bytes against " + jsonBytes + " for JSON");
+            }
+        }
+        assertRoundTrips(projection, SeatingMapProjectionDTO.class);
+    }
+
+    private <T> void assertRoundTrips(T value, Class<T> type) throws Exception {
+        String expected = jsonMapper.valueToTree(value).toString();
+        for (ObjectMapper mapper : mappers) {
+            T decoded = mapper.readValue(mapper.writeValueAsBytes(value), type);
+            assertEquals(expected, jsonMapper.valueToTree(decoded).toString(),
+                    type.getSimpleName() + " through " + mapper.getFactory().getFormatName());
+        }
+    }
+
+    private Event event(String layoutData) {
+        OffsetDateTime start = OffsetDateTime.of(2026, 12, 31, 19, 30, 0, 0, ZoneOffset.UTC);
+        Organization organization = Organization.builder()
+                .id(UUID.randomUUID()).name("Ticketly Live").userId("user-1").logoUrl("https://cdn.example/logo.png")
+                .build();
+        Category category = Category.builder()
+                .id(UUID.randomUUID()).name("Jazz")
+                .parent(Category.builder().id(UUID.randomUUID()).name("Music").build())
+                .build();
+        Event event = Event.builder()
+                .id(UUID.randomUUID()).title("New Year Concert").description("Description").overview("Overview")
+                .status(EventStatus.APPROVED).organization(organization).category(category)
+                .tiers(tiers)
+                .build();
+        event.setCoverPhotos(List.of(EventCoverPhoto.builder()
+                .id(UUID.randomUUID()).photoUrl("https://cdn.example/cover.jpg").event(event)
+                .build()));
+
+        EventSession session = EventSession.builder()
+                .id(UUID.randomUUID()).event(event)
+                .startTime(start).endTime(start.plusHours(3)).salesStartTime(start.minusDays(30))
+                .status(SessionStatus.ON_SALE).sessionType(SessionType.PHYSICAL)
+                .venueDetails("{\"name\":\"Arena\",\"address\":\"1 Main St\",\"latitude\":6.9,\"longitude\":79.8}")
+                .build();
+        session.setSessionSeatingMap(SessionSeatingMap.builder()
+                .id(UUID.randomUUID()).eventSession(session).layoutData(layoutData)
+                .build());
+        event.setSessions(List.of(session));
+
+        Discount discount = Discount.builder()
+                .id(UUID.randomUUID()).event(event).code("EARLY10")
+                .parameters(new PercentageDiscountParams(DiscountType.PERCENTAGE, new BigDecimal("10.50"),
+                        new BigDecimal("20.00"), new BigDecimal("15.00")))
+                .maxUsage(100).currentUsage(7).isActive(true).isPublic(true)
+                .activeFrom(start.minusDays(30)).expiresAt(start)
+                .applicableTiers(List.of(tiers.get(0), tiers.get(1)))
+                .applicableSessions(List.of(session))
+                .build();
+        event.setDiscounts(List.of(discount));
+        return event;
+    }
+
+    /**
+     * Seated grids whose seats cycle through the tiers, with every third seat booked.
+     */
+    private String layoutJson(int blockCount, int rowsPerBlock, int seatsPerRow) throws Exception {
+        List<SessionSeatingMapDTO.Block> blocks = new ArrayList<>();
+        for (int b = 0; b < blockCount; b++) {
+            List<SessionSeatingMapDTO.Row> rows = new ArrayList<>();
+            for (int r = 0; r < rowsPerBlock; r++) {
+                List<SessionSeatingMapDTO.Seat> seats = new ArrayList<>();
+                for (int s = 0; s < seatsPerRow; s++) {
+                    SessionSeatingMapDTO.Seat seat = new SessionSeatingMapDTO.Seat();
+                    seat.setId(UUID.randomUUID());
+                    seat.setLabel("R" + r + "S" + s);
+                    seat.setTierId(tiers.get(s % tiers.size()).getId());
+                    seat.setStatus(s % 3 == 0 ? SeatStatus.BOOKED : SeatStatus.AVAILABLE);
+                    seats.add(seat);
+                }
+                SessionSeatingMapDTO.Row row = new SessionSeatingMapDTO.Row();
+                row.setId(UUID.randomUUID());
+                row.setLabel("R" + r);
+                row.setSeats(seats);
+                rows.add(row);
+            }
+            SessionSeatingMapDTO.Position position = new SessionSeatingMapDTO.Position();
+            position.setX(b * 2000.0);
+            position.setY(120.5);
+            SessionSeatingMapDTO.Block block = new SessionSeatingMapDTO.Block();
+            block.setId(UUID.randomUUID());
+            block.setName("Block " + b);
+            block.setType("seated_grid");
+            block.setPosition(position);
+            block.setRows(rows);
+            blocks.add(block);
+        }
+        SessionSeatingMapDTO.Layout layout = new SessionSeatingMapDTO.Layout();
+        layout.setBlocks(blocks);
+        SessionSeatingMapDTO map = new SessionSeatingMapDTO();
+        map.setName("Arena");
+        map.setLayout(layout);
+        return jsonMapper.writeValueAsString(map);
+    }
+}
@@ -0,0 +1,86 @@
+package com.ticketly.mseventseating.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Smile and CBOR are only negotiated for internal endpoints; everything else speaks JSON.
+ */
+class MessageConverterConfigTest {
+
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final JacksonConfig jacksonConfig = new JacksonConfig();
+    private final List<HttpMessageConverter<?>> converters = new ArrayList<>(List.of(
+            new MappingJackson2HttpMessageConverter(),
+            new MappingJackson2SmileHttpMessageConverter(),
+            new MappingJackson2CborHttpMessageConverter()));
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void extendMessageConverters_ShouldReplaceTheBinaryConvertersWithInternalOnlyOnes() {
+        new MessageConverterConfig(jacksonConfig.smileObjectMapper(), jacksonConfig.cborObjectMapper())
+                .extendMessageConverters(converters);
+
+        assertEquals(3, converters.size());
+        assertInstanceOf(MappingJackson2HttpMessageConverter.class, converters.get(0));
+        assertInstanceOf(MessageConverterConfig.InternalSmileConverter.class, converters.get(1));
+        assertInstanceOf(MessageConverterConfig.InternalCborConverter.class, converters.get(2));
+    }
+
+    @Test
+    void binaryConverters_ShouldOnlyReadAndWriteForInternalPaths() {
+        new MessageConverterConfig(jacksonConfig.smileObjectMapper(), jacksonConfig.cborObjectMapper())
+                .extendMessageConverters(converters);
+        HttpMessageConverter<?> smile = converters.get(1);
+        HttpMessageConverter<?> cbor = converters.get(2);
+
+        bindRequest("/internal/v1/sessions/abc");
+        assertTrue(smile.canWrite(Map.class, SMILE));
+        assertTrue(smile.canRead(Map.class, SMILE));
+        assertTrue(cbor.canWrite(Map.class, MediaType.APPLICATION_CBOR));
+        assertTrue(cbor.canRead(Map.class, MediaType.APPLICATION_CBOR));
+
+        bindRequest("/v1/events/abc");
+        assertFalse(smile.canWrite(Map.class, SMILE));
+        assertFalse(smile.canRead(Map.class, SMILE));
+        assertFalse(cbor.canWrite(Map.class, MediaType.APPLICATION_CBOR));
+        assertFalse(cbor.canRead(Map.class, MediaType.APPLICATION_CBOR));
+    }
+
+    @Test
+    void isInternalRequest_ShouldIgnoreTheContextPathAndLookalikePaths() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/event-seating/internal/v1/sessions");
+        request.setContextPath("/event-seating");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        assertTrue(MessageConverterConfig.isInternalRequest());
+
+        bindRequest("/internalish/v1/sessions");
+        assertFalse(MessageConverterConfig.isInternalRequest());
+
+        RequestContextHolder.resetRequestAttributes();
+        assertFalse(MessageConverterConfig.isInternalRequest());
+    }
+
+    private static void bindRequest(String uri) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest("GET", uri)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.ticketly.mseventseating.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadReplicaEnvironmentPostProcessorTest {
+
+    private final ReadReplicaEnvironmentPostProcessor postProcessor = new ReadReplicaEnvironmentPostProcessor();
+
+    @Test
+    void readReplicasEnabled_ShouldTurnOffOpenInView() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.read-replicas.enabled", "true");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertEquals(Boolean.FALSE, environment.getProperty("spring.jpa.open-in-view", Boolean.class));
+    }
+
+    @Test
+    void readReplicasDisabled_ShouldLeaveOpenInViewAlone() {
+        MockEnvironment environment = new MockEnvironment();
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertNull(environment.getProperty("spring.jpa.open-in-view"));
+    }
+
+    @Test
+    void readReplicasEnabled_WithOpenInViewEnabled_ShouldFailStartup() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.read-replicas.enabled", "true")
+                .withProperty("spring.jpa.open-in-view", "true");
+
+        assertThrows(IllegalStateException.class,
+                () -> postProcessor.postProcessEnvironment(environment, new SpringApplication()));
+    }
+}
@@ -1,6 +1,8 @@
 package com.ticketly.mseventseating.controller;
 
 import com.ticketly.mseventseating.dto.session.*;
+import com.ticketly.mseventseating.exception.UnauthorizedException;
+import com.ticketly.mseventseating.service.projection.ProjectionResponseCache;
 import com.ticketly.mseventseating.service.session.SessionManagementService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,13 +13,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -31,9 +36,15 @@ public class SessionManagementControllerTest {
     @InjectMocks
     private SessionManagementController controller;
 
+    @Mock
+    private ProjectionResponseCache projectionResponseCache;
+
     @Mock
     private Jwt jwt;
 
+    @Mock
+    private WebRequest webRequest;
+
     private UUID sessionId;
     private UUID eventId;
     private String userId;
@@ -89,18 +100,37 @@ public class SessionManagementControllerTest {
     @Test
     void getSession_ShouldReturnSession() {
         // Arrange
+        byte[] body = "{}".getBytes();
         when(sessionManagementService.getSession(eq(sessionId), eq(userId)))
                 .thenReturn(mockSessionResponse);
+        when(projectionResponseCache.respond(eq(webRequest), eq(ProjectionResponseCache.Resource.SESSION),
+                eq(sessionId), any()))
+                .thenAnswer(invocation -> {
+                    assertEquals(mockSessionResponse, invocation.<Supplier<?>>getArgument(3).get());
+                    return ResponseEntity.ok(body);
+                });
 
         // Act
-        ResponseEntity<SessionResponse> response = controller.getSession(sessionId, jwt);
+        ResponseEntity<byte[]> response = controller.getSession(sessionId, jwt, webRequest);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(mockSessionResponse, response.getBody());
+        assertEquals(body, response.getBody());
+        verify(sessionManagementService).checkReadAccess(sessionId, userId);
         verify(sessionManagementService).getSession(sessionId, userId);
     }
 
+    @Test
+    void getSession_ShouldCheckAccessBeforeConsultingCache() {
+        // Arrange
+        doThrow(new UnauthorizedException("User is not authorized to access this session"))
+                .when(sessionManagementService).checkReadAccess(sessionId, userId);
+
+        // Act & Assert
+        assertThrows(UnauthorizedException.class, () -> controller.getSession(sessionId, jwt, webRequest));
+        verifyNoInteractions(projectionResponseCache);
+    }
+
     @Test
     void getSessionsByEventId_ShouldReturnSessionList() {
         // Arrange
@@ -117,6 +147,21 @@ public class SessionManagementControllerTest {
         verify(sessionManagementService).getSessionsByEvent(eventId, userId);
     }
 
+    @Test
+    void getSessionSummariesByEventId_ShouldReturnSessionsWithoutLayouts() {
+        // Arrange
+        when(sessionManagementService.getSessionSummariesByEvent(eventId, userId))
+                .thenReturn(mockSessionResponses);
+
+        // Act
+        ResponseEntity<List<SessionResponse>> response = controller.getSessionSummariesByEventId(eventId, jwt);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(mockSessionResponses, response.getBody());
+        verify(sessionManagementService, never()).getSessionsByEvent(any(), any());
+    }
+
     @Test
     void updateSessionTime_ShouldReturnUpdatedSession() {
         // Arrange
@@ -1,11 +1,14 @@
 package com.ticketly.mseventseating.factory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.config.AppLimitsConfig;
 import com.ticketly.mseventseating.dto.event.CreateEventRequest;
 import com.ticketly.mseventseating.dto.event.SessionRequest;
 import com.ticketly.mseventseating.dto.event.TierRequest;
 import com.ticketly.mseventseating.model.*;
 import com.ticketly.mseventseating.repository.CategoryRepository;
+import com.ticketly.mseventseating.service.id.IdGenerator;
+import com.ticketly.mseventseating.service.id.TimeOrderedIdGenerator;
 import dto.SessionSeatingMapDTO;
 import model.SessionStatus;
 import model.SessionType;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.OffsetDateTime;
@@ -36,6 +40,12 @@ public class EventFactoryTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Spy
+    private IdGenerator idGenerator = TimeOrderedIdGenerator.INSTANCE;
+
+    @Spy
+    private AppLimitsConfig appLimitsConfig = new AppLimitsConfig();
+
     @InjectMocks
     private EventFactory eventFactory;
 
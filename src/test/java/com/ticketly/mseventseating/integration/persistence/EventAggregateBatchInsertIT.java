@@ -0,0 +1,221 @@
+package com.ticketly.mseventseating.integration.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.dto.session.SeatGridDTO;
+import com.ticketly.mseventseating.model.*;
+import com.ticketly.mseventseating.model.discount.PercentageDiscountParams;
+import com.ticketly.mseventseating.repository.EventRepository;
+import com.ticketly.mseventseating.repository.OrganizationRepository;
+import com.ticketly.mseventseating.service.id.TimeOrderedIdGenerator;
+import com.ticketly.mseventseating.service.seating_layout.SeatGridCodec;
+import com.ticketly.mseventseating.service.seating_layout.StoredLayout;
+import dto.SessionSeatingMapDTO;
+import jakarta.persistence.EntityManager;
+import model.DiscountType;
+import model.SessionType;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the statements {@code eventRepository.save} takes to write a 200-session event, each session
+ * with a 2,000-seat grid stored in both layout forms, plus its tiers, discounts and discount join rows, with and without JDBC
+ * batching. Timings are only logged.
+ * <p>
+ * The batching properties mirror {@code application.yml}, which the test resources shadow. Only needs
+ * Docker: {@code ./mvnw test -Dtest=EventAggregateBatchInsertIT}
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true",
+        "spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.order_updates=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EventAggregateBatchInsertIT {
+
+    private static final Logger log = LoggerFactory.getLogger(EventAggregateBatchInsertIT.class);
+
+    private static final int SESSIONS = 200;
+    private static final int TIERS = 3;
+    private static final int DISCOUNTS = 10;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"))
+                    .withDatabaseName("event_seating")
+                    .withUsername("postgres")
+                    .withPassword("postgres");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void save_ShouldWriteLargeAggregatesInFewBatches() throws Exception {
+        Organization organization = organizationRepository.saveAndFlush(Organization.builder()
+                .name("Arena Group")
+                .userId("owner")
+                .build());
+
+        // Warm up connections and statement caches before measuring either way
+        write(organization, 1);
+
+        Measurement unbatched = write(organization, 1);
+        Measurement batched = write(organization, null);
+
+        log.info("200 sessions x 2k seats: unbatched {} statements in {} ms, batched {} statements in {} ms",
+                unbatched.statements(), unbatched.millis(), batched.statements(), batched.millis());
+
+        long rows = 1 + TIERS + 2L * SESSIONS + DISCOUNTS * (1 + TIERS + SESSIONS);
+        assertThat(unbatched.statements()).isGreaterThanOrEqualTo(rows);
+        // One batch per table per 100 rows
+        assertThat(batched.statements()).isLessThan(60);
+        assertThat(entityManager.createQuery("SELECT COUNT(s) FROM EventSession s WHERE s.event.id = :eventId", Long.class)
+                .setParameter("eventId", batched.eventId())
+                .getSingleResult()).isEqualTo(SESSIONS);
+    }
+
+    private record Measurement(UUID eventId, long statements, long millis) {
+    }
+
+    /**
+     * Save and flush a new aggregate with the given JDBC batch size, or the configured one if null.
+     */
+    private Measurement write(Organization organization, Integer batchSize) throws Exception {
+        Event event = buildEvent(organization);
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        eventRepository.save(event);
+        entityManager.flush();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        session.setJdbcBatchSize(null);
+        return new Measurement(event.getId(), statements, millis);
+    }
+
+    private Event buildEvent(Organization organization) throws Exception {
+        Event event = Event.builder()
+                .title("Season")
+                .organization(organizationRepository.getReferenceById(organization.getId()))
+                .build();
+
+        List<Tier> tiers = new ArrayList<>();
+        for (int t = 0; t < TIERS; t++) {
+            tiers.add(Tier.builder()
+                    .id(TimeOrderedIdGenerator.INSTANCE.next())
+                    .name("Tier " + t)
+                    .color("#000000")
+                    .price(BigDecimal.valueOf(50L * (t + 1)))
+                    .event(event)
+                    .build());
+        }
+        event.setTiers(tiers);
+
+        StoredLayout layout = gridLayout(tiers);
+        List<EventSession> sessions = new ArrayList<>();
+        OffsetDateTime start = OffsetDateTime.now().plusDays(30);
+        for (int s = 0; s < SESSIONS; s++) {
+            EventSession session = EventSession.builder()
+                    .event(event)
+                    .startTime(start.plusDays(s))
+                    .endTime(start.plusDays(s).plusHours(3))
+                    .salesStartTime(start.minusDays(10))
+                    .sessionType(SessionType.PHYSICAL)
+                    .venueDetails("{\"name\":\"Arena\"}")
+                    .build();
+            session.setSessionSeatingMap(SessionSeatingMap.builder()
+                    .eventSession(session)
+                    .layoutData(layout.layoutData())
+                    .layoutGrid(layout.layoutGrid())
+                    .build());
+            sessions.add(session);
+        }
+        event.setSessions(sessions);
+
+        List<Discount> discounts = new ArrayList<>();
+        for (int d = 0; d < DISCOUNTS; d++) {
+            discounts.add(Discount.builder()
+                    .id(TimeOrderedIdGenerator.INSTANCE.next())
+                    .event(event)
+                    .code("SAVE" + d)
+                    .parameters(new PercentageDiscountParams(DiscountType.PERCENTAGE, BigDecimal.TEN, null, null))
+                    .applicableTiers(new ArrayList<>(tiers))
+                    .applicableSessions(new ArrayList<>(sessions))
+                    .build());
+        }
+        event.setDiscounts(discounts);
+        return event;
+    }
+
+    /**
+     * A 20 x 100 seated grid, expanded and in grid form.
+     */
+    private StoredLayout gridLayout(List<Tier> tiers) throws Exception {
+        List<SeatGridDTO.TierRun> runs = List.of(
+                SeatGridDTO.TierRun.builder().tierId(tiers.get(0).getId()).count(30).build(),
+                SeatGridDTO.TierRun.builder().tierId(tiers.get(1).getId()).count(40).build(),
+                SeatGridDTO.TierRun.builder().tierId(tiers.get(2).getId()).count(30).build());
+        SeatGridDTO grid = SeatGridDTO.builder().rows(20).columns(100).startRowLabel("A").tierRuns(List.of(runs)).build();
+        SessionSeatingMapDTO.Position position = new SessionSeatingMapDTO.Position();
+        position.setX(0.0);
+        position.setY(0.0);
+        SessionSeatingMapDTO.Block block = new SessionSeatingMapDTO.Block();
+        block.setId(TimeOrderedIdGenerator.INSTANCE.next());
+        block.setName("Bowl");
+        block.setType(SeatGridCodec.SEATED_GRID);
+        block.setPosition(position);
+        block.setRows(SeatGridCodec.expand(block.getId(), grid));
+        SessionSeatingMapDTO.Layout layout = new SessionSeatingMapDTO.Layout();
+        layout.setBlocks(new ArrayList<>(List.of(block)));
+        SessionSeatingMapDTO map = new SessionSeatingMapDTO();
+        map.setName("Arena");
+        map.setLayout(layout);
+        return StoredLayout.of(objectMapper, map);
+    }
+}
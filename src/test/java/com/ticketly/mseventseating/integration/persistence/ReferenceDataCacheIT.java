@@ -0,0 +1,129 @@
+package com.ticketly.mseventseating.integration.persistence;
+
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.config.HibernateCacheConfig;
+import com.ticketly.mseventseating.model.Category;
+import com.ticketly.mseventseating.repository.CategoryRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that categories and their parent chains, and the top-level category query, are served
+ * from the second-level cache once loaded, and that a committed change is not.
+ * <p>
+ * Runs each step in its own committed transaction, as the cache is only updated on commit. Only
+ * needs Docker: {@code ./mvnw test -Dtest=ReferenceDataCacheIT}
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.entity-cache.enabled=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({HibernateCacheConfig.class, AppLimitsConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReferenceDataCacheIT {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"))
+                    .withDatabaseName("event_seating")
+                    .withUsername("postgres")
+                    .withPassword("postgres");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private UUID childId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        String suffix = UUID.randomUUID().toString();
+        childId = transaction.execute(status -> {
+            Category parent = categoryRepository.save(Category.builder().name("Music " + suffix).build());
+            return categoryRepository.save(Category.builder().name("Jazz " + suffix).parent(parent).build()).getId();
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void categoryWithItsParent_ShouldBeReadFromTheCacheOnceLoaded() {
+        String loaded = transaction.execute(status -> parentName(childId));
+        statistics().clear();
+
+        String cached = transaction.execute(status -> parentName(childId));
+
+        assertThat(cached).isEqualTo(loaded);
+        assertThat(statistics().getPrepareStatementCount()).isZero();
+        assertThat(statistics().getSecondLevelCacheHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void topLevelCategories_ShouldBeReadFromTheQueryCacheUntilOneChanges() {
+        transaction.execute(status -> topLevelNames());
+        statistics().clear();
+
+        transaction.execute(status -> topLevelNames());
+        assertThat(statistics().getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics().getPrepareStatementCount()).isZero();
+
+        String added = "Sports " + UUID.randomUUID();
+        transaction.execute(status -> categoryRepository.save(Category.builder().name(added).build()));
+        statistics().clear();
+
+        assertThat(transaction.execute(status -> topLevelNames())).contains(added);
+        assertThat(statistics().getQueryCacheHitCount()).isZero();
+    }
+
+    private String parentName(UUID categoryId) {
+        return categoryRepository.findById(categoryId).orElseThrow().getParent().getName();
+    }
+
+    private List<String> topLevelNames() {
+        return categoryRepository.findByParentIsNull().stream().map(Category::getName).toList();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
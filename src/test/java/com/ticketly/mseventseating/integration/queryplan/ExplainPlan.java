@@ -0,0 +1,79 @@
+package com.ticketly.mseventseating.integration.queryplan;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Parsed output of {@code EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON)}.
+ */
+final class ExplainPlan {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JsonNode root;
+    private final String json;
+
+    private ExplainPlan(JsonNode root, String json) {
+        this.root = root;
+        this.json = json;
+    }
+
+    static ExplainPlan parse(String json) throws IOException {
+        // The JSON format returns a single-element array wrapping the plan
+        JsonNode document = MAPPER.readTree(json);
+        return new ExplainPlan(document.get(0).get("Plan"), json);
+    }
+
+    /**
+     * Relations from the given set that are read with a sequential scan anywhere in the plan.
+     */
+    List<String> sequentialScansOf(Set<String> relations) {
+        List<String> result = new ArrayList<>();
+        collectSequentialScans(root, relations, result);
+        return result;
+    }
+
+    /**
+     * Shared buffers touched by the whole statement (hits plus reads), as reported on the root node,
+     * which already includes its children.
+     */
+    long sharedBlocks() {
+        return root.path("Shared Hit Blocks").asLong() + root.path("Shared Read Blocks").asLong();
+    }
+
+    /**
+     * Sort and Incremental Sort nodes anywhere in the plan.
+     */
+    long sorts() {
+        return countSorts(root);
+    }
+
+    String json() {
+        return json;
+    }
+
+    private static void collectSequentialScans(JsonNode node, Set<String> relations, List<String> result) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            String relation = node.path("Relation Name").asText();
+            if (relations.contains(relation)) {
+                result.add(relation);
+            }
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, relations, result);
+        }
+    }
+
+    private static long countSorts(JsonNode node) {
+        long count = node.path("Node Type").asText().endsWith("Sort") ? 1 : 0;
+        for (JsonNode child : node.path("Plans")) {
+            count += countSorts(child);
+        }
+        return count;
+    }
+}
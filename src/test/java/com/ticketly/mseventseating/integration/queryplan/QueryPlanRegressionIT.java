@@ -0,0 +1,431 @@
+package com.ticketly.mseventseating.integration.queryplan;
+
+import com.ticketly.mseventseating.model.Discount;
+import com.ticketly.mseventseating.model.Event;
+import com.ticketly.mseventseating.model.EventSession;
+import com.ticketly.mseventseating.repository.*;
+import jakarta.persistence.EntityManager;
+import model.EventStatus;
+import model.SessionStatus;
+import org.flywaydb.core.Flyway;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the execution plans of the repository queries on hot paths against regressions.
+ * <p>
+ * Runs the real Flyway migrations against PostgreSQL and seeds a production-sized data set
+ * (see {@code queryplan/seed.sql}). Each case calls a repository method, or loads an association,
+ * in a transaction that is rolled back, and records every statement Hibernate sends for it with
+ * its bind parameters. Each of those statements is then executed again under
+ * {@code EXPLAIN (ANALYZE, BUFFERS)}. A case fails when a plan sequentially scans one of the large
+ * tables, when it touches more shared buffers than its budget, or, for keyset pages, when it sorts.
+ * As the SQL is the SQL Hibernate generates, changing a query changes what is explained.
+ * <p>
+ * Only needs Docker, not the rest of the integration stack:
+ * {@code ./mvnw test -Dtest=QueryPlanRegressionIT}
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        // The schema is migrated and seeded before the context starts, see migrateAndSeed
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QueryPlanRegressionIT {
+
+    /**
+     * Tables that grow with usage and must never be read in full by a request path.
+     */
+    private static final Set<String> LARGE_TABLES = Set.of(
+            "events", "event_sessions", "session_seating_maps", "tiers", "discounts",
+            "discount_tiers", "discount_sessions", "event_cover_photos", "organizations",
+            "organization_members", "seating_layout_templates", "session_status_counters");
+
+    private static final long DEFAULT_BUFFER_BUDGET = 1_000;
+    private static final long SEARCH_BUFFER_BUDGET = 3_000;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"))
+                    .withDatabaseName("event_seating")
+                    .withUsername("postgres")
+                    .withPassword("postgres");
+
+    /**
+     * Wraps the application's data source, so it sees every statement Hibernate sends.
+     */
+    private static final StatementCapture capture = new StatementCapture();
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        try (Connection connection = connect()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("queryplan/seed.sql"));
+        }
+    }
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    @TestConfiguration
+    static class CaptureConfig {
+
+        @Bean
+        static BeanPostProcessor statementCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? capture.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EventSessionRepository eventSessionRepository;
+    @Autowired
+    private SessionStatusCounterRepository sessionStatusCounterRepository;
+    @Autowired
+    private SessionSeatingMapRepository sessionSeatingMapRepository;
+    @Autowired
+    private DiscountRepository discountRepository;
+    @Autowired
+    private TierRepository tierRepository;
+    @Autowired
+    private OrganizationRepository organizationRepository;
+    @Autowired
+    private OrganizationMemberRepository organizationMemberRepository;
+    @Autowired
+    private SeatingLayoutTemplateRepository seatingLayoutTemplateRepository;
+
+    private Repositories repositories;
+
+    @BeforeEach
+    void setUp() {
+        repositories = new Repositories(entityManager, eventRepository, eventSessionRepository,
+                sessionStatusCounterRepository, sessionSeatingMapRepository, discountRepository, tierRepository,
+                organizationRepository, organizationMemberRepository, seatingLayoutTemplateRepository);
+    }
+
+    record Repositories(EntityManager entityManager,
+                        EventRepository events,
+                        EventSessionRepository sessions,
+                        SessionStatusCounterRepository sessionStatusCounters,
+                        SessionSeatingMapRepository seatingMaps,
+                        DiscountRepository discounts,
+                        TierRepository tiers,
+                        OrganizationRepository organizations,
+                        OrganizationMemberRepository organizationMembers,
+                        SeatingLayoutTemplateRepository seatingLayoutTemplates) {
+    }
+
+    /**
+     * A call whose statements are explained, with representative arguments.
+     */
+    @FunctionalInterface
+    interface RepositoryCall {
+        void run(Repositories repositories);
+    }
+
+    record QueryPlanCase(String name, RepositoryCall call, long bufferBudget, boolean indexOrdered) {
+
+        static QueryPlanCase of(String name, RepositoryCall call) {
+            return new QueryPlanCase(name, call, DEFAULT_BUFFER_BUDGET, false);
+        }
+
+        QueryPlanCase withBudget(long budget) {
+            return new QueryPlanCase(name, call, budget, indexOrdered);
+        }
+
+        /**
+         * Keyset pages must read their rows off an index in order: sorting them costs as much as
+         * the whole result, however small the page.
+         */
+        QueryPlanCase inIndexOrder() {
+            return new QueryPlanCase(name, call, bufferBudget, true);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    static Stream<QueryPlanCase> repositoryQueries() {
+        UUID organizationId = seededId("org-1");
+        UUID eventId = seededId("event-1");
+        UUID sessionId = seededId("session-1");
+        UUID discountId = seededId("discount-1");
+        List<UUID> sessionIds = List.of(sessionId, seededId("session-2"));
+        OffsetDateTime cursorTime = OffsetDateTime.now().minusDays(3);
+        OffsetDateTime sessionCursorTime = OffsetDateTime.now().plusDays(30);
+        OffsetDateTime scheduleNow = OffsetDateTime.now();
+        OffsetDateTime scheduleFrom = scheduleNow.minusHours(24);
+        OffsetDateTime scheduleUntil = scheduleNow.plusHours(2);
+        Pageable recentlyUpdated = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "updatedAt"));
+
+        return Stream.of(
+                // EventSessionRepository
+                QueryPlanCase.of("EventSessionRepository.countByEventIdAndStatusNotIn", r ->
+                        r.sessions().countByEventIdAndStatusNotIn(eventId, List.of(SessionStatus.CLOSED, SessionStatus.CANCELLED))),
+                QueryPlanCase.of("EventSessionRepository.existsByEventId", r ->
+                        r.sessions().existsByEventId(eventId)),
+                QueryPlanCase.of("EventSessionRepository.existsByEventIdAndStatus", r ->
+                        r.sessions().existsByEventIdAndStatus(eventId, SessionStatus.ON_SALE)),
+                QueryPlanCase.of("EventSessionRepository.findAllByEventId", r ->
+                        r.sessions().findAllByEventId(eventId)),
+                QueryPlanCase.of("EventSessionRepository.findSummariesByEventId", r ->
+                        r.sessions().findSummariesByEventId(eventId)),
+                QueryPlanCase.of("EventSessionRepository.findEventIdById", r ->
+                        r.sessions().findEventIdById(sessionId)),
+                QueryPlanCase.of("EventSessionRepository.findEventStatusById", r ->
+                        r.sessions().findEventStatusById(sessionId)),
+                QueryPlanCase.of("EventSessionRepository.findTransitionCandidatesByIdIn", r ->
+                        r.sessions().findTransitionCandidatesByIdIn(sessionIds)),
+                QueryPlanCase.of("EventSessionRepository.updateStatusByIdIn", r ->
+                        r.sessions().updateStatusByIdIn(sessionIds, SessionStatus.ON_SALE)),
+                QueryPlanCase.of("EventSessionRepository.findSchedulesBySalesStartBetween", r ->
+                        r.sessions().findSchedulesBySalesStartBetween(SessionStatus.SCHEDULED, EventStatus.APPROVED,
+                                scheduleFrom, scheduleUntil, scheduleNow)),
+                QueryPlanCase.of("EventSessionRepository.findSchedulesByEndBetween", r ->
+                        r.sessions().findSchedulesByEndBetween(
+                                List.of(SessionStatus.SCHEDULED, SessionStatus.ON_SALE, SessionStatus.SOLD_OUT),
+                                EventStatus.APPROVED, scheduleFrom, scheduleUntil)),
+                QueryPlanCase.of("EventSessionRepository.findSchedulesByIdIn", r ->
+                        r.sessions().findSchedulesByIdIn(sessionIds)),
+                QueryPlanCase.of("EventSessionRepository.removeSessionFromDiscounts", r ->
+                        r.sessions().removeSessionFromDiscounts(sessionId)),
+                QueryPlanCase.of("EventSessionRepository.countSessionsByStatusForEvent", r ->
+                        r.sessions().countSessionsByStatusForEvent(eventId)),
+                QueryPlanCase.of("EventSessionRepository.countSessionsByStatusForOrganization", r ->
+                        r.sessions().countSessionsByStatusForOrganization(organizationId)),
+                QueryPlanCase.of("EventSessionRepository.countSessionsForOrganization", r ->
+                        r.sessions().countSessionsForOrganization(organizationId)),
+                QueryPlanCase.of("EventSessionRepository.findSessionsByOrganization", r ->
+                        r.sessions().findSessionsByOrganization(organizationId, null,
+                                PageRequest.of(0, 20, Sort.by("salesStartTime", "startTime")))),
+                QueryPlanCase.of("EventSessionRepository.findSessionsByOrganizationFirstPage", r ->
+                        r.sessions().findSessionsByOrganizationFirstPage(organizationId, SessionStatus.ON_SALE,
+                                Limit.of(21))).inIndexOrder(),
+                QueryPlanCase.of("EventSessionRepository.findSessionsByOrganizationFirstPage (any status)", r ->
+                        r.sessions().findSessionsByOrganizationFirstPage(organizationId, null, Limit.of(21)))
+                        .inIndexOrder(),
+                QueryPlanCase.of("EventSessionRepository.findSessionsByOrganizationAfter", r ->
+                        r.sessions().findSessionsByOrganizationAfter(organizationId, null, sessionCursorTime,
+                                sessionId, Limit.of(21))).inIndexOrder(),
+
+                // SessionStatusCounterRepository
+                QueryPlanCase.of("SessionStatusCounterRepository.sumByStatusForEvent", r ->
+                        r.sessionStatusCounters().sumByStatusForEvent(eventId)),
+                QueryPlanCase.of("SessionStatusCounterRepository.sumByStatusForOrganization", r ->
+                        r.sessionStatusCounters().sumByStatusForOrganization(organizationId)),
+                QueryPlanCase.of("SessionStatusCounterRepository.addToCounter", r ->
+                        r.sessionStatusCounters().addToCounter(organizationId, eventId, SessionStatus.ON_SALE.name(), 1L)),
+
+                // EventRepository
+                QueryPlanCase.of("EventRepository.findAll(updatedAt DESC)", r ->
+                        r.events().findAll(recentlyUpdated)),
+                QueryPlanCase.of("EventRepository.findAllByStatus", r ->
+                        r.events().findAllByStatus(EventStatus.APPROVED, recentlyUpdated)),
+                QueryPlanCase.of("EventRepository.findByOrganizationIdAndOptionalStatus", r ->
+                        r.events().findByOrganizationIdAndOptionalStatus(organizationId, null, recentlyUpdated)),
+                QueryPlanCase.of("EventRepository.countByOrganizationIdAndStatus", r ->
+                        r.events().countByOrganizationIdAndStatus(organizationId, EventStatus.APPROVED)),
+                QueryPlanCase.of("EventRepository.findEventsFirstPage", r ->
+                        r.events().findEventsFirstPage(EventStatus.APPROVED, Limit.of(21))),
+                QueryPlanCase.of("EventRepository.findEventsAfter", r ->
+                        r.events().findEventsAfter(null, cursorTime, eventId, Limit.of(21))),
+                QueryPlanCase.of("EventRepository.findOrganizationEventsAfter", r ->
+                        r.events().findOrganizationEventsAfter(organizationId, null, cursorTime, eventId, Limit.of(21))),
+                QueryPlanCase.of("EventRepository.countSearchEvents", r ->
+                        r.events().countSearchEvents("summit 1231", "summit:* & 1231:*", "%summit 1231%",
+                                EventStatus.APPROVED.name()))
+                        .withBudget(SEARCH_BUFFER_BUDGET),
+                QueryPlanCase.of("EventRepository.searchOrganizationEvents", r ->
+                        r.events().searchOrganizationEvents(organizationId, "summit", "summit:*", "%summit%", null, 20, 0)),
+                QueryPlanCase.of("EventRepository.findIdsByStatusIn", r ->
+                        r.events().findIdsByStatusIn(List.of(EventStatus.APPROVED, EventStatus.COMPLETED), Limit.of(100))),
+                QueryPlanCase.of("EventRepository.findIdsByStatusInAfter", r ->
+                        r.events().findIdsByStatusInAfter(List.of(EventStatus.APPROVED, EventStatus.COMPLETED), eventId,
+                                Limit.of(100))),
+                QueryPlanCase.of("EventRepository.findAllWithTiersByIdIn", r ->
+                        r.events().findAllWithTiersByIdIn(List.of(eventId))),
+                QueryPlanCase.of("EventRepository.findAllByIdInAndStatusWithAllSessionsIn", r ->
+                        r.events().findAllByIdInAndStatusWithAllSessionsIn(List.of(eventId), EventStatus.APPROVED,
+                                List.of(SessionStatus.CLOSED, SessionStatus.CANCELLED))),
+                QueryPlanCase.of("EventRepository.findAllWithSessionsByIdIn", r ->
+                        r.events().findAllWithSessionsByIdIn(List.of(eventId))),
+                QueryPlanCase.of("DiscountRepository.findAllWithApplicableSessionsByEventIdIn", r ->
+                        r.discounts().findAllWithApplicableSessionsByEventIdIn(List.of(eventId))),
+
+                // Child collections and lookups
+                QueryPlanCase.of("TierRepository.findByEventId", r ->
+                        r.tiers().findByEventId(eventId)),
+                QueryPlanCase.of("Event.coverPhotos", r ->
+                        Hibernate.initialize(r.entityManager().getReference(Event.class, eventId).getCoverPhotos())),
+                QueryPlanCase.of("EventSession.sessionSeatingMap", r ->
+                        r.entityManager().find(EventSession.class, sessionId)),
+                QueryPlanCase.of("SessionSeatingMapRepository.findLayoutDataBySessionId", r ->
+                        r.seatingMaps().findLayoutDataBySessionId(sessionId)),
+                QueryPlanCase.of("SessionSeatingMapRepository.findIdBySessionId", r ->
+                        r.seatingMaps().findIdBySessionId(sessionId)),
+                QueryPlanCase.of("SessionSeatingMapRepository.findSessionIdById", r ->
+                        r.seatingMaps().findSessionIdById(UUID.randomUUID())),
+                QueryPlanCase.of("SessionSeatingMapRepository.findBlockBoundsBySessionId", r ->
+                        r.seatingMaps().findBlockBoundsBySessionId(sessionId)),
+                QueryPlanCase.of("SessionSeatingMapRepository.findBlocksBySessionIdAndBlockIds", r ->
+                        r.seatingMaps().findBlocksBySessionIdAndBlockIds(sessionId,
+                                new String[]{UUID.randomUUID().toString()})),
+                QueryPlanCase.of("DiscountRepository.findAllByEventIdAndIsPublic", r ->
+                        r.discounts().findAllByEventIdAndIsPublic(eventId, true, PageRequest.of(0, 20))),
+                QueryPlanCase.of("Discount.applicableTiers", r ->
+                        Hibernate.initialize(r.entityManager().getReference(Discount.class, discountId).getApplicableTiers())),
+                QueryPlanCase.of("Discount.applicableSessions", r ->
+                        Hibernate.initialize(r.entityManager().getReference(Discount.class, discountId).getApplicableSessions())),
+                QueryPlanCase.of("OrganizationRepository.findByUserId", r ->
+                        r.organizations().findByUserId("user-1")),
+                QueryPlanCase.of("OrganizationRepository.countByUserId", r ->
+                        r.organizations().countByUserId("user-1")),
+                QueryPlanCase.of("OrganizationMemberRepository.findByOrganizationIdAndUserId", r ->
+                        r.organizationMembers().findByOrganizationIdAndUserId(organizationId, "staff-500")),
+                QueryPlanCase.of("SeatingLayoutTemplateRepository.findByOrganizationId", r ->
+                        r.seatingLayoutTemplates().findByOrganizationId(organizationId,
+                                PageRequest.of(0, 10, Sort.by("updatedAt").descending())))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void repositoryQueryPlanStaysWithinBudget(QueryPlanCase queryCase) throws Exception {
+        List<StatementCapture.CapturedStatement> statements = run(queryCase);
+
+        assertThat(statements).as("%s sent no statement", queryCase.name()).isNotEmpty();
+        for (StatementCapture.CapturedStatement statement : statements) {
+            ExplainPlan plan = explain(statement);
+            assertThat(plan.sequentialScansOf(LARGE_TABLES))
+                    .as("%s sequentially scans a large table in%n%s%nplan:%n%s", queryCase.name(), statement.sql(), plan.json())
+                    .isEmpty();
+            assertThat(plan.sharedBlocks())
+                    .as("%s touched more shared buffers than its budget in%n%s%nplan:%n%s", queryCase.name(),
+                            statement.sql(), plan.json())
+                    .isLessThanOrEqualTo(queryCase.bufferBudget());
+            if (queryCase.indexOrdered()) {
+                assertThat(plan.sorts())
+                        .as("%s sorts the rows it pages through in%n%s%nplan:%n%s", queryCase.name(), statement.sql(),
+                                plan.json())
+                        .isZero();
+            }
+        }
+    }
+
+    /**
+     * Make the call in a transaction that is rolled back, so writes leave the seed as it was and no
+     * lock it takes is still held when its statements are explained.
+     */
+    private List<StatementCapture.CapturedStatement> run(QueryPlanCase queryCase) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            capture.clear();
+            queryCase.call().run(repositories);
+            entityManager.flush();
+            status.setRollbackOnly();
+        });
+        return capture.statements();
+    }
+
+    /**
+     * Explain a captured statement with the parameters it was sent with, inside a transaction that
+     * is always rolled back, since ANALYZE executes the statement (including DELETEs).
+     */
+    private static ExplainPlan explain(StatementCapture.CapturedStatement captured) throws Exception {
+        try (Connection connection = connect()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = captured.prepare(connection, "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) ");
+                 ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return ExplainPlan.parse(resultSet.getString(1));
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+
+    /**
+     * Java equivalent of {@code md5(seed)::uuid} used by the seed script.
+     */
+    private static UUID seededId(String seed) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(seed.getBytes(StandardCharsets.UTF_8));
+            String hex = HexFormat.of().formatHex(digest);
+            return UUID.fromString(hex.substring(0, 8) + "-" + hex.substring(8, 12) + "-" + hex.substring(12, 16)
+                    + "-" + hex.substring(16, 20) + "-" + hex.substring(20));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
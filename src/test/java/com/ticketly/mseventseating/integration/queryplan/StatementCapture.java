@@ -0,0 +1,112 @@
+package com.ticketly.mseventseating.integration.queryplan;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records the prepared statements Hibernate executes through a wrapped {@link DataSource}, with the
+ * parameters bound to them, so they can be executed again under {@code EXPLAIN} exactly as sent.
+ */
+final class StatementCapture {
+
+    /**
+     * A parameter setter call, such as {@code setObject(1, value, Types.OTHER)}, to replay as made.
+     */
+    record Binding(Method setter, Object[] arguments) {
+    }
+
+    record CapturedStatement(String sql, List<Binding> bindings) {
+
+        /**
+         * Prepare the statement on another connection, prefixed with {@code prefix}, and bind the
+         * captured parameters to it. The prefix must not contain parameter markers.
+         */
+        PreparedStatement prepare(Connection connection, String prefix) throws SQLException {
+            PreparedStatement statement = connection.prepareStatement(prefix + sql);
+            for (Binding binding : bindings) {
+                try {
+                    binding.setter().invoke(statement, binding.arguments());
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause() instanceof SQLException sqlException ? sqlException
+                            : new IllegalStateException(e.getCause());
+                }
+            }
+            return statement;
+        }
+    }
+
+    private final List<CapturedStatement> statements = new ArrayList<>();
+
+    synchronized void clear() {
+        statements.clear();
+    }
+
+    synchronized List<CapturedStatement> statements() {
+        return List.copyOf(statements);
+    }
+
+    private synchronized void record(CapturedStatement statement) {
+        statements.add(statement);
+    }
+
+    DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, arguments, result) ->
+                result instanceof Connection connection ? wrap(connection) : result);
+    }
+
+    private Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (method, arguments, result) ->
+                result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")
+                        ? wrap(statement, (String) arguments[0])
+                        : result);
+    }
+
+    private PreparedStatement wrap(PreparedStatement statement, String sql) {
+        Map<Integer, Binding> bindings = new TreeMap<>();
+        InvocationHandler handler = (proxy, method, arguments) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && arguments != null && arguments.length >= 2
+                    && method.getParameterTypes()[0] == int.class) {
+                bindings.put((Integer) arguments[0], new Binding(method, arguments.clone()));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            } else if (arguments == null && (name.equals("execute") || name.equals("executeQuery")
+                    || name.equals("executeUpdate") || name.equals("executeLargeUpdate"))) {
+                record(new CapturedStatement(sql, List.copyOf(bindings.values())));
+            }
+            return invoke(statement, method, arguments);
+        };
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, handler);
+    }
+
+    private interface ResultWrapper {
+        Object wrap(Method method, Object[] arguments, Object result);
+    }
+
+    private static <T> T proxy(Class<T> type, T target, ResultWrapper wrapper) {
+        InvocationHandler handler = (proxy, method, arguments) ->
+                wrapper.wrap(method, arguments, invoke(target, method, arguments));
+        return type.cast(Proxy.newProxyInstance(StatementCapture.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] arguments) throws Throwable {
+        try {
+            return method.invoke(target, arguments);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
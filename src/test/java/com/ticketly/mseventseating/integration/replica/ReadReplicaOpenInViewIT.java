@@ -0,0 +1,157 @@
+package com.ticketly.mseventseating.integration.replica;
+
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.config.ReadReplicaDataSourceConfig;
+import com.ticketly.mseventseating.service.replica.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A request that reads in a read-only transaction and then writes must run the write on the primary,
+ * which with open-in-view it wouldn't: the request's EntityManager would keep the replica connection
+ * of the read for the write.
+ * <p>
+ * Runs the data source, JPA and the MVC layer with the replica routing enabled, without the rest of
+ * the application. Only needs Docker: {@code ./mvnw test -Dtest=ReadReplicaOpenInViewIT}
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(classes = ReadReplicaOpenInViewIT.Application.class, properties = {
+        "app.read-replicas.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureMockMvc
+class ReadReplicaOpenInViewIT {
+
+    private static final Network network = Network.newNetwork();
+
+    @Container
+    static final PostgreSQLContainer<?> primaryContainer = ReplicatedPostgres.primary(network);
+
+    @Container
+    static final GenericContainer<?> replicaContainer = ReplicatedPostgres.replica(network, primaryContainer);
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primaryContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", primaryContainer::getUsername);
+        registry.add("spring.datasource.password", primaryContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("app.read-replicas.urls[0]", () -> ReplicatedPostgres.replicaUrl(replicaContainer));
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class, JdbcTemplateAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class, WebMvcAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class})
+    @Import({ReadReplicaDataSourceConfig.class, AppLimitsConfig.class, ProbeController.class})
+    static class Application {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @RestController
+    static class ProbeController {
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        ProbeController(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        /**
+         * Reads in a read-only transaction, then writes, and answers whether the read ran on a replica.
+         */
+        @PostMapping("/probes/{id}")
+        String readThenWrite(@PathVariable UUID id) {
+            Boolean readOnReplica = readOnly.execute(status ->
+                    jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class));
+            readWrite.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO probe (id) VALUES (?)", id));
+            return String.valueOf(readOnReplica);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primary;
+
+    @BeforeAll
+    static void createTable() {
+        new JdbcTemplate(new DriverManagerDataSource(primaryContainer.getJdbcUrl(), "postgres", "postgres"))
+                .execute("CREATE TABLE probe (id UUID PRIMARY KEY)");
+        ReplicatedPostgres.awaitReplica(
+                new DriverManagerDataSource(ReplicatedPostgres.replicaUrl(replicaContainer), "postgres", "postgres"),
+                "SELECT to_regclass('probe') IS NOT NULL");
+    }
+
+    @Test
+    void writeAfterReadOnlyTransaction_InOneRequest_ShouldRunOnThePrimary() throws Exception {
+        routingDataSource.checkLag();
+        UUID id = UUID.randomUUID();
+
+        mockMvc.perform(post("/probes/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(content().string("true"));
+
+        assertThat(environment.getProperty("spring.jpa.open-in-view", Boolean.class)).isFalse();
+        assertThat(new JdbcTemplate(primary).queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM probe WHERE id = ?)", Boolean.class, id)).isTrue();
+    }
+}
@@ -0,0 +1,151 @@
+package com.ticketly.mseventseating.integration.replica;
+
+import com.ticketly.mseventseating.service.replica.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes transactions between a primary and a streaming replica set up by {@link ReplicatedPostgres}.
+ * <p>
+ * The data source is wired as {@code ReadReplicaDataSourceConfig} wires it, without the rest of the
+ * application. Only needs Docker: {@code ./mvnw test -Dtest=ReadReplicaRoutingIT}
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReadReplicaRoutingIT {
+
+    private static final Network network = Network.newNetwork();
+
+    @Container
+    static final PostgreSQLContainer<?> primaryContainer = ReplicatedPostgres.primary(network);
+
+    @Container
+    static final GenericContainer<?> replicaContainer = ReplicatedPostgres.replica(network, primaryContainer);
+
+    private static HikariDataSource primary;
+    private static HikariDataSource replica;
+    private static ReplicaRoutingDataSource routingDataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate readOnly;
+    private static TransactionTemplate readWrite;
+
+    @BeforeAll
+    static void setUp() {
+        primary = pool("primary", primaryContainer.getJdbcUrl());
+        replica = pool("replica-1", ReplicatedPostgres.replicaUrl(replicaContainer));
+        routingDataSource = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica),
+                Duration.ofSeconds(1), new SimpleMeterRegistry());
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+
+        new JdbcTemplate(primary).execute("CREATE TABLE probe (id UUID PRIMARY KEY)");
+        ReplicatedPostgres.awaitReplica(replica, "SELECT to_regclass('probe') IS NOT NULL");
+    }
+
+    @AfterAll
+    static void tearDown() {
+        primary.close();
+        replica.close();
+    }
+
+    private static HikariDataSource pool(String name, String url) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername("postgres");
+        config.setPassword("postgres");
+        config.setMaximumPoolSize(4);
+        return new HikariDataSource(config);
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldRunOnTheReplicaOnceItHasCaughtUp() {
+        UUID id = insertOnPrimary();
+        awaitReplica(id);
+        routingDataSource.checkLag();
+
+        assertThat(readOnly.execute(status -> inRecovery())).isTrue();
+        assertThat(readOnly.execute(status -> exists(id))).isTrue();
+        assertThat(readWrite.execute(status -> inRecovery())).isFalse();
+    }
+
+    @Test
+    void onPrimary_ShouldSeeAWriteTheReplicaHasNotReplayed() {
+        awaitReplica(insertOnPrimary());
+        routingDataSource.checkLag();
+        pauseReplay(true);
+        try {
+            UUID id = insertOnPrimary();
+
+            assertThat(readOnly.execute(status -> exists(id))).isFalse();
+            assertThat(ReplicaRoutingDataSource.onPrimary(() -> readOnly.execute(status -> exists(id)))).isTrue();
+        } finally {
+            pauseReplay(false);
+        }
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldFallBackToThePrimaryWhileTheReplicaLags() throws InterruptedException {
+        pauseReplay(true);
+        try {
+            insertOnPrimary();
+            Thread.sleep(1500);
+            insertOnPrimary();
+            routingDataSource.checkLag();
+
+            assertThat(readOnly.execute(status -> inRecovery())).isFalse();
+        } finally {
+            pauseReplay(false);
+        }
+
+        awaitReplica(insertOnPrimary());
+        routingDataSource.checkLag();
+        assertThat(readOnly.execute(status -> inRecovery())).isTrue();
+    }
+
+    private UUID insertOnPrimary() {
+        UUID id = UUID.randomUUID();
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO probe (id) VALUES (?)", id));
+        return id;
+    }
+
+    private Boolean inRecovery() {
+        return jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class);
+    }
+
+    private Boolean exists(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM probe WHERE id = ?)", Boolean.class, id);
+    }
+
+    private static void pauseReplay(boolean pause) {
+        new JdbcTemplate(replica).execute(pause ? "SELECT pg_wal_replay_pause()" : "SELECT pg_wal_replay_resume()");
+    }
+
+    private static void awaitReplica(UUID id) {
+        ReplicatedPostgres.awaitReplica(replica, "SELECT EXISTS (SELECT 1 FROM probe WHERE id = ?)", id);
+    }
+}
@@ -0,0 +1,81 @@
+package com.ticketly.mseventseating.integration.replica;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A primary and a streaming replica set up the way production runs them: the replica is cloned
+ * with {@code pg_basebackup} and follows the primary's WAL.
+ */
+final class ReplicatedPostgres {
+
+    private static final DockerImageName POSTGRES = DockerImageName.parse("postgres:15-alpine");
+
+    private static final String ALLOW_REPLICATION = """
+            #!/bin/sh
+            set -e
+            echo "host replication replicator all scram-sha-256" >> "$PGDATA/pg_hba.conf"
+            psql -v ON_ERROR_STOP=1 -U "$POSTGRES_USER" -c "CREATE ROLE replicator WITH REPLICATION LOGIN PASSWORD 'replicator'"
+            """;
+
+    private static final String FOLLOW_PRIMARY = """
+            until pg_basebackup -h primary -U replicator -D /tmp/replica -R -X stream; do
+              rm -rf /tmp/replica
+              sleep 1
+            done
+            chmod 0700 /tmp/replica
+            exec postgres -D /tmp/replica
+            """;
+
+    private ReplicatedPostgres() {
+    }
+
+    static PostgreSQLContainer<?> primary(Network network) {
+        return new PostgreSQLContainer<>(POSTGRES)
+                .withNetwork(network)
+                .withNetworkAliases("primary")
+                .withDatabaseName("event_seating")
+                .withUsername("postgres")
+                .withPassword("postgres")
+                .withCopyToContainer(Transferable.of(ALLOW_REPLICATION, 0755),
+                        "/docker-entrypoint-initdb.d/allow-replication.sh");
+    }
+
+    static GenericContainer<?> replica(Network network, PostgreSQLContainer<?> primary) {
+        return new GenericContainer<>(POSTGRES)
+                .withNetwork(network)
+                .dependsOn(primary)
+                .withEnv("PGPASSWORD", "replicator")
+                .withCreateContainerCmdModifier(cmd -> cmd.withUser("postgres"))
+                .withCommand("sh", "-c", FOLLOW_PRIMARY)
+                .withExposedPorts(5432)
+                .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1)
+                        .withStartupTimeout(Duration.ofMinutes(2)));
+    }
+
+    static String replicaUrl(GenericContainer<?> replica) {
+        return "jdbc:postgresql://" + replica.getHost() + ":" + replica.getMappedPort(5432) + "/event_seating";
+    }
+
+    /**
+     * Wait for the replica to replay the primary's writes up to where the condition holds.
+     */
+    static void awaitReplica(DataSource replica, String condition, Object... args) {
+        JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!Boolean.TRUE.equals(replicaTemplate.queryForObject(condition, Boolean.class, args))) {
+            assertThat(System.nanoTime()).as("replica replays the primary's writes").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+}
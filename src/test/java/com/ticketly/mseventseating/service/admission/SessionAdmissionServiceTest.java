@@ -0,0 +1,97 @@
+package com.ticketly.mseventseating.service.admission;
+
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.exception.AdmissionDeniedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SessionAdmissionServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AppLimitsConfig appLimitsConfig = new AppLimitsConfig();
+    private final UUID sessionId = UUID.randomUUID();
+    private SessionAdmissionService admissionService;
+
+    @BeforeEach
+    void setUp() {
+        admissionService = new SessionAdmissionService(redisTemplate, meterRegistry, appLimitsConfig);
+    }
+
+    @Test
+    void admit_ShouldHoldAPermitUntilClosed() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of("1", "permit-1", "0"));
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        try (AdmissionPermit ignored = admissionService.admit(sessionId, null)) {
+            verifyNoInteractions(zSetOperations);
+        }
+
+        verify(zSetOperations).remove("event-seating::admission::" + sessionId + "::permits", "permit-1");
+        assertThat(meterRegistry.get("admission.requests").tag("outcome", "admitted").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void admit_ShouldQueueTheCallerWithItsPositionAndWhenToRetry() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of("0", "ticket-1", "120"));
+
+        AdmissionDeniedException denied = catchThrowableOfType(AdmissionDeniedException.class,
+                () -> admissionService.admit(sessionId, "ticket-1"));
+
+        assertThat(denied.getTicket()).isEqualTo("ticket-1");
+        assertThat(denied.getPosition()).isEqualTo(120);
+        // 119 callers ahead are admitted in three waves of 50
+        assertThat(denied.getRetryAfter()).isEqualTo(Duration.ofMillis(300));
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(),
+                eq("10000"), eq("50"), eq("ticket-1"), eq("30000"), anyString(), eq("60000"));
+        assertThat(meterRegistry.get("admission.queue.position").summary().max()).isEqualTo(120);
+    }
+
+    @Test
+    void admit_ShouldAdmitWithoutALimitWhenRedisIsDown() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(admissionService.admit(sessionId, null)).isSameAs(AdmissionPermit.NONE);
+        assertThat(meterRegistry.get("admission.requests").tag("outcome", "bypassed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void admit_ShouldNotLimitWhenDisabled() {
+        appLimitsConfig.getAdmission().setEnabled(false);
+
+        assertThat(admissionService.admit(sessionId, null)).isSameAs(AdmissionPermit.NONE);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void retryAfter_ShouldStayWithinBounds() {
+        assertThat(admissionService.retryAfter(1)).isEqualTo(Duration.ofMillis(250));
+        assertThat(admissionService.retryAfter(1_000_000)).isEqualTo(Duration.ofSeconds(30));
+    }
+}
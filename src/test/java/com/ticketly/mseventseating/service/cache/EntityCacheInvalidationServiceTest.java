@@ -0,0 +1,118 @@
+package com.ticketly.mseventseating.service.cache;
+
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.model.Category;
+import com.ticketly.mseventseating.model.Organization;
+import com.ticketly.mseventseating.model.Tier;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EntityCacheInvalidationServiceTest {
+
+    private static final String CHANNEL = "event-seating::entity-cache";
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private final UUID categoryId = UUID.randomUUID();
+    private final UUID tierId = UUID.randomUUID();
+    private EntityCacheInvalidationService invalidationService;
+
+    @BeforeEach
+    void setUp() {
+        invalidationService = new EntityCacheInvalidationService(entityManagerFactory, redisTemplate, new AppLimitsConfig());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void markChanged_ShouldAnnounceOnceAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        invalidationService.markChanged(Category.class, categoryId);
+        invalidationService.markChanged(Tier.class, List.of(tierId));
+        invalidationService.markChanged(Category.class, categoryId);
+        verifyNoInteractions(redisTemplate);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), message.capture());
+        String entries = message.getValue().substring(message.getValue().indexOf(';') + 1);
+        assertEquals(2, entries.split(",").length);
+        assertTrue(entries.contains("Category:" + categoryId));
+        assertTrue(entries.contains("Tier:" + tierId));
+        assertNull(TransactionSynchronizationManager.getResource(invalidationService));
+    }
+
+    @Test
+    void onInvalidation_FromAnotherInstance_ShouldEvictTheEntitiesAndWhatMayListThem() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+        UUID organizationId = UUID.randomUUID();
+
+        invalidationService.onInvalidation("other-instance;Category:" + categoryId + ",Organization:" + organizationId
+                + ",Event:" + UUID.randomUUID() + ",Tier:not-an-id");
+
+        verify(cache).evictEntityData(Category.class, categoryId);
+        verify(cache).evictEntityData(Organization.class, organizationId);
+        verify(cache).evictCollectionData();
+        verify(cache).evictQueryRegions();
+        verifyNoMoreInteractions(cache);
+    }
+
+    @Test
+    void onInvalidation_OwnAnnouncement_ShouldBeIgnored() {
+        invalidationService.markChanged(Category.class, categoryId);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), message.capture());
+
+        invalidationService.onInvalidation(message.getValue());
+
+        verifyNoInteractions(entityManagerFactory);
+    }
+
+    @Test
+    void markChanged_UncachedEntity_ShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> invalidationService.markChanged(String.class, UUID.randomUUID()));
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+}
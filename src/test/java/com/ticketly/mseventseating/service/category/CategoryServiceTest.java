@@ -6,6 +6,7 @@ import com.ticketly.mseventseating.exception.BadRequestException;
 import com.ticketly.mseventseating.exception.ResourceNotFoundException;
 import com.ticketly.mseventseating.model.Category;
 import com.ticketly.mseventseating.repository.CategoryRepository;
+import com.ticketly.mseventseating.service.cache.EntityCacheInvalidationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,6 +26,9 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private EntityCacheInvalidationService entityCacheInvalidationService;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -175,6 +179,7 @@ class CategoryServiceTest {
         verify(categoryRepository).findById(categoryId);
         verify(categoryRepository).findByName(updateRequest.getName());
         verify(categoryRepository).save(any(Category.class));
+        verify(entityCacheInvalidationService).markChanged(Category.class, categoryId);
     }
 
     @Test
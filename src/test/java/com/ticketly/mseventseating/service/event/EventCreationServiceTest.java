@@ -10,6 +10,9 @@ import com.ticketly.mseventseating.model.*;
 import com.ticketly.mseventseating.repository.EventRepository;
 import com.ticketly.mseventseating.service.limts.LimitService;
 import com.ticketly.mseventseating.service.organization.OrganizationService;
+import com.ticketly.mseventseating.service.seat.SeatAvailabilityService;
+import com.ticketly.mseventseating.service.session.SessionStatusCounterService;
+import com.ticketly.mseventseating.service.storage.CoverPhotoVariantService;
 import com.ticketly.mseventseating.service.storage.S3StorageService;
 import model.EventStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -53,6 +56,15 @@ class EventCreationServiceTest {
     @Mock
     private AppLimitsConfig.EventConfig eventConfig;
 
+    @Mock
+    private CoverPhotoVariantService coverPhotoVariantService;
+
+    @Mock
+    private SessionStatusCounterService sessionStatusCounterService;
+
+    @Mock
+    private SeatAvailabilityService seatAvailabilityService;
+
 
     @InjectMocks
     private EventCreationService eventCreationService;
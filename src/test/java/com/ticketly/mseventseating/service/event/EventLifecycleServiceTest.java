@@ -1,10 +1,18 @@
 package com.ticketly.mseventseating.service.event;
 
+import com.ticketly.mseventseating.dto.session.SessionTransitionCandidate;
+import com.ticketly.mseventseating.dto.session.SessionTransitionResponse;
+import com.ticketly.mseventseating.dto.session.SessionTransitionResult;
+import com.ticketly.mseventseating.exception.BadRequestException;
 import com.ticketly.mseventseating.exception.InvalidStateException;
 import com.ticketly.mseventseating.exception.ResourceNotFoundException;
 import com.ticketly.mseventseating.model.*;
 import com.ticketly.mseventseating.repository.EventRepository;
 import com.ticketly.mseventseating.repository.EventSessionRepository;
+import com.ticketly.mseventseating.service.cache.EntityCacheInvalidationService;
+import com.ticketly.mseventseating.service.projection.ProjectionVersionService;
+import com.ticketly.mseventseating.service.session.SessionStatusCounterService;
+import com.ticketly.mseventseating.service.storage.CoverPhotoVariantService;
 import model.EventStatus;
 import model.SessionStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,13 +22,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.security.oauth2.jwt.Jwt;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -39,6 +51,21 @@ class EventLifecycleServiceTest {
     @Mock
     private EventOwnershipService eventOwnershipService;
 
+    @Mock
+    private CoverPhotoVariantService coverPhotoVariantService;
+
+    @Mock
+    private SessionStatusCounterService sessionStatusCounterService;
+
+    @Mock
+    private ProjectionVersionService projectionVersionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityCacheInvalidationService entityCacheInvalidationService;
+
     @InjectMocks
     private EventLifecycleService eventLifecycleService;
 
@@ -212,6 +239,7 @@ class EventLifecycleServiceTest {
         verify(eventOwnershipService).isOwner(eventId, userId);
         verify(eventSessionRepository).existsByEventIdAndStatus(eventId, SessionStatus.ON_SALE);
         verify(eventRepository).findById(eventId);
+        verify(sessionStatusCounterService).removeEvent(eventId);
         verify(eventRepository).delete(event);
     }
 
@@ -264,6 +292,9 @@ class EventLifecycleServiceTest {
         assertEquals(EventStatus.APPROVED, event.getStatus());
         assertEquals(SessionStatus.CANCELLED, pastSession.getStatus());
         assertEquals(SessionStatus.SCHEDULED, futureSession.getStatus());
+        // Net counter change: one SCHEDULED session moved to CANCELLED
+        verify(sessionStatusCounterService).applyDeltas(event,
+                Map.of(SessionStatus.SCHEDULED, -1L, SessionStatus.CANCELLED, 1L));
     }
     
     @Test
@@ -290,4 +321,90 @@ class EventLifecycleServiceTest {
         assertEquals(SessionStatus.SCHEDULED, sessionWithNullSalesStart.getStatus());
         verify(eventRepository).save(event);
     }
+
+    @Test
+    @DisplayName("Should close a batch of sessions in one update and complete their event once")
+    void transitionSessions_toClosed_shouldUpdateValidSessionsAndCompleteEvent() {
+        // Arrange
+        event.setStatus(EventStatus.APPROVED);
+        UUID onSale = UUID.randomUUID();
+        UUID soldOut = UUID.randomUUID();
+        UUID cancelled = UUID.randomUUID();
+        UUID closed = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        List<UUID> requested = List.of(onSale, soldOut, cancelled, closed, missing);
+        when(eventSessionRepository.findTransitionCandidatesByIdIn(any())).thenReturn(List.of(
+                candidate(onSale, SessionStatus.ON_SALE, EventStatus.APPROVED),
+                candidate(soldOut, SessionStatus.SOLD_OUT, EventStatus.APPROVED),
+                candidate(cancelled, SessionStatus.CANCELLED, EventStatus.APPROVED),
+                candidate(closed, SessionStatus.CLOSED, EventStatus.APPROVED)));
+        when(eventRepository.findAllByIdInAndStatusWithAllSessionsIn(any(), eq(EventStatus.APPROVED), any()))
+                .thenReturn(List.of(event));
+
+        // Act
+        SessionTransitionResponse response = eventLifecycleService.transitionSessions(requested, SessionStatus.CLOSED);
+
+        // Assert
+        Map<UUID, SessionTransitionResult> results = response.getResults();
+        assertEquals(requested, List.copyOf(results.keySet()));
+        assertEquals(SessionTransitionResult.Outcome.TRANSITIONED, results.get(onSale).getOutcome());
+        assertEquals(SessionTransitionResult.Outcome.TRANSITIONED, results.get(soldOut).getOutcome());
+        assertEquals(SessionTransitionResult.Outcome.REJECTED, results.get(cancelled).getOutcome());
+        assertEquals(SessionTransitionResult.Outcome.UNCHANGED, results.get(closed).getOutcome());
+        assertEquals(SessionTransitionResult.Outcome.NOT_FOUND, results.get(missing).getOutcome());
+
+        verify(eventSessionRepository).updateStatusByIdIn(List.of(onSale, soldOut), SessionStatus.CLOSED);
+        verify(sessionStatusCounterService).applyDeltas(organization.getId(), eventId,
+                Map.of(SessionStatus.ON_SALE, -1L, SessionStatus.SOLD_OUT, -1L, SessionStatus.CLOSED, 2L));
+        verify(projectionVersionService).markChanged(null, onSale);
+        verify(projectionVersionService).markChanged(null, soldOut);
+        verify(eventRepository, times(1)).findAllByIdInAndStatusWithAllSessionsIn(
+                eq(Set.of(eventId)), eq(EventStatus.APPROVED), any());
+        assertEquals(EventStatus.COMPLETED, event.getStatus());
+        assertEquals(List.of(eventId), response.getCompletedEventIds());
+        verify(eventSessionRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should reject sessions that can't go on sale without failing the batch")
+    void transitionSessions_toOnSale_shouldRejectStartedSessionsAndUnapprovedEvents() {
+        // Arrange
+        UUID valid = UUID.randomUUID();
+        UUID started = UUID.randomUUID();
+        UUID pending = UUID.randomUUID();
+        SessionTransitionCandidate startedCandidate = new SessionTransitionCandidate(started, SessionStatus.SCHEDULED,
+                OffsetDateTime.now().minusHours(1), eventId, EventStatus.APPROVED, organization.getId());
+        when(eventSessionRepository.findTransitionCandidatesByIdIn(any())).thenReturn(List.of(
+                candidate(valid, SessionStatus.SCHEDULED, EventStatus.APPROVED),
+                startedCandidate,
+                candidate(pending, SessionStatus.SCHEDULED, EventStatus.PENDING)));
+
+        // Act
+        SessionTransitionResponse response = eventLifecycleService.transitionSessions(
+                List.of(valid, started, pending), SessionStatus.ON_SALE);
+
+        // Assert
+        assertEquals(SessionTransitionResult.Outcome.TRANSITIONED, response.getResults().get(valid).getOutcome());
+        assertEquals(SessionTransitionResult.Outcome.REJECTED, response.getResults().get(started).getOutcome());
+        assertEquals(SessionTransitionResult.Outcome.REJECTED, response.getResults().get(pending).getOutcome());
+        verify(eventSessionRepository).updateStatusByIdIn(List.of(valid), SessionStatus.ON_SALE);
+        verify(sessionStatusCounterService).applyDeltas(organization.getId(), eventId,
+                Map.of(SessionStatus.SCHEDULED, -1L, SessionStatus.ON_SALE, 1L));
+        verify(eventRepository, never()).findAllByIdInAndStatusWithAllSessionsIn(any(), any(), any());
+        assertTrue(response.getCompletedEventIds().isEmpty());
+        verify(eventPublisher).publishEvent(new SessionsOnSaleEvent(List.of(valid)));
+    }
+
+    @Test
+    @DisplayName("Should only transition sessions to ON_SALE or CLOSED")
+    void transitionSessions_toOtherStatus_shouldThrowException() {
+        assertThrows(BadRequestException.class,
+                () -> eventLifecycleService.transitionSessions(List.of(UUID.randomUUID()), SessionStatus.CANCELLED));
+        verifyNoInteractions(eventSessionRepository);
+    }
+
+    private SessionTransitionCandidate candidate(UUID sessionId, SessionStatus status, EventStatus eventStatus) {
+        return new SessionTransitionCandidate(sessionId, status, OffsetDateTime.now().plusDays(1),
+                eventId, eventStatus, organization.getId());
+    }
 }
@@ -1,10 +1,13 @@
 package com.ticketly.mseventseating.service.event;
 
 import com.ticketly.mseventseating.dto.event.EventDetailDTO;
+import com.ticketly.mseventseating.dto.event.EventSearchHit;
 import com.ticketly.mseventseating.dto.event.EventSummaryDTO;
+import com.ticketly.mseventseating.dto.session.SessionSummaryDTO;
 import com.ticketly.mseventseating.exception.ResourceNotFoundException;
 import com.ticketly.mseventseating.model.*;
 import com.ticketly.mseventseating.repository.EventRepository;
+import com.ticketly.mseventseating.repository.EventSessionRepository;
 import com.ticketly.mseventseating.service.organization.OrganizationOwnershipService;
 import com.ticketly.mseventseating.service.storage.S3StorageService;
 import model.EventStatus;
@@ -26,6 +29,7 @@ import java.util.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -38,6 +42,9 @@ class EventQueryServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private EventSessionRepository sessionRepository;
+
     @Mock
     private EventOwnershipService eventOwnershipService;
 
@@ -169,7 +176,7 @@ class EventQueryServiceTest {
         assertEquals("Second Test Event", result.getContent().get(1).getTitle());
         verify(eventRepository).findAll(pageable);
         verify(eventRepository, never()).findAllByStatus(any(), any());
-        verify(eventRepository, never()).findBySearchTermAndStatus(any(), any(), any());
+        verify(eventRepository, never()).searchEvents(any(), any(), any(), any(), anyInt(), anyLong());
     }
 
     @Test
@@ -190,17 +197,17 @@ class EventQueryServiceTest {
         assertEquals(EventStatus.PENDING, result.getContent().getFirst().getStatus());
         verify(eventRepository).findAllByStatus(EventStatus.PENDING, pageable);
         verify(eventRepository, never()).findAll(same(pageable));
-        verify(eventRepository, never()).findBySearchTermAndStatus(any(), any(), any());
+        verify(eventRepository, never()).searchEvents(any(), any(), any(), any(), anyInt(), anyLong());
     }
 
     @Test
-    @DisplayName("Should return searched events when search term is provided")
+    @DisplayName("Should return searched events in relevance order with snippets when search term is provided")
     void findAllEvents_whenSearchTermIsProvided_shouldReturnSearchedEvents() {
         // Arrange
-        String searchTerm = "Test";
-        List<Event> filteredList = Collections.singletonList(eventList.getFirst());
-        Page<Event> eventPage = new PageImpl<>(filteredList, pageable, filteredList.size());
-        when(eventRepository.findBySearchTermAndStatus(eq(searchTerm), isNull(), eq(pageable))).thenReturn(eventPage);
+        String searchTerm = "Test ev";
+        when(eventRepository.searchEvents(eq(searchTerm), eq("test:* & ev:*"), eq("%Test ev%"), isNull(), eq(10), eq(0L)))
+                .thenReturn(List.of(searchHit(eventId, 0.9, "<mark>Test</mark> Description")));
+        when(eventRepository.findAllById(List.of(eventId))).thenReturn(List.of(event));
 
         // Act
         Page<EventSummaryDTO> result = eventQueryService.findAllEvents(null, searchTerm, pageable);
@@ -208,11 +215,23 @@ class EventQueryServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
-        verify(eventRepository).findBySearchTermAndStatus(eq(searchTerm), isNull(), eq(pageable));
+        assertEquals(1, result.getTotalElements());
+        assertEquals(0.9, result.getContent().getFirst().getSearchRank());
+        assertEquals("<mark>Test</mark> Description", result.getContent().getFirst().getSearchSnippet());
+        // A short first page already tells us the total, so no count query is needed
+        verify(eventRepository, never()).countSearchEvents(any(), any(), any(), any());
         verify(eventRepository, never()).findAll((Example<Event>) any());
         verify(eventRepository, never()).findAllByStatus(any(), any());
     }
 
+    @Test
+    @DisplayName("Should escape LIKE wildcards and strip tsquery operators from the search term")
+    void eventSearchQuery_shouldSanitizeUserInput() {
+        assertEquals("rock:* & roll:*", EventSearchQuery.toPrefixTsQuery("Rock & Roll!"));
+        assertEquals("", EventSearchQuery.toPrefixTsQuery("&|!"));
+        assertEquals("%100\\%\\_off%", EventSearchQuery.toLikePattern("100%_off"));
+    }
+
     @Test
     @DisplayName("Should return event details by ID when user is owner")
     void findEventByIdOwner_whenUserIsOwner_shouldReturnEventDetails() {
@@ -265,6 +284,25 @@ class EventQueryServiceTest {
         verifyNoInteractions(eventOwnershipService); // No ownership check
     }
 
+    @Test
+    @DisplayName("Should return event summary with sessions read without their layouts")
+    void findEventSummaryById_shouldReadSessionsWithoutLayouts() {
+        // Arrange
+        UUID sessionId = UUID.randomUUID();
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(sessionRepository.findSummariesByEventId(eventId)).thenReturn(List.of(SessionSummaryDTO.builder()
+                .id(sessionId).eventId(eventId).status(SessionStatus.SCHEDULED)
+                .build()));
+
+        // Act
+        EventDetailDTO result = eventQueryService.findEventSummaryById(eventId);
+
+        // Assert
+        assertEquals(1, result.getSessions().size());
+        assertEquals(sessionId, result.getSessions().get(0).getId());
+        assertNull(result.getSessions().get(0).getLayoutData());
+    }
+
     @Test
     @DisplayName("Should throw ResourceNotFoundException when event not found without authorization check")
     void findEventById_whenEventNotFound_shouldThrowResourceNotFoundException() {
@@ -338,6 +376,24 @@ class EventQueryServiceTest {
         verify(s3StorageService).generatePresignedUrl("photo1.jpg", 60);
     }
 
+    @Test
+    @DisplayName("Should prefer the card variant of the first cover photo for summaries")
+    void mapToEventSummary_withCardVariant_shouldUseCardVariant() {
+        // Arrange
+        event.getCoverPhotos().getFirst().setCardUrl("photo1_card.jpg");
+        event.getCoverPhotos().getFirst().setThumbnailUrl("photo1_thumbnail.jpg");
+        Page<Event> eventPage = new PageImpl<>(Collections.singletonList(event), pageable, 1);
+        when(eventRepository.findAll(pageable)).thenReturn(eventPage);
+        when(s3StorageService.generatePresignedUrl("photo1_card.jpg", 60)).thenReturn("https://s3.example.com/photo1_card.jpg");
+
+        // Act
+        Page<EventSummaryDTO> result = eventQueryService.findAllEvents(null, null, pageable);
+
+        // Assert
+        assertEquals("https://s3.example.com/photo1_card.jpg", result.getContent().getFirst().getCoverPhoto());
+        verify(s3StorageService, never()).generatePresignedUrl("photo1.jpg", 60);
+    }
+
     @Test
     @DisplayName("Should handle events without cover photos")
     void mapToEventSummary_withNoCoverPhotos_shouldReturnNullCoverPhoto() {
@@ -382,9 +438,10 @@ class EventQueryServiceTest {
         String searchTerm = "Test";
         EventStatus status = EventStatus.PENDING;
 
-        Page<Event> eventPage = new PageImpl<>(Collections.singletonList(event), pageable, 1);
-        when(eventRepository.findByOrganizationIdAndSearchTermAndStatus(
-                organizationId, searchTerm, status, pageable)).thenReturn(eventPage);
+        when(eventRepository.searchOrganizationEvents(
+                organizationId, searchTerm, "test:*", "%Test%", "PENDING", 10, 0L))
+                .thenReturn(List.of(searchHit(eventId, 0.5, "Test Description")));
+        when(eventRepository.findAllById(List.of(eventId))).thenReturn(List.of(event));
         when(ownershipService.isOwner(organizationId, userId)).thenReturn(true);
 
         // Act
@@ -395,8 +452,8 @@ class EventQueryServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
         assertEquals("Test Event", result.getContent().getFirst().getTitle());
-        verify(eventRepository).findByOrganizationIdAndSearchTermAndStatus(
-                organizationId, searchTerm, status, pageable);
+        verify(eventRepository).searchOrganizationEvents(
+                organizationId, searchTerm, "test:*", "%Test%", "PENDING", 10, 0L);
         verify(ownershipService).isOwner(organizationId, userId);
     }
 
@@ -408,8 +465,8 @@ class EventQueryServiceTest {
         EventStatus status = null;
 
         Page<Event> eventPage = new PageImpl<>(eventList, pageable, eventList.size());
-        when(eventRepository.findByOrganizationIdAndSearchTermAndStatus(
-                organizationId, null, null, pageable)).thenReturn(eventPage);
+        when(eventRepository.findByOrganizationIdAndOptionalStatus(
+                organizationId, null, pageable)).thenReturn(eventPage);
 
         // Act
         Page<EventSummaryDTO> result = eventQueryService.findEventsByOrganization(
@@ -418,8 +475,8 @@ class EventQueryServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(2, result.getContent().size());
-        verify(eventRepository).findByOrganizationIdAndSearchTermAndStatus(
-                organizationId, null, null, pageable);
+        verify(eventRepository).findByOrganizationIdAndOptionalStatus(
+                organizationId, null, pageable);
         verifyNoInteractions(ownershipService); // No ownership check for admin
     }
 
@@ -436,6 +493,25 @@ class EventQueryServiceTest {
         assertEquals("User does not have access to this organization", exception.getMessage());
         verify(ownershipService).isOwner(organizationId, userId);
         // Verify that repository is never called when access is denied
-        verify(eventRepository, never()).findByOrganizationIdAndSearchTermAndStatus(any(), any(), any(), any());
+        verify(eventRepository, never()).findByOrganizationIdAndOptionalStatus(any(), any(), any());
+    }
+
+    private EventSearchHit searchHit(UUID id, double rank, String snippet) {
+        return new EventSearchHit() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public Double getRank() {
+                return rank;
+            }
+
+            @Override
+            public String getSnippet() {
+                return snippet;
+            }
+        };
     }
 }
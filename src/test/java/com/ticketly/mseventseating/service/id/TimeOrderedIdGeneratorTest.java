@@ -0,0 +1,98 @@
+package com.ticketly.mseventseating.service.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedIdGeneratorTest {
+
+    private static final Comparator<UUID> INDEX_ORDER = (a, b) -> {
+        // PostgreSQL compares UUIDs byte by byte, i.e. as unsigned numbers
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    };
+
+    private final TimeOrderedIdGenerator generator = TimeOrderedIdGenerator.INSTANCE;
+
+    @Test
+    void next_ShouldGenerateVersion7IdsStampedWithTheCurrentTime() {
+        // A fresh generator, as the shared one may have carried ahead of the clock in other tests
+        TimeOrderedIdGenerator fresh = new TimeOrderedIdGenerator();
+        long before = System.currentTimeMillis();
+        UUID id = fresh.next();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        long timestamp = TimeOrderedIdGenerator.timestamp(id);
+        assertTrue(timestamp >= before && timestamp <= after, timestamp + " outside " + before + ".." + after);
+    }
+
+    @Test
+    void next_ShouldIncreaseStrictlyAcrossThreads() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        List<List<UUID>> generated;
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<List<UUID>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    List<UUID> ids = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.next());
+                    }
+                    return ids;
+                }));
+            }
+            generated = new ArrayList<>();
+            for (Future<List<UUID>> future : futures) {
+                generated.add(future.get());
+            }
+        }
+
+        Set<UUID> distinct = new HashSet<>();
+        for (List<UUID> ids : generated) {
+            for (int i = 0; i < ids.size(); i++) {
+                assertTrue(distinct.add(ids.get(i)));
+                if (i > 0) {
+                    assertTrue(INDEX_ORDER.compare(ids.get(i - 1), ids.get(i)) < 0);
+                }
+            }
+        }
+        assertEquals(threads * perThread, distinct.size());
+    }
+
+    /**
+     * Inserts into a B-tree touch a random leaf for random IDs, but only the rightmost leaf when IDs
+     * increase. Counts how many IDs would be inserted after every ID already in the index.
+     */
+    @Test
+    void next_ShouldAppendToTheIndexWhereRandomIdsScatter() {
+        int count = 50_000;
+
+        double timeOrdered = rightEdgeInserts(generator::next, count);
+        double random = rightEdgeInserts(UUID::randomUUID, count);
+
+        assertEquals(1.0, timeOrdered);
+        assertTrue(random < 0.01, "Random IDs appended " + random);
+    }
+
+    private double rightEdgeInserts(Supplier<UUID> ids, int count) {
+        TreeSet<UUID> index = new TreeSet<>(INDEX_ORDER);
+        int appended = 0;
+        for (int i = 0; i < count; i++) {
+            UUID id = ids.get();
+            if (index.isEmpty() || INDEX_ORDER.compare(id, index.last()) > 0) {
+                appended++;
+            }
+            index.add(id);
+        }
+        return (double) appended / count;
+    }
+}
@@ -6,6 +6,7 @@ import com.ticketly.mseventseating.dto.organization.OrganizationResponse;
 import com.ticketly.mseventseating.exception.BadRequestException;
 import com.ticketly.mseventseating.exception.ResourceNotFoundException;
 import com.ticketly.mseventseating.model.SubscriptionLimitType;
+import com.ticketly.mseventseating.service.cache.EntityCacheInvalidationService;
 import com.ticketly.mseventseating.service.limts.LimitService;
 import com.ticketly.mseventseating.service.storage.S3StorageService;
 import org.springframework.security.authorization.AuthorizationDeniedException;
@@ -43,6 +44,9 @@ class OrganizationServiceTest {
     @Mock
     private LimitService limitService;
 
+    @Mock
+    private EntityCacheInvalidationService entityCacheInvalidationService;
+
     @Mock
     private AppLimitsConfig.OrganizationConfig organizationConfig;
 
@@ -206,6 +210,7 @@ class OrganizationServiceTest {
         Organization updatedOrg = orgCaptor.getValue();
         assertEquals(newName, updatedOrg.getName());
         assertEquals(newWebsite, updatedOrg.getWebsite());
+        verify(entityCacheInvalidationService).markChanged(Organization.class, ORG_ID);
     }
 
     @Test
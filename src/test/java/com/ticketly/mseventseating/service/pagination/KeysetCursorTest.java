@@ -0,0 +1,79 @@
+package com.ticketly.mseventseating.service.pagination;
+
+import com.ticketly.mseventseating.dto.pagination.CursorPage;
+import com.ticketly.mseventseating.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodeAndDecode_ShouldRoundTrip() {
+        KeysetCursor cursor = new KeysetCursor(OffsetDateTime.of(2025, 3, 1, 18, 30, 0, 0, ZoneOffset.UTC), UUID.randomUUID());
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void decode_ShouldReturnNullForMissingCursor() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(" "));
+    }
+
+    @Test
+    void decode_ShouldRejectMalformedCursor() {
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode("not-a-cursor"));
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode("%%%"));
+    }
+
+    @Test
+    void normalizeSize_ShouldClampToAllowedRange() {
+        assertEquals(KeysetCursor.DEFAULT_PAGE_SIZE, KeysetCursor.normalizeSize(0));
+        assertEquals(KeysetCursor.MAX_PAGE_SIZE, KeysetCursor.normalizeSize(10_000));
+        assertEquals(15, KeysetCursor.normalizeSize(15));
+    }
+
+    @Test
+    void toPage_ShouldDropLookAheadRowAndEmitCursorOfLastReturnedRow() {
+        OffsetDateTime base = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        List<KeysetCursor> rows = List.of(
+                new KeysetCursor(base, UUID.randomUUID()),
+                new KeysetCursor(base.plusHours(1), UUID.randomUUID()),
+                new KeysetCursor(base.plusHours(2), UUID.randomUUID()));
+        AtomicBoolean counted = new AtomicBoolean(false);
+
+        CursorPage<KeysetCursor> page = KeysetCursor.toPage(rows, 2, Function.identity(), Function.identity(),
+                false, () -> {
+                    counted.set(true);
+                    return 3;
+                });
+
+        assertEquals(2, page.getContent().size());
+        assertTrue(page.isHasNext());
+        assertEquals(rows.get(1), KeysetCursor.decode(page.getNextCursor()));
+        assertNull(page.getTotalElements());
+        assertFalse(counted.get());
+    }
+
+    @Test
+    void toPage_ShouldReportLastPageAndTotalWhenRequested() {
+        List<KeysetCursor> rows = List.of(new KeysetCursor(OffsetDateTime.now(), UUID.randomUUID()));
+
+        CursorPage<KeysetCursor> page = KeysetCursor.toPage(rows, 2, Function.identity(), Function.identity(),
+                true, () -> 1L);
+
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        assertEquals(1L, page.getTotalElements());
+    }
+}
@@ -0,0 +1,169 @@
+package com.ticketly.mseventseating.service.projection;
+
+import com.ticketly.mseventseating.dto.session.SeatingBlockBounds;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockSpatialIndexTest {
+
+    private static final double SPACING = 30;
+
+    @Test
+    void boundsOf_ShouldSizeSeatedGridsFromRowsAndSeats() {
+        BlockSpatialIndex.Bounds bounds = BlockSpatialIndex.boundsOf(
+                TestBlock.grid(100, 200, 10, 20), SPACING);
+
+        assertEquals(100, bounds.minX());
+        assertEquals(200, bounds.minY());
+        assertEquals(100 + 20 * SPACING, bounds.maxX());
+        assertEquals(200 + 10 * SPACING, bounds.maxY());
+    }
+
+    @Test
+    void boundsOf_ShouldUseStoredSizeForStandingBlocks() {
+        BlockSpatialIndex.Bounds bounds = BlockSpatialIndex.boundsOf(
+                TestBlock.standing(50, 60, 300.0, 150.0), SPACING);
+
+        assertEquals(350, bounds.maxX());
+        assertEquals(210, bounds.maxY());
+    }
+
+    @Test
+    void query_ShouldReturnOnlyIntersectingBlocks() {
+        TestBlock left = TestBlock.grid(0, 0, 10, 10);
+        TestBlock right = TestBlock.grid(1000, 0, 10, 10);
+        TestBlock lower = TestBlock.standing(0, 1000, 200.0, 200.0);
+        BlockSpatialIndex index = BlockSpatialIndex.build(List.of(left, right, lower), SPACING);
+
+        assertEquals(List.of(left), blocksOf(index.query(0, 0, 100, 100)));
+        assertEquals(List.of(left, right), blocksOf(index.query(200, 100, 1100, 200)));
+        assertEquals(List.of(), blocksOf(index.query(500, 500, 600, 600)));
+        assertEquals(List.of(left, right, lower), blocksOf(index.query(-10_000, -10_000, 10_000, 10_000)));
+    }
+
+    @Test
+    void query_ShouldMatchBruteForceOnRandomLayout() {
+        Random random = new Random(7);
+        List<SeatingBlockBounds> blocks = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            blocks.add(TestBlock.grid(random.nextInt(20_000), random.nextInt(10_000),
+                    1 + random.nextInt(40), 1 + random.nextInt(60)));
+        }
+        BlockSpatialIndex index = BlockSpatialIndex.build(blocks, SPACING);
+
+        for (int q = 0; q < 500; q++) {
+            double left = random.nextInt(22_000) - 1_000;
+            double top = random.nextInt(12_000) - 1_000;
+            double right = left + random.nextInt(3_000);
+            double bottom = top + random.nextInt(3_000);
+
+            List<SeatingBlockBounds> expected = new ArrayList<>();
+            for (SeatingBlockBounds block : blocks) {
+                if (BlockSpatialIndex.boundsOf(block, SPACING).intersects(left, top, right, bottom)) {
+                    expected.add(block);
+                }
+            }
+            assertEquals(expected, blocksOf(index.query(left, top, right, bottom)));
+        }
+    }
+
+    @Test
+    void query_ShouldHandleEmptyLayout() {
+        BlockSpatialIndex index = BlockSpatialIndex.build(List.of(), SPACING);
+
+        assertEquals(0, index.size());
+        assertTrue(index.query(0, 0, 100, 100).isEmpty());
+    }
+
+    private List<SeatingBlockBounds> blocksOf(List<BlockSpatialIndex.Bounds> bounds) {
+        return bounds.stream().map(BlockSpatialIndex.Bounds::block).toList();
+    }
+
+    /**
+     * Stand-in for the native query projection.
+     */
+    static final class TestBlock implements SeatingBlockBounds {
+        private final UUID id = UUID.randomUUID();
+        private final String type;
+        private final double x;
+        private final double y;
+        private final Double width;
+        private final Double height;
+        private final int rowCount;
+        private final int maxSeatsPerRow;
+
+        private TestBlock(String type, double x, double y, Double width, Double height, int rowCount, int maxSeatsPerRow) {
+            this.type = type;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.rowCount = rowCount;
+            this.maxSeatsPerRow = maxSeatsPerRow;
+        }
+
+        static TestBlock grid(double x, double y, int rows, int seatsPerRow) {
+            return new TestBlock("seated_grid", x, y, null, null, rows, seatsPerRow);
+        }
+
+        static TestBlock standing(double x, double y, Double width, Double height) {
+            return new TestBlock("standing_capacity", x, y, width, height, 0, 0);
+        }
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return "Block " + id;
+        }
+
+        @Override
+        public String getType() {
+            return type;
+        }
+
+        @Override
+        public Double getX() {
+            return x;
+        }
+
+        @Override
+        public Double getY() {
+            return y;
+        }
+
+        @Override
+        public Double getWidth() {
+            return width;
+        }
+
+        @Override
+        public Double getHeight() {
+            return height;
+        }
+
+        @Override
+        public Integer getCapacity() {
+            return "standing_capacity".equals(type) ? 100 : null;
+        }
+
+        @Override
+        public Integer getRowCount() {
+            return rowCount;
+        }
+
+        @Override
+        public Integer getMaxSeatsPerRow() {
+            return maxSeatsPerRow;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.ticketly.mseventseating.service.projection;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.config.JacksonConfig;
+import com.ticketly.mseventseating.exception.BadRequestException;
+import com.ticketly.mseventseating.model.Event;
+import com.ticketly.mseventseating.repository.DiscountRepository;
+import com.ticketly.mseventseating.repository.EventRepository;
+import dto.projection.EventProjectionDTO;
+import jakarta.persistence.EntityManager;
+import model.EventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventProjectionStreamServiceTest {
+
+    private static final List<EventStatus> STATUSES = EventProjectionStreamService.PROJECTABLE_STATUSES;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private DiscountRepository discountRepository;
+
+    @Mock
+    private EventProjectionService eventProjectionService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    private AppLimitsConfig appLimitsConfig;
+    private EventProjectionStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        appLimitsConfig = new AppLimitsConfig();
+        appLimitsConfig.getProjectionStream().setChunkSize(2);
+        streamService = new EventProjectionStreamService(eventRepository, discountRepository, eventProjectionService,
+                objectMapper, entityManager, transactionManager, appLimitsConfig);
+        lenient().when(eventProjectionService.projectEvent(any(Event.class))).thenAnswer(invocation -> {
+            Event event = invocation.getArgument(0);
+            return EventProjectionDTO.builder().id(event.getId()).title(event.getTitle()).build();
+        });
+    }
+
+    @Test
+    void stream_ShouldWriteOneLinePerEventAcrossChunks() throws Exception {
+        List<UUID> ids = sortedIds(3);
+        when(eventRepository.findIdsByStatusIn(STATUSES, Limit.of(2))).thenReturn(ids.subList(0, 2));
+        when(eventRepository.findIdsByStatusInAfter(STATUSES, ids.get(1), Limit.of(2))).thenReturn(ids.subList(2, 3));
+        when(eventRepository.findAllWithTiersByIdIn(ids.subList(0, 2)))
+                .thenReturn(List.of(event(ids.get(1), EventStatus.APPROVED), event(ids.get(0), EventStatus.COMPLETED)));
+        when(eventRepository.findAllWithTiersByIdIn(ids.subList(2, 3)))
+                .thenReturn(List.of(event(ids.get(2), EventStatus.APPROVED)));
+
+        List<EventProjectionDTO> lines = stream(null, null);
+
+        assertEquals(ids, lines.stream().map(EventProjectionDTO::getId).toList());
+        verify(eventRepository, times(2)).findAllWithSessionsByIdIn(anyCollection());
+        verify(discountRepository, times(2)).findAllWithApplicableSessionsByEventIdIn(anyCollection());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void stream_ShouldResumeAfterGivenId() throws Exception {
+        UUID after = UUID.randomUUID();
+        when(eventRepository.findIdsByStatusInAfter(STATUSES, after, Limit.of(2))).thenReturn(List.of());
+
+        assertTrue(stream(null, after).isEmpty());
+        verify(eventRepository, never()).findIdsByStatusIn(any(), any());
+    }
+
+    @Test
+    void stream_ShouldOnlyWriteProjectableEventsAmongGivenIds() throws Exception {
+        List<UUID> ids = sortedIds(3);
+        when(eventRepository.findAllWithTiersByIdIn(ids.subList(0, 2)))
+                .thenReturn(List.of(event(ids.get(0), EventStatus.PENDING), event(ids.get(1), EventStatus.APPROVED)));
+        when(eventRepository.findAllWithTiersByIdIn(ids.subList(2, 3))).thenReturn(List.of());
+
+        List<UUID> requested = new ArrayList<>(ids);
+        Collections.reverse(requested);
+        List<EventProjectionDTO> lines = stream(requested, null);
+
+        assertEquals(List.of(ids.get(1)), lines.stream().map(EventProjectionDTO::getId).toList());
+        verify(eventRepository, never()).findIdsByStatusIn(any(), any());
+    }
+
+    @Test
+    void stream_ShouldSkipGivenIdsUpToResumeToken() throws Exception {
+        List<UUID> ids = sortedIds(3);
+        when(eventRepository.findAllWithTiersByIdIn(ids.subList(2, 3)))
+                .thenReturn(List.of(event(ids.get(2), EventStatus.APPROVED)));
+
+        List<EventProjectionDTO> lines = stream(ids, ids.get(1));
+
+        assertEquals(List.of(ids.get(2)), lines.stream().map(EventProjectionDTO::getId).toList());
+    }
+
+    @Test
+    void stream_ShouldRejectTooManyIds() {
+        appLimitsConfig.getProjectionStream().setMaxIds(2);
+
+        assertThrows(BadRequestException.class, () -> streamService.stream(sortedIds(3), null));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void idOrder_ShouldCompareLikePostgres() {
+        UUID low = UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff");
+        UUID high = UUID.fromString("80000000-0000-0000-0000-000000000000");
+
+        assertTrue(EventProjectionStreamService.ID_ORDER.compare(low, high) < 0);
+        assertTrue(low.compareTo(high) > 0);
+    }
+
+    private List<EventProjectionDTO> stream(List<UUID> ids, UUID after) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamService.stream(ids, after).writeTo(out);
+        List<EventProjectionDTO> projections = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                projections.add(objectMapper.readValue(line, EventProjectionDTO.class));
+            }
+        }
+        return projections;
+    }
+
+    private static List<UUID> sortedIds(int count) {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        ids.sort(EventProjectionStreamService.ID_ORDER);
+        return ids;
+    }
+
+    private static Event event(UUID id, EventStatus status) {
+        return Event.builder().id(id).title("Event " + id).status(status).build();
+    }
+}
@@ -0,0 +1,313 @@
+package com.ticketly.mseventseating.service.projection;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.config.JacksonConfig;
+import com.ticketly.mseventseating.service.singleflight.RedisSingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectionResponseCacheTest {
+
+    @Mock
+    private ProjectionVersionService versionService;
+
+    @Mock
+    private RedisSingleFlight redisSingleFlight;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JacksonConfig jacksonConfig = new JacksonConfig();
+    private final ObjectMapper objectMapper = jacksonConfig.objectMapper();
+
+    private AppLimitsConfig appLimitsConfig;
+    private ProjectionResponseCache cache;
+    private UUID sessionId;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        appLimitsConfig = new AppLimitsConfig();
+        cache = new ProjectionResponseCache(versionService, objectMapper, jacksonConfig.smileObjectMapper(),
+                jacksonConfig.cborObjectMapper(), redisSingleFlight, meterRegistry, appLimitsConfig);
+        sessionId = UUID.randomUUID();
+        loads = new AtomicInteger();
+        lenient().when(versionService.currentVersion(sessionId)).thenReturn("e1.s1");
+        // No other instance is building anything
+        lenient().when(redisSingleFlight.execute(anyString(), anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<byte[]>>getArgument(2).get());
+    }
+
+    @Test
+    void respond_ShouldReturnBodyWithStrongETag() throws Exception {
+        ResponseEntity<byte[]> response = cache.respond(request(null, null),
+                ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId, loader("small"));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"e1.s1.sp\"", response.getHeaders().getETag());
+        assertEquals("small", objectMapper.readValue(response.getBody(), Map.class).get("name"));
+    }
+
+    @Test
+    void respond_ShouldAnswerNotModifiedWithoutLoading() {
+        ResponseEntity<byte[]> response = cache.respond(request("\"e1.s1.sp\"", null),
+                ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId, loader("small"));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"e1.s1.sp\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    void respond_ShouldServeCachedBodyUntilVersionChanges() {
+        cache.respond(request(null, null), ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId, loader("a"));
+        cache.respond(request(null, null), ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId, loader("a"));
+        assertEquals(1, loads.get());
+
+        when(versionService.currentVersion(sessionId)).thenReturn("e1.s2");
+        ResponseEntity<byte[]> response = cache.respond(request("\"e1.s1.sp\"", null),
+                ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId, loader("b"));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"e1.s2.sp\"", response.getHeaders().getETag());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void respond_ShouldServeGzipBodyWithItsOwnETag() throws Exception {
+        String name = "x".repeat(5000);
+
+        ResponseEntity<byte[]> response = cache.respond(request(null, "br, gzip;q=0.8"),
+                ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId, loader(name));
+
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"e1.s1.sp-gzip\"", response.getHeaders().getETag());
+        assertTrue(response.getBody().length < name.length());
+        byte[] inflated = new GZIPInputStream(new ByteArrayInputStream(response.getBody())).readAllBytes();
+        assertEquals(name, objectMapper.readValue(inflated, Map.class).get("name"));
+
+        ResponseEntity<byte[]> revalidated = cache.respond(request("\"e1.s1.sp-gzip\"", "gzip"),
+                ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId, loader(name));
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidated.getStatusCode());
+    }
+
+    @Test
+    void respond_ShouldNegotiateBinaryFormatsForInternalResources() throws Exception {
+        ResponseEntity<byte[]> response = cache.respond(request(null, null, "application/cbor, application/json;q=0.5"),
+                ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId, loader("binary"));
+
+        assertEquals("application/cbor", response.getHeaders().getContentType().toString());
+        assertEquals("\"e1.s1.sp+cbor\"", response.getHeaders().getETag());
+        assertEquals("binary", jacksonConfig.cborObjectMapper().readValue(response.getBody(), Map.class).get("name"));
+
+        ResponseEntity<byte[]> json = cache.respond(request("\"e1.s1.sp+cbor\"", null, "application/json"),
+                ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId, loader("binary"));
+        assertEquals(HttpStatus.OK, json.getStatusCode());
+        assertEquals("\"e1.s1.sp\"", json.getHeaders().getETag());
+    }
+
+    @Test
+    void respond_ShouldKeepPublicResourcesInJson() {
+        ResponseEntity<byte[]> response = cache.respond(request(null, null, "application/x-jackson-smile"),
+                ProjectionResponseCache.Resource.SESSION, sessionId, loader("public"));
+
+        assertEquals("application/json", response.getHeaders().getContentType().toString());
+    }
+
+    @Test
+    void negotiate_ShouldPreferHighestQualityAndDefaultToJson() {
+        assertEquals(ProjectionResponseCache.Format.SMILE,
+                ProjectionResponseCache.negotiate("application/json;q=0.9, application/x-jackson-smile"));
+        assertEquals(ProjectionResponseCache.Format.JSON,
+                ProjectionResponseCache.negotiate("application/cbor;q=0.1, */*"));
+        assertEquals(ProjectionResponseCache.Format.JSON, ProjectionResponseCache.negotiate("not a media type"));
+        assertEquals(ProjectionResponseCache.Format.JSON, ProjectionResponseCache.negotiate(null));
+    }
+
+    @Test
+    void respond_ShouldNotCompressSmallBodies() {
+        ResponseEntity<byte[]> response = cache.respond(request(null, "gzip"),
+                ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId, loader("small"));
+
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"e1.s1.sp\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void respond_ShouldVersionSeatingMapsByTheirSession() {
+        UUID seatingMapId = UUID.randomUUID();
+        when(versionService.sessionIdOfSeatingMap(seatingMapId)).thenReturn(sessionId);
+
+        ResponseEntity<byte[]> response = cache.respond(request(null, null),
+                ProjectionResponseCache.Resource.SEATING_MAP_PROJECTION_COMPACT, seatingMapId, loader("map"));
+
+        assertEquals("\"e1.s1.mpc\"", response.getHeaders().getETag());
+        assertEquals("application/vnd.ticketly.projection.compact.v1+json",
+                response.getHeaders().getContentType().toString());
+    }
+
+    @Test
+    void respond_ShouldKeepCachedBytesWithinLimit() {
+        appLimitsConfig.getProjectionCache().setMaxBytes(40_000);
+        appLimitsConfig.getProjectionCache().setMinCompressBytes(Integer.MAX_VALUE);
+        for (int i = 0; i < 20; i++) {
+            UUID id = UUID.randomUUID();
+            when(versionService.currentVersion(id)).thenReturn("v");
+            cache.respond(request(null, null), ProjectionResponseCache.Resource.SESSION, id, loader("x".repeat(5000)));
+        }
+
+        assertTrue(cache.cachedBytes() <= 40_000);
+        assertTrue(cache.cachedBytes() > 0);
+    }
+
+    @Test
+    void respond_ShouldServeWithoutETagWhenVersionsAreUnavailable() {
+        when(versionService.currentVersion(sessionId)).thenThrow(new RedisConnectionFailureException("down"));
+
+        ResponseEntity<byte[]> response = cache.respond(request("\"e1.s1.sp\"", null),
+                ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId, loader("small"));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getHeaders().getETag());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void respond_ShouldServeThePreviousBodyWhileAnotherRequestRebuildsIt() throws Exception {
+        cache.respond(request(null, null), ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId, loader("a"));
+        when(versionService.currentVersion(sessionId)).thenReturn("e1.s2");
+
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<byte[]>> rebuilt = CompletableFuture.supplyAsync(() -> cache.respond(
+                request(null, null), ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId,
+                blockingLoader("b", building, release)));
+        assertTrue(building.await(5, TimeUnit.SECONDS));
+
+        ResponseEntity<byte[]> stale = cache.respond(request(null, null),
+                ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId, loader("b"));
+        ResponseEntity<byte[]> unchanged = cache.respond(request("\"e1.s1.sp\"", null),
+                ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId, loader("b"));
+        release.countDown();
+
+        assertEquals("\"e1.s1.sp\"", stale.getHeaders().getETag());
+        assertEquals("a", objectMapper.readValue(stale.getBody(), Map.class).get("name"));
+        assertEquals(HttpStatus.NOT_MODIFIED, unchanged.getStatusCode());
+        assertEquals("\"e1.s2.sp\"", rebuilt.get(5, TimeUnit.SECONDS).getHeaders().getETag());
+        assertEquals(2, loads.get());
+        assertEquals(2, meterRegistry.get("singleflight.calls").tag("outcome", "stale").counter().count());
+    }
+
+    @Test
+    void respond_ShouldBuildOnceForConcurrentRequestsWithNothingCached() throws Exception {
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<byte[]>> first = CompletableFuture.supplyAsync(() -> cache.respond(
+                request(null, null), ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId,
+                blockingLoader("a", building, release)));
+        assertTrue(building.await(5, TimeUnit.SECONDS));
+        CompletableFuture<ResponseEntity<byte[]>> second = CompletableFuture.supplyAsync(() -> cache.respond(
+                request(null, null), ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId, loader("a")));
+        while (meterRegistry.get("singleflight.calls").tag("outcome", "joined").counter().count() < 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        assertArrayEquals(first.get(5, TimeUnit.SECONDS).getBody(), second.get(5, TimeUnit.SECONDS).getBody());
+        assertEquals(1, loads.get());
+        verify(redisSingleFlight, times(1)).execute(anyString(), anyString(), any());
+    }
+
+    @Test
+    void warm_ShouldCacheTheJsonBodyServedToTheFirstRequest() {
+        long bytes = cache.warm(ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId, loader("warm"));
+        assertTrue(bytes > 0);
+        assertEquals(bytes, cache.warm(ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId, loader("warm")));
+
+        ResponseEntity<byte[]> response = cache.respond(request(null, null),
+                ProjectionResponseCache.Resource.SESSION_PROJECTION, sessionId, loader("warm"));
+
+        assertEquals("\"e1.s1.sp\"", response.getHeaders().getETag());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void matches_ShouldAcceptListsWeakTagsAndWildcard() {
+        assertTrue(ProjectionResponseCache.matches("\"other\", W/\"e1.s1.sp\"", "e1.s1.sp"));
+        assertTrue(ProjectionResponseCache.matches("*", "e1.s1.sp"));
+        assertFalse(ProjectionResponseCache.matches("\"e1.s0.sp\"", "e1.s1.sp"));
+        assertFalse(ProjectionResponseCache.matches(null, "e1.s1.sp"));
+    }
+
+    @Test
+    void acceptsGzip_ShouldHonourZeroQuality() {
+        assertTrue(ProjectionResponseCache.acceptsGzip("gzip, deflate"));
+        assertTrue(ProjectionResponseCache.acceptsGzip("*"));
+        assertFalse(ProjectionResponseCache.acceptsGzip("gzip;q=0"));
+        assertFalse(ProjectionResponseCache.acceptsGzip("br"));
+        assertFalse(ProjectionResponseCache.acceptsGzip(null));
+    }
+
+    private Supplier<Map<String, String>> loader(String name) {
+        return () -> {
+            loads.incrementAndGet();
+            return Map.of("name", name);
+        };
+    }
+
+    private Supplier<Map<String, String>> blockingLoader(String name, CountDownLatch building, CountDownLatch release) {
+        return () -> {
+            building.countDown();
+            try {
+                assertTrue(release.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return loader(name).get();
+        };
+    }
+
+    private ServletWebRequest request(String ifNoneMatch, String acceptEncoding) {
+        return request(ifNoneMatch, acceptEncoding, null);
+    }
+
+    private ServletWebRequest request(String ifNoneMatch, String acceptEncoding, String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        if (accept != null) {
+            request.addHeader(HttpHeaders.ACCEPT, accept);
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return new ServletWebRequest(request);
+    }
+}
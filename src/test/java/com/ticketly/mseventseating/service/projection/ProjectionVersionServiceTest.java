@@ -0,0 +1,148 @@
+package com.ticketly.mseventseating.service.projection;
+
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.exception.ResourceNotFoundException;
+import com.ticketly.mseventseating.repository.EventSessionRepository;
+import com.ticketly.mseventseating.repository.SessionSeatingMapRepository;
+import com.ticketly.mseventseating.service.seat.SeatStatusChangedEvent;
+import model.SeatStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectionVersionServiceTest {
+
+    private static final String EVENT_KEY_PREFIX = "event-seating::projection-version::event::";
+    private static final String SESSION_KEY_PREFIX = "event-seating::projection-version::session::";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private EventSessionRepository eventSessionRepository;
+
+    @Mock
+    private SessionSeatingMapRepository seatingMapRepository;
+
+    private ProjectionVersionService versionService;
+    private UUID eventId;
+    private UUID sessionId;
+
+    @BeforeEach
+    void setUp() {
+        versionService = new ProjectionVersionService(redisTemplate, eventSessionRepository, seatingMapRepository,
+                new AppLimitsConfig());
+        eventId = UUID.randomUUID();
+        sessionId = UUID.randomUUID();
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(eventSessionRepository.findEventIdById(sessionId)).thenReturn(Optional.of(eventId));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void currentVersion_ShouldCombineEventAndSessionTokens() {
+        when(valueOperations.multiGet(List.of(EVENT_KEY_PREFIX + eventId, SESSION_KEY_PREFIX + sessionId)))
+                .thenReturn(List.of("e1", "s1"));
+
+        assertEquals("e1.s1", versionService.currentVersion(sessionId));
+        assertEquals("e1.s1", versionService.currentVersion(sessionId));
+        verify(eventSessionRepository, times(1)).findEventIdById(sessionId);
+    }
+
+    @Test
+    void currentVersion_ShouldCreateMissingTokens() {
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList("e1", null));
+        when(valueOperations.setIfAbsent(eq(SESSION_KEY_PREFIX + sessionId), anyString(), any(Duration.class)))
+                .thenReturn(true);
+
+        String version = versionService.currentVersion(sessionId);
+
+        assertTrue(version.startsWith("e1."));
+        assertTrue(version.length() > "e1.".length());
+    }
+
+    @Test
+    void currentVersion_ShouldRejectUnknownSession() {
+        UUID unknown = UUID.randomUUID();
+        when(eventSessionRepository.findEventIdById(unknown)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> versionService.currentVersion(unknown));
+        verifyNoInteractions(valueOperations);
+    }
+
+    @Test
+    void markChanged_ShouldApplyOnceAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        versionService.markChanged(eventId, null);
+        versionService.markChanged(null, sessionId);
+        versionService.markChanged(null, sessionId);
+        verifyNoInteractions(valueOperations);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        verify(valueOperations).set(eq(EVENT_KEY_PREFIX + eventId), anyString(), any(Duration.class));
+        verify(valueOperations).set(eq(SESSION_KEY_PREFIX + sessionId), anyString(), any(Duration.class));
+        assertNull(TransactionSynchronizationManager.getResource(versionService));
+    }
+
+    @Test
+    void markChanged_ShouldDropChangesOfRolledBackTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        versionService.markChanged(null, sessionId);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(valueOperations);
+        assertNull(TransactionSynchronizationManager.getResource(versionService));
+    }
+
+    @Test
+    void onSeatStatusChanged_ShouldReplaceSessionToken() {
+        versionService.onSeatStatusChanged(new SeatStatusChangedEvent(sessionId, List.of(UUID.randomUUID()),
+                SeatStatus.BOOKED));
+
+        verify(valueOperations).set(eq(SESSION_KEY_PREFIX + sessionId), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void sessionIdOfSeatingMap_ShouldRememberLookups() {
+        UUID seatingMapId = UUID.randomUUID();
+        when(seatingMapRepository.findSessionIdById(seatingMapId)).thenReturn(Optional.of(sessionId));
+
+        assertEquals(sessionId, versionService.sessionIdOfSeatingMap(seatingMapId));
+        assertEquals(sessionId, versionService.sessionIdOfSeatingMap(seatingMapId));
+        verify(seatingMapRepository, times(1)).findSessionIdById(seatingMapId);
+    }
+}
@@ -0,0 +1,172 @@
+package com.ticketly.mseventseating.service.projection;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.dto.projection.CompactSeatingMapProjectionDTO;
+import com.ticketly.mseventseating.model.Tier;
+import com.ticketly.mseventseating.repository.SessionSeatingMapRepository;
+import dto.SessionSeatingMapDTO;
+import dto.projection.SeatingMapProjectionDTO;
+import dto.projection.TierInfo;
+import model.SeatStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatingMapProjectionServiceTest {
+
+    @Mock
+    private SessionSeatingMapRepository seatingMapRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private SeatingMapProjectionService projectionService;
+    private List<Tier> tiers;
+    private Map<UUID, TierInfo> tierInfoMap;
+
+    @BeforeEach
+    void setUp() {
+        projectionService = new SeatingMapProjectionService(objectMapper, seatingMapRepository);
+        tiers = new ArrayList<>();
+        String[] names = {"VIP", "Gold", "Silver", "General Admission"};
+        for (int i = 0; i < names.length; i++) {
+            Tier tier = new Tier();
+            tier.setId(UUID.randomUUID());
+            tier.setName(names[i]);
+            tier.setPrice(BigDecimal.valueOf(5000 - i * 1000L, 2));
+            tier.setColor("#A1B2C" + i);
+            tiers.add(tier);
+        }
+        tierInfoMap = projectionService.buildTierInfoMap(tiers);
+    }
+
+    @Test
+    void projectCompactSeatingMap_ShouldReferenceTiersById() throws Exception {
+        String layout = layoutJson(1, 2, 4, 4);
+
+        CompactSeatingMapProjectionDTO compact = projectionService.projectCompactSeatingMap(layout, tierInfoMap);
+        SeatingMapProjectionDTO full = projectionService.projectSeatingMap(layout, tierInfoMap);
+
+        assertEquals(4, compact.getTiers().size());
+        CompactSeatingMapProjectionDTO.SeatInfo compactSeat = compact.getLayout().getBlocks().get(0)
+                .getRows().get(1).getSeats().get(3);
+        SeatingMapProjectionDTO.SeatInfo fullSeat = full.getLayout().getBlocks().get(0)
+                .getRows().get(1).getSeats().get(3);
+        assertEquals(fullSeat.getId(), compactSeat.getId());
+        assertEquals(fullSeat.getTier(), compact.getTiers().get(compactSeat.getTierId()));
+    }
+
+    @Test
+    void projectCompactSeatingMap_ShouldOnlyListReferencedTiers() throws Exception {
+        String layout = layoutJson(1, 1, 4, 2);
+
+        CompactSeatingMapProjectionDTO compact = projectionService.projectCompactSeatingMap(layout, tierInfoMap);
+
+        assertEquals(2, compact.getTiers().size());
+    }
+
+    @Test
+    void projectCompactSeatingMap_ShouldDropUnknownTierReferences() throws Exception {
+        tierInfoMap.remove(tiers.get(0).getId());
+        String layout = layoutJson(1, 1, 4, 4);
+
+        CompactSeatingMapProjectionDTO compact = projectionService.projectCompactSeatingMap(layout, tierInfoMap);
+
+        assertNull(compact.getLayout().getBlocks().get(0).getRows().get(0).getSeats().get(0).getTierId());
+        assertFalse(compact.getTiers().containsKey(tiers.get(0).getId()));
+    }
+
+    @Test
+    void projectCompactSeatingMap_ShouldReturnNullForMissingLayout() {
+        assertNull(projectionService.projectCompactSeatingMap((String) null, tierInfoMap));
+    }
+
+    /**
+     * 30,000 seats over four tiers: the compact form must be well under half the size of the embedded
+     * form and carry the same seats.
+     */
+    @Test
+    void compactProjection_ShouldBeSmallerThanEmbeddedTiersWithTheSameSeats() throws Exception {
+        String layout = layoutJson(10, 60, 50, 4);
+        SeatingMapProjectionDTO full = projectionService.projectSeatingMap(layout, tierInfoMap);
+        CompactSeatingMapProjectionDTO compact = projectionService.projectCompactSeatingMap(layout, tierInfoMap);
+
+        byte[] fullJson = objectMapper.writeValueAsBytes(full);
+        byte[] compactJson = objectMapper.writeValueAsBytes(compact);
+        assertTrue(compactJson.length * 2 < fullJson.length,
+                "compact " + compactJson.length + " bytes vs full " + fullJson.length + " bytes");
+
+        List<List<Object>> fullSeats = new ArrayList<>();
+        for (SeatingMapProjectionDTO.BlockInfo block : full.getLayout().getBlocks()) {
+            for (SeatingMapProjectionDTO.RowInfo row : block.getRows()) {
+                for (SeatingMapProjectionDTO.SeatInfo seat : row.getSeats()) {
+                    fullSeats.add(Arrays.asList(seat.getId(), seat.getLabel(), seat.getStatus(), seat.getTier()));
+                }
+            }
+        }
+        List<List<Object>> compactSeats = new ArrayList<>();
+        for (CompactSeatingMapProjectionDTO.BlockInfo block : compact.getLayout().getBlocks()) {
+            for (CompactSeatingMapProjectionDTO.RowInfo row : block.getRows()) {
+                for (CompactSeatingMapProjectionDTO.SeatInfo seat : row.getSeats()) {
+                    compactSeats.add(Arrays.asList(seat.getId(), seat.getLabel(), seat.getStatus(),
+                            compact.getTiers().get(seat.getTierId())));
+                }
+            }
+        }
+        assertEquals(30_000, compactSeats.size());
+        assertEquals(fullSeats, compactSeats);
+    }
+
+    /**
+     * Seated grids whose seats cycle through the first {@code tierCount} tiers.
+     */
+    private String layoutJson(int blockCount, int rowsPerBlock, int seatsPerRow, int tierCount) throws Exception {
+        List<SessionSeatingMapDTO.Block> blocks = new ArrayList<>();
+        for (int b = 0; b < blockCount; b++) {
+            List<SessionSeatingMapDTO.Row> rows = new ArrayList<>();
+            for (int r = 0; r < rowsPerBlock; r++) {
+                List<SessionSeatingMapDTO.Seat> seats = new ArrayList<>();
+                for (int s = 0; s < seatsPerRow; s++) {
+                    SessionSeatingMapDTO.Seat seat = new SessionSeatingMapDTO.Seat();
+                    seat.setId(UUID.randomUUID());
+                    seat.setLabel("R" + r + "S" + s);
+                    seat.setTierId(tiers.get(s % tierCount).getId());
+                    seat.setStatus(SeatStatus.AVAILABLE);
+                    seats.add(seat);
+                }
+                SessionSeatingMapDTO.Row row = new SessionSeatingMapDTO.Row();
+                row.setId(UUID.randomUUID());
+                row.setLabel("R" + r);
+                row.setSeats(seats);
+                rows.add(row);
+            }
+            SessionSeatingMapDTO.Position position = new SessionSeatingMapDTO.Position();
+            position.setX(b * 2000.0);
+            position.setY(0.0);
+            SessionSeatingMapDTO.Block block = new SessionSeatingMapDTO.Block();
+            block.setId(UUID.randomUUID());
+            block.setName("Block " + b);
+            block.setType("seated_grid");
+            block.setPosition(position);
+            block.setRows(rows);
+            blocks.add(block);
+        }
+        SessionSeatingMapDTO.Layout layout = new SessionSeatingMapDTO.Layout();
+        layout.setBlocks(blocks);
+        SessionSeatingMapDTO map = new SessionSeatingMapDTO();
+        map.setName("Arena");
+        map.setLayout(layout);
+        return objectMapper.writeValueAsString(map);
+    }
+}
@@ -0,0 +1,151 @@
+package com.ticketly.mseventseating.service.projection;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.dto.session.SeatingMapViewportDTO;
+import com.ticketly.mseventseating.dto.session.SessionEventStatus;
+import com.ticketly.mseventseating.exception.BadRequestException;
+import com.ticketly.mseventseating.exception.ResourceNotFoundException;
+import com.ticketly.mseventseating.model.Tier;
+import com.ticketly.mseventseating.repository.EventSessionRepository;
+import com.ticketly.mseventseating.repository.SessionSeatingMapRepository;
+import com.ticketly.mseventseating.repository.TierRepository;
+import dto.SessionSeatingMapDTO;
+import model.EventStatus;
+import model.SeatStatus;
+import model.SessionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatingMapViewportServiceTest {
+
+    @Mock
+    private EventSessionRepository eventSessionRepository;
+
+    @Mock
+    private SessionSeatingMapRepository seatingMapRepository;
+
+    @Mock
+    private TierRepository tierRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SeatingMapViewportService viewportService;
+    private UUID sessionId;
+    private UUID eventId;
+    private Tier tier;
+    private BlockSpatialIndexTest.TestBlock left;
+    private BlockSpatialIndexTest.TestBlock right;
+
+    @BeforeEach
+    void setUp() {
+        viewportService = new SeatingMapViewportService(eventSessionRepository, seatingMapRepository, tierRepository,
+                new SeatingMapProjectionService(objectMapper, seatingMapRepository), objectMapper, new AppLimitsConfig());
+
+        sessionId = UUID.randomUUID();
+        tier = new Tier();
+        tier.setId(UUID.randomUUID());
+        tier.setName("VIP");
+        tier.setPrice(BigDecimal.TEN);
+        eventId = UUID.randomUUID();
+        lenient().when(eventSessionRepository.findEventStatusById(sessionId)).thenReturn(Optional.of(
+                new SessionEventStatus(sessionId, SessionStatus.ON_SALE, eventId, EventStatus.APPROVED)));
+        lenient().when(tierRepository.findByEventId(eventId)).thenReturn(List.of(tier));
+
+        left = BlockSpatialIndexTest.TestBlock.grid(0, 0, 2, 3);
+        right = BlockSpatialIndexTest.TestBlock.grid(2000, 0, 2, 3);
+        lenient().when(seatingMapRepository.findBlockBoundsBySessionId(sessionId)).thenReturn(List.of(left, right));
+    }
+
+    @Test
+    void getViewport_ShouldReturnOutlinesWithoutLoadingSeats() {
+        SeatingMapViewportDTO viewport = viewportService.getViewport(sessionId, 0, 0, 10_000, 10_000,
+                SeatingMapViewportDTO.Detail.BLOCKS);
+
+        assertEquals(2, viewport.getBlocks().size());
+        assertEquals(90, viewport.getBlocks().get(0).getWidth());
+        assertEquals(60, viewport.getBlocks().get(0).getHeight());
+        assertNull(viewport.getBlocks().get(0).getRows());
+        verify(seatingMapRepository, never()).findBlocksBySessionIdAndBlockIds(any(), any());
+        verifyNoInteractions(tierRepository);
+        verify(eventSessionRepository, never()).findById(any());
+    }
+
+    @Test
+    void getViewport_ShouldLoadSeatsOfIntersectingBlocksOnly() throws Exception {
+        when(seatingMapRepository.findBlocksBySessionIdAndBlockIds(eq(sessionId), any()))
+                .thenReturn(List.of(blockJson(left.getId())));
+
+        SeatingMapViewportDTO viewport = viewportService.getViewport(sessionId, 0, 0, 100, 100,
+                SeatingMapViewportDTO.Detail.SEATS);
+
+        ArgumentCaptor<String[]> blockIds = ArgumentCaptor.forClass(String[].class);
+        verify(seatingMapRepository).findBlocksBySessionIdAndBlockIds(eq(sessionId), blockIds.capture());
+        assertArrayEquals(new String[]{left.getId().toString()}, blockIds.getValue());
+
+        SeatingMapViewportDTO.BlockDTO block = viewport.getBlocks().get(0);
+        assertEquals(1, viewport.getBlocks().size());
+        assertEquals(1, block.getRows().size());
+        assertEquals("VIP", block.getRows().get(0).getSeats().get(0).getTier().getName());
+    }
+
+    @Test
+    void getViewport_ShouldReuseCachedIndex() {
+        viewportService.getViewport(sessionId, 0, 0, 100, 100, SeatingMapViewportDTO.Detail.BLOCKS);
+        viewportService.getViewport(sessionId, 1900, 0, 2100, 100, SeatingMapViewportDTO.Detail.BLOCKS);
+
+        verify(seatingMapRepository, times(1)).findBlockBoundsBySessionId(sessionId);
+    }
+
+    @Test
+    void getViewport_ShouldHideUnapprovedEvents() {
+        when(eventSessionRepository.findEventStatusById(sessionId)).thenReturn(Optional.of(
+                new SessionEventStatus(sessionId, SessionStatus.SCHEDULED, eventId, EventStatus.PENDING)));
+
+        assertThrows(ResourceNotFoundException.class, () -> viewportService.getViewport(sessionId, 0, 0, 100, 100,
+                SeatingMapViewportDTO.Detail.BLOCKS));
+        verify(seatingMapRepository, never()).findBlockBoundsBySessionId(any());
+    }
+
+    @Test
+    void getViewport_ShouldRejectInvertedRectangle() {
+        assertThrows(BadRequestException.class, () -> viewportService.getViewport(sessionId, 100, 0, 0, 100,
+                SeatingMapViewportDTO.Detail.BLOCKS));
+    }
+
+    private String blockJson(UUID blockId) throws Exception {
+        SessionSeatingMapDTO.Seat seat = new SessionSeatingMapDTO.Seat();
+        seat.setId(UUID.randomUUID());
+        seat.setLabel("A1");
+        seat.setTierId(tier.getId());
+        seat.setStatus(SeatStatus.AVAILABLE);
+        SessionSeatingMapDTO.Row row = new SessionSeatingMapDTO.Row();
+        row.setId(UUID.randomUUID());
+        row.setLabel("A");
+        row.setSeats(List.of(seat));
+        SessionSeatingMapDTO.Position position = new SessionSeatingMapDTO.Position();
+        position.setX(0.0);
+        position.setY(0.0);
+        SessionSeatingMapDTO.Block block = new SessionSeatingMapDTO.Block();
+        block.setId(blockId);
+        block.setType("seated_grid");
+        block.setPosition(position);
+        block.setRows(List.of(row));
+        return objectMapper.writeValueAsString(block);
+    }
+}
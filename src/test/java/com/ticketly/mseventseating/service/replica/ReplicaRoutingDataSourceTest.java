@@ -0,0 +1,148 @@
+package com.ticketly.mseventseating.service.replica;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    @Mock
+    private Statement positionStatement;
+
+    @Mock
+    private ResultSet position;
+
+    @Mock
+    private PreparedStatement lagStatement;
+
+    @Mock
+    private ResultSet lag;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica),
+                Duration.ofSeconds(5), meterRegistry);
+    }
+
+    @Test
+    void getConnection_BeforeTheFirstLagCheck_ShouldReadFromThePrimary() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+
+        verify(primaryConnection).setReadOnly(true);
+        verifyNoInteractions(replica);
+        assertThat(reads("primary", "lagging")).isEqualTo(1);
+    }
+
+    @Test
+    void getConnection_ReplicaCaughtUp_ShouldReadFromTheReplica() throws SQLException {
+        stubLag(0, null);
+
+        routingDataSource.checkLag();
+
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(reads("replica", "replica")).isEqualTo(1);
+        assertThat(meterRegistry.get("datasource.replica.lag").tag("replica", "replica-1").gauge().value()).isZero();
+    }
+
+    @Test
+    void getConnection_ReplicaFurtherBehindThanAllowed_ShouldReadFromThePrimary() throws SQLException {
+        stubLag(4096, 8000.0);
+
+        routingDataSource.checkLag();
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(reads("primary", "lagging")).isEqualTo(1);
+        assertThat(meterRegistry.get("datasource.replica.lag").tag("replica", "replica-1").gauge().value())
+                .isEqualTo(8000);
+    }
+
+    @Test
+    void onPrimary_ShouldReadFromThePrimaryWhileTheReplicaIsHealthy() throws SQLException {
+        stubLag(0, null);
+        routingDataSource.checkLag();
+
+        Connection connection = ReplicaRoutingDataSource.onPrimary(() -> {
+            try {
+                return routingDataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(reads("primary", "read_your_writes")).isEqualTo(1);
+        // The scope ends with the call
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void getConnection_ReplicaFailing_ShouldFallBackToThePrimaryUntilCheckedAgain() throws SQLException {
+        stubLag(0, null);
+        routingDataSource.checkLag();
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+
+        verify(replica, times(2)).getConnection();
+        assertThat(reads("primary", "replica_failed")).isEqualTo(1);
+        assertThat(reads("primary", "lagging")).isEqualTo(1);
+    }
+
+    private void stubLag(double bytesBehind, Double replayAgeMillis) throws SQLException {
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        when(primaryConnection.createStatement()).thenReturn(positionStatement);
+        when(positionStatement.executeQuery(anyString())).thenReturn(position);
+        when(position.next()).thenReturn(true);
+        when(position.getString(1)).thenReturn("0/3000060");
+
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.prepareStatement(anyString())).thenReturn(lagStatement);
+        when(lagStatement.executeQuery()).thenReturn(lag);
+        when(lag.next()).thenReturn(true);
+        when(lag.getBoolean(1)).thenReturn(true);
+        when(lag.getDouble(2)).thenReturn(bytesBehind);
+        if (replayAgeMillis != null) {
+            when(lag.getDouble(3)).thenReturn(replayAgeMillis);
+            when(lag.wasNull()).thenReturn(false);
+        }
+    }
+
+    private double reads(String target, String reason) {
+        return meterRegistry.get("datasource.reads").tag("target", target).tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,198 @@
+package com.ticketly.mseventseating.service.scheduler;
+
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.dto.session.SessionScheduleDTO;
+import com.ticketly.mseventseating.dto.session.SessionTransitionResponse;
+import com.ticketly.mseventseating.repository.EventSessionRepository;
+import com.ticketly.mseventseating.service.event.EventLifecycleService;
+import model.EventStatus;
+import model.SessionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.*;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SessionLifecycleSchedulerTest {
+
+    @Mock
+    private EventSessionRepository eventSessionRepository;
+
+    @Mock
+    private EventLifecycleService eventLifecycleService;
+
+    @Mock
+    private AdvisoryLockLeadership leadership;
+
+    @Mock
+    private ScheduledExecutorService executor;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-01T18:00:00Z"));
+    private SessionLifecycleScheduler scheduler;
+    private OffsetDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        AppLimitsConfig.LifecycleSchedulerConfig config = new AppLimitsConfig.LifecycleSchedulerConfig();
+        config.setBatchSize(2);
+        scheduler = new SessionLifecycleScheduler(eventSessionRepository, eventLifecycleService, config,
+                leadership, executor, clock);
+        now = OffsetDateTime.now(clock);
+        lenient().when(leadership.isLeader()).thenReturn(true);
+        lenient().doReturn(mock(ScheduledFuture.class)).when(executor).schedule(any(Runnable.class), anyLong(), any());
+        lenient().when(eventLifecycleService.transitionSessions(anyCollection(), any()))
+                .thenReturn(SessionTransitionResponse.builder().results(Map.of()).build());
+    }
+
+    @Test
+    void reload_ShouldQueueTransitionsWithinTheHorizonAndWakeAtTheEarliest() {
+        UUID opening = UUID.randomUUID();
+        UUID ending = UUID.randomUUID();
+        when(eventSessionRepository.findSchedulesBySalesStartBetween(eq(SessionStatus.SCHEDULED), eq(EventStatus.APPROVED),
+                any(), any(), any())).thenReturn(List.of(
+                schedule(opening, SessionStatus.SCHEDULED, now.plusMinutes(10), now.plusDays(2))));
+        when(eventSessionRepository.findSchedulesByEndBetween(anyCollection(), eq(EventStatus.APPROVED), any(), any()))
+                .thenReturn(List.of(schedule(ending, SessionStatus.ON_SALE, now.minusDays(1), now.minusMinutes(150))));
+
+        scheduler.reload();
+
+        verify(executor).schedule(any(Runnable.class), eq(Duration.ofMinutes(10).toMillis()), eq(TimeUnit.MILLISECONDS));
+
+        clock.advance(Duration.ofMinutes(10));
+        scheduler.fireDue();
+        verify(eventLifecycleService).transitionSessions(List.of(opening), SessionStatus.ON_SALE);
+        // Its close is beyond the horizon and left to a later reload
+        verify(executor).schedule(any(Runnable.class), eq(Duration.ofMinutes(20).toMillis()), eq(TimeUnit.MILLISECONDS));
+
+        clock.advance(Duration.ofMinutes(20));
+        scheduler.fireDue();
+        verify(eventLifecycleService).transitionSessions(List.of(ending), SessionStatus.CLOSED);
+        verifyNoMoreInteractions(eventLifecycleService);
+    }
+
+    @Test
+    void fireDue_ShouldTransitionSessionsDueTogetherInBatches() {
+        List<SessionScheduleDTO> series = List.of(
+                schedule(UUID.randomUUID(), SessionStatus.SCHEDULED, now.plusMinutes(5), now.plusDays(1)),
+                schedule(UUID.randomUUID(), SessionStatus.SCHEDULED, now.plusMinutes(5), now.plusDays(2)),
+                schedule(UUID.randomUUID(), SessionStatus.SCHEDULED, now.plusMinutes(5), now.plusDays(3)));
+        when(eventSessionRepository.findSchedulesBySalesStartBetween(any(), any(), any(), any(), any())).thenReturn(series);
+        scheduler.reload();
+
+        clock.advance(Duration.ofMinutes(5));
+        scheduler.fireDue();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UUID>> batches = ArgumentCaptor.forClass(List.class);
+        verify(eventLifecycleService, times(2)).transitionSessions(batches.capture(), eq(SessionStatus.ON_SALE));
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        assertThat(batches.getAllValues().stream().flatMap(List::stream))
+                .containsExactlyInAnyOrderElementsOf(series.stream().map(SessionScheduleDTO::sessionId).toList());
+    }
+
+    @Test
+    void refresh_ShouldApplyReschedulesAndCancellationsWithoutReloading() {
+        UUID rescheduled = UUID.randomUUID();
+        UUID cancelled = UUID.randomUUID();
+        UUID created = UUID.randomUUID();
+        when(eventSessionRepository.findSchedulesBySalesStartBetween(any(), any(), any(), any(), any())).thenReturn(List.of(
+                schedule(rescheduled, SessionStatus.SCHEDULED, now.plusMinutes(5), now.plusDays(1)),
+                schedule(cancelled, SessionStatus.SCHEDULED, now.plusMinutes(5), now.plusDays(1))));
+        scheduler.reload();
+
+        when(eventSessionRepository.findSchedulesByIdIn(List.of(rescheduled, cancelled, created))).thenReturn(List.of(
+                schedule(rescheduled, SessionStatus.SCHEDULED, now.plusMinutes(15), now.plusDays(1)),
+                schedule(cancelled, SessionStatus.CANCELLED, now.plusMinutes(5), now.plusDays(1)),
+                schedule(created, SessionStatus.SCHEDULED, now.plusMinutes(15), now.plusDays(1))));
+        scheduler.refresh(List.of(rescheduled, cancelled, created));
+
+        clock.advance(Duration.ofMinutes(5));
+        scheduler.fireDue();
+        verify(eventLifecycleService, never()).transitionSessions(anyCollection(), any());
+
+        clock.advance(Duration.ofMinutes(10));
+        scheduler.fireDue();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UUID>> batch = ArgumentCaptor.forClass(List.class);
+        verify(eventLifecycleService).transitionSessions(batch.capture(), eq(SessionStatus.ON_SALE));
+        assertThat(batch.getValue()).containsExactlyInAnyOrder(rescheduled, created);
+        verify(eventSessionRepository, times(1)).findSchedulesBySalesStartBetween(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void fireDue_ShouldRetryABatchThatFailed() {
+        UUID sessionId = UUID.randomUUID();
+        when(eventSessionRepository.findSchedulesBySalesStartBetween(any(), any(), any(), any(), any())).thenReturn(List.of(
+                schedule(sessionId, SessionStatus.SCHEDULED, now.plusMinutes(1), now.plusDays(1))));
+        scheduler.reload();
+        when(eventLifecycleService.transitionSessions(anyCollection(), any()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(SessionTransitionResponse.builder().results(Map.of()).build());
+
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.fireDue();
+        clock.advance(Duration.ofSeconds(5));
+        scheduler.fireDue();
+
+        verify(eventLifecycleService, times(2)).transitionSessions(List.of(sessionId), SessionStatus.ON_SALE);
+    }
+
+    @Test
+    void fireDue_ShouldDoNothingAfterLeadershipIsLost() {
+        UUID sessionId = UUID.randomUUID();
+        when(eventSessionRepository.findSchedulesBySalesStartBetween(any(), any(), any(), any(), any())).thenReturn(List.of(
+                schedule(sessionId, SessionStatus.SCHEDULED, now.plusMinutes(1), now.plusDays(1))));
+        scheduler.reload();
+        when(leadership.isLeader()).thenReturn(false);
+
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.fireDue();
+
+        verifyNoInteractions(eventLifecycleService);
+    }
+
+    private SessionScheduleDTO schedule(UUID sessionId, SessionStatus status, OffsetDateTime salesStart, OffsetDateTime start) {
+        return new SessionScheduleDTO(sessionId, status, start, salesStart, start.plusHours(3), EventStatus.APPROVED);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
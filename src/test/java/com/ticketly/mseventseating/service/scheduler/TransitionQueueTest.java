@@ -0,0 +1,58 @@
+package com.ticketly.mseventseating.service.scheduler;
+
+import model.SessionStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransitionQueueTest {
+
+    private final TransitionQueue queue = new TransitionQueue();
+
+    @Test
+    void pollDue_ShouldReturnDueTransitionsEarliestFirst() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        queue.add(new TransitionQueue.Transition(second, SessionStatus.CLOSED, 300));
+        queue.add(new TransitionQueue.Transition(first, SessionStatus.ON_SALE, 100));
+        queue.add(new TransitionQueue.Transition(second, SessionStatus.ON_SALE, 200));
+
+        List<TransitionQueue.Transition> due = queue.pollDue(200);
+
+        assertEquals(List.of(
+                new TransitionQueue.Transition(first, SessionStatus.ON_SALE, 100),
+                new TransitionQueue.Transition(second, SessionStatus.ON_SALE, 200)), due);
+        assertEquals(300L, queue.nextDueAt());
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void replace_ShouldDropWhatWasQueuedForTheSession() {
+        UUID rescheduled = UUID.randomUUID();
+        UUID cancelled = UUID.randomUUID();
+        queue.add(new TransitionQueue.Transition(rescheduled, SessionStatus.ON_SALE, 100));
+        queue.add(new TransitionQueue.Transition(rescheduled, SessionStatus.CLOSED, 500));
+        queue.add(new TransitionQueue.Transition(cancelled, SessionStatus.ON_SALE, 50));
+
+        queue.replace(rescheduled, List.of(new TransitionQueue.Transition(rescheduled, SessionStatus.ON_SALE, 400)));
+        queue.replace(cancelled, List.of());
+
+        assertEquals(400L, queue.nextDueAt());
+        assertEquals(List.of(new TransitionQueue.Transition(rescheduled, SessionStatus.ON_SALE, 400)), queue.pollDue(1000));
+        assertNull(queue.nextDueAt());
+    }
+
+    @Test
+    void add_ShouldIgnoreATransitionAlreadyQueued() {
+        UUID sessionId = UUID.randomUUID();
+        queue.add(new TransitionQueue.Transition(sessionId, SessionStatus.CLOSED, 100));
+        queue.add(new TransitionQueue.Transition(sessionId, SessionStatus.CLOSED, 100));
+
+        assertEquals(1, queue.size());
+        queue.remove(sessionId);
+        assertEquals(0, queue.size());
+    }
+}
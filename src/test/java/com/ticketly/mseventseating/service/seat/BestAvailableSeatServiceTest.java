@@ -0,0 +1,135 @@
+package com.ticketly.mseventseating.service.seat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.dto.session.BestAvailableSeatsDTO;
+import com.ticketly.mseventseating.dto.session.SessionEventStatus;
+import com.ticketly.mseventseating.exception.BadRequestException;
+import com.ticketly.mseventseating.exception.ResourceNotFoundException;
+import com.ticketly.mseventseating.repository.EventSessionRepository;
+import com.ticketly.mseventseating.repository.SessionSeatingMapRepository;
+import dto.SessionSeatingMapDTO;
+import model.EventStatus;
+import model.SeatStatus;
+import model.SessionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BestAvailableSeatServiceTest {
+
+    @Mock
+    private EventSessionRepository eventSessionRepository;
+
+    @Mock
+    private SessionSeatingMapRepository seatingMapRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BestAvailableSeatService bestAvailableSeatService;
+    private UUID sessionId;
+    private UUID tierId;
+    private SessionEventStatus session;
+
+    @BeforeEach
+    void setUp() {
+        AppLimitsConfig appLimitsConfig = new AppLimitsConfig();
+        appLimitsConfig.getBestAvailable().setIndexTtlMs(60_000);
+        bestAvailableSeatService = new BestAvailableSeatService(eventSessionRepository, seatingMapRepository,
+                objectMapper, appLimitsConfig);
+
+        sessionId = UUID.randomUUID();
+        tierId = UUID.randomUUID();
+        session = status(SessionStatus.ON_SALE);
+    }
+
+    @Test
+    void findBestAvailable_ShouldReturnSeatsAndReuseIndex() throws Exception {
+        when(eventSessionRepository.findEventStatusById(sessionId)).thenReturn(Optional.of(session));
+        when(seatingMapRepository.findLayoutDataBySessionId(sessionId)).thenReturn(Optional.of(layoutJson(4)));
+
+        BestAvailableSeatsDTO first = bestAvailableSeatService.findBestAvailable(sessionId, tierId, 2, null, null);
+        BestAvailableSeatsDTO second = bestAvailableSeatService.findBestAvailable(sessionId, tierId, 2, null, null);
+
+        assertEquals(List.of("A2", "A3"), first.getSeats().stream().map(BestAvailableSeatsDTO.SeatRef::getLabel).toList());
+        assertEquals(first.getSeats(), second.getSeats());
+        verify(seatingMapRepository, times(1)).findLayoutDataBySessionId(sessionId);
+    }
+
+    @Test
+    void onSeatStatusChanged_ShouldApplyLocalBookingsToCachedIndex() throws Exception {
+        when(eventSessionRepository.findEventStatusById(sessionId)).thenReturn(Optional.of(session));
+        when(seatingMapRepository.findLayoutDataBySessionId(sessionId)).thenReturn(Optional.of(layoutJson(3)));
+        BestAvailableSeatsDTO first = bestAvailableSeatService.findBestAvailable(sessionId, tierId, 3, null, null);
+
+        bestAvailableSeatService.onSeatStatusChanged(new SeatStatusChangedEvent(sessionId,
+                List.of(first.getSeats().get(0).getId()), SeatStatus.BOOKED));
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> bestAvailableSeatService.findBestAvailable(sessionId, tierId, 3, null, null));
+    }
+
+    @Test
+    void findBestAvailable_ShouldRejectSessionNotOnSale() {
+        when(eventSessionRepository.findEventStatusById(sessionId)).thenReturn(Optional.of(status(SessionStatus.SCHEDULED)));
+
+        assertThrows(BadRequestException.class,
+                () -> bestAvailableSeatService.findBestAvailable(sessionId, tierId, 2, null, null));
+        verifyNoInteractions(seatingMapRepository);
+    }
+
+    @Test
+    void findBestAvailable_ShouldRejectQuantityOutsideLimits() {
+        assertThrows(BadRequestException.class,
+                () -> bestAvailableSeatService.findBestAvailable(sessionId, tierId, 0, null, null));
+        assertThrows(BadRequestException.class,
+                () -> bestAvailableSeatService.findBestAvailable(sessionId, tierId, 11, null, null));
+        verifyNoInteractions(eventSessionRepository, seatingMapRepository);
+    }
+
+    private SessionEventStatus status(SessionStatus status) {
+        return new SessionEventStatus(sessionId, status, UUID.randomUUID(), EventStatus.APPROVED);
+    }
+
+    private String layoutJson(int seatsInRow) throws Exception {
+        List<SessionSeatingMapDTO.Seat> seats = new ArrayList<>();
+        for (int i = 1; i <= seatsInRow; i++) {
+            SessionSeatingMapDTO.Seat seat = new SessionSeatingMapDTO.Seat();
+            seat.setId(UUID.randomUUID());
+            seat.setLabel("A" + i);
+            seat.setTierId(tierId);
+            seat.setStatus(SeatStatus.AVAILABLE);
+            seats.add(seat);
+        }
+        SessionSeatingMapDTO.Row row = new SessionSeatingMapDTO.Row();
+        row.setId(UUID.randomUUID());
+        row.setLabel("A");
+        row.setSeats(seats);
+
+        SessionSeatingMapDTO.Position position = new SessionSeatingMapDTO.Position();
+        position.setX(0.0);
+        position.setY(0.0);
+        SessionSeatingMapDTO.Block block = new SessionSeatingMapDTO.Block();
+        block.setId(UUID.randomUUID());
+        block.setType("seated_grid");
+        block.setPosition(position);
+        block.setRows(List.of(row));
+
+        SessionSeatingMapDTO.Layout layout = new SessionSeatingMapDTO.Layout();
+        layout.setBlocks(List.of(block));
+        SessionSeatingMapDTO layoutData = new SessionSeatingMapDTO();
+        layoutData.setLayout(layout);
+        return objectMapper.writeValueAsString(layoutData);
+    }
+}
@@ -0,0 +1,146 @@
+package com.ticketly.mseventseating.service.seat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.dto.session.SessionAvailabilityDTO;
+import com.ticketly.mseventseating.exception.BadRequestException;
+import com.ticketly.mseventseating.model.SessionTierAvailability;
+import com.ticketly.mseventseating.model.SessionTierAvailabilityId;
+import com.ticketly.mseventseating.repository.SessionTierAvailabilityRepository;
+import com.ticketly.mseventseating.service.seating_layout.SeatingLayoutDiff;
+import dto.SessionSeatingMapDTO;
+import model.SeatStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatAvailabilityServiceTest {
+
+    @Mock
+    private SessionTierAvailabilityRepository availabilityRepository;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @InjectMocks
+    private SeatAvailabilityService seatAvailabilityService;
+
+    @Test
+    void tally_ShouldCountSellableAndAvailableSeatsPerTierAcrossRowsAndBlocks() {
+        UUID vip = UUID.randomUUID();
+        UUID general = UUID.randomUUID();
+
+        SessionSeatingMapDTO.Row row = new SessionSeatingMapDTO.Row();
+        row.setSeats(List.of(
+                seat(vip, SeatStatus.AVAILABLE),
+                seat(vip, SeatStatus.BOOKED),
+                seat(vip, SeatStatus.RESERVED)));
+        SessionSeatingMapDTO.Block grid = new SessionSeatingMapDTO.Block();
+        grid.setType("seated_grid");
+        grid.setRows(List.of(row));
+
+        SessionSeatingMapDTO.Block standing = new SessionSeatingMapDTO.Block();
+        standing.setType("standing_capacity");
+        standing.setSeats(List.of(seat(general, SeatStatus.AVAILABLE), seat(general, SeatStatus.AVAILABLE)));
+
+        SessionSeatingMapDTO.Layout layout = new SessionSeatingMapDTO.Layout();
+        layout.setBlocks(List.of(grid, standing));
+        SessionSeatingMapDTO layoutData = new SessionSeatingMapDTO();
+        layoutData.setLayout(layout);
+
+        Map<UUID, int[]> counts = SeatAvailabilityService.tally(layoutData);
+
+        assertArrayEquals(new int[]{2, 1}, counts.get(vip));
+        assertArrayEquals(new int[]{2, 2}, counts.get(general));
+    }
+
+    @Test
+    void getAvailability_ShouldSumTiersAndKeepRequestedOrder() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(availabilityRepository.findAllByIdSessionIdIn(any())).thenReturn(List.of(
+                counter(second, 100, 40),
+                counter(second, 50, 0)));
+
+        List<SessionAvailabilityDTO> result = seatAvailabilityService.getAvailability(List.of(first, second));
+
+        assertEquals(2, result.size());
+        assertEquals(first, result.get(0).getSessionId());
+        assertEquals(0, result.get(0).getCapacity());
+        assertTrue(result.get(0).getTiers().isEmpty());
+        assertEquals(second, result.get(1).getSessionId());
+        assertEquals(150, result.get(1).getCapacity());
+        assertEquals(40, result.get(1).getAvailable());
+        assertEquals(2, result.get(1).getTiers().size());
+    }
+
+    @Test
+    void getAvailability_ShouldRejectTooManySessions() {
+        List<UUID> ids = new ArrayList<>();
+        IntStream.rangeClosed(0, SeatAvailabilityService.MAX_SESSIONS_PER_REQUEST).forEach(i -> ids.add(UUID.randomUUID()));
+
+        assertThrows(BadRequestException.class, () -> seatAvailabilityService.getAvailability(ids));
+        verifyNoInteractions(availabilityRepository);
+    }
+
+    @Test
+    void recordBooked_ShouldDecrementEachTierAndReturnRemaining() {
+        UUID sessionId = UUID.randomUUID();
+        UUID tierId = UUID.randomUUID();
+        when(availabilityRepository.decrementAvailable(sessionId, tierId, 3L)).thenReturn(1);
+        when(availabilityRepository.sumAvailableForSession(sessionId)).thenReturn(7L);
+
+        Long remaining = seatAvailabilityService.recordBooked(sessionId, Map.of(tierId, 3L));
+
+        assertEquals(7L, remaining);
+    }
+
+    @Test
+    void applyLayoutDiff_ShouldAdjustChangedTiersAndDropEmptyOnes() {
+        UUID sessionId = UUID.randomUUID();
+        UUID tierId = UUID.randomUUID();
+        SeatingLayoutDiff diff = new SeatingLayoutDiff(true, List.of(), List.of(), List.of(),
+                List.of(), List.of(UUID.randomUUID()), List.of(),
+                Map.of(tierId, new SeatingLayoutDiff.TierDelta(-1, -1)));
+
+        seatAvailabilityService.applyLayoutDiff(sessionId, diff);
+
+        verify(availabilityRepository).adjustCounters(sessionId, tierId, -1, -1);
+        verify(availabilityRepository).deleteEmptyBySessionId(sessionId);
+    }
+
+    @Test
+    void applyLayoutDiff_ShouldLeaveCountersAloneWithoutTierChanges() {
+        seatAvailabilityService.applyLayoutDiff(UUID.randomUUID(), SeatingLayoutDiff.unchanged());
+
+        verifyNoInteractions(availabilityRepository);
+    }
+
+    private SessionSeatingMapDTO.Seat seat(UUID tierId, SeatStatus status) {
+        SessionSeatingMapDTO.Seat seat = new SessionSeatingMapDTO.Seat();
+        seat.setId(UUID.randomUUID());
+        seat.setTierId(tierId);
+        seat.setStatus(status);
+        return seat;
+    }
+
+    private SessionTierAvailability counter(UUID sessionId, int capacity, int available) {
+        return SessionTierAvailability.builder()
+                .id(new SessionTierAvailabilityId(sessionId, UUID.randomUUID()))
+                .capacity(capacity)
+                .available(available)
+                .build();
+    }
+}
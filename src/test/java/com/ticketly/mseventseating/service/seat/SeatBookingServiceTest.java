@@ -0,0 +1,128 @@
+package com.ticketly.mseventseating.service.seat;
+
+import com.ticketly.mseventseating.dto.event.SeatStatusChangeEventDto;
+import com.ticketly.mseventseating.model.EventSession;
+import com.ticketly.mseventseating.repository.EventSessionRepository;
+import com.ticketly.mseventseating.repository.SessionSeatingMapRepository;
+import com.ticketly.mseventseating.service.session.SessionStatusCounterService;
+import model.SeatStatus;
+import model.SessionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatBookingServiceTest {
+
+    @Mock
+    private SessionSeatingMapRepository seatingMapRepository;
+
+    @Mock
+    private EventSessionRepository eventSessionRepository;
+
+    @Mock
+    private SeatAvailabilityService seatAvailabilityService;
+
+    @Mock
+    private SessionStatusCounterService sessionStatusCounterService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private SeatBookingService seatBookingService;
+
+    private UUID sessionId;
+    private UUID tierId;
+    private SeatStatusChangeEventDto event;
+
+    @BeforeEach
+    void setUp() {
+        sessionId = UUID.randomUUID();
+        tierId = UUID.randomUUID();
+        event = new SeatStatusChangeEventDto(sessionId, List.of(UUID.randomUUID(), UUID.randomUUID()));
+    }
+
+    @Test
+    void processSeatsBooked_ShouldMarkSessionSoldOutWhenLastSeatIsTaken() {
+        EventSession session = new EventSession();
+        session.setId(sessionId);
+        session.setStatus(SessionStatus.ON_SALE);
+        when(seatAvailabilityService.lockAndCountAvailableSeats(eq(sessionId), any())).thenReturn(Map.of(tierId, 2L));
+        when(seatAvailabilityService.recordBooked(sessionId, Map.of(tierId, 2L))).thenReturn(0L);
+        when(eventSessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
+
+        seatBookingService.processSeatsBooked(event);
+
+        assertEquals(SessionStatus.SOLD_OUT, session.getStatus());
+        verify(seatingMapRepository).updateSeatStatusesInLayout(eq(sessionId), any(), eq("BOOKED"));
+        verify(eventSessionRepository).save(session);
+        verify(sessionStatusCounterService).recordTransition(session, SessionStatus.ON_SALE);
+    }
+
+    @Test
+    void processSeatsBooked_ShouldKeepSessionOnSaleWhileSeatsRemain() {
+        when(seatAvailabilityService.lockAndCountAvailableSeats(eq(sessionId), any())).thenReturn(Map.of(tierId, 2L));
+        when(seatAvailabilityService.recordBooked(sessionId, Map.of(tierId, 2L))).thenReturn(5L);
+
+        seatBookingService.processSeatsBooked(event);
+
+        verify(eventSessionRepository, never()).findById(any());
+        verifyNoInteractions(sessionStatusCounterService);
+    }
+
+    @Test
+    void processSeatsBooked_ShouldPublishSeatStatusChange() {
+        when(seatAvailabilityService.lockAndCountAvailableSeats(eq(sessionId), any())).thenReturn(Map.of());
+
+        seatBookingService.processSeatsBooked(event);
+
+        verify(eventPublisher).publishEvent(new SeatStatusChangedEvent(sessionId, event.seat_ids(), SeatStatus.BOOKED));
+    }
+
+    @Test
+    void processSeatsBooked_ShouldIgnoreEmptyEvents() {
+        seatBookingService.processSeatsBooked(new SeatStatusChangeEventDto(sessionId, List.of()));
+
+        verifyNoInteractions(seatingMapRepository, seatAvailabilityService, eventPublisher);
+    }
+
+    @Test
+    void processSeatsBooked_ShouldNotTouchCountersWhenSeatsWereAlreadyBooked() {
+        when(seatAvailabilityService.lockAndCountAvailableSeats(eq(sessionId), any())).thenReturn(Map.of());
+
+        seatBookingService.processSeatsBooked(event);
+
+        verify(seatingMapRepository).updateSeatStatusesInLayout(eq(sessionId), any(), eq("BOOKED"));
+        verify(seatAvailabilityService, never()).recordBooked(any(), any());
+    }
+
+    @Test
+    void processSeatsBooked_ShouldNotMarkSoldOutUnlessSessionIsOnSale() {
+        EventSession session = new EventSession();
+        session.setId(sessionId);
+        session.setStatus(SessionStatus.CLOSED);
+        when(seatAvailabilityService.lockAndCountAvailableSeats(eq(sessionId), any())).thenReturn(Map.of(tierId, 1L));
+        when(seatAvailabilityService.recordBooked(sessionId, Map.of(tierId, 1L))).thenReturn(0L);
+        when(eventSessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
+
+        seatBookingService.processSeatsBooked(event);
+
+        assertEquals(SessionStatus.CLOSED, session.getStatus());
+        verify(eventSessionRepository, never()).save(any());
+    }
+}
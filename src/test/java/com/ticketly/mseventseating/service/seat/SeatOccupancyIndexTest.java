@@ -0,0 +1,203 @@
+package com.ticketly.mseventseating.service.seat;
+
+import com.ticketly.mseventseating.dto.session.SeatGridDTO;
+import com.ticketly.mseventseating.service.seating_layout.SeatGridCodec;
+import dto.SessionSeatingMapDTO;
+import model.SeatStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatOccupancyIndexTest {
+
+    private static final double SPACING = 30;
+
+    private final UUID vip = UUID.randomUUID();
+    private final UUID general = UUID.randomUUID();
+
+    @Test
+    void findBest_ShouldReturnContiguousSeatsClosestToFrontCentre() {
+        // Row A: V V V V V, row B: V V V V V, all available
+        SessionSeatingMapDTO layout = layout(block(0, 0, row("A", vip, "AAAAA"), row("B", vip, "AAAAA")));
+        SeatOccupancyIndex index = SeatOccupancyIndex.build(layout, SPACING);
+
+        SeatOccupancyIndex.Selection selection = index.findBest(vip, 3, null, null).orElseThrow();
+
+        assertEquals("A", selection.rowLabel());
+        assertEquals(List.of("A2", "A3", "A4"), selection.seatLabels());
+    }
+
+    @Test
+    void findBest_ShouldSkipBookedSeatsAndOtherTiers() {
+        // Row A has no run of three, row B has one at the end
+        SessionSeatingMapDTO layout = layout(block(0, 0,
+                row("A", vip, "AABAA"),
+                row("B", vip, "BBAAA")));
+        layout.getLayout().getBlocks().get(0).getRows().get(0).getSeats().get(1).setTierId(general);
+        SeatOccupancyIndex index = SeatOccupancyIndex.build(layout, SPACING);
+
+        SeatOccupancyIndex.Selection selection = index.findBest(vip, 3, null, null).orElseThrow();
+
+        assertEquals(List.of("B3", "B4", "B5"), selection.seatLabels());
+        assertTrue(index.findBest(vip, 4, null, null).isEmpty());
+        assertTrue(index.findBest(UUID.randomUUID(), 1, null, null).isEmpty());
+    }
+
+    @Test
+    void findBest_ShouldPreferSeatsNearRequestedFocalPoint() {
+        SessionSeatingMapDTO layout = layout(
+                block(0, 0, row("A", vip, "AAAA")),
+                block(1000, 0, row("A", vip, "AAAA")));
+        SeatOccupancyIndex index = SeatOccupancyIndex.build(layout, SPACING);
+
+        SeatOccupancyIndex.Selection selection = index.findBest(vip, 2, 1060.0, 0.0).orElseThrow();
+
+        assertEquals(layout.getLayout().getBlocks().get(1).getId(), selection.blockId());
+    }
+
+    @Test
+    void markUnavailable_ShouldExcludeSeatsFromLaterQueries() {
+        SessionSeatingMapDTO layout = layout(block(0, 0, row("A", vip, "AAA"), row("B", vip, "AAA")));
+        SeatOccupancyIndex index = SeatOccupancyIndex.build(layout, SPACING);
+        SeatOccupancyIndex.Selection first = index.findBest(vip, 3, null, null).orElseThrow();
+
+        index.markUnavailable(List.of(first.seatIds().get(1)));
+        SeatOccupancyIndex.Selection second = index.findBest(vip, 3, null, null).orElseThrow();
+
+        assertEquals("A", first.rowLabel());
+        assertEquals("B", second.rowLabel());
+    }
+
+    @Test
+    void findBest_GridWithAnAisle_ShouldNotSpanTheGap() {
+        // One row of seven columns with an aisle in column 4: A1 A2 A3 _ A5 A6 A7
+        SeatGridDTO grid = SeatGridDTO.builder()
+                .rows(1)
+                .columns(7)
+                .startRowLabel("A")
+                .tierRuns(List.of(List.of(SeatGridDTO.TierRun.builder().tierId(vip).count(7).build())))
+                .overrides(List.of(SeatGridDTO.SeatOverride.builder().row(0).column(3).gap(true).build()))
+                .build();
+        SessionSeatingMapDTO.Block block = block(0, 0);
+        block.setRows(SeatGridCodec.expand(block.getId(), grid));
+        SeatOccupancyIndex index = SeatOccupancyIndex.build(layout(block), SPACING);
+
+        assertTrue(index.findBest(vip, 4, null, null).isEmpty());
+        assertEquals(List.of("A1", "A2", "A3"), index.findBest(vip, 3, null, null).orElseThrow().seatLabels());
+        // Seats after the aisle keep their column, so A6 is the seat centred on the sixth column
+        assertEquals(List.of("A6"), index.findBest(vip, 1, 5.5 * SPACING, 0.0).orElseThrow().seatLabels());
+    }
+
+    @Test
+    void findBest_OnFiftyThousandSeatLayout_ShouldMatchAFullScan() {
+        // 10 blocks x 50 rows x 100 seats, two tiers, 60% of seats already booked
+        Random random = new Random(42);
+        List<SessionSeatingMapDTO.Block> blocks = new ArrayList<>();
+        for (int b = 0; b < 10; b++) {
+            List<SessionSeatingMapDTO.Row> rows = new ArrayList<>();
+            for (int r = 0; r < 50; r++) {
+                StringBuilder statuses = new StringBuilder();
+                for (int s = 0; s < 100; s++) {
+                    statuses.append(random.nextDouble() < 0.6 ? 'B' : 'A');
+                }
+                rows.add(row("R" + r, b < 5 ? vip : general, statuses.toString()));
+            }
+            blocks.add(block((b % 5) * 3200, (b / 5) * 1600, rows.toArray(new SessionSeatingMapDTO.Row[0])));
+        }
+        SessionSeatingMapDTO layout = layout(blocks.toArray(new SessionSeatingMapDTO.Block[0]));
+        SeatOccupancyIndex index = SeatOccupancyIndex.build(layout, SPACING);
+        assertEquals(50_000, index.seatCount());
+
+        // The scan stops early once no closer row is left, which must not change the answer
+        for (int i = 0; i < 200; i++) {
+            UUID tier = i % 2 == 0 ? vip : general;
+            int quantity = 1 + i % 4;
+            double focalX = random.nextDouble() * 16000;
+            double focalY = random.nextDouble() * 3200;
+
+            Optional<SeatOccupancyIndex.Selection> selection = index.findBest(tier, quantity, focalX, focalY);
+            OptionalDouble expected = bestScoreByFullScan(layout, tier, quantity, focalX, focalY);
+
+            assertEquals(expected.isPresent(), selection.isPresent());
+            if (selection.isPresent()) {
+                assertEquals(expected.getAsDouble(), selection.get().score(), 1e-9);
+                assertEquals(quantity, selection.get().seatIds().size());
+            }
+        }
+    }
+
+    /**
+     * Distance of the closest window of {@code quantity} adjacent available seats, found by checking
+     * every window of every row.
+     */
+    private OptionalDouble bestScoreByFullScan(SessionSeatingMapDTO layout, UUID tier, int quantity,
+                                               double focalX, double focalY) {
+        OptionalDouble best = OptionalDouble.empty();
+        for (SessionSeatingMapDTO.Block block : layout.getLayout().getBlocks()) {
+            for (int r = 0; r < block.getRows().size(); r++) {
+                List<SessionSeatingMapDTO.Seat> seats = block.getRows().get(r).getSeats();
+                double y = block.getPosition().getY() + (r + 0.5) * SPACING;
+                for (int start = 0; start + quantity <= seats.size(); start++) {
+                    boolean free = seats.subList(start, start + quantity).stream()
+                            .allMatch(seat -> seat.getStatus() == SeatStatus.AVAILABLE && tier.equals(seat.getTierId()));
+                    if (!free) {
+                        continue;
+                    }
+                    double centreX = block.getPosition().getX() + (start + quantity / 2.0) * SPACING;
+                    double score = Math.hypot(centreX - focalX, y - focalY);
+                    if (best.isEmpty() || score < best.getAsDouble()) {
+                        best = OptionalDouble.of(score);
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private SessionSeatingMapDTO layout(SessionSeatingMapDTO.Block... blocks) {
+        SessionSeatingMapDTO.Layout layout = new SessionSeatingMapDTO.Layout();
+        layout.setBlocks(List.of(blocks));
+        SessionSeatingMapDTO layoutData = new SessionSeatingMapDTO();
+        layoutData.setLayout(layout);
+        return layoutData;
+    }
+
+    private SessionSeatingMapDTO.Block block(double x, double y, SessionSeatingMapDTO.Row... rows) {
+        SessionSeatingMapDTO.Position position = new SessionSeatingMapDTO.Position();
+        position.setX(x);
+        position.setY(y);
+        SessionSeatingMapDTO.Block block = new SessionSeatingMapDTO.Block();
+        block.setId(UUID.randomUUID());
+        block.setType("seated_grid");
+        block.setPosition(position);
+        block.setRows(List.of(rows));
+        return block;
+    }
+
+    /**
+     * A row whose seats are labelled {@code <label><n>}, with 'A' for AVAILABLE and 'B' for BOOKED.
+     */
+    private SessionSeatingMapDTO.Row row(String label, UUID tierId, String statuses) {
+        List<SessionSeatingMapDTO.Seat> seats = new ArrayList<>();
+        for (int i = 0; i < statuses.length(); i++) {
+            SessionSeatingMapDTO.Seat seat = new SessionSeatingMapDTO.Seat();
+            seat.setId(UUID.randomUUID());
+            seat.setLabel(label + (i + 1));
+            seat.setTierId(tierId);
+            seat.setStatus(statuses.charAt(i) == 'A' ? SeatStatus.AVAILABLE : SeatStatus.BOOKED);
+            seats.add(seat);
+        }
+        SessionSeatingMapDTO.Row row = new SessionSeatingMapDTO.Row();
+        row.setId(UUID.randomUUID());
+        row.setLabel(label);
+        row.setSeats(seats);
+        return row;
+    }
+}
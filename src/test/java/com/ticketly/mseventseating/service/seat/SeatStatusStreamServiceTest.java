@@ -0,0 +1,130 @@
+package com.ticketly.mseventseating.service.seat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.dto.session.SeatStatusDelta;
+import com.ticketly.mseventseating.exception.ResourceNotFoundException;
+import com.ticketly.mseventseating.repository.EventSessionRepository;
+import model.SeatStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatStatusStreamServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private EventSessionRepository eventSessionRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SeatStatusStreamService streamService;
+    private UUID sessionId;
+
+    @BeforeEach
+    void setUp() {
+        // Run sends inline so the tests are deterministic
+        streamService = new SeatStatusStreamService(redisTemplate, objectMapper, eventSessionRepository,
+                new AppLimitsConfig(), Runnable::run);
+        sessionId = UUID.randomUUID();
+    }
+
+    @Test
+    void missedSince_ShouldReturnBufferedDeltasAfterLastVersionInOrder() {
+        List<SeatStatusDelta> buffered = List.of(delta(7), delta(5), delta(6), delta(4));
+
+        List<SeatStatusDelta> missed = SeatStatusStreamService.missedSince(4, 7, buffered);
+
+        assertNotNull(missed);
+        assertEquals(List.of(5L, 6L, 7L), missed.stream().map(SeatStatusDelta::getVersion).toList());
+    }
+
+    @Test
+    void missedSince_ShouldReturnEmptyWhenClientIsUpToDate() {
+        assertEquals(List.of(), SeatStatusStreamService.missedSince(7, 7, List.of(delta(6), delta(7))));
+    }
+
+    @Test
+    void missedSince_ShouldRequireResyncWhenDeltasWereEvicted() {
+        assertNull(SeatStatusStreamService.missedSince(2, 7, List.of(delta(5), delta(6), delta(7))));
+    }
+
+    @Test
+    void missedSince_ShouldRequireResyncWhenVersionCounterRestarted() {
+        assertNull(SeatStatusStreamService.missedSince(40, 3, List.of(delta(1), delta(2), delta(3))));
+    }
+
+    @Test
+    void subscribe_ShouldRejectUnknownSession() {
+        when(eventSessionRepository.existsById(sessionId)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> streamService.subscribe(sessionId, null));
+        assertEquals(0, streamService.subscriberCount(sessionId));
+    }
+
+    @Test
+    void subscribe_ShouldRegisterSubscriberAndAnnounceCurrentVersion() {
+        when(eventSessionRepository.existsById(sessionId)).thenReturn(true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenReturn("12");
+
+        assertNotNull(streamService.subscribe(sessionId, null));
+
+        assertEquals(1, streamService.subscriberCount(sessionId));
+        verify(redisTemplate, never()).opsForList();
+    }
+
+    @Test
+    void onSeatStatusChanged_ShouldPublishThroughScriptOnConfiguredChannel() {
+        UUID seatId = UUID.randomUUID();
+
+        streamService.onSeatStatusChanged(new SeatStatusChangedEvent(sessionId, List.of(seatId), SeatStatus.BOOKED));
+
+        verify(redisTemplate).execute(any(RedisScript.class), argThat((List<String> keys) ->
+                        keys.size() == 2 && keys.stream().allMatch(key -> key.contains("{" + sessionId + "}"))),
+                contains(seatId.toString()), eq("256"), eq("43200000"), eq("event-seating::seat-status"));
+    }
+
+    @Test
+    void onSeatStatusChanged_ShouldNotFailWhenRedisIsUnavailable() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        assertDoesNotThrow(() -> streamService.onSeatStatusChanged(
+                new SeatStatusChangedEvent(sessionId, List.of(UUID.randomUUID()), SeatStatus.BOOKED)));
+    }
+
+    @Test
+    void onMessage_ShouldIgnoreMalformedAndUnsubscribedDeltas() throws Exception {
+        assertDoesNotThrow(() -> streamService.onMessage("not json"));
+        assertDoesNotThrow(() -> streamService.onMessage(objectMapper.writeValueAsString(delta(1))));
+        assertEquals(0, streamService.subscriberCount(sessionId));
+    }
+
+    private SeatStatusDelta delta(long version) {
+        return SeatStatusDelta.builder()
+                .sessionId(sessionId)
+                .version(version)
+                .seatIds(List.of(UUID.randomUUID()))
+                .status(SeatStatus.BOOKED)
+                .build();
+    }
+}
@@ -0,0 +1,260 @@
+package com.ticketly.mseventseating.service.seating_layout;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.config.JacksonConfig;
+import com.ticketly.mseventseating.dto.session.SeatGridBlock;
+import com.ticketly.mseventseating.dto.session.SeatGridDTO;
+import dto.SessionSeatingMapDTO;
+import model.SeatStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatGridCodecTest {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final UUID vip = UUID.randomUUID();
+    private final UUID general = UUID.randomUUID();
+
+    @Test
+    void expand_ShouldLabelSeatsAndApplyOverrides() {
+        UUID blockId = UUID.randomUUID();
+        SeatGridDTO grid = SeatGridDTO.builder()
+                .rows(3).columns(4).startRowLabel("Y").startColumnLabel(1)
+                .tierRuns(List.of(List.of(run(vip, 2), run(general, 2)), List.of(run(general, 4))))
+                .overrides(List.of(
+                        SeatGridDTO.SeatOverride.builder().row(0).column(1).gap(true).build(),
+                        SeatGridDTO.SeatOverride.builder().row(1).column(0).status(SeatStatus.RESERVED).build(),
+                        SeatGridDTO.SeatOverride.builder().row(2).column(3).tierId(vip).label("AA-Aisle").build()))
+                .build();
+
+        List<SessionSeatingMapDTO.Row> rows = SeatGridCodec.expand(blockId, grid);
+
+        assertEquals(List.of("Y", "Z", "AA"), rows.stream().map(SessionSeatingMapDTO.Row::getLabel).toList());
+        assertEquals(List.of("Y1", "Y3", "Y4"), labels(rows.get(0)));
+        assertEquals(List.of(vip, general, general), rows.get(0).getSeats().stream()
+                .map(SessionSeatingMapDTO.Seat::getTierId).toList());
+        assertEquals(SeatStatus.RESERVED, rows.get(1).getSeats().get(0).getStatus());
+        assertEquals(SeatStatus.AVAILABLE, rows.get(1).getSeats().get(1).getStatus());
+        // Rows past the listed tier runs repeat the last ones
+        assertEquals(general, rows.get(2).getSeats().get(0).getTierId());
+        assertEquals("AA-Aisle", rows.get(2).getSeats().get(3).getLabel());
+        assertEquals(vip, rows.get(2).getSeats().get(3).getTierId());
+
+        assertEquals(SeatGridCodec.rowId(blockId, 1), rows.get(1).getId());
+        assertEquals(SeatGridCodec.seatId(blockId, 0, 2), rows.get(0).getSeats().get(1).getId());
+        assertArrayEquals(new int[]{0, 2}, SeatGridCodec.position(blockId, rows.get(0).getSeats().get(1).getId()));
+        assertNull(SeatGridCodec.position(blockId, rows.get(1).getId()));
+        assertNull(SeatGridCodec.position(blockId, UUID.randomUUID()));
+    }
+
+    @Test
+    void encode_ShouldRoundTripThroughExpand() {
+        SessionSeatingMapDTO.Block block = expandedBlock(40, 30);
+        SessionSeatingMapDTO.Row row = block.getRows().get(5);
+        row.getSeats().remove(7);
+        row.getSeats().get(0).setStatus(SeatStatus.BOOKED);
+        row.getSeats().get(1).setLabel("F-Box");
+        SessionSeatingMapDTO.Row renamed = block.getRows().get(6);
+        renamed.setLabel("Balcony");
+        for (int c = 0; c < renamed.getSeats().size(); c++) {
+            renamed.getSeats().get(c).setLabel("Balcony" + (c + 1));
+        }
+
+        SeatGridDTO grid = SeatGridCodec.encode(block);
+
+        assertNotNull(grid);
+        assertEquals(40, grid.getRows());
+        assertEquals(30, grid.getColumns());
+        assertEquals(4, grid.getOverrides().size());
+        assertEquals(objectMapper.valueToTree(block.getRows()),
+                objectMapper.valueToTree(SeatGridCodec.expand(block.getId(), grid)));
+    }
+
+    @Test
+    void encode_ShouldShrinkRegularGridsByOrdersOfMagnitude() throws Exception {
+        SessionSeatingMapDTO.Block block = expandedBlock(200, 150);
+        int expandedBytes = objectMapper.writeValueAsBytes(block).length;
+
+        SessionSeatingMapDTO layout = layout(block);
+        byte[] stored = objectMapper.writeValueAsBytes(SeatGridCodec.encodeLayout(layout));
+
+        assertTrue(stored.length * 100 < expandedBytes, stored.length + " bytes stored for " + expandedBytes);
+        SessionSeatingMapDTO read = objectMapper.readValue(stored, SessionSeatingMapDTO.class);
+        SeatGridCodec.expandLayout(read, new SeatGridCodec.SeatBudget(30_000, 1, 30_000));
+        assertEquals(30_000, read.getLayout().getBlocks().get(0).getRows().stream()
+                .mapToInt(r -> r.getSeats().size()).sum());
+    }
+
+    @Test
+    void encode_ShouldLeaveGridsWithUnrelatedIdsExpanded() {
+        SessionSeatingMapDTO.Block block = expandedBlock(2, 3);
+        block.getRows().get(1).getSeats().get(0).setId(UUID.randomUUID());
+
+        assertNull(SeatGridCodec.encode(block));
+        assertSame(block, SeatGridCodec.encodeLayout(layout(block)).getLayout().getBlocks().get(0));
+    }
+
+    @Test
+    void expandLayout_ShouldChargeTheBudgetBeforeExpanding() throws Exception {
+        String json = objectMapper.writeValueAsString(layout(gridBlock(250, 200)));
+        SessionSeatingMapDTO read = objectMapper.readValue(json, SessionSeatingMapDTO.class);
+        assertInstanceOf(SeatGridBlock.class, read.getLayout().getBlocks().get(0));
+        assertNull(read.getLayout().getBlocks().get(0).getRows());
+
+        SeatGridCodec.SeatBudget budget = new SeatGridCodec.SeatBudget(100_000, 2, 120_000);
+        SeatGridCodec.expandLayout(read, budget);
+
+        SessionSeatingMapDTO.Block expanded = read.getLayout().getBlocks().get(0);
+        assertFalse(expanded instanceof SeatGridBlock);
+        assertNotNull(expanded.getId());
+        assertEquals(250, expanded.getRows().size());
+        assertFalse(objectMapper.valueToTree(expanded).has("grid"));
+
+        // 50,000 seats more would take the request past 120,000; nothing is expanded
+        SessionSeatingMapDTO second = objectMapper.readValue(json, SessionSeatingMapDTO.class);
+        SeatGridCodec.expandLayout(second, budget);
+        SessionSeatingMapDTO third = objectMapper.readValue(json, SessionSeatingMapDTO.class);
+        assertThrows(IllegalArgumentException.class, () -> SeatGridCodec.expandLayout(third, budget));
+        assertNull(third.getLayout().getBlocks().get(0).getRows());
+
+        SessionSeatingMapDTO tooLarge = objectMapper.readValue(
+                objectMapper.writeValueAsString(layout(gridBlock(250, 200), gridBlock(250, 200), gridBlock(10, 10))),
+                SessionSeatingMapDTO.class);
+        assertThrows(IllegalArgumentException.class, () -> SeatGridCodec.expandLayout(tooLarge,
+                new SeatGridCodec.SeatBudget(100_000, 10, 1_000_000)));
+        SessionSeatingMapDTO tooManyBlocks = objectMapper.readValue(
+                objectMapper.writeValueAsString(layout(gridBlock(1, 1), gridBlock(1, 1), gridBlock(1, 1))),
+                SessionSeatingMapDTO.class);
+        assertThrows(IllegalArgumentException.class, () -> SeatGridCodec.expandLayout(tooManyBlocks,
+                new SeatGridCodec.SeatBudget(100_000, 2, 1_000_000)));
+    }
+
+    @Test
+    void storedLayout_ShouldKeepLayoutDataExpandedAndGridsInLayoutGrid() throws Exception {
+        SessionSeatingMapDTO.Block grid = expandedBlock(3, 4);
+        SessionSeatingMapDTO layout = layout(grid);
+        String expanded = objectMapper.writeValueAsString(layout);
+
+        StoredLayout stored = StoredLayout.of(objectMapper, layout);
+
+        assertEquals(expanded, stored.layoutData());
+        assertSame(grid, layout.getLayout().getBlocks().get(0));
+        assertTrue(objectMapper.readTree(stored.layoutGrid()).path("layout").path("blocks").get(0).path("grid").isObject());
+        assertEquals(stored.layoutGrid(), stored.compactForm());
+
+        SessionSeatingMapDTO.Block unencoded = expandedBlock(1, 2);
+        unencoded.getRows().get(0).getSeats().get(0).setId(UUID.randomUUID());
+        StoredLayout plain = StoredLayout.of(objectMapper, layout(unencoded));
+        assertNull(plain.layoutGrid());
+        assertEquals(plain.layoutData(), plain.compactForm());
+    }
+
+    @Test
+    void assignIds_ShouldKeepColumnsOfDerivedSeatsAndNumberOthersOn() {
+        SessionSeatingMapDTO.Block block = expandedBlock(1, 5);
+        List<SessionSeatingMapDTO.Seat> seats = block.getRows().get(0).getSeats();
+        seats.remove(2);
+        seats.get(3).setId(UUID.randomUUID());
+        UUID blockId = UUID.randomUUID();
+
+        SeatGridCodec.assignIds(block, blockId);
+
+        assertEquals(blockId, block.getId());
+        assertEquals(SeatGridCodec.rowId(blockId, 0), block.getRows().get(0).getId());
+        assertEquals(List.of(0, 1, 3, 4), seats.stream()
+                .map(seat -> SeatGridCodec.position(blockId, seat.getId())[1]).toList());
+    }
+
+    @Test
+    void expand_ShouldRejectMalformedGrids() {
+        UUID blockId = UUID.randomUUID();
+        SeatGridDTO tooLarge = SeatGridDTO.builder().rows(1000).columns(1000)
+                .tierRuns(List.of(List.of(run(vip, 1000)))).build();
+        SeatGridDTO shortRuns = SeatGridDTO.builder().rows(1).columns(4)
+                .tierRuns(List.of(List.of(run(vip, 3)))).build();
+        SeatGridDTO outside = SeatGridDTO.builder().rows(1).columns(4)
+                .tierRuns(List.of(List.of(run(vip, 4))))
+                .overrides(List.of(SeatGridDTO.SeatOverride.builder().row(1).column(0).gap(true).build())).build();
+
+        assertThrows(IllegalArgumentException.class, () -> SeatGridCodec.expand(blockId, tooLarge));
+        assertThrows(IllegalArgumentException.class, () -> SeatGridCodec.expand(blockId, shortRuns));
+        assertThrows(IllegalArgumentException.class, () -> SeatGridCodec.expand(blockId, outside));
+    }
+
+    @Test
+    void rowLabel_ShouldCountLettersAndNumbersOn() {
+        assertEquals("A", SeatGridCodec.rowLabel(null, 0));
+        assertEquals("AB", SeatGridCodec.rowLabel("Z", 2));
+        assertEquals("c", SeatGridCodec.rowLabel("a", 2));
+        assertEquals("12", SeatGridCodec.rowLabel("10", 2));
+        assertEquals("Row3", SeatGridCodec.rowLabel("Row", 2));
+    }
+
+    private SeatGridDTO.TierRun run(UUID tierId, int count) {
+        return SeatGridDTO.TierRun.builder().tierId(tierId).count(count).build();
+    }
+
+    private List<String> labels(SessionSeatingMapDTO.Row row) {
+        return row.getSeats().stream().map(SessionSeatingMapDTO.Seat::getLabel).toList();
+    }
+
+    /**
+     * A grid block without an ID, in the grid form a client sends.
+     */
+    private SessionSeatingMapDTO.Block gridBlock(int rowCount, int columnCount) {
+        SessionSeatingMapDTO.Block block = new SessionSeatingMapDTO.Block();
+        block.setName("Balcony");
+        block.setType(SeatGridCodec.SEATED_GRID);
+        return new SeatGridBlock(block, SeatGridDTO.builder().rows(rowCount).columns(columnCount)
+                .tierRuns(List.of(List.of(run(general, columnCount)))).build());
+    }
+
+    /**
+     * A grid with derived IDs whose rows have VIP seats in the middle third.
+     */
+    private SessionSeatingMapDTO.Block expandedBlock(int rowCount, int columnCount) {
+        UUID blockId = UUID.randomUUID();
+        List<SessionSeatingMapDTO.Row> rows = new ArrayList<>();
+        for (int r = 0; r < rowCount; r++) {
+            String rowLabel = SeatGridCodec.rowLabel("A", r);
+            List<SessionSeatingMapDTO.Seat> seats = new ArrayList<>();
+            for (int c = 0; c < columnCount; c++) {
+                SessionSeatingMapDTO.Seat seat = new SessionSeatingMapDTO.Seat();
+                seat.setId(SeatGridCodec.seatId(blockId, r, c));
+                seat.setLabel(rowLabel + (c + 1));
+                seat.setTierId(c >= columnCount / 3 && c < 2 * columnCount / 3 ? vip : general);
+                seat.setStatus(SeatStatus.AVAILABLE);
+                seats.add(seat);
+            }
+            SessionSeatingMapDTO.Row row = new SessionSeatingMapDTO.Row();
+            row.setId(SeatGridCodec.rowId(blockId, r));
+            row.setLabel(rowLabel);
+            row.setSeats(seats);
+            rows.add(row);
+        }
+        SessionSeatingMapDTO.Position position = new SessionSeatingMapDTO.Position();
+        position.setX(0.0);
+        position.setY(0.0);
+        SessionSeatingMapDTO.Block block = new SessionSeatingMapDTO.Block();
+        block.setId(blockId);
+        block.setName("Stalls");
+        block.setType(SeatGridCodec.SEATED_GRID);
+        block.setPosition(position);
+        block.setRows(rows);
+        return block;
+    }
+
+    private SessionSeatingMapDTO layout(SessionSeatingMapDTO.Block... blocks) {
+        SessionSeatingMapDTO.Layout layout = new SessionSeatingMapDTO.Layout();
+        layout.setBlocks(new ArrayList<>(List.of(blocks)));
+        SessionSeatingMapDTO map = new SessionSeatingMapDTO();
+        map.setName("Arena");
+        map.setLayout(layout);
+        return map;
+    }
+}
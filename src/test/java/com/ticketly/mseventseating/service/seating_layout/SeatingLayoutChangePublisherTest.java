@@ -0,0 +1,71 @@
+package com.ticketly.mseventseating.service.seating_layout;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatingLayoutChangePublisherTest {
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void onSeatingLayoutChanged_ShouldSendTheSeatLevelDiffKeyedBySession() throws Exception {
+        // Arrange
+        UUID sessionId = UUID.randomUUID();
+        UUID changedBlock = UUID.randomUUID();
+        UUID added = UUID.randomUUID();
+        UUID removed = UUID.randomUUID();
+        UUID changed = UUID.randomUUID();
+        SeatingLayoutDiff diff = new SeatingLayoutDiff(true, List.of(), List.of(), List.of(changedBlock),
+                List.of(added), List.of(removed), List.of(changed), Map.of());
+        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(new CompletableFuture<>());
+        SeatingLayoutChangePublisher publisher =
+                new SeatingLayoutChangePublisher(kafkaTemplate, objectMapper, new AppLimitsConfig());
+
+        // Act
+        publisher.onSeatingLayoutChanged(new SeatingLayoutChangedEvent(sessionId, diff));
+
+        // Assert
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(kafkaTemplate).send(eq("ticketly.session.layout-changed"), eq(sessionId.toString()), payload.capture());
+        JsonNode message = objectMapper.readTree(payload.getValue());
+        assertEquals(sessionId.toString(), message.get("session_id").asText());
+        assertEquals(changedBlock.toString(), message.get("changed_block_ids").get(0).asText());
+        assertEquals(added.toString(), message.get("added_seat_ids").get(0).asText());
+        assertEquals(removed.toString(), message.get("removed_seat_ids").get(0).asText());
+        assertEquals(changed.toString(), message.get("changed_seat_ids").get(0).asText());
+        assertTrue(message.get("added_block_ids").isEmpty());
+    }
+
+    @Test
+    void onSeatingLayoutChanged_WhenTheSendFails_ShouldNotThrow() {
+        // Arrange
+        when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        SeatingLayoutChangePublisher publisher =
+                new SeatingLayoutChangePublisher(kafkaTemplate, objectMapper, new AppLimitsConfig());
+
+        // Act & Assert
+        assertDoesNotThrow(() -> publisher.onSeatingLayoutChanged(
+                new SeatingLayoutChangedEvent(UUID.randomUUID(), SeatingLayoutDiff.unchanged())));
+    }
+}
@@ -0,0 +1,158 @@
+package com.ticketly.mseventseating.service.seating_layout;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.config.JacksonConfig;
+import com.ticketly.mseventseating.service.id.IdGenerator;
+import com.ticketly.mseventseating.service.id.TimeOrderedIdGenerator;
+import dto.SessionSeatingMapDTO;
+import model.SeatStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatingLayoutDifferTest {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final IdGenerator ids = TimeOrderedIdGenerator.INSTANCE;
+    private final UUID vip = UUID.randomUUID();
+    private final UUID general = UUID.randomUUID();
+
+    private String stored;
+    private String sent;
+    private UUID gridId;
+    private UUID standingId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SessionSeatingMapDTO layout = layout(gridBlock(2, 3), standingBlock(2));
+        SeatingLayoutDiffer.forNewLayout(objectMapper, ids).assignIds(layout);
+        gridId = layout.getLayout().getBlocks().get(0).getId();
+        standingId = layout.getLayout().getBlocks().get(1).getId();
+        StoredLayout storedLayout = StoredLayout.of(objectMapper, layout);
+        stored = storedLayout.compactForm();
+        sent = storedLayout.layoutData();
+    }
+
+    @Test
+    void diff_ShouldListOnlyWhatChangedAndMoveTierCounts() throws Exception {
+        SessionSeatingMapDTO incoming = objectMapper.readValue(sent, SessionSeatingMapDTO.class);
+        List<SessionSeatingMapDTO.Block> blocks = incoming.getLayout().getBlocks();
+        SessionSeatingMapDTO.Seat retiered = blocks.get(0).getRows().get(0).getSeats().get(1);
+        retiered.setTierId(general);
+        List<UUID> standingSeatIds = blocks.get(1).getSeats().stream().map(SessionSeatingMapDTO.Seat::getId).toList();
+        blocks.remove(1);
+        blocks.add(standingBlock(3));
+
+        SeatingLayoutDiffer differ = SeatingLayoutDiffer.from(objectMapper, ids, stored);
+        differ.assignIds(incoming);
+        SessionSeatingMapDTO.Block added = blocks.get(1);
+        SeatingLayoutDiff diff = differ.diff(store(incoming));
+
+        assertEquals(gridId, blocks.get(0).getId());
+        assertEquals(SeatGridCodec.seatId(gridId, 0, 1), retiered.getId());
+        assertNotEquals(standingId, added.getId());
+
+        assertTrue(diff.layoutChanged());
+        assertEquals(List.of(added.getId()), diff.addedBlockIds());
+        assertEquals(List.of(standingId), diff.removedBlockIds());
+        assertEquals(List.of(gridId), diff.changedBlockIds());
+        assertEquals(added.getSeats().stream().map(SessionSeatingMapDTO.Seat::getId).toList(), diff.addedSeatIds());
+        assertEquals(standingSeatIds, diff.removedSeatIds());
+        assertEquals(List.of(retiered.getId()), diff.changedSeatIds());
+        assertEquals(Map.of(
+                vip, new SeatingLayoutDiff.TierDelta(-1, -1),
+                general, new SeatingLayoutDiff.TierDelta(2, 2)), diff.tierDeltas());
+    }
+
+    @Test
+    void assignIds_ShouldMatchBlocksAndSeatsByPositionWithoutIds() throws Exception {
+        SessionSeatingMapDTO incoming = layout(gridBlock(2, 3), standingBlock(2));
+        SessionSeatingMapDTO previous = objectMapper.readValue(sent, SessionSeatingMapDTO.class);
+
+        SeatingLayoutDiffer differ = SeatingLayoutDiffer.from(objectMapper, ids, stored);
+        differ.assignIds(incoming);
+
+        assertEquals(gridId, incoming.getLayout().getBlocks().get(0).getId());
+        assertEquals(previous.getLayout().getBlocks().get(1).getSeats().stream().map(SessionSeatingMapDTO.Seat::getId).toList(),
+                incoming.getLayout().getBlocks().get(1).getSeats().stream().map(SessionSeatingMapDTO.Seat::getId).toList());
+        assertFalse(differ.diff(store(incoming)).layoutChanged());
+    }
+
+    @Test
+    void assignIds_ShouldPreferIdsSentBackOverPosition() throws Exception {
+        SessionSeatingMapDTO incoming = objectMapper.readValue(sent, SessionSeatingMapDTO.class);
+        SessionSeatingMapDTO.Block inserted = standingBlock(1);
+        inserted.setId(UUID.randomUUID());
+        incoming.getLayout().getBlocks().add(1, inserted);
+
+        SeatingLayoutDiffer differ = SeatingLayoutDiffer.from(objectMapper, ids, stored);
+        differ.assignIds(incoming);
+        SeatingLayoutDiff diff = differ.diff(store(incoming));
+
+        assertEquals(standingId, incoming.getLayout().getBlocks().get(2).getId());
+        assertNotEquals(standingId, inserted.getId());
+        assertEquals(List.of(inserted.getId()), diff.addedBlockIds());
+        assertTrue(diff.changedBlockIds().isEmpty());
+        assertTrue(diff.removedSeatIds().isEmpty());
+        assertEquals(Map.of(general, new SeatingLayoutDiff.TierDelta(1, 1)), diff.tierDeltas());
+    }
+
+    private String store(SessionSeatingMapDTO layout) throws Exception {
+        return StoredLayout.of(objectMapper, layout).compactForm();
+    }
+
+    private SessionSeatingMapDTO.Block gridBlock(int rowCount, int columnCount) {
+        List<SessionSeatingMapDTO.Row> rows = new ArrayList<>();
+        for (int r = 0; r < rowCount; r++) {
+            String rowLabel = SeatGridCodec.rowLabel("A", r);
+            List<SessionSeatingMapDTO.Seat> seats = new ArrayList<>();
+            for (int c = 0; c < columnCount; c++) {
+                seats.add(seat(rowLabel + (c + 1), vip));
+            }
+            SessionSeatingMapDTO.Row row = new SessionSeatingMapDTO.Row();
+            row.setLabel(rowLabel);
+            row.setSeats(seats);
+            rows.add(row);
+        }
+        SessionSeatingMapDTO.Block block = new SessionSeatingMapDTO.Block();
+        block.setName("Stalls");
+        block.setType(SeatGridCodec.SEATED_GRID);
+        block.setRows(rows);
+        return block;
+    }
+
+    private SessionSeatingMapDTO.Block standingBlock(int slots) {
+        List<SessionSeatingMapDTO.Seat> seats = new ArrayList<>();
+        for (int i = 0; i < slots; i++) {
+            seats.add(seat("Slot " + (i + 1), general));
+        }
+        SessionSeatingMapDTO.Block block = new SessionSeatingMapDTO.Block();
+        block.setName("Floor");
+        block.setType("standing_capacity");
+        block.setSeats(seats);
+        return block;
+    }
+
+    private SessionSeatingMapDTO.Seat seat(String label, UUID tierId) {
+        SessionSeatingMapDTO.Seat seat = new SessionSeatingMapDTO.Seat();
+        seat.setLabel(label);
+        seat.setTierId(tierId);
+        seat.setStatus(SeatStatus.AVAILABLE);
+        return seat;
+    }
+
+    private SessionSeatingMapDTO layout(SessionSeatingMapDTO.Block... blocks) {
+        SessionSeatingMapDTO.Layout layout = new SessionSeatingMapDTO.Layout();
+        layout.setBlocks(new ArrayList<>(List.of(blocks)));
+        SessionSeatingMapDTO map = new SessionSeatingMapDTO();
+        map.setName("Arena");
+        map.setLayout(layout);
+        return map;
+    }
+}
@@ -11,6 +11,8 @@ import com.ticketly.mseventseating.model.Organization;
 import com.ticketly.mseventseating.model.SeatingLayoutTemplate;
 import com.ticketly.mseventseating.model.SubscriptionLimitType;
 import com.ticketly.mseventseating.repository.SeatingLayoutTemplateRepository;
+import com.ticketly.mseventseating.service.id.IdGenerator;
+import com.ticketly.mseventseating.service.id.TimeOrderedIdGenerator;
 import com.ticketly.mseventseating.service.limts.LimitService;
 import com.ticketly.mseventseating.service.organization.OrganizationOwnershipService;
 import com.ticketly.mseventseating.service.organization.OrganizationService;
@@ -62,6 +64,9 @@ class SeatingLayoutTemplateServiceTest {
     @Spy
     private ObjectMapper objectMapper = new ObjectMapper();
 
+    @Spy
+    private IdGenerator idGenerator = TimeOrderedIdGenerator.INSTANCE;
+
     @InjectMocks
     private SeatingLayoutTemplateService seatingLayoutTemplateService;
 
@@ -1,17 +1,25 @@
 package com.ticketly.mseventseating.service.session;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketly.mseventseating.config.AppLimitsConfig;
 import com.ticketly.mseventseating.dto.event.SessionRequest;
 import com.ticketly.mseventseating.dto.session.CreateSessionsRequest;
 import com.ticketly.mseventseating.dto.session.SessionBatchResponse;
+import com.ticketly.mseventseating.dto.session.SessionResponse;
+import com.ticketly.mseventseating.dto.session.SessionSummaryDTO;
+import com.ticketly.mseventseating.exception.BadRequestException;
 import com.ticketly.mseventseating.model.Event;
 import com.ticketly.mseventseating.model.EventSession;
 import com.ticketly.mseventseating.model.Organization;
 import com.ticketly.mseventseating.model.SessionSeatingMap;
 import com.ticketly.mseventseating.repository.EventRepository;
 import com.ticketly.mseventseating.repository.EventSessionRepository;
+import com.ticketly.mseventseating.repository.SessionSeatingMapRepository;
 import com.ticketly.mseventseating.service.event.EventOwnershipService;
+import com.ticketly.mseventseating.service.id.IdGenerator;
+import com.ticketly.mseventseating.service.id.TimeOrderedIdGenerator;
 import com.ticketly.mseventseating.service.limts.LimitService;
+import com.ticketly.mseventseating.service.seat.SeatAvailabilityService;
 import dto.SessionSeatingMapDTO;
 import model.SessionStatus;
 import model.SessionType;
@@ -20,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.oauth2.jwt.Jwt;
 
@@ -51,6 +60,21 @@ public class SessionManagementServiceTest {
     @Mock
     private EventOwnershipService eventOwnershipService;
 
+    @Mock
+    private SessionStatusCounterService sessionStatusCounterService;
+
+    @Mock
+    private SeatAvailabilityService seatAvailabilityService;
+
+    @Mock
+    private SessionSeatingMapRepository seatingMapRepository;
+
+    @Spy
+    private IdGenerator idGenerator = TimeOrderedIdGenerator.INSTANCE;
+
+    @Spy
+    private AppLimitsConfig appLimitsConfig = new AppLimitsConfig();
+
     @InjectMocks
     private SessionManagementService sessionManagementService;
 
@@ -163,4 +187,87 @@ public class SessionManagementServiceTest {
         verify(sessionRepository).findById(sessionId);
         verify(sessionOwnershipService).isOwner(eq(sessionId), eq(userId));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getSessionSummariesByEvent_ShouldNotLoadSessionEntities() {
+        // Arrange
+        when(eventRepository.existsById(eventId)).thenReturn(true);
+        when(eventOwnershipService.isOwner(eventId, userId)).thenReturn(true);
+        when(sessionRepository.findSummariesByEventId(eventId)).thenReturn(List.of(summary()));
+
+        // Act
+        List<SessionResponse> responses = sessionManagementService.getSessionSummariesByEvent(eventId, userId);
+
+        // Assert
+        assertEquals(1, responses.size());
+        assertEquals(sessionId, responses.get(0).getId());
+        assertEquals(SessionStatus.SCHEDULED, responses.get(0).getStatus());
+        assertNull(responses.get(0).getLayoutData());
+        verify(sessionRepository, never()).findAllByEventId(any());
+    }
+
+    @Test
+    void getSessionFieldsByEvent_ShouldReturnOnlySelectedFields() {
+        // Arrange
+        when(eventRepository.existsById(eventId)).thenReturn(true);
+        when(eventOwnershipService.isOwner(eventId, userId)).thenReturn(true);
+        when(sessionRepository.findSummariesByEventId(eventId)).thenReturn(List.of(summary()));
+
+        // Act
+        List<Map<String, Object>> responses = sessionManagementService.getSessionFieldsByEvent(eventId, userId,
+                "status, startTime");
+
+        // Assert
+        assertEquals(List.of("id", "startTime", "status"), new ArrayList<>(responses.get(0).keySet()));
+        assertEquals(SessionStatus.SCHEDULED, responses.get(0).get("status"));
+        verify(sessionRepository, never()).findAllByEventId(any());
+    }
+
+    @Test
+    void getSessionFieldsByEvent_ShouldLoadLayoutsOnlyWhenSelected() {
+        // Arrange
+        when(eventRepository.existsById(eventId)).thenReturn(true);
+        when(eventOwnershipService.isOwner(eventId, userId)).thenReturn(true);
+        when(sessionRepository.findAllByEventId(eventId)).thenReturn(List.of(mockSession));
+
+        // Act
+        List<Map<String, Object>> responses = sessionManagementService.getSessionFieldsByEvent(eventId, userId,
+                "layoutData");
+
+        // Assert
+        assertEquals(Set.of("id", "layoutData"), responses.get(0).keySet());
+        verify(sessionRepository, never()).findSummariesByEventId(any());
+    }
+
+    @Test
+    void getSessionFieldsByEvent_ShouldRejectUnknownFields() {
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> sessionManagementService.getSessionFieldsByEvent(eventId, userId, "status,seats"));
+
+        assertTrue(exception.getMessage().contains("'seats'"));
+        verifyNoInteractions(sessionRepository, eventRepository);
+    }
+
+    @Test
+    void getSessionLayout_ShouldParseStoredLayout() throws Exception {
+        // Arrange
+        SessionSeatingMapDTO layout = new SessionSeatingMapDTO();
+        when(sessionOwnershipService.isOwner(sessionId, userId)).thenReturn(true);
+        when(seatingMapRepository.findLayoutDataBySessionId(sessionId)).thenReturn(Optional.of("{}"));
+        when(objectMapper.readValue("{}", SessionSeatingMapDTO.class)).thenReturn(layout);
+
+        // Act & Assert
+        assertSame(layout, sessionManagementService.getSessionLayout(sessionId, userId));
+    }
+
+    private SessionSummaryDTO summary() {
+        return SessionSummaryDTO.builder()
+                .id(sessionId)
+                .eventId(eventId)
+                .startTime(mockSession.getStartTime())
+                .endTime(mockSession.getEndTime())
+                .sessionType(SessionType.PHYSICAL)
+                .status(SessionStatus.SCHEDULED)
+                .build();
+    }
+}
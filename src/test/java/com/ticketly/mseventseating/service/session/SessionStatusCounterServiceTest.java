@@ -0,0 +1,117 @@
+package com.ticketly.mseventseating.service.session;
+
+import com.ticketly.mseventseating.dto.session.SessionStatusCountDTO;
+import com.ticketly.mseventseating.dto.session.SessionStatusCounterDrift;
+import com.ticketly.mseventseating.model.Event;
+import com.ticketly.mseventseating.model.EventSession;
+import com.ticketly.mseventseating.model.Organization;
+import com.ticketly.mseventseating.repository.SessionStatusCounterRepository;
+import model.SessionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SessionStatusCounterServiceTest {
+
+    @Mock
+    private SessionStatusCounterRepository counterRepository;
+
+    @InjectMocks
+    private SessionStatusCounterService sessionStatusCounterService;
+
+    private UUID organizationId;
+    private UUID eventId;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        organizationId = UUID.randomUUID();
+        eventId = UUID.randomUUID();
+        Organization organization = new Organization();
+        organization.setId(organizationId);
+        event = new Event();
+        event.setId(eventId);
+        event.setOrganization(organization);
+    }
+
+    @Test
+    void recordCreated_ShouldAddOneUpsertPerStatus() {
+        List<EventSession> sessions = List.of(
+                session(SessionStatus.SCHEDULED), session(SessionStatus.SCHEDULED), session(SessionStatus.ON_SALE));
+
+        sessionStatusCounterService.recordCreated(event, sessions);
+
+        verify(counterRepository).addToCounter(organizationId, eventId, "SCHEDULED", 2L);
+        verify(counterRepository).addToCounter(organizationId, eventId, "ON_SALE", 1L);
+        verifyNoMoreInteractions(counterRepository);
+    }
+
+    @Test
+    void recordTransition_ShouldMoveOneSessionBetweenStatuses() {
+        EventSession session = session(SessionStatus.ON_SALE);
+
+        sessionStatusCounterService.recordTransition(session, SessionStatus.SCHEDULED);
+
+        verify(counterRepository).addToCounter(organizationId, eventId, "SCHEDULED", -1L);
+        verify(counterRepository).addToCounter(organizationId, eventId, "ON_SALE", 1L);
+    }
+
+    @Test
+    void recordTransition_ShouldIgnoreUnchangedStatus() {
+        sessionStatusCounterService.recordTransition(session(SessionStatus.ON_SALE), SessionStatus.ON_SALE);
+
+        verifyNoInteractions(counterRepository);
+    }
+
+    @Test
+    void recordDeleted_ShouldDecrementCurrentStatus() {
+        sessionStatusCounterService.recordDeleted(session(SessionStatus.SCHEDULED));
+
+        verify(counterRepository).addToCounter(organizationId, eventId, "SCHEDULED", -1L);
+    }
+
+    @Test
+    void getStatusCountsForOrganization_ShouldMapAggregatedRows() {
+        when(counterRepository.sumByStatusForOrganization(organizationId)).thenReturn(List.of(
+                new Object[]{SessionStatus.ON_SALE, 4L},
+                new Object[]{SessionStatus.CLOSED, 2L}));
+
+        List<SessionStatusCountDTO> counts = sessionStatusCounterService.getStatusCountsForOrganization(organizationId);
+
+        assertEquals(List.of(
+                new SessionStatusCountDTO(SessionStatus.ON_SALE, 4L),
+                new SessionStatusCountDTO(SessionStatus.CLOSED, 2L)), counts);
+    }
+
+    @Test
+    void reconcile_ShouldResetEachDriftedCounter() {
+        SessionStatusCounterDrift drift = mock(SessionStatusCounterDrift.class);
+        when(drift.getOrganizationId()).thenReturn(organizationId);
+        when(drift.getEventId()).thenReturn(eventId);
+        when(drift.getStatus()).thenReturn("ON_SALE");
+        when(counterRepository.findDrift()).thenReturn(List.of(drift));
+
+        int repaired = sessionStatusCounterService.reconcile();
+
+        assertEquals(1, repaired);
+        verify(counterRepository).resetCounter(organizationId, eventId, "ON_SALE");
+    }
+
+    private EventSession session(SessionStatus status) {
+        EventSession session = new EventSession();
+        session.setId(UUID.randomUUID());
+        session.setStatus(status);
+        session.setEvent(event);
+        return session;
+    }
+}
@@ -0,0 +1,110 @@
+package com.ticketly.mseventseating.service.singleflight;
+
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisSingleFlightTest {
+
+    private static final String RESULT_KEY = "event-seating::single-flight::k";
+    private static final String LOCK_KEY = RESULT_KEY + "::lock";
+
+    @Mock
+    private RedisTemplate<String, byte[]> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, byte[]> valueOperations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AppLimitsConfig appLimitsConfig = new AppLimitsConfig();
+    private final AtomicInteger computations = new AtomicInteger();
+    private RedisSingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        appLimitsConfig.getSingleFlight().setPollInterval(Duration.ofMillis(1));
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        singleFlight = new RedisSingleFlight(redisTemplate, appLimitsConfig, meterRegistry);
+    }
+
+    @Test
+    void execute_ShouldServeTheResultSharedByAnotherInstance() {
+        when(valueOperations.get(RESULT_KEY)).thenReturn(bytes("shared"));
+
+        assertThat(singleFlight.execute("test", "k", compute("local"))).isEqualTo(bytes("shared"));
+        assertThat(computations.get()).isZero();
+        assertThat(count("remote")).isEqualTo(1);
+    }
+
+    @Test
+    void execute_ShouldComputeShareAndReleaseWhenItTakesTheLock() {
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), any(), eq(Duration.ofSeconds(5)))).thenReturn(true);
+
+        assertThat(singleFlight.execute("test", "k", compute("local"))).isEqualTo(bytes("local"));
+
+        verify(valueOperations).set(RESULT_KEY, bytes("local"), Duration.ofSeconds(10));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), any(Object[].class));
+        assertThat(count("led")).isEqualTo(1);
+    }
+
+    @Test
+    void execute_ShouldWaitForTheLockHolderAndComputeIfItSharesNothing() {
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), any(), any())).thenReturn(false);
+        byte[] held = bytes("token");
+        when(valueOperations.multiGet(List.of(RESULT_KEY, LOCK_KEY)))
+                .thenReturn(Arrays.<byte[]>asList(null, held))
+                .thenReturn(Arrays.<byte[]>asList(bytes("shared"), held));
+
+        assertThat(singleFlight.execute("test", "k", compute("local"))).isEqualTo(bytes("shared"));
+        assertThat(computations.get()).isZero();
+
+        // The holder released the lock without a result, e.g. because it was too large to share
+        when(valueOperations.multiGet(List.of(RESULT_KEY, LOCK_KEY))).thenReturn(Arrays.<byte[]>asList(null, null));
+        assertThat(singleFlight.execute("test", "k", compute("local"))).isEqualTo(bytes("local"));
+        assertThat(count("fallback")).isEqualTo(1);
+    }
+
+    @Test
+    void execute_ShouldComputeLocallyWhenRedisIsDown() {
+        when(valueOperations.get(RESULT_KEY)).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(singleFlight.execute("test", "k", compute("local"))).isEqualTo(bytes("local"));
+        assertThat(computations.get()).isEqualTo(1);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    private Supplier<byte[]> compute(String value) {
+        return () -> {
+            computations.incrementAndGet();
+            return bytes(value);
+        };
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("singleflight.calls").tag("outcome", outcome).counter().count();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ticketly.mseventseating.service.singleflight;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> flight = new SingleFlight<>("test", meterRegistry);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger computations = new AtomicInteger();
+
+    @Test
+    void execute_ShouldComputeOnceForConcurrentCallers() throws Exception {
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> flight.execute("k", blocking(() -> "v")));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> flight.execute("k", () -> "other"));
+        awaitJoined();
+        assertThat(flight.isInFlight("k")).isTrue();
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("v");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("v");
+        assertThat(computations.get()).isEqualTo(1);
+        assertThat(flight.isInFlight("k")).isFalse();
+        // Nothing is kept once the computation is done
+        assertThat(flight.execute("k", () -> "next")).isEqualTo("next");
+    }
+
+    @Test
+    void execute_ShouldGiveJoinedCallersTheSameException() throws Exception {
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> flight.execute("k", blocking(() -> {
+            throw new IllegalArgumentException("bad");
+        })));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Throwable> second = CompletableFuture.supplyAsync(() -> {
+            try {
+                flight.execute("k", () -> "other");
+                return null;
+            } catch (RuntimeException e) {
+                return e;
+            }
+        });
+        awaitJoined();
+        release.countDown();
+
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isInstanceOf(IllegalArgumentException.class).hasMessage("bad");
+    }
+
+    private Supplier<String> blocking(Supplier<String> result) {
+        return () -> {
+            computations.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return result.get();
+        };
+    }
+
+    private void awaitJoined() throws InterruptedException {
+        while (meterRegistry.get("singleflight.calls").tag("outcome", "joined").counter().count() < 1) {
+            Thread.sleep(5);
+        }
+    }
+}
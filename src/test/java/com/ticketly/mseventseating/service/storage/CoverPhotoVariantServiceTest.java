@@ -0,0 +1,298 @@
+package com.ticketly.mseventseating.service.storage;
+
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.model.EventCoverPhoto;
+import com.ticketly.mseventseating.repository.EventCoverPhotoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CoverPhotoVariantServiceTest {
+
+    @Mock
+    private S3StorageService s3StorageService;
+
+    @Mock
+    private EventCoverPhotoRepository coverPhotoRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService executor;
+    private AppLimitsConfig appLimitsConfig;
+    private CoverPhotoVariantService coverPhotoVariantService;
+
+    @BeforeEach
+    void setUp() {
+        appLimitsConfig = new AppLimitsConfig();
+        appLimitsConfig.setEvent(new AppLimitsConfig.EventConfig());
+        executor = Executors.newFixedThreadPool(2);
+        coverPhotoVariantService = new CoverPhotoVariantService(
+                s3StorageService, appLimitsConfig, executor, coverPhotoRepository, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void generateVariants_ShouldUploadThreeRenditionsPerPhoto() throws IOException {
+        // Arrange
+        byte[] png = pngOfSize(2000, 1000);
+
+        // Act
+        Map<String, CoverPhotoVariantService.CoverPhotoVariants> result =
+                coverPhotoVariantService.generateVariants(Map.of("event-cover-photos/abc.png", png));
+
+        // Assert
+        CoverPhotoVariantService.CoverPhotoVariants variants = result.get("event-cover-photos/abc.png");
+        assertNotNull(variants);
+        assertEquals("event-cover-photos/abc_thumbnail.jpg", variants.thumbnailKey());
+        assertEquals("event-cover-photos/abc_card.jpg", variants.cardKey());
+        assertEquals("event-cover-photos/abc_hero.jpg", variants.heroKey());
+        verify(s3StorageService, times(3)).uploadBytes(any(byte[].class), anyString(), eq("image/jpeg"));
+    }
+
+    @Test
+    void generateVariants_ShouldSkipUndecodableContent() {
+        // Act
+        Map<String, CoverPhotoVariantService.CoverPhotoVariants> result =
+                coverPhotoVariantService.generateVariants(Map.of("event-cover-photos/abc.jpg", "not-an-image".getBytes()));
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(s3StorageService);
+    }
+
+    @Test
+    void generateVariants_ShouldDoNothingWhenDisabled() throws IOException {
+        // Arrange
+        appLimitsConfig.getEvent().getCoverVariants().setEnabled(false);
+
+        // Act
+        Map<String, CoverPhotoVariantService.CoverPhotoVariants> result =
+                coverPhotoVariantService.generateVariants(Map.of("event-cover-photos/abc.png", pngOfSize(100, 100)));
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(s3StorageService);
+    }
+
+    @Test
+    void generateVariants_WhenAnUploadFails_ShouldDeleteTheVariantsAlreadyWritten() throws IOException {
+        // Arrange
+        doThrow(new RuntimeException("S3 unavailable"))
+                .when(s3StorageService).uploadBytes(any(byte[].class), eq("event-cover-photos/abc_card.jpg"), anyString());
+
+        // Act
+        Map<String, CoverPhotoVariantService.CoverPhotoVariants> result =
+                coverPhotoVariantService.generateVariants(Map.of("event-cover-photos/abc.png", pngOfSize(2000, 1000)));
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(s3StorageService).deleteFile("event-cover-photos/abc_hero.jpg");
+        verify(s3StorageService).deleteFile("event-cover-photos/abc_card.jpg");
+        verify(s3StorageService, never()).deleteFile("event-cover-photos/abc_thumbnail.jpg");
+    }
+
+    @Test
+    void generateVariants_WhenTimedOut_ShouldDeleteTheVariantsWrittenAfterGivingUp() throws IOException {
+        // Arrange: the hero upload ignores the interrupt and only finishes once the caller has given up
+        appLimitsConfig.getEvent().getCoverVariants().setTimeoutSeconds(1);
+        CountDownLatch gaveUp = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            awaitUninterruptibly(gaveUp);
+            return null;
+        }).when(s3StorageService).uploadBytes(any(byte[].class), eq("event-cover-photos/abc_hero.jpg"), anyString());
+
+        // Act
+        Map<String, CoverPhotoVariantService.CoverPhotoVariants> result =
+                coverPhotoVariantService.generateVariants(Map.of("event-cover-photos/abc.png", pngOfSize(2000, 1000)));
+        gaveUp.countDown();
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(s3StorageService, timeout(5000)).deleteFile("event-cover-photos/abc_hero.jpg");
+        verify(s3StorageService, times(1)).uploadBytes(any(byte[].class), anyString(), anyString());
+    }
+
+    @Test
+    void generateVariantsAfterCommit_ShouldUploadOnlyOnceTheTransactionCommits() throws IOException {
+        // Arrange
+        UUID photoId = UUID.randomUUID();
+        EventCoverPhoto photo = EventCoverPhoto.builder().id(photoId).photoUrl("event-cover-photos/abc.png").build();
+        when(coverPhotoRepository.updateVariants(photoId, "event-cover-photos/abc_thumbnail.jpg",
+                "event-cover-photos/abc_card.jpg", "event-cover-photos/abc_hero.jpg")).thenReturn(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            coverPhotoVariantService.generateVariantsAfterCommit(
+                    List.of(photo), Map.of("event-cover-photos/abc.png", pngOfSize(2000, 1000)));
+
+            // Assert
+            verifyNoInteractions(s3StorageService, coverPhotoRepository);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(coverPhotoRepository, timeout(5000)).updateVariants(photoId, "event-cover-photos/abc_thumbnail.jpg",
+                "event-cover-photos/abc_card.jpg", "event-cover-photos/abc_hero.jpg");
+        verify(s3StorageService, times(3)).uploadBytes(any(byte[].class), anyString(), eq("image/jpeg"));
+        verify(s3StorageService, never()).deleteFile(anyString());
+    }
+
+    @Test
+    void generateVariantsAfterCommit_ShouldReturnWithoutWaitingForTheUploads() throws IOException {
+        // Arrange: uploads block until the caller has returned
+        UUID photoId = UUID.randomUUID();
+        EventCoverPhoto photo = EventCoverPhoto.builder().id(photoId).photoUrl("event-cover-photos/abc.png").build();
+        when(coverPhotoRepository.updateVariants(any(), anyString(), anyString(), anyString())).thenReturn(1);
+        CountDownLatch returned = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            awaitUninterruptibly(returned);
+            return null;
+        }).when(s3StorageService).uploadBytes(any(byte[].class), anyString(), anyString());
+
+        // Act
+        coverPhotoVariantService.generateVariantsAfterCommit(
+                List.of(photo), Map.of("event-cover-photos/abc.png", pngOfSize(2000, 1000)));
+        returned.countDown();
+
+        // Assert
+        verify(coverPhotoRepository, timeout(5000)).updateVariants(photoId, "event-cover-photos/abc_thumbnail.jpg",
+                "event-cover-photos/abc_card.jpg", "event-cover-photos/abc_hero.jpg");
+    }
+
+    @Test
+    void generateVariantsAfterCommit_WhenTimedOut_ShouldDeleteTheVariantsAndRecordNothing() throws IOException {
+        // Arrange: the hero upload ignores the interrupt and only finishes once the job was given up on
+        appLimitsConfig.getEvent().getCoverVariants().setTimeoutSeconds(1);
+        EventCoverPhoto photo = EventCoverPhoto.builder().id(UUID.randomUUID()).photoUrl("event-cover-photos/abc.png").build();
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CountDownLatch gaveUp = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            try {
+                gaveUp.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                awaitUninterruptibly(gaveUp);
+            }
+            return null;
+        }).when(s3StorageService).uploadBytes(any(byte[].class), eq("event-cover-photos/abc_hero.jpg"), anyString());
+
+        // Act
+        coverPhotoVariantService.generateVariantsAfterCommit(
+                List.of(photo), Map.of("event-cover-photos/abc.png", pngOfSize(2000, 1000)));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        gaveUp.countDown();
+
+        // Assert
+        verify(s3StorageService, timeout(5000)).deleteFile("event-cover-photos/abc_hero.jpg");
+        verifyNoInteractions(coverPhotoRepository);
+    }
+
+    @Test
+    void generateVariantsAfterCommit_WhenThePhotoWasRemoved_ShouldDeleteItsVariants() throws IOException {
+        // Arrange
+        EventCoverPhoto photo = EventCoverPhoto.builder().id(UUID.randomUUID()).photoUrl("event-cover-photos/abc.png").build();
+        when(coverPhotoRepository.updateVariants(any(), anyString(), anyString(), anyString())).thenReturn(0);
+
+        // Act
+        coverPhotoVariantService.generateVariantsAfterCommit(
+                List.of(photo), Map.of("event-cover-photos/abc.png", pngOfSize(2000, 1000)));
+
+        // Assert
+        verify(s3StorageService, timeout(5000)).deleteFile("event-cover-photos/abc_thumbnail.jpg");
+        verify(s3StorageService, timeout(5000)).deleteFile("event-cover-photos/abc_card.jpg");
+        verify(s3StorageService, timeout(5000)).deleteFile("event-cover-photos/abc_hero.jpg");
+    }
+
+    @Test
+    void resizeToWidth_ShouldPreserveAspectRatioAndNeverUpscale() {
+        BufferedImage source = new BufferedImage(1000, 500, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage smaller = CoverPhotoVariantService.resizeToWidth(source, 320);
+        assertEquals(320, smaller.getWidth());
+        assertEquals(160, smaller.getHeight());
+
+        BufferedImage unchanged = CoverPhotoVariantService.resizeToWidth(source, 1600);
+        assertEquals(1000, unchanged.getWidth());
+        assertEquals(500, unchanged.getHeight());
+    }
+
+    @Test
+    void encodeJpeg_ShouldProduceDecodableImage() throws IOException {
+        BufferedImage image = CoverPhotoVariantService.resizeToWidth(new BufferedImage(64, 32, BufferedImage.TYPE_INT_RGB), 64);
+
+        byte[] jpeg = CoverPhotoVariantService.encodeJpeg(image, 0.8f);
+
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(jpeg));
+        assertNotNull(decoded);
+        assertEquals(64, decoded.getWidth());
+    }
+
+    @Test
+    void deleteVariants_ShouldDeleteOnlyPresentKeys() {
+        EventCoverPhoto photo = EventCoverPhoto.builder()
+                .photoUrl("event-cover-photos/abc.png")
+                .thumbnailUrl("event-cover-photos/abc_thumbnail.jpg")
+                .cardUrl("event-cover-photos/abc_card.jpg")
+                .build();
+
+        coverPhotoVariantService.deleteVariants(photo);
+
+        verify(s3StorageService).deleteFile("event-cover-photos/abc_thumbnail.jpg");
+        verify(s3StorageService).deleteFile("event-cover-photos/abc_card.jpg");
+        verifyNoMoreInteractions(s3StorageService);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private byte[] pngOfSize(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+}
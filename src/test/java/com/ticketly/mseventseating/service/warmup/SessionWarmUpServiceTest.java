@@ -0,0 +1,143 @@
+package com.ticketly.mseventseating.service.warmup;
+
+import com.ticketly.mseventseating.config.AppLimitsConfig;
+import com.ticketly.mseventseating.dto.session.SessionScheduleDTO;
+import com.ticketly.mseventseating.exception.BadRequestException;
+import com.ticketly.mseventseating.repository.EventSessionRepository;
+import com.ticketly.mseventseating.repository.SessionSeatingMapRepository;
+import com.ticketly.mseventseating.service.event.SessionsOnSaleEvent;
+import com.ticketly.mseventseating.service.projection.ProjectionResponseCache;
+import com.ticketly.mseventseating.service.projection.SeatingMapProjectionService;
+import com.ticketly.mseventseating.service.projection.SeatingMapViewportService;
+import com.ticketly.mseventseating.service.projection.SessionProjectionService;
+import com.ticketly.mseventseating.service.seat.BestAvailableSeatService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import model.EventStatus;
+import model.SessionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SessionWarmUpServiceTest {
+
+    @Mock
+    private EventSessionRepository eventSessionRepository;
+
+    @Mock
+    private SessionSeatingMapRepository seatingMapRepository;
+
+    @Mock
+    private SessionProjectionService sessionProjectionService;
+
+    @Mock
+    private SeatingMapProjectionService seatingMapProjectionService;
+
+    @Mock
+    private ProjectionResponseCache projectionResponseCache;
+
+    @Mock
+    private SeatingMapViewportService viewportService;
+
+    @Mock
+    private BestAvailableSeatService bestAvailableSeatService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-03-01T18:00:00Z"), ZoneOffset.UTC);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AppLimitsConfig.WarmUpConfig config = new AppLimitsConfig.WarmUpConfig();
+    private final UUID sessionId = UUID.randomUUID();
+    private SessionWarmUpService warmUpService;
+
+    @BeforeEach
+    void setUp() {
+        // Warm-ups run on the calling thread
+        warmUpService = new SessionWarmUpService(eventSessionRepository, seatingMapRepository, sessionProjectionService,
+                seatingMapProjectionService, projectionResponseCache, viewportService, bestAvailableSeatService,
+                redisTemplate, meterRegistry, config, Runnable::run, clock);
+    }
+
+    @Test
+    void warm_OnSale_ShouldCacheEveryProjectionBuildBothIndexesAndRecordTheWarmUp() {
+        UUID seatingMapId = UUID.randomUUID();
+        when(projectionResponseCache.warm(any(), any(), any())).thenReturn(100L);
+        when(seatingMapRepository.findIdBySessionId(sessionId)).thenReturn(Optional.of(seatingMapId));
+        when(viewportService.warm(sessionId)).thenReturn(12);
+        when(bestAvailableSeatService.warm(sessionId)).thenReturn(20_000);
+
+        SessionWarmUpService.WarmUpReport report = warmUpService.warm(sessionId, SessionWarmUpService.Stage.ON_SALE);
+
+        assertThat(report.projectionBytes()).isEqualTo(400);
+        assertThat(report.indexedBlocks()).isEqualTo(12);
+        assertThat(report.indexedSeats()).isEqualTo(20_000);
+        verify(projectionResponseCache).warm(eq(ProjectionResponseCache.Resource.SESSION_PROJECTION_COMPACT),
+                eq(sessionId), any());
+        verify(projectionResponseCache).warm(eq(ProjectionResponseCache.Resource.SEATING_MAP_PROJECTION),
+                eq(seatingMapId), any());
+        assertThat(meterRegistry.get("session.warmup.duration").tag("stage", "on_sale").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("session.warmup.projection.size").tag("stage", "on_sale").summary().totalAmount())
+                .isEqualTo(400);
+    }
+
+    @Test
+    void warm_Lead_ShouldSkipTheBestAvailableIndexAndCarryOnPastFailures() {
+        when(projectionResponseCache.warm(any(), any(), any())).thenReturn(100L);
+        when(seatingMapRepository.findIdBySessionId(sessionId)).thenThrow(new QueryTimeoutException("timeout"));
+        when(viewportService.warm(sessionId)).thenReturn(3);
+
+        SessionWarmUpService.WarmUpReport report = warmUpService.warm(sessionId, SessionWarmUpService.Stage.LEAD);
+
+        assertThat(report.projectionBytes()).isEqualTo(200);
+        assertThat(report.indexedBlocks()).isEqualTo(3);
+        verifyNoInteractions(bestAvailableSeatService);
+        assertThat(meterRegistry.get("session.warmup.duration").tag("stage", "lead").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void warmUpcoming_ShouldWarmSessionsWhoseSalesStartWithinTheLeadTimeOnce() {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        OffsetDateTime until = now.plus(config.getLeadTime());
+        when(eventSessionRepository.findSchedulesBySalesStartBetween(SessionStatus.SCHEDULED, EventStatus.APPROVED,
+                now, until, now)).thenReturn(List.of(new SessionScheduleDTO(sessionId, SessionStatus.SCHEDULED,
+                now.plusDays(3), now.plusMinutes(1), now.plusDays(3).plusHours(2), EventStatus.APPROVED)));
+
+        warmUpService.warmUpcoming();
+        // Nothing new is within the lead time until the clock moves on
+        warmUpService.warmUpcoming();
+
+        verify(eventSessionRepository, times(1)).findSchedulesBySalesStartBetween(any(), any(), any(), any(), any());
+        verify(viewportService).warm(sessionId);
+        verifyNoInteractions(bestAvailableSeatService);
+    }
+
+    @Test
+    void onSessionsOnSale_ShouldAskEveryInstanceToWarmThem() {
+        UUID other = UUID.randomUUID();
+        when(bestAvailableSeatService.warm(any())).thenThrow(new BadRequestException("Session is not on sale"));
+
+        warmUpService.onSessionsOnSale(new SessionsOnSaleEvent(List.of(sessionId, other)));
+        verify(redisTemplate).convertAndSend(config.getChannel(), sessionId + "," + other);
+
+        warmUpService.onWarmUpRequested(sessionId + ",not-an-id," + other);
+        verify(bestAvailableSeatService).warm(sessionId);
+        verify(bestAvailableSeatService).warm(other);
+    }
+}
@@ -0,0 +1,99 @@
+-- Synthetic production-sized data set for QueryPlanRegressionIT.
+-- IDs are md5('<kind>-<n>')::uuid so the test can derive parameters without reading them back.
+-- 500 organizations, 20k events (40 per organization), 100k sessions (5 per event),
+-- 60k tiers, 20k discounts with join rows, 20k cover photos and 5k layout templates.
+-- VACUUM sets the visibility map so index-only scans behave as they do on a settled database.
+
+INSERT INTO organizations (id, name, user_id, created_at, updated_at)
+SELECT md5('org-' || g)::uuid,
+       'Organization ' || g,
+       'user-' || (1 + g % 250),
+       now() - make_interval(mins => g),
+       now()
+FROM generate_series(1, 500) g;
+
+INSERT INTO organization_members (id, organization_id, user_id, is_active)
+SELECT md5('member-' || g)::uuid,
+       md5('org-' || (1 + g % 500))::uuid,
+       'staff-' || g,
+       true
+FROM generate_series(1, 5000) g;
+
+INSERT INTO events (id, organization_id, title, description, overview, status, created_at, updated_at)
+SELECT md5('event-' || g)::uuid,
+       md5('org-' || (1 + g % 500))::uuid,
+       (ARRAY ['Jazz Night', 'Tech Summit', 'Food Festival', 'Rock Concert', 'Art Expo'])[1 + g % 5] || ' ' || g,
+       'An evening of live performances, workshops and talks for event number ' || g,
+       'Overview of event ' || g,
+       (ARRAY ['PENDING', 'APPROVED', 'REJECTED', 'COMPLETED'])[1 + g % 4],
+       now() - make_interval(mins => g),
+       now() - make_interval(mins => (g * 7) % 20000)
+FROM generate_series(1, 20000) g;
+
+INSERT INTO event_sessions (id, event_id, organization_id, start_time, end_time, status, session_type, venue_details,
+                            sales_start_time)
+SELECT md5('session-' || g)::uuid,
+       md5('event-' || (1 + g % 20000))::uuid,
+       md5('org-' || (1 + (1 + g % 20000) % 500))::uuid,
+       now() + make_interval(hours => g % 5000),
+       now() + make_interval(hours => g % 5000 + 3),
+       (ARRAY ['SCHEDULED', 'ON_SALE', 'SOLD_OUT', 'CLOSED', 'CANCELLED'])[1 + g % 5],
+       CASE WHEN g % 3 = 0 THEN 'ONLINE' ELSE 'PHYSICAL' END,
+       '{"name": "Main Hall"}'::jsonb,
+       now() + make_interval(hours => g % 5000) - interval '7 days'
+FROM generate_series(1, 100000) g;
+
+INSERT INTO session_seating_maps (id, event_session_id, layout_data)
+SELECT md5('map-' || g)::uuid,
+       md5('session-' || g)::uuid,
+       '{"name": "Main Hall", "layout": {"blocks": []}}'::jsonb
+FROM generate_series(1, 100000) g;
+
+INSERT INTO tiers (id, name, color, price, event_id)
+SELECT md5('tier-' || g)::uuid,
+       (ARRAY ['General', 'VIP', 'Balcony'])[1 + g % 3],
+       '#336699',
+       1000 + g % 5000,
+       md5('event-' || (1 + g % 20000))::uuid
+FROM generate_series(1, 60000) g;
+
+INSERT INTO discounts (id, event_id, code, parameters, max_usage, current_usage, is_public, is_active)
+SELECT md5('discount-' || g)::uuid,
+       md5('event-' || g)::uuid,
+       'CODE' || g,
+       '{"type": "PERCENTAGE", "percentage": 10}'::jsonb,
+       100,
+       0,
+       g % 2 = 0,
+       true
+FROM generate_series(1, 20000) g;
+
+INSERT INTO discount_tiers (discount_id, tier_id)
+SELECT md5('discount-' || g)::uuid, md5('tier-' || g)::uuid
+FROM generate_series(1, 20000) g;
+
+INSERT INTO discount_sessions (discount_id, session_id)
+SELECT md5('discount-' || g)::uuid, md5('session-' || g)::uuid
+FROM generate_series(1, 20000) g;
+
+INSERT INTO event_cover_photos (id, event_id, photo_url)
+SELECT md5('photo-' || g)::uuid,
+       md5('event-' || (1 + g % 20000))::uuid,
+       'event-cover-photos/' || g || '.jpg'
+FROM generate_series(1, 20000) g;
+
+INSERT INTO seating_layout_templates (id, organization_id, name, updated_at, layout_data)
+SELECT md5('template-' || g)::uuid,
+       md5('org-' || (1 + g % 500))::uuid,
+       'Template ' || g,
+       now() - make_interval(mins => g),
+       '{"name": "Template", "layout": {"blocks": []}}'::jsonb
+FROM generate_series(1, 5000) g;
+
+INSERT INTO session_status_counters (organization_id, event_id, status, session_count)
+SELECT e.organization_id, s.event_id, s.status, COUNT(*)
+FROM event_sessions s
+         JOIN events e ON e.id = s.event_id
+GROUP BY e.organization_id, s.event_id, s.status;
+
+VACUUM ANALYZE;